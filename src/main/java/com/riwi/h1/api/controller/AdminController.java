@@ -0,0 +1,214 @@
+package com.riwi.h1.api.controller;
+
+import com.riwi.h1.api.dto.response.AdmissionStatsResponse;
+import com.riwi.h1.api.dto.response.CacheRegionStatsResponse;
+import com.riwi.h1.api.dto.response.CoalescingStatsResponse;
+import com.riwi.h1.api.dto.response.ReplicaRoutingResponse;
+import com.riwi.h1.api.dto.response.ReplicaStatsResponse;
+import com.riwi.h1.api.interceptor.AdmissionControlInterceptor;
+import com.riwi.h1.infrastructure.cache.SecondLevelCache;
+import com.riwi.h1.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import com.riwi.h1.infrastructure.concurrent.RequestCoalescer;
+import com.riwi.h1.infrastructure.concurrent.SingleFlight;
+import com.riwi.h1.infrastructure.routing.ReplicaRouter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador REST con endpoints de diagnóstico para operación.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "API de diagnóstico y operación")
+public class AdminController {
+
+    private final RequestCoalescer requestCoalescer;
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+    private final ObjectProvider<ReplicaRouter> replicaRouter;
+    private final SecondLevelCache secondLevelCache;
+
+    /**
+     * Obtiene las métricas de coalescencia de lecturas.
+     *
+     * @return Métricas por grupo con código 200 (OK)
+     */
+    @GetMapping("/coalescing")
+    @Operation(
+            summary = "Métricas de coalescencia",
+            description = "Retorna, por grupo, cuántas lecturas fueron a la BD y cuántas compartieron una carga en curso"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Métricas obtenidas exitosamente"
+    )
+    public ResponseEntity<List<CoalescingStatsResponse>> getCoalescingStats() {
+        List<CoalescingStatsResponse> response = requestCoalescer.stats().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene el estado del control de admisión por grupo de endpoints.
+     *
+     * @return Límite, peticiones en curso y descartadas por grupo con código 200 (OK)
+     */
+    @GetMapping("/admission")
+    @Operation(
+            summary = "Estado del control de admisión",
+            description = "Retorna el límite de concurrencia adaptativo y las peticiones descartadas de cada grupo"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Estado obtenido exitosamente"
+    )
+    public ResponseEntity<List<AdmissionStatsResponse>> getAdmissionStats() {
+        List<AdmissionStatsResponse> response = admissionControlInterceptor.stats().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene el estado del enrutamiento de lecturas a réplicas.
+     *
+     * @return Retraso y lecturas de cada réplica, y lecturas enviadas a la principal con código 200 (OK)
+     */
+    @GetMapping("/replicas")
+    @Operation(
+            summary = "Estado de las réplicas de lectura",
+            description = "Retorna el retraso de cada réplica y por qué las lecturas de solo lectura fueron a la principal"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Estado obtenido exitosamente"
+    )
+    public ResponseEntity<ReplicaRoutingResponse> getReplicaStats() {
+        ReplicaRouter router = replicaRouter.getIfAvailable();
+        if (router == null) {
+            return ResponseEntity.ok(ReplicaRoutingResponse.builder()
+                    .enabled(false)
+                    .replicas(List.of())
+                    .primaryReads(Map.of())
+                    .build());
+        }
+        Map<String, Long> primaryReads = new LinkedHashMap<>();
+        router.primaryReads().forEach((reason, count) -> primaryReads.put(reason.getTag(), count));
+
+        return ResponseEntity.ok(ReplicaRoutingResponse.builder()
+                .enabled(true)
+                .replicas(router.stats().stream()
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()))
+                .primaryReads(primaryReads)
+                .build());
+    }
+
+    /**
+     * Obtiene las estadísticas de las regiones de la caché de segundo nivel.
+     *
+     * @return Aciertos, fallos y tamaño por región con código 200 (OK); vacío si la caché está desactivada
+     */
+    @GetMapping("/cache-regions")
+    @Operation(
+            summary = "Estadísticas de la caché de segundo nivel",
+            description = "Retorna aciertos, fallos, entradas guardadas y tamaño de las regiones de venues y de sus consultas"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Estadísticas obtenidas exitosamente"
+    )
+    public ResponseEntity<List<CacheRegionStatsResponse>> getCacheRegionStats() {
+        List<CacheRegionStatsResponse> response = secondLevelCache.stats().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    // ========== MÉTODOS PRIVADOS DE MAPEO ==========
+
+    /**
+     * Mapea las métricas de un grupo a un CoalescingStatsResponse.
+     *
+     * @param stats Métricas del grupo
+     * @return DTO de salida
+     */
+    private CoalescingStatsResponse mapToResponse(SingleFlight.Stats stats) {
+        return CoalescingStatsResponse.builder()
+                .name(stats.name())
+                .leaders(stats.leaders())
+                .followers(stats.followers())
+                .timeouts(stats.timeouts())
+                .inFlight(stats.inFlight())
+                .coalescingRatio(stats.coalescingRatio())
+                .build();
+    }
+
+    /**
+     * Mapea el estado de un limitador a un AdmissionStatsResponse.
+     *
+     * @param stats Estado del limitador
+     * @return DTO de salida
+     */
+    private AdmissionStatsResponse mapToResponse(AdaptiveConcurrencyLimiter.Stats stats) {
+        return AdmissionStatsResponse.builder()
+                .group(stats.name())
+                .limit(stats.limit())
+                .inFlight(stats.inFlight())
+                .rejected(stats.rejected())
+                .baselineLatencyMillis(stats.baselineLatencyMillis())
+                .recentLatencyMillis(stats.recentLatencyMillis())
+                .build();
+    }
+
+    /**
+     * Mapea el estado de una réplica a un ReplicaStatsResponse.
+     *
+     * @param stats Estado de la réplica
+     * @return DTO de salida
+     */
+    private ReplicaStatsResponse mapToResponse(ReplicaRouter.Stats stats) {
+        return ReplicaStatsResponse.builder()
+                .name(stats.name())
+                .healthy(stats.healthy())
+                .lagMillis(Double.isNaN(stats.lagMillis()) ? null : stats.lagMillis())
+                .reads(stats.reads())
+                .build();
+    }
+
+    /**
+     * Mapea las estadísticas de una región a un CacheRegionStatsResponse.
+     *
+     * @param stats Estadísticas de la región
+     * @return DTO de salida
+     */
+    private CacheRegionStatsResponse mapToResponse(SecondLevelCache.Stats stats) {
+        return CacheRegionStatsResponse.builder()
+                .region(stats.region())
+                .hits(stats.hits())
+                .misses(stats.misses())
+                .puts(stats.puts())
+                .size(stats.size())
+                .hitRatio(stats.hitRatio())
+                .build();
+    }
+}
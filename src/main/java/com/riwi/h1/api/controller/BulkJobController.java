@@ -0,0 +1,194 @@
+package com.riwi.h1.api.controller;
+
+import com.riwi.h1.api.dto.request.BulkJobRequest;
+import com.riwi.h1.api.dto.response.BulkJobResponse;
+import com.riwi.h1.application.service.BulkJobService;
+import com.riwi.h1.domain.model.BulkJob;
+import com.riwi.h1.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * Controlador REST para trabajos masivos asíncronos.
+ * El envío responde de inmediato con el ID del trabajo; el progreso se consulta aparte.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Jobs", description = "API para operaciones masivas asíncronas sobre eventos y venues")
+public class BulkJobController {
+
+    private final BulkJobService bulkJobService;
+
+    /**
+     * Envía un trabajo masivo.
+     *
+     * @param request Tipo de operación y parámetros
+     * @return El trabajo en cola con código 202 (ACCEPTED)
+     */
+    @PostMapping
+    @Operation(
+            summary = "Enviar un trabajo masivo",
+            description = "Encola una operación masiva y retorna su ID de inmediato"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Trabajo aceptado",
+                    content = @Content(schema = @Schema(implementation = BulkJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros inválidos para el tipo de operación"
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "La cola de trabajos está llena"
+            )
+    })
+    public ResponseEntity<BulkJobResponse> submitJob(@Valid @RequestBody BulkJobRequest request) {
+        BulkJob job = bulkJobService.submit(request.getType(), request.getVenueId(),
+                request.getPercentageChange(), request.getVenueIds());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(mapToResponse(job));
+    }
+
+    /**
+     * Obtiene el estado y progreso de un trabajo.
+     *
+     * @param id ID del trabajo
+     * @return El trabajo con código 200 (OK)
+     */
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Consultar progreso de un trabajo",
+            description = "Retorna el estado y el avance de un trabajo masivo"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trabajo encontrado",
+                    content = @Content(schema = @Schema(implementation = BulkJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Trabajo no encontrado"
+            )
+    })
+    public ResponseEntity<BulkJobResponse> getJob(
+            @Parameter(description = "ID del trabajo", required = true)
+            @PathVariable String id) {
+
+        BulkJob job = bulkJobService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
+        return ResponseEntity.ok(mapToResponse(job));
+    }
+
+    /**
+     * Obtiene el resultado final de un trabajo.
+     *
+     * @param id ID del trabajo
+     * @return El resultado con código 200 (OK), o 202 (ACCEPTED) si aún no termina
+     */
+    @GetMapping("/{id}/result")
+    @Operation(
+            summary = "Obtener resultado de un trabajo",
+            description = "Retorna el resultado final; si el trabajo sigue en curso responde 202 con su progreso"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trabajo terminado",
+                    content = @Content(schema = @Schema(implementation = BulkJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Trabajo aún en curso"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Trabajo no encontrado"
+            )
+    })
+    public ResponseEntity<BulkJobResponse> getJobResult(
+            @Parameter(description = "ID del trabajo", required = true)
+            @PathVariable String id) {
+
+        BulkJob job = bulkJobService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
+        HttpStatus status = job.getStatus().isFinished() ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(mapToResponse(job));
+    }
+
+    /**
+     * Cancela un trabajo en cola o en ejecución.
+     *
+     * @param id ID del trabajo
+     * @return El trabajo con código 202 (ACCEPTED); se detiene al terminar el bloque en curso
+     */
+    @DeleteMapping("/{id}")
+    @Operation(
+            summary = "Cancelar un trabajo",
+            description = "Solicita la cancelación; los bloques ya confirmados no se revierten"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Cancelación solicitada",
+                    content = @Content(schema = @Schema(implementation = BulkJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Trabajo no encontrado"
+            )
+    })
+    public ResponseEntity<BulkJobResponse> cancelJob(
+            @Parameter(description = "ID del trabajo", required = true)
+            @PathVariable String id) {
+
+        BulkJob job = bulkJobService.cancel(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
+        return ResponseEntity.accepted().body(mapToResponse(job));
+    }
+
+    // ========== MÉTODOS PRIVADOS DE MAPEO ==========
+
+    /**
+     * Mapea un BulkJob a un BulkJobResponse.
+     *
+     * @param job Trabajo
+     * @return DTO de salida
+     */
+    private BulkJobResponse mapToResponse(BulkJob job) {
+        return BulkJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .totalItems(job.getTotalItems())
+                .processedItems(job.getProcessedItems().get())
+                .affectedItems(job.getAffectedItems().get())
+                .progressPercent(job.getProgressPercent())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.riwi.h1.api.controller;
+
+import com.riwi.h1.api.dto.response.ChangeFeedResponse;
+import com.riwi.h1.api.dto.response.ConsumerOffsetResponse;
+import com.riwi.h1.api.mapper.ChangeMapper;
+import com.riwi.h1.api.sse.ChangeFilter;
+import com.riwi.h1.api.sse.ChangeStreamHub;
+import com.riwi.h1.application.service.ChangeFeedService;
+import com.riwi.h1.infrastructure.outbox.ChangeRecord;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Controlador REST del flujo de cambios del catálogo.
+ * Los sistemas externos leen solo lo que cambió desde su último offset
+ * en lugar de volver a consultar GET /api/events completo.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Changes", description = "API del flujo de cambios de eventos y venues")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+    private final ChangeMapper changeMapper;
+    private final ChangeStreamHub changeStreamHub;
+
+    /**
+     * Lee los cambios posteriores a un offset.
+     *
+     * @param after Último offset procesado; si se omite se usa el guardado del consumidor, o 0
+     * @param consumer Consumidor cuyo offset guardado se usa cuando no se envía "after"
+     * @param limit Máximo de cambios a devolver
+     * @return Cambios y offset siguiente con código 200 (OK)
+     */
+    @GetMapping
+    @Operation(
+            summary = "Leer cambios",
+            description = "Retorna, en orden, los cambios posteriores al offset indicado o al guardado por el consumidor"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cambios obtenidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = ChangeFeedResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Offset, límite o consumidor inválidos"
+            )
+    })
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @Parameter(description = "Último offset procesado")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Nombre del consumidor (para usar su offset guardado)")
+            @RequestParam(required = false) String consumer,
+            @Parameter(description = "Máximo de cambios (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        long from = after != null ? after
+                : consumer != null ? changeFeedService.storedOffset(consumer)
+                : 0L;
+        List<ChangeRecord> changes = changeFeedService.read(from, limit);
+        long nextOffset = changes.isEmpty() ? from : changes.get(changes.size() - 1).offset();
+
+        return ResponseEntity.ok(ChangeFeedResponse.builder()
+                .changes(changes.stream().map(changeMapper::mapToResponse).toList())
+                .nextOffset(nextOffset)
+                .build());
+    }
+
+    /**
+     * Abre un flujo Server-Sent Events con los cambios del catálogo a medida que ocurren.
+     * Cada mensaje "change" lleva como ID su offset; al reconectar, el navegador envía
+     * Last-Event-ID y se reenvían los cambios perdidos antes de seguir en vivo.
+     *
+     * @param venueId Solo cambios del venue o de sus eventos
+     * @param city Solo venues de esa ciudad o eventos en ellos
+     * @param active Solo eventos activos / venues disponibles (true) o lo contrario (false)
+     * @param lastEventId Último offset recibido (cabecera Last-Event-ID)
+     * @return Conexión SSE
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Flujo de cambios en vivo (SSE)",
+            description = "Envía altas, cambios y bajas de eventos y venues (incluida la disponibilidad) a medida que ocurren; " +
+                    "los cambios seguidos de un mismo recurso se fusionan y se reanuda con Last-Event-ID"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Flujo abierto"
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Se alcanzó el máximo de suscriptores"
+            )
+    })
+    public SseEmitter streamChanges(
+            @Parameter(description = "ID del venue")
+            @RequestParam(required = false) Long venueId,
+            @Parameter(description = "Ciudad del venue")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Estado activo / disponible")
+            @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Último offset recibido")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return changeStreamHub.subscribe(new ChangeFilter(venueId, city, active), lastEventId);
+    }
+
+    /**
+     * Obtiene el offset guardado de un consumidor.
+     *
+     * @param consumer Nombre del consumidor
+     * @return Offset confirmado con código 200 (OK); 0 si nunca confirmó
+     */
+    @GetMapping("/consumers/{consumer}")
+    @Operation(
+            summary = "Consultar offset de un consumidor",
+            description = "Retorna el último offset confirmado por el consumidor"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Offset obtenido exitosamente",
+            content = @Content(schema = @Schema(implementation = ConsumerOffsetResponse.class))
+    )
+    public ResponseEntity<ConsumerOffsetResponse> getConsumerOffset(
+            @Parameter(description = "Nombre del consumidor", required = true)
+            @PathVariable String consumer) {
+
+        return ResponseEntity.ok(ConsumerOffsetResponse.builder()
+                .consumer(consumer)
+                .offset(changeFeedService.storedOffset(consumer))
+                .build());
+    }
+
+    /**
+     * Confirma el último offset procesado por un consumidor.
+     *
+     * @param consumer Nombre del consumidor
+     * @param offset Offset procesado
+     * @return Offset guardado con código 200 (OK)
+     */
+    @PutMapping("/consumers/{consumer}")
+    @Operation(
+            summary = "Confirmar offset de un consumidor",
+            description = "Guarda el último offset procesado; la siguiente lectura con ?consumer= continúa desde ahí"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Offset guardado",
+                    content = @Content(schema = @Schema(implementation = ConsumerOffsetResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Offset o consumidor inválidos"
+            )
+    })
+    public ResponseEntity<ConsumerOffsetResponse> commitConsumerOffset(
+            @Parameter(description = "Nombre del consumidor", required = true)
+            @PathVariable String consumer,
+            @Parameter(description = "Último offset procesado", required = true)
+            @RequestParam long offset) {
+
+        changeFeedService.commitOffset(consumer, offset);
+        return ResponseEntity.ok(ConsumerOffsetResponse.builder()
+                .consumer(consumer)
+                .offset(offset)
+                .build());
+    }
+}
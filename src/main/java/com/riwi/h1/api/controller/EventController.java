@@ -1,8 +1,12 @@
 package com.riwi.h1.api.controller;
 
 
+import com.riwi.h1.api.dto.request.EventPatchRequest;
 import com.riwi.h1.api.dto.request.EventRequest;
 import com.riwi.h1.api.dto.response.EventResponse;
+import com.riwi.h1.api.http.VersionETag;
+import com.riwi.h1.api.mapper.EventMapper;
+import com.riwi.h1.application.service.EventHistoryService;
 import com.riwi.h1.application.service.EventService;
 import com.riwi.h1.domain.entity.Event;
 import com.riwi.h1.exception.ResourceNotFoundException;
@@ -15,10 +19,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -36,6 +42,8 @@ import java.util.stream.Collectors;
 public class EventController {
 
     private final EventService eventService;
+    private final EventHistoryService eventHistoryService;
+    private final EventMapper eventMapper;
 
     /**
      * Crea un nuevo evento.
@@ -62,9 +70,9 @@ public class EventController {
     public ResponseEntity<EventResponse> createEvent(
             @Valid @RequestBody EventRequest request) {
 
-        Event event = mapToEntity(request);
+        Event event = eventMapper.mapToEntity(request);
         Event createdEvent = eventService.create(event);
-        EventResponse response = mapToResponse(createdEvent);
+        EventResponse response = eventMapper.mapToResponse(createdEvent);
 
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
@@ -86,7 +94,7 @@ public class EventController {
     public ResponseEntity<List<EventResponse>> getAllEvents() {
         List<Event> events = eventService.findAll();
         List<EventResponse> response = events.stream()
-                .map(this::mapToResponse)
+                .map(eventMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -122,14 +130,17 @@ public class EventController {
         Event event = eventService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
 
-        EventResponse response = mapToResponse(event);
-        return ResponseEntity.ok(response);
+        EventResponse response = eventMapper.mapToResponse(event);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(response.getVersion()))
+                .body(response);
     }
 
     /**
      * Actualiza un evento existente.
      *
      * @param id ID del evento a actualizar
+     * @param ifMatch ETag de la versión esperada (opcional)
      * @param request Nuevos datos del evento
      * @return El evento actualizado con código 200 (OK)
      * @throws ResourceNotFoundException si el evento no existe
@@ -157,13 +168,62 @@ public class EventController {
     public ResponseEntity<EventResponse> updateEvent(
             @Parameter(description = "ID del evento a actualizar", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag de la versión esperada (control de concurrencia optimista)")
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
             @Valid @RequestBody EventRequest request) {
 
-        Event eventData = mapToEntity(request);
-        Event updatedEvent = eventService.update(id, eventData);
-        EventResponse response = mapToResponse(updatedEvent);
+        Event eventData = eventMapper.mapToEntity(request);
+        Event updatedEvent = eventService.update(id, eventData, VersionETag.parseIfMatch(ifMatch));
+        EventResponse response = eventMapper.mapToResponse(updatedEvent);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(response.getVersion()))
+                .body(response);
+    }
+
+    /**
+     * Actualiza parcialmente un evento existente.
+     * Solo se modifican los campos enviados, en una única sentencia UPDATE condicional.
+     *
+     * @param id ID del evento a actualizar
+     * @param ifMatch ETag de la versión esperada (opcional)
+     * @param request Campos a modificar
+     * @return El evento actualizado con código 200 (OK)
+     */
+    @PatchMapping("/{id}")
+    @Operation(
+            summary = "Actualizar parcialmente un evento",
+            description = "Actualiza solo los campos enviados. Si se envía If-Match, la escritura solo se aplica si la versión coincide"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Evento actualizado exitosamente",
+                    content = @Content(schema = @Schema(implementation = EventResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos inválidos o validación fallida"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "La versión enviada en If-Match no coincide con la actual"
+            )
+    })
+    public ResponseEntity<EventResponse> patchEvent(
+            @Parameter(description = "ID del evento a actualizar", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ETag de la versión esperada (control de concurrencia optimista)")
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @Valid @RequestBody EventPatchRequest request) {
+
+        Event changes = eventMapper.mapToEntity(request);
+        Event patchedEvent = eventService.patch(id, changes, VersionETag.parseIfMatch(ifMatch));
+        EventResponse response = eventMapper.mapToResponse(patchedEvent);
+
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(response.getVersion()))
+                .body(response);
     }
 
     /**
@@ -223,7 +283,7 @@ public class EventController {
 
         List<Event> events = eventService.findByVenueId(venueId);
         List<EventResponse> response = events.stream()
-                .map(this::mapToResponse)
+                .map(eventMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -246,7 +306,7 @@ public class EventController {
     public ResponseEntity<List<EventResponse>> getActiveEvents() {
         List<Event> events = eventService.findActiveEvents();
         List<EventResponse> response = events.stream()
-                .map(this::mapToResponse)
+                .map(eventMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -269,50 +329,180 @@ public class EventController {
     public ResponseEntity<List<EventResponse>> getUpcomingEvents() {
         List<Event> events = eventService.findUpcomingEvents();
         List<EventResponse> response = events.stream()
-                .map(this::mapToResponse)
+                .map(eventMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
     }
 
-    // ========== MÉTODOS PRIVADOS DE MAPEO ==========
+    /**
+     * Obtiene los eventos activos con precio en un rango, del más barato al más caro.
+     *
+     * @param min Precio mínimo (incluido, opcional)
+     * @param max Precio máximo (incluido, opcional)
+     * @param upcomingOnly true para incluir solo eventos futuros
+     * @param limit Máximo de eventos
+     * @return Eventos ordenados por precio con código 200 (OK)
+     */
+    @GetMapping("/by-price")
+    @Operation(
+            summary = "Buscar eventos por rango de precio",
+            description = "Retorna los eventos activos con precio en [min, max], ordenados del más barato al más caro"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Eventos obtenidos exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Rango de precios o límite inválidos"
+            )
+    })
+    public ResponseEntity<List<EventResponse>> getEventsByPrice(
+            @Parameter(description = "Precio mínimo (incluido)")
+            @RequestParam(required = false) Double min,
+            @Parameter(description = "Precio máximo (incluido)")
+            @RequestParam(required = false) Double max,
+            @Parameter(description = "Solo eventos futuros")
+            @RequestParam(defaultValue = "true") boolean upcomingOnly,
+            @Parameter(description = "Máximo de eventos (1..100)")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<EventResponse> response = eventService.findByPriceRange(min, max, upcomingOnly, limit).stream()
+                .map(eventMapper::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
 
     /**
-     * Mapea un EventRequest a una entidad Event.
+     * Obtiene los eventos activos y futuros más baratos, opcionalmente de una ciudad.
      *
-     * @param request DTO de entrada
-     * @return Entidad Event
+     * @param city Ciudad del venue (opcional)
+     * @param limit Máximo de eventos
+     * @return Eventos ordenados por precio con código 200 (OK)
      */
-    private Event mapToEntity(EventRequest request) {
-        return Event.builder()
-                .name(request.getName())
-                .description(request.getDescription())
-                .eventDate(request.getEventDate())
-                .venueId(request.getVenueId())
-                .capacity(request.getCapacity())
-                .ticketPrice(request.getTicketPrice())
-                .active(request.getActive())
-                .build();
+    @GetMapping("/cheapest")
+    @Operation(
+            summary = "Obtener los eventos próximos más baratos",
+            description = "Retorna los eventos activos y futuros más baratos, opcionalmente de los venues de una ciudad"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Eventos obtenidos exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Límite inválido"
+            )
+    })
+    public ResponseEntity<List<EventResponse>> getCheapestEvents(
+            @Parameter(description = "Ciudad del venue")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Máximo de eventos (1..100)")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<EventResponse> response = eventService.findCheapestUpcoming(city, limit).stream()
+                .map(eventMapper::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
     }
 
     /**
-     * Mapea una entidad Event a un EventResponse.
+     * Obtiene un evento del historial por su ID, vigente o archivado.
      *
-     * @param event Entidad Event
-     * @return DTO de salida
+     * @param id ID del evento
+     * @return El evento (con archivedAt si está archivado) con código 200 (OK)
+     * @throws ResourceNotFoundException si el evento no existe en ninguna de las dos tablas
      */
-    private EventResponse mapToResponse(Event event) {
-        return EventResponse.builder()
-                .id(event.getId())
-                .name(event.getName())
-                .description(event.getDescription())
-                .eventDate(event.getEventDate())
-                .venueId(event.getVenueId())
-                .capacity(event.getCapacity())
-                .ticketPrice(event.getTicketPrice())
-                .active(event.getActive())
-                .createdAt(event.getCreatedAt())
-                .updatedAt(event.getUpdatedAt())
-                .build();
+    @GetMapping("/history/{id}")
+    @Operation(
+            summary = "Obtener evento del historial",
+            description = "Busca el evento entre los vigentes y los archivados; los archivados incluyen archivedAt"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Evento encontrado exitosamente",
+                    content = @Content(schema = @Schema(implementation = EventResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Evento no encontrado"
+            )
+    })
+    public ResponseEntity<EventResponse> getEventHistoryById(
+            @Parameter(description = "ID del evento a buscar", required = true)
+            @PathVariable Long id) {
+
+        EventResponse response = eventHistoryService.findById(id)
+                .map(eventMapper::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene el historial de eventos de un venue (vigentes y archivados).
+     *
+     * @param venueId ID del venue
+     * @return Eventos del venue ordenados por fecha con código 200 (OK)
+     */
+    @GetMapping("/history/venue/{venueId}")
+    @Operation(
+            summary = "Obtener historial de eventos por venue",
+            description = "Retorna los eventos vigentes y archivados de un venue, ordenados por fecha"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Historial obtenido exitosamente"
+    )
+    public ResponseEntity<List<EventResponse>> getEventHistoryByVenue(
+            @Parameter(description = "ID del venue", required = true)
+            @PathVariable Long venueId) {
+
+        List<EventResponse> response = eventHistoryService.findByVenueId(venueId).stream()
+                .map(eventMapper::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene el historial de eventos con fecha en un rango (vigentes y archivados).
+     *
+     * @param from Inicio del rango (incluido)
+     * @param to Fin del rango (excluido)
+     * @return Eventos del rango ordenados por fecha con código 200 (OK)
+     */
+    @GetMapping("/history")
+    @Operation(
+            summary = "Obtener historial de eventos por rango de fechas",
+            description = "Retorna los eventos vigentes y archivados con fecha en [from, to), ordenados por fecha"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Historial obtenido exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Rango de fechas inválido"
+            )
+    })
+    public ResponseEntity<List<EventResponse>> getEventHistoryBetween(
+            @Parameter(description = "Inicio del rango (ISO, incluido)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fin del rango (ISO, excluido)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        List<EventResponse> response = eventHistoryService.findBetween(from, to).stream()
+                .map(eventMapper::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
     }
 }
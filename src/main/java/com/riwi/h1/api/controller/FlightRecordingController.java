@@ -0,0 +1,214 @@
+package com.riwi.h1.api.controller;
+
+import com.riwi.h1.api.dto.response.JfrRecordingResponse;
+import com.riwi.h1.api.dto.response.JfrStageSummaryResponse;
+import com.riwi.h1.exception.ResourceNotFoundException;
+import com.riwi.h1.infrastructure.jfr.FlightRecordingManager;
+import com.riwi.h1.infrastructure.jfr.JfrRecordingAnalyzer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador REST para grabaciones de Java Flight Recorder bajo demanda.
+ * Las grabaciones incluyen los eventos de servicios, repositorios y mapeo de la aplicación.
+ * Los endpoints no tienen autenticación: solo existen con {@code jfr.recordings.enabled=true}
+ * (activado en el perfil dev).
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@RestController
+@ConditionalOnProperty(prefix = "jfr.recordings", name = "enabled", havingValue = "true")
+@RequestMapping("/api/admin/jfr/recordings")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "API de diagnóstico y operación")
+public class FlightRecordingController {
+
+    private final FlightRecordingManager flightRecordingManager;
+
+    /**
+     * Inicia una grabación JFR.
+     *
+     * @param durationSeconds Duración en segundos
+     * @return La grabación iniciada con código 201 (CREATED)
+     */
+    @PostMapping
+    @Operation(
+            summary = "Iniciar grabación JFR",
+            description = "Graba los eventos de la aplicación y de la JVM durante el tiempo indicado"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Grabación iniciada"),
+            @ApiResponse(responseCode = "400", description = "Duración inválida o demasiadas grabaciones")
+    })
+    public ResponseEntity<JfrRecordingResponse> startRecording(
+            @Parameter(description = "Duración en segundos (máximo 1800)")
+            @RequestParam(defaultValue = "60") long durationSeconds) {
+
+        Recording recording = flightRecordingManager.start(Duration.ofSeconds(durationSeconds));
+        return new ResponseEntity<>(mapToResponse(recording), HttpStatus.CREATED);
+    }
+
+    /**
+     * Lista las grabaciones conservadas.
+     *
+     * @return Lista de grabaciones con código 200 (OK)
+     */
+    @GetMapping
+    @Operation(summary = "Listar grabaciones JFR")
+    @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente")
+    public ResponseEntity<List<JfrRecordingResponse>> getRecordings() {
+        List<JfrRecordingResponse> response = flightRecordingManager.list().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene el estado de una grabación.
+     *
+     * @param id ID de la grabación
+     * @return La grabación con código 200 (OK)
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar grabación JFR")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Grabación encontrada"),
+            @ApiResponse(responseCode = "404", description = "Grabación no encontrada")
+    })
+    public ResponseEntity<JfrRecordingResponse> getRecording(
+            @Parameter(description = "ID de la grabación", required = true)
+            @PathVariable long id) {
+        return ResponseEntity.ok(mapToResponse(findRecording(id)));
+    }
+
+    /**
+     * Descarga el archivo .jfr; si la grabación sigue en curso, la detiene.
+     *
+     * @param id ID de la grabación
+     * @return El archivo .jfr con código 200 (OK)
+     */
+    @GetMapping(value = "/{id}/file", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(
+            summary = "Descargar grabación JFR",
+            description = "Detiene la grabación si sigue en curso y descarga el archivo para abrirlo en JDK Mission Control"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archivo de la grabación"),
+            @ApiResponse(responseCode = "404", description = "Grabación no encontrada")
+    })
+    public ResponseEntity<Resource> downloadRecording(
+            @Parameter(description = "ID de la grabación", required = true)
+            @PathVariable long id) {
+        Path file = flightRecordingManager.stopAndGetFile(findRecording(id));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"recording-" + id + ".jfr\"")
+                .body(new FileSystemResource(file));
+    }
+
+    /**
+     * Resume la grabación en latencias por etapa sin detenerla.
+     *
+     * @param id ID de la grabación
+     * @return Latencias por etapa, de mayor a menor tiempo total, con código 200 (OK)
+     */
+    @GetMapping("/{id}/summary")
+    @Operation(
+            summary = "Resumen por etapa",
+            description = "Agrupa los eventos grabados por servicio, repositorio y mapeo con count, media, p50, p99 y máximo"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumen generado"),
+            @ApiResponse(responseCode = "404", description = "Grabación no encontrada")
+    })
+    public ResponseEntity<List<JfrStageSummaryResponse>> summarizeRecording(
+            @Parameter(description = "ID de la grabación", required = true)
+            @PathVariable long id) throws IOException {
+        Recording recording = findRecording(id);
+        boolean running = recording.getState() == RecordingState.RUNNING;
+        Path file = running ? flightRecordingManager.snapshot(recording) : recording.getDestination();
+        try {
+            List<JfrStageSummaryResponse> response = JfrRecordingAnalyzer.analyze(file).stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(response);
+        } finally {
+            if (running) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Detiene y elimina una grabación.
+     *
+     * @param id ID de la grabación
+     * @return Código 204 (NO CONTENT)
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Eliminar grabación JFR")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Grabación eliminada"),
+            @ApiResponse(responseCode = "404", description = "Grabación no encontrada")
+    })
+    public ResponseEntity<Void> deleteRecording(
+            @Parameter(description = "ID de la grabación", required = true)
+            @PathVariable long id) {
+        if (!flightRecordingManager.delete(id)) {
+            throw new ResourceNotFoundException("Recording", "id", id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private Recording findRecording(long id) {
+        return flightRecordingManager.find(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Recording", "id", id));
+    }
+
+    // ========== MÉTODOS PRIVADOS DE MAPEO ==========
+
+    private JfrRecordingResponse mapToResponse(Recording recording) {
+        return JfrRecordingResponse.builder()
+                .id(recording.getId())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .durationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : null)
+                .sizeBytes(recording.getSize())
+                .build();
+    }
+
+    private JfrStageSummaryResponse mapToResponse(JfrRecordingAnalyzer.StageSummary stage) {
+        return JfrStageSummaryResponse.builder()
+                .stage(stage.stage())
+                .count(stage.count())
+                .totalMillis(stage.totalMillis())
+                .avgMillis(stage.avgMillis())
+                .p50Millis(stage.p50Millis())
+                .p99Millis(stage.p99Millis())
+                .maxMillis(stage.maxMillis())
+                .statementsPerCall(stage.statementsPerCall())
+                .rowsPerCall(stage.rowsPerCall())
+                .build();
+    }
+}
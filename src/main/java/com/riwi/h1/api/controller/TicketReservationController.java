@@ -0,0 +1,140 @@
+package com.riwi.h1.api.controller;
+
+import com.riwi.h1.api.dto.request.ReservationRequest;
+import com.riwi.h1.api.dto.response.ReservationResponse;
+import com.riwi.h1.application.service.TicketReservationService;
+import com.riwi.h1.domain.model.SeatAvailability;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para reservar y liberar asientos de un evento.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/events/{eventId}/reservations")
+@RequiredArgsConstructor
+@Tag(name = "Reservations", description = "API para la reserva de asientos contra la capacidad de los eventos")
+public class TicketReservationController {
+
+    private final TicketReservationService ticketReservationService;
+
+    /**
+     * Reserva asientos de un evento.
+     *
+     * @param eventId ID del evento
+     * @param request Cantidad de asientos
+     * @return Ocupación del evento con código 200 (OK)
+     */
+    @PostMapping
+    @Operation(
+            summary = "Reservar asientos",
+            description = "Reserva asientos de un evento. Nunca se reserva más que la capacidad del evento"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Asientos reservados exitosamente",
+                    content = @Content(schema = @Schema(implementation = ReservationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Evento inexistente, inactivo o sin capacidad"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "No hay asientos suficientes"
+            )
+    })
+    public ResponseEntity<ReservationResponse> reserve(
+            @Parameter(description = "ID del evento", required = true)
+            @PathVariable Long eventId,
+            @Valid @RequestBody ReservationRequest request) {
+
+        SeatAvailability availability = ticketReservationService.reserve(eventId, request.getQuantity());
+        return ResponseEntity.ok(mapToResponse(availability));
+    }
+
+    /**
+     * Libera asientos previamente reservados.
+     *
+     * @param eventId ID del evento
+     * @param request Cantidad de asientos
+     * @return Ocupación del evento con código 200 (OK)
+     */
+    @PostMapping("/release")
+    @Operation(
+            summary = "Liberar asientos",
+            description = "Devuelve asientos reservados a la disponibilidad del evento"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Asientos liberados exitosamente",
+                    content = @Content(schema = @Schema(implementation = ReservationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Se intentó liberar más asientos de los reservados"
+            )
+    })
+    public ResponseEntity<ReservationResponse> release(
+            @Parameter(description = "ID del evento", required = true)
+            @PathVariable Long eventId,
+            @Valid @RequestBody ReservationRequest request) {
+
+        SeatAvailability availability = ticketReservationService.release(eventId, request.getQuantity());
+        return ResponseEntity.ok(mapToResponse(availability));
+    }
+
+    /**
+     * Obtiene la ocupación actual de un evento.
+     *
+     * @param eventId ID del evento
+     * @return Ocupación del evento con código 200 (OK)
+     */
+    @GetMapping
+    @Operation(
+            summary = "Consultar disponibilidad",
+            description = "Retorna la capacidad, los asientos reservados y los disponibles de un evento"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Disponibilidad obtenida exitosamente",
+            content = @Content(schema = @Schema(implementation = ReservationResponse.class))
+    )
+    public ResponseEntity<ReservationResponse> getAvailability(
+            @Parameter(description = "ID del evento", required = true)
+            @PathVariable Long eventId) {
+
+        return ResponseEntity.ok(mapToResponse(ticketReservationService.getAvailability(eventId)));
+    }
+
+    // ========== MÉTODOS PRIVADOS DE MAPEO ==========
+
+    /**
+     * Mapea la ocupación del evento a un ReservationResponse.
+     *
+     * @param availability Ocupación del evento
+     * @return DTO de salida
+     */
+    private ReservationResponse mapToResponse(SeatAvailability availability) {
+        return ReservationResponse.builder()
+                .eventId(availability.getEventId())
+                .capacity(availability.getCapacity())
+                .reservedSeats(availability.getReservedSeats())
+                .availableSeats(availability.getAvailableSeats())
+                .build();
+    }
+}
@@ -1,10 +1,21 @@
 package com.riwi.h1.api.controller;
 
 
+import com.riwi.h1.api.dto.request.VenueBulkAvailabilityRequest;
+import com.riwi.h1.api.dto.request.VenueBulkDeleteRequest;
+import com.riwi.h1.api.dto.request.VenuePatchRequest;
 import com.riwi.h1.api.dto.request.VenueRequest;
+import com.riwi.h1.api.dto.response.VenueBulkAvailabilityResponse;
+import com.riwi.h1.api.dto.response.VenueBulkDeleteResponse;
 import com.riwi.h1.api.dto.response.VenueResponse;
+import com.riwi.h1.api.dto.response.VenueWithEventsResponse;
+import com.riwi.h1.api.http.VersionETag;
+import com.riwi.h1.api.mapper.EventMapper;
+import com.riwi.h1.api.mapper.VenueMapper;
 import com.riwi.h1.application.service.VenueService;
 import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.VenueBulkDeletion;
+import com.riwi.h1.domain.model.VenueWithEvents;
 import com.riwi.h1.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,6 +47,8 @@ import java.util.stream.Collectors;
 public class VenueController {
 
     private final VenueService venueService;
+    private final VenueMapper venueMapper;
+    private final EventMapper eventMapper;
 
     /**
      * Crea un nuevo venue.
@@ -62,9 +75,9 @@ public class VenueController {
     public ResponseEntity<VenueResponse> createVenue(
             @Valid @RequestBody VenueRequest request) {
 
-        Venue venue = mapToEntity(request);
+        Venue venue = venueMapper.mapToEntity(request);
         Venue createdVenue = venueService.create(venue);
-        VenueResponse response = mapToResponse(createdVenue);
+        VenueResponse response = venueMapper.mapToResponse(createdVenue);
 
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
@@ -86,7 +99,7 @@ public class VenueController {
     public ResponseEntity<List<VenueResponse>> getAllVenues() {
         List<Venue> venues = venueService.findAll();
         List<VenueResponse> response = venues.stream()
-                .map(this::mapToResponse)
+                .map(venueMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -122,14 +135,17 @@ public class VenueController {
         Venue venue = venueService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Venue", "id", id));
 
-        VenueResponse response = mapToResponse(venue);
-        return ResponseEntity.ok(response);
+        VenueResponse response = venueMapper.mapToResponse(venue);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(response.getVersion()))
+                .body(response);
     }
 
     /**
      * Actualiza un venue existente.
      *
      * @param id ID del venue a actualizar
+     * @param ifMatch ETag de la versión esperada (opcional)
      * @param request Nuevos datos del venue
      * @return El venue actualizado con código 200 (OK)
      * @throws ResourceNotFoundException si el venue no existe
@@ -157,13 +173,62 @@ public class VenueController {
     public ResponseEntity<VenueResponse> updateVenue(
             @Parameter(description = "ID del venue a actualizar", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag de la versión esperada (control de concurrencia optimista)")
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
             @Valid @RequestBody VenueRequest request) {
 
-        Venue venueData = mapToEntity(request);
-        Venue updatedVenue = venueService.update(id, venueData);
-        VenueResponse response = mapToResponse(updatedVenue);
+        Venue venueData = venueMapper.mapToEntity(request);
+        Venue updatedVenue = venueService.update(id, venueData, VersionETag.parseIfMatch(ifMatch));
+        VenueResponse response = venueMapper.mapToResponse(updatedVenue);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(response.getVersion()))
+                .body(response);
+    }
+
+    /**
+     * Actualiza parcialmente un venue existente.
+     * Solo se modifican los campos enviados, en una única sentencia UPDATE condicional.
+     *
+     * @param id ID del venue a actualizar
+     * @param ifMatch ETag de la versión esperada (opcional)
+     * @param request Campos a modificar
+     * @return El venue actualizado con código 200 (OK)
+     */
+    @PatchMapping("/{id}")
+    @Operation(
+            summary = "Actualizar parcialmente un venue",
+            description = "Actualiza solo los campos enviados. Si se envía If-Match, la escritura solo se aplica si la versión coincide"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Venue actualizado exitosamente",
+                    content = @Content(schema = @Schema(implementation = VenueResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos inválidos o validación fallida"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "La versión enviada en If-Match no coincide con la actual"
+            )
+    })
+    public ResponseEntity<VenueResponse> patchVenue(
+            @Parameter(description = "ID del venue a actualizar", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ETag de la versión esperada (control de concurrencia optimista)")
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @Valid @RequestBody VenuePatchRequest request) {
+
+        Venue changes = venueMapper.mapToEntity(request);
+        Venue patchedVenue = venueService.patch(id, changes, VersionETag.parseIfMatch(ifMatch));
+        VenueResponse response = venueMapper.mapToResponse(patchedVenue);
+
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(response.getVersion()))
+                .body(response);
     }
 
     /**
@@ -221,7 +286,61 @@ public class VenueController {
 
         List<Venue> venues = venueService.findByCity(city);
         List<VenueResponse> response = venues.stream()
-                .map(this::mapToResponse)
+                .map(venueMapper::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene venues por país.
+     *
+     * @param country País a buscar
+     * @return Lista de venues en ese país con código 200 (OK)
+     */
+    @GetMapping("/country/{country}")
+    @Operation(
+            summary = "Obtener venues por país",
+            description = "Retorna todos los venues ubicados en un país específico"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Lista de venues obtenida exitosamente"
+    )
+    public ResponseEntity<List<VenueResponse>> getVenuesByCountry(
+            @Parameter(description = "Nombre del país", required = true)
+            @PathVariable String country) {
+
+        List<Venue> venues = venueService.findByCountry(country);
+        List<VenueResponse> response = venues.stream()
+                .map(venueMapper::mapToResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene venues por tipo.
+     *
+     * @param type Tipo de venue a buscar
+     * @return Lista de venues de ese tipo con código 200 (OK)
+     */
+    @GetMapping("/type/{type}")
+    @Operation(
+            summary = "Obtener venues por tipo",
+            description = "Retorna todos los venues de un tipo específico (teatro, estadio, etc.)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Lista de venues obtenida exitosamente"
+    )
+    public ResponseEntity<List<VenueResponse>> getVenuesByType(
+            @Parameter(description = "Tipo de venue", required = true)
+            @PathVariable String type) {
+
+        List<Venue> venues = venueService.findByType(type);
+        List<VenueResponse> response = venues.stream()
+                .map(venueMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -244,12 +363,66 @@ public class VenueController {
     public ResponseEntity<List<VenueResponse>> getAvailableVenues() {
         List<Venue> venues = venueService.findAvailableVenues();
         List<VenueResponse> response = venues.stream()
-                .map(this::mapToResponse)
+                .map(venueMapper::mapToResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Obtiene un venue con una página de sus eventos.
+     *
+     * @param id ID del venue
+     * @param upcomingOnly true para incluir solo eventos futuros
+     * @param page Número de página (desde 0)
+     * @param size Eventos por página
+     * @return El venue y sus eventos con código 200 (OK)
+     * @throws com.riwi.h1.exception.DomainException si el venue no existe
+     */
+    @GetMapping("/{id}/with-events")
+    @Operation(
+            summary = "Obtener venue con sus eventos",
+            description = "Retorna el venue y una página de sus eventos ordenados por fecha, leídos en una sola consulta"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Venue y eventos obtenidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = VenueWithEventsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Página o tamaño inválidos"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Venue no encontrado"
+            )
+    })
+    public ResponseEntity<VenueWithEventsResponse> getVenueWithEvents(
+            @Parameter(description = "ID del venue", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Solo eventos futuros")
+            @RequestParam(defaultValue = "false") boolean upcomingOnly,
+            @Parameter(description = "Número de página (desde 0)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Eventos por página (1..100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        VenueWithEvents result = venueService.findWithEvents(id, upcomingOnly, page, size);
+        VenueWithEventsResponse response = VenueWithEventsResponse.builder()
+                .venue(venueMapper.mapToResponse(result.venue()))
+                .events(result.events().stream()
+                        .map(eventMapper::mapToResponse)
+                        .collect(Collectors.toList()))
+                .page(page)
+                .size(size)
+                .hasMore(result.hasMore())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene la cantidad de eventos de un venue.
      *
@@ -306,7 +479,7 @@ public class VenueController {
             @PathVariable Long id) {
 
         Venue venue = venueService.markAsUnavailable(id);
-        VenueResponse response = mapToResponse(venue);
+        VenueResponse response = venueMapper.mapToResponse(venue);
         return ResponseEntity.ok(response);
     }
 
@@ -337,48 +510,80 @@ public class VenueController {
             @PathVariable Long id) {
 
         Venue venue = venueService.markAsAvailable(id);
-        VenueResponse response = mapToResponse(venue);
+        VenueResponse response = venueMapper.mapToResponse(venue);
         return ResponseEntity.ok(response);
     }
 
-    // ========== MÉTODOS PRIVADOS DE MAPEO ==========
-
     /**
-     * Mapea un VenueRequest a una entidad Venue.
+     * Cambia la disponibilidad de varios venues, indicados por IDs o por ciudad y/o tipo.
      *
-     * @param request DTO de entrada
-     * @return Entidad Venue
+     * @param request Disponibilidad y venues afectados
+     * @return Venues que cambiaron con código 200 (OK)
      */
-    private Venue mapToEntity(VenueRequest request) {
-        return Venue.builder()
-                .name(request.getName())
-                .address(request.getAddress())
-                .city(request.getCity())
-                .country(request.getCountry())
-                .maxCapacity(request.getMaxCapacity())
-                .type(request.getType())
+    @PatchMapping("/availability")
+    @Operation(
+            summary = "Cambiar la disponibilidad de varios venues",
+            description = "Marca como disponibles o no disponibles los venues indicados por IDs o por filtro (ciudad, tipo) en una sola sentencia UPDATE"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Disponibilidad actualizada exitosamente",
+                    content = @Content(schema = @Schema(implementation = VenueBulkAvailabilityResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Se enviaron IDs y filtro a la vez, o ninguno"
+            )
+    })
+    public ResponseEntity<VenueBulkAvailabilityResponse> updateAvailability(
+            @Valid @RequestBody VenueBulkAvailabilityRequest request) {
+
+        List<Venue> updatedVenues = venueService.updateAvailability(request.getVenueIds(), request.getCity(),
+                request.getType(), request.getAvailable());
+        VenueBulkAvailabilityResponse response = VenueBulkAvailabilityResponse.builder()
                 .available(request.getAvailable())
+                .updated(updatedVenues.size())
+                .venueIds(updatedVenues.stream()
+                        .map(Venue::getId)
+                        .collect(Collectors.toList()))
                 .build();
+
+        return ResponseEntity.ok(response);
     }
 
     /**
-     * Mapea una entidad Venue a un VenueResponse.
+     * Elimina varios venues; los que tienen eventos asociados se omiten.
      *
-     * @param venue Entidad Venue
-     * @return DTO de salida
+     * @param request IDs de los venues
+     * @return IDs eliminados, con eventos y no encontrados con código 200 (OK)
      */
-    private VenueResponse mapToResponse(Venue venue) {
-        return VenueResponse.builder()
-                .id(venue.getId())
-                .name(venue.getName())
-                .address(venue.getAddress())
-                .city(venue.getCity())
-                .country(venue.getCountry())
-                .maxCapacity(venue.getMaxCapacity())
-                .type(venue.getType())
-                .available(venue.getAvailable())
-                .createdAt(venue.getCreatedAt())
-                .updatedAt(venue.getUpdatedAt())
+    @PostMapping("/bulk-delete")
+    @Operation(
+            summary = "Eliminar varios venues",
+            description = "Elimina los venues indicados que no tienen eventos asociados; la comprobación es una sola consulta y el borrado una sola sentencia DELETE"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Borrado procesado; la respuesta indica qué venues se eliminaron",
+                    content = @Content(schema = @Schema(implementation = VenueBulkDeleteResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lista de IDs vacía o demasiado grande"
+            )
+    })
+    public ResponseEntity<VenueBulkDeleteResponse> deleteVenues(
+            @Valid @RequestBody VenueBulkDeleteRequest request) {
+
+        VenueBulkDeletion deletion = venueService.deleteByIds(request.getVenueIds());
+        VenueBulkDeleteResponse response = VenueBulkDeleteResponse.builder()
+                .deleted(deletion.deleted())
+                .withEvents(deletion.withEvents())
+                .notFound(deletion.notFound())
                 .build();
+
+        return ResponseEntity.ok(response);
     }
 }
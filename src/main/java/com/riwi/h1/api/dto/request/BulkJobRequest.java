@@ -0,0 +1,49 @@
+package com.riwi.h1.api.dto.request;
+
+import com.riwi.h1.domain.model.BulkJobType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para enviar un trabajo masivo asíncrono.
+ * Los campos requeridos dependen del tipo de operación.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobRequest {
+
+    /**
+     * Tipo de operación (obligatorio)
+     */
+    @NotNull(message = "Job type is required")
+    private BulkJobType type;
+
+    /**
+     * Venue cuyos eventos se reprecian (REPRICE_VENUE_EVENTS)
+     */
+    @Positive(message = "Venue ID must be positive")
+    private Long venueId;
+
+    /**
+     * Cambio porcentual del precio, ej: 10 sube 10%, -15 baja 15% (REPRICE_VENUE_EVENTS)
+     */
+    private Double percentageChange;
+
+    /**
+     * Venues a marcar como no disponibles (MARK_VENUES_UNAVAILABLE)
+     */
+    @Size(max = 100000, message = "Cannot submit more than 100,000 venue IDs per job")
+    private List<Long> venueIds;
+}
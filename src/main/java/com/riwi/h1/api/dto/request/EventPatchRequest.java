@@ -0,0 +1,66 @@
+package com.riwi.h1.api.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para actualizaciones parciales (PATCH) de Eventos.
+ * Todos los campos son opcionales: solo los campos enviados (no nulos) se actualizan.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPatchRequest {
+
+    /**
+     * Nuevo nombre del evento
+     */
+    @Size(min = 3, max = 100, message = "Event name must be between 3 and 100 characters")
+    private String name;
+
+    /**
+     * Nueva descripción del evento
+     */
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    private String description;
+
+    /**
+     * Nueva fecha y hora del evento
+     */
+    @Future(message = "Event date must be in the future")
+    private LocalDateTime eventDate;
+
+    /**
+     * Nuevo venue donde se realizará el evento
+     */
+    @Positive(message = "Venue ID must be positive")
+    private Long venueId;
+
+    /**
+     * Nueva capacidad del evento
+     */
+    @Positive(message = "Capacity must be positive")
+    @Max(value = 100000, message = "Capacity cannot exceed 100,000")
+    private Integer capacity;
+
+    /**
+     * Nuevo precio de la entrada
+     */
+    @PositiveOrZero(message = "Ticket price cannot be negative")
+    @DecimalMax(value = "10000000.0", message = "Ticket price cannot exceed 10,000,000")
+    private Double ticketPrice;
+
+    /**
+     * Nuevo estado del evento (activo/inactivo)
+     */
+    private Boolean active;
+}
@@ -0,0 +1,30 @@
+package com.riwi.h1.api.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para reservar o liberar asientos de un evento.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequest {
+
+    /**
+     * Cantidad de asientos (obligatoria)
+     */
+    @NotNull(message = "Quantity is required")
+    @Positive(message = "Quantity must be positive")
+    @Max(value = 100, message = "Quantity cannot exceed 100 seats per request")
+    private Integer quantity;
+}
@@ -0,0 +1,48 @@
+package com.riwi.h1.api.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para cambiar la disponibilidad de varios venues a la vez.
+ * Se indican los IDs o un filtro (ciudad y/o tipo), no ambos.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueBulkAvailabilityRequest {
+
+    /**
+     * Nueva disponibilidad (obligatoria)
+     */
+    @NotNull(message = "Available status is required")
+    private Boolean available;
+
+    /**
+     * IDs de los venues
+     */
+    @Size(max = 10000, message = "Cannot update more than 10,000 venue IDs per request")
+    private List<Long> venueIds;
+
+    /**
+     * Ciudad de los venues (filtro)
+     */
+    @Size(min = 2, max = 100, message = "City must be between 2 and 100 characters")
+    private String city;
+
+    /**
+     * Tipo de los venues (filtro)
+     */
+    @Size(max = 50, message = "Type cannot exceed 50 characters")
+    private String type;
+}
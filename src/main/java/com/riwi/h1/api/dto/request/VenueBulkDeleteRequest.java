@@ -0,0 +1,30 @@
+package com.riwi.h1.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para eliminar varios venues a la vez.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueBulkDeleteRequest {
+
+    /**
+     * IDs de los venues a eliminar (obligatorio)
+     */
+    @NotEmpty(message = "Venue IDs are required")
+    @Size(max = 10000, message = "Cannot delete more than 10,000 venue IDs per request")
+    private List<Long> venueIds;
+}
@@ -0,0 +1,63 @@
+package com.riwi.h1.api.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para actualizaciones parciales (PATCH) de Venues.
+ * Todos los campos son opcionales: solo los campos enviados (no nulos) se actualizan.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenuePatchRequest {
+
+    /**
+     * Nuevo nombre del venue
+     */
+    @Size(min = 3, max = 100, message = "Venue name must be between 3 and 100 characters")
+    private String name;
+
+    /**
+     * Nueva dirección del venue
+     */
+    @Size(min = 5, max = 200, message = "Address must be between 5 and 200 characters")
+    private String address;
+
+    /**
+     * Nueva ciudad
+     */
+    @Size(min = 2, max = 100, message = "City must be between 2 and 100 characters")
+    private String city;
+
+    /**
+     * Nuevo país
+     */
+    @Size(min = 2, max = 100, message = "Country must be between 2 and 100 characters")
+    private String country;
+
+    /**
+     * Nueva capacidad máxima
+     */
+    @Positive(message = "Max capacity must be positive")
+    @Max(value = 500000, message = "Max capacity cannot exceed 500,000")
+    private Integer maxCapacity;
+
+    /**
+     * Nuevo tipo de venue
+     */
+    @Size(max = 50, message = "Type cannot exceed 50 characters")
+    private String type;
+
+    /**
+     * Nueva disponibilidad
+     */
+    private Boolean available;
+}
@@ -0,0 +1,49 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el estado del control de admisión de un grupo de endpoints.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionStatsResponse {
+
+    /**
+     * Grupo de endpoints (read, write, bulk)
+     */
+    private String group;
+
+    /**
+     * Límite de concurrencia actual
+     */
+    private Integer limit;
+
+    /**
+     * Peticiones en curso
+     */
+    private Integer inFlight;
+
+    /**
+     * Peticiones descartadas con 503 desde el arranque
+     */
+    private Long rejected;
+
+    /**
+     * Latencia de referencia de largo plazo (ms)
+     */
+    private Double baselineLatencyMillis;
+
+    /**
+     * Latencia media de la última ventana (ms)
+     */
+    private Double recentLatencyMillis;
+}
@@ -0,0 +1,82 @@
+package com.riwi.h1.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.riwi.h1.domain.model.BulkJobStatus;
+import com.riwi.h1.domain.model.BulkJobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con el estado y progreso de un trabajo masivo.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobResponse {
+
+    /**
+     * ID del trabajo
+     */
+    private String id;
+
+    /**
+     * Tipo de operación
+     */
+    private BulkJobType type;
+
+    /**
+     * Estado actual
+     */
+    private BulkJobStatus status;
+
+    /**
+     * Elementos a procesar (conocido al empezar la ejecución)
+     */
+    private Integer totalItems;
+
+    /**
+     * Elementos ya procesados
+     */
+    private Integer processedItems;
+
+    /**
+     * Elementos efectivamente modificados
+     */
+    private Integer affectedItems;
+
+    /**
+     * Porcentaje de avance (0-100)
+     */
+    private Double progressPercent;
+
+    /**
+     * Mensaje de error si el trabajo falló
+     */
+    private String errorMessage;
+
+    /**
+     * Fecha de envío
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    /**
+     * Fecha de inicio de la ejecución
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    /**
+     * Fecha de finalización
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,49 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con las estadísticas de una región de la caché de segundo nivel.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+
+    /**
+     * Nombre de la región
+     */
+    private String region;
+
+    /**
+     * Lecturas servidas desde la región
+     */
+    private Long hits;
+
+    /**
+     * Lecturas que no encontraron la entrada y fueron a la BD
+     */
+    private Long misses;
+
+    /**
+     * Entradas guardadas en la región
+     */
+    private Long puts;
+
+    /**
+     * Entradas en memoria
+     */
+    private Long size;
+
+    /**
+     * Fracción de lecturas servidas desde la región (0 a 1)
+     */
+    private Double hitRatio;
+}
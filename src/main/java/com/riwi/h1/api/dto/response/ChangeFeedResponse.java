@@ -0,0 +1,31 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con una página del flujo de cambios del catálogo.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+
+    /**
+     * Cambios en orden de offset
+     */
+    private List<ChangeResponse> changes;
+
+    /**
+     * Offset a enviar como "after" en la siguiente lectura (igual al recibido si no hubo cambios)
+     */
+    private Long nextOffset;
+}
@@ -0,0 +1,59 @@
+package com.riwi.h1.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.riwi.h1.domain.model.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con un cambio del catálogo (creación, modificación o eliminación de un evento o venue).
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeResponse {
+
+    /**
+     * Posición del cambio en el flujo; se usa como "after" para pedir los siguientes
+     */
+    private Long offset;
+
+    /**
+     * Tipo de recurso (Event o Venue)
+     */
+    private String aggregateType;
+
+    /**
+     * ID del recurso
+     */
+    private Long aggregateId;
+
+    /**
+     * Versión del recurso tras el cambio (null en las eliminaciones)
+     */
+    private Long aggregateVersion;
+
+    /**
+     * Tipo de cambio
+     */
+    private ChangeType changeType;
+
+    /**
+     * Estado del recurso tras el cambio (null en las eliminaciones)
+     */
+    @JsonRawValue
+    private String payload;
+
+    /**
+     * Fecha y hora del cambio
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,49 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con las métricas de un grupo de coalescencia de lecturas.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingStatsResponse {
+
+    /**
+     * Nombre del grupo (ej: events.by-id)
+     */
+    private String name;
+
+    /**
+     * Cargas ejecutadas contra la base de datos
+     */
+    private Long leaders;
+
+    /**
+     * Lecturas servidas por una carga concurrente ya en curso
+     */
+    private Long followers;
+
+    /**
+     * Lecturas que agotaron el plazo de espera
+     */
+    private Long timeouts;
+
+    /**
+     * Claves con una carga en curso en este momento
+     */
+    private Integer inFlight;
+
+    /**
+     * Fracción de lecturas que no llegaron a la base de datos (followers / total)
+     */
+    private Double coalescingRatio;
+}
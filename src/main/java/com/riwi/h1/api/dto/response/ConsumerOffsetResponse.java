@@ -0,0 +1,29 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el offset confirmado por un consumidor del flujo de cambios.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumerOffsetResponse {
+
+    /**
+     * Nombre del consumidor
+     */
+    private String consumer;
+
+    /**
+     * Último offset procesado
+     */
+    private Long offset;
+}
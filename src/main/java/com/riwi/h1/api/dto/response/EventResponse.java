@@ -62,6 +62,11 @@ public class EventResponse {
      */
     private Boolean active;
 
+    /**
+     * Versión actual del registro (también enviada como ETag)
+     */
+    private Long version;
+
     /**
      * Fecha de creación del registro
      */
@@ -73,4 +78,10 @@ public class EventResponse {
      */
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    /**
+     * Fecha en que el evento se archivó (solo en el historial, para eventos archivados)
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime archivedAt;
 }
\ No newline at end of file
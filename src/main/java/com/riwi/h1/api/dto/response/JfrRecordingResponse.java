@@ -0,0 +1,46 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO con el estado de una grabación JFR.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrRecordingResponse {
+
+    /**
+     * ID de la grabación
+     */
+    private Long id;
+
+    /**
+     * Estado: NEW, DELAYED, RUNNING, STOPPED o CLOSED
+     */
+    private String state;
+
+    /**
+     * Inicio de la grabación
+     */
+    private Instant startTime;
+
+    /**
+     * Duración configurada en segundos
+     */
+    private Long durationSeconds;
+
+    /**
+     * Tamaño grabado en bytes
+     */
+    private Long sizeBytes;
+}
@@ -0,0 +1,64 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con la latencia de una etapa (servicio, repositorio o mapeo) en una grabación JFR.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrStageSummaryResponse {
+
+    /**
+     * Etapa, ej: "service:EventService.create" o "repository:EventJpaRepository.save"
+     */
+    private String stage;
+
+    /**
+     * Ejecuciones grabadas
+     */
+    private Long count;
+
+    /**
+     * Tiempo total (ms)
+     */
+    private Double totalMillis;
+
+    /**
+     * Tiempo medio (ms)
+     */
+    private Double avgMillis;
+
+    /**
+     * Mediana (ms)
+     */
+    private Double p50Millis;
+
+    /**
+     * Percentil 99 (ms)
+     */
+    private Double p99Millis;
+
+    /**
+     * Máximo (ms)
+     */
+    private Double maxMillis;
+
+    /**
+     * Sentencias SQL medias por ejecución
+     */
+    private Double statementsPerCall;
+
+    /**
+     * Filas medias por ejecución
+     */
+    private Double rowsPerCall;
+}
@@ -0,0 +1,38 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO con el estado del enrutamiento de lecturas a réplicas.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaRoutingResponse {
+
+    /**
+     * false si replica-routing.enabled=false (todo va a la principal)
+     */
+    private Boolean enabled;
+
+    /**
+     * Estado de cada réplica
+     */
+    private List<ReplicaStatsResponse> replicas;
+
+    /**
+     * Lecturas de solo lectura enviadas a la principal, por motivo
+     * (write_request, read_your_writes, lag, unavailable)
+     */
+    private Map<String, Long> primaryReads;
+}
@@ -0,0 +1,39 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el estado de una réplica de lectura.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaStatsResponse {
+
+    /**
+     * Nombre de la réplica
+     */
+    private String name;
+
+    /**
+     * false si la última conexión o comprobación falló
+     */
+    private Boolean healthy;
+
+    /**
+     * Retraso respecto al último latido de la principal (ms); ausente si aún no se conoce
+     */
+    private Double lagMillis;
+
+    /**
+     * Lecturas servidas desde el arranque
+     */
+    private Long reads;
+}
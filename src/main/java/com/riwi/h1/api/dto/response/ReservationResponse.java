@@ -0,0 +1,39 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con la ocupación de un evento tras una operación de reserva.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationResponse {
+
+    /**
+     * ID del evento
+     */
+    private Long eventId;
+
+    /**
+     * Capacidad total del evento
+     */
+    private Integer capacity;
+
+    /**
+     * Asientos reservados
+     */
+    private Integer reservedSeats;
+
+    /**
+     * Asientos disponibles
+     */
+    private Integer availableSeats;
+}
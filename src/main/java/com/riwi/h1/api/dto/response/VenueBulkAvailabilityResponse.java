@@ -0,0 +1,36 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de un cambio masivo de disponibilidad.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueBulkAvailabilityResponse {
+
+    /**
+     * Disponibilidad aplicada
+     */
+    private Boolean available;
+
+    /**
+     * Cantidad de venues que cambiaron
+     */
+    private Integer updated;
+
+    /**
+     * IDs de los venues que cambiaron (los que ya tenían ese estado no se incluyen)
+     */
+    private List<Long> venueIds;
+}
@@ -0,0 +1,36 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de un borrado masivo de venues.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueBulkDeleteResponse {
+
+    /**
+     * IDs eliminados
+     */
+    private List<Long> deleted;
+
+    /**
+     * IDs no eliminados porque tienen eventos asociados
+     */
+    private List<Long> withEvents;
+
+    /**
+     * IDs que no corresponden a ningún venue
+     */
+    private List<Long> notFound;
+}
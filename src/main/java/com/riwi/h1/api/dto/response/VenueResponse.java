@@ -60,6 +60,11 @@ public class VenueResponse {
      */
     private Boolean available;
 
+    /**
+     * Versión actual del registro (también enviada como ETag)
+     */
+    private Long version;
+
     /**
      * Fecha de creación del registro
      */
@@ -0,0 +1,46 @@
+package com.riwi.h1.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el detalle de un venue y una página de sus eventos.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueWithEventsResponse {
+
+    /**
+     * Datos del venue
+     */
+    private VenueResponse venue;
+
+    /**
+     * Eventos de la página, ordenados por fecha
+     */
+    private List<EventResponse> events;
+
+    /**
+     * Número de página (desde 0)
+     */
+    private Integer page;
+
+    /**
+     * Eventos por página
+     */
+    private Integer size;
+
+    /**
+     * Indica si hay más eventos después de esta página
+     */
+    private Boolean hasMore;
+}
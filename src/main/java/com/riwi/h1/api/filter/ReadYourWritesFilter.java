@@ -0,0 +1,65 @@
+package com.riwi.h1.api.filter;
+
+import com.riwi.h1.config.ReplicaRoutingProperties;
+import com.riwi.h1.infrastructure.routing.ReplicaRoutingContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Aplica read-your-writes al enrutamiento de lecturas a réplicas.
+ *
+ * - Las peticiones de escritura (todo lo que no es GET/HEAD) leen solo de la base principal.
+ * - Cada escritura confirmada devuelve su token en la cabecera X-Consistency-Token
+ *   (configurable con replica-routing.token-header).
+ * - Una lectura que reenvía ese token solo se sirve desde una réplica que ya replicó
+ *   la escritura; si ninguna lo hizo, va a la principal.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "replica-routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReplicaRoutingProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        boolean write = !"GET".equals(method) && !"HEAD".equals(method);
+        String header = properties.getTokenHeader();
+        // La escritura se confirma dentro del servicio, antes de serializar el cuerpo: la cabecera llega a tiempo
+        ReplicaRoutingContext.open(write, parseToken(request.getHeader(header)), committedAt -> {
+            if (!response.isCommitted()) {
+                response.setHeader(header, Long.toString(committedAt));
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.close();
+        }
+    }
+
+    private static long parseToken(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            // Un token ilegible no debe romper la lectura: se trata como si no viniera
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.riwi.h1.api.filter;
+
+import com.riwi.h1.config.ServerTimingProperties;
+import com.riwi.h1.infrastructure.timing.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Agrega la cabecera Server-Timing con el desglose de tiempo de la petición
+ * (parse, svc, db, map, ser, total; ver {@link RequestTiming}).
+ *
+ * Se activa por petición con la cabecera X-Server-Timing: 1 (o para todas con
+ * server-timing.always=true). Las peticiones que no la piden no pasan por el envoltorio
+ * de la respuesta, así que puede quedar habilitado en producción.
+ *
+ * La etapa ser se cierra en el primer flush del cuerpo, que el conversor JSON hace
+ * al terminar de escribir. Si el cuerpo no cabe en el buffer de la respuesta, la cabecera
+ * se envía antes de desbordarlo y ser queda fuera.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !(properties.isAlways() || requested(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming.start();
+        TimingResponse timingResponse = new TimingResponse(response);
+        try {
+            chain.doFilter(request, timingResponse);
+        } finally {
+            timingResponse.writeHeader();
+            RequestTiming.stop();
+        }
+    }
+
+    private boolean requested(HttpServletRequest request) {
+        String value = request.getHeader(properties.getRequestHeader());
+        return value != null
+                && ("1".equals(value) || "true".equalsIgnoreCase(value) || "on".equalsIgnoreCase(value));
+    }
+
+    /**
+     * Difiere la cabecera hasta que el cuerpo está escrito (primer flush) o
+     * hasta que está por enviarse al cliente, lo que ocurra primero.
+     */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private TimingOutputStream outputStream;
+        private boolean written;
+
+        private TimingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader(HEADER, RequestTiming.headerValue());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (written) {
+                return super.getOutputStream();
+            }
+            if (outputStream == null) {
+                RequestTiming.serializationStarted();
+                outputStream = new TimingOutputStream(this, super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+
+    /**
+     * Flujo de salida que escribe la cabecera antes de que el contenedor
+     * confirme la respuesta (flush o buffer lleno).
+     */
+    private static final class TimingOutputStream extends ServletOutputStream {
+
+        private final TimingResponse response;
+        private final ServletOutputStream delegate;
+        private long written;
+
+        private TimingOutputStream(TimingResponse response, ServletOutputStream delegate) {
+            this.response = response;
+            this.delegate = delegate;
+        }
+
+        private void beforeWrite(int length) {
+            written += length;
+            if (written >= response.getBufferSize()) {
+                response.writeHeader();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeWrite(1);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            beforeWrite(len);
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            response.writeHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.writeHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.riwi.h1.api.filter;
+
+import com.riwi.h1.config.SqlStatisticsProperties;
+import com.riwi.h1.infrastructure.jdbc.SqlStatementTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mide las sentencias SQL, filas leídas y tiempo de base de datos de cada petición HTTP.
+ *
+ * - Publica las métricas http.server.sql.statements / http.server.sql.rows por ruta.
+ * - Si sql.stats.header-enabled=true, agrega la cabecera X-SQL-Statistics a la respuesta.
+ * - Si sql.stats.repeat-threshold > 0, avisa en el log cuando un mismo SQL se repite
+ *   demasiadas veces en la petición (posible N+1).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statistics";
+
+    private final SqlStatisticsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean trackRepeats = properties.getRepeatThreshold() > 0;
+        if (trackRepeats) {
+            SqlStatementTracker.startRepeatTracking();
+        }
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        HttpServletResponse target = properties.isHeaderEnabled()
+                ? new HeaderOnCommitResponse(response, start)
+                : response;
+        try {
+            chain.doFilter(request, target);
+        } finally {
+            if (target instanceof HeaderOnCommitResponse wrapper) {
+                wrapper.writeHeader();
+            }
+            SqlStatementTracker.Snapshot used = SqlStatementTracker.snapshot().minus(start);
+            record(request, used);
+            if (trackRepeats) {
+                warnRepeats(request, SqlStatementTracker.stopRepeatTracking());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementTracker.Snapshot used) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("Sentencias SQL ejecutadas por petición")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(used.statements());
+        DistributionSummary.builder("http.server.sql.rows")
+                .description("Filas leídas por petición")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(used.rows());
+    }
+
+    private void warnRepeats(HttpServletRequest request, Map<String, Integer> repeats) {
+        repeats.forEach((sql, count) -> {
+            if (count >= properties.getRepeatThreshold()) {
+                log.warn("Possible N+1 in {} {}: statement executed {} times: {}",
+                        request.getMethod(), request.getRequestURI(), count, sql);
+            }
+        });
+    }
+
+    static String format(SqlStatementTracker.Snapshot used) {
+        return String.format(Locale.ROOT, "statements=%d, rows=%d, time=%.2fms",
+                used.statements(), used.rows(), used.millis());
+    }
+
+    /**
+     * Agrega la cabecera justo antes de que se empiece a escribir el cuerpo
+     * (después ya no se pueden modificar las cabeceras), o al final si no hay cuerpo.
+     */
+    private static final class HeaderOnCommitResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementTracker.Snapshot start;
+        private boolean written;
+
+        private HeaderOnCommitResponse(HttpServletResponse response, SqlStatementTracker.Snapshot start) {
+            super(response);
+            this.start = start;
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader(HEADER, format(SqlStatementTracker.snapshot().minus(start)));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.riwi.h1.api.http;
+
+import com.riwi.h1.exception.BadRequestException;
+
+/**
+ * Utilidades para convertir la versión optimista de una entidad en un ETag
+ * y para interpretar la cabecera If-Match de las peticiones condicionales.
+ */
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    /**
+     * Construye un ETag fuerte a partir de la versión de la entidad.
+     *
+     * @param version Versión de la entidad
+     * @return ETag entre comillas (ej: "3"), o null si no hay versión
+     */
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Interpreta la cabecera If-Match.
+     *
+     * @param ifMatch Valor de la cabecera (puede ser null)
+     * @return Versión esperada, o null si no hay condición (cabecera ausente o "*")
+     * @throws BadRequestException si el valor no es un ETag de versión válido
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.riwi.h1.api.interceptor;
+
+import com.riwi.h1.config.AdmissionControlProperties;
+import com.riwi.h1.exception.ServiceUnavailableException;
+import com.riwi.h1.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Interceptor de control de admisión por grupo de endpoints.
+ *
+ * Clasifica cada petición como lectura (GET/HEAD), masiva (escrituras en rutas /bulk y /api/jobs) o escritura
+ * y la admite solo si el {@link AdaptiveConcurrencyLimiter} de su grupo tiene cupo.
+ * Si no lo tiene, lanza {@link ServiceUnavailableException}, que GlobalExceptionHandler
+ * convierte en 503 con Retry-After sin llegar a ejecutar el controlador.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    static final String READ = "read";
+    static final String WRITE = "write";
+    static final String BULK = "bulk";
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+
+    private final AdmissionControlProperties properties;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+
+    public AdmissionControlInterceptor(AdmissionControlProperties properties) {
+        this.properties = properties;
+        this.limiters = properties.getGroups().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new AdaptiveConcurrencyLimiter(
+                        entry.getKey(),
+                        entry.getValue().getInitialLimit(),
+                        entry.getValue().getMinLimit(),
+                        entry.getValue().getMaxLimit(),
+                        properties.getWindowMs())));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.get(classify(request));
+        if (limiter == null) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ServiceUnavailableException("Server is overloaded, request was shed", properties.getRetryAfterSeconds());
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object limiter = request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        // Los errores 4xx terminan rápido sin hacer el trabajo real: no representan la latencia del servicio
+        boolean sample = response.getStatus() < 400 || response.getStatus() >= 500;
+        ((AdaptiveConcurrencyLimiter) limiter).release(start, sample);
+    }
+
+    /**
+     * @return Estado de los limitadores de todos los grupos
+     */
+    public List<AdaptiveConcurrencyLimiter.Stats> stats() {
+        return limiters.values().stream()
+                .map(AdaptiveConcurrencyLimiter::stats)
+                .toList();
+    }
+
+    /**
+     * @return Limitadores de todos los grupos
+     */
+    public Collection<AdaptiveConcurrencyLimiter> limiters() {
+        return limiters.values();
+    }
+
+    /**
+     * Clasifica la petición en un grupo de endpoints.
+     */
+    static String classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            // Incluye la consulta de progreso de trabajos masivos, que es una lectura barata
+            return READ;
+        }
+        String path = request.getRequestURI();
+        if (path.contains("/bulk") || path.startsWith("/api/jobs")) {
+            return BULK;
+        }
+        return WRITE;
+    }
+}
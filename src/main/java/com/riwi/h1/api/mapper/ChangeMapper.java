@@ -0,0 +1,34 @@
+package com.riwi.h1.api.mapper;
+
+import com.riwi.h1.api.dto.response.ChangeResponse;
+import com.riwi.h1.infrastructure.outbox.ChangeRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión de los cambios del outbox al DTO de la API.
+ * La usan la lectura paginada (GET /api/changes) y el flujo SSE.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Component
+public class ChangeMapper {
+
+    /**
+     * Mapea un ChangeRecord a un ChangeResponse.
+     *
+     * @param change Cambio del outbox
+     * @return DTO de salida
+     */
+    public ChangeResponse mapToResponse(ChangeRecord change) {
+        return ChangeResponse.builder()
+                .offset(change.offset())
+                .aggregateType(change.aggregateType())
+                .aggregateId(change.aggregateId())
+                .aggregateVersion(change.aggregateVersion())
+                .changeType(change.changeType())
+                .payload(change.payload())
+                .createdAt(change.createdAt())
+                .build();
+    }
+}
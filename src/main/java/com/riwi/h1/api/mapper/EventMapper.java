@@ -0,0 +1,90 @@
+package com.riwi.h1.api.mapper;
+
+import com.riwi.h1.api.dto.request.EventPatchRequest;
+import com.riwi.h1.api.dto.request.EventRequest;
+import com.riwi.h1.api.dto.response.EventResponse;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.model.EventHistoryEntry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión entre los DTOs de la API y la entidad Event.
+ * Antes vivía como métodos privados de EventController; se extrajo para poder
+ * reutilizarla y medirla de forma aislada.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Component
+public class EventMapper {
+
+    /**
+     * Mapea un EventRequest a una entidad Event.
+     *
+     * @param request DTO de entrada
+     * @return Entidad Event
+     */
+    public Event mapToEntity(EventRequest request) {
+        return Event.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .eventDate(request.getEventDate())
+                .venueId(request.getVenueId())
+                .capacity(request.getCapacity())
+                .ticketPrice(request.getTicketPrice())
+                .active(request.getActive())
+                .build();
+    }
+
+    /**
+     * Mapea un EventPatchRequest a una entidad Event con solo los campos enviados.
+     *
+     * @param request DTO de actualización parcial
+     * @return Entidad Event con los cambios (los campos no enviados quedan en null)
+     */
+    public Event mapToEntity(EventPatchRequest request) {
+        return Event.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .eventDate(request.getEventDate())
+                .venueId(request.getVenueId())
+                .capacity(request.getCapacity())
+                .ticketPrice(request.getTicketPrice())
+                .active(request.getActive())
+                .build();
+    }
+
+    /**
+     * Mapea una entidad Event a un EventResponse.
+     *
+     * @param event Entidad Event
+     * @return DTO de salida
+     */
+    public EventResponse mapToResponse(Event event) {
+        return EventResponse.builder()
+                .id(event.getId())
+                .name(event.getName())
+                .description(event.getDescription())
+                .eventDate(event.getEventDate())
+                .venueId(event.getVenueId())
+                .capacity(event.getCapacity())
+                .ticketPrice(event.getTicketPrice())
+                .active(event.getActive())
+                .version(event.getVersion())
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Mapea una entrada del historial a un EventResponse, con su fecha de archivo si la tiene.
+     *
+     * @param entry Evento vigente o archivado
+     * @return DTO de salida
+     */
+    public EventResponse mapToResponse(EventHistoryEntry entry) {
+        EventResponse response = mapToResponse(entry.event());
+        response.setArchivedAt(entry.archivedAt());
+        return response;
+    }
+}
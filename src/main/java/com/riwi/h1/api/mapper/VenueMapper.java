@@ -0,0 +1,77 @@
+package com.riwi.h1.api.mapper;
+
+import com.riwi.h1.api.dto.request.VenuePatchRequest;
+import com.riwi.h1.api.dto.request.VenueRequest;
+import com.riwi.h1.api.dto.response.VenueResponse;
+import com.riwi.h1.domain.entity.Venue;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión entre los DTOs de la API y la entidad Venue.
+ * Antes vivía como métodos privados de VenueController; se extrajo para poder
+ * reutilizarla y medirla de forma aislada.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Component
+public class VenueMapper {
+
+    /**
+     * Mapea un VenueRequest a una entidad Venue.
+     *
+     * @param request DTO de entrada
+     * @return Entidad Venue
+     */
+    public Venue mapToEntity(VenueRequest request) {
+        return Venue.builder()
+                .name(request.getName())
+                .address(request.getAddress())
+                .city(request.getCity())
+                .country(request.getCountry())
+                .maxCapacity(request.getMaxCapacity())
+                .type(request.getType())
+                .available(request.getAvailable())
+                .build();
+    }
+
+    /**
+     * Mapea un VenuePatchRequest a una entidad Venue con solo los campos enviados.
+     *
+     * @param request DTO de actualización parcial
+     * @return Entidad Venue con los cambios (los campos no enviados quedan en null)
+     */
+    public Venue mapToEntity(VenuePatchRequest request) {
+        return Venue.builder()
+                .name(request.getName())
+                .address(request.getAddress())
+                .city(request.getCity())
+                .country(request.getCountry())
+                .maxCapacity(request.getMaxCapacity())
+                .type(request.getType())
+                .available(request.getAvailable())
+                .build();
+    }
+
+    /**
+     * Mapea una entidad Venue a un VenueResponse.
+     *
+     * @param venue Entidad Venue
+     * @return DTO de salida
+     */
+    public VenueResponse mapToResponse(Venue venue) {
+        return VenueResponse.builder()
+                .id(venue.getId())
+                .name(venue.getName())
+                .address(venue.getAddress())
+                .city(venue.getCity())
+                .country(venue.getCountry())
+                .maxCapacity(venue.getMaxCapacity())
+                .type(venue.getType())
+                .available(venue.getAvailable())
+                .version(venue.getVersion())
+                .createdAt(venue.getCreatedAt())
+                .updatedAt(venue.getUpdatedAt())
+                .build();
+    }
+}
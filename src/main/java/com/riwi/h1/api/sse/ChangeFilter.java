@@ -0,0 +1,43 @@
+package com.riwi.h1.api.sse;
+
+/**
+ * Filtro de un suscriptor del flujo de cambios. Los criterios nulos no filtran.
+ *
+ * @param venueId Solo cambios del venue o de sus eventos
+ * @param city Solo venues de esa ciudad o eventos en ellos (sin distinguir mayúsculas)
+ * @param active Solo eventos activos / venues disponibles (true) o lo contrario (false)
+ */
+public record ChangeFilter(Long venueId, String city, Boolean active) {
+
+    /**
+     * @param view Estado del recurso
+     * @return true si el estado cumple todos los criterios
+     */
+    boolean matches(ChangeView view) {
+        if (venueId != null && !venueId.equals(view.venueId())) {
+            return false;
+        }
+        if (active != null && !active.equals(view.active())) {
+            return false;
+        }
+        // La ciudad se evalúa al final: en los eventos puede requerir buscar su venue
+        return city == null || city.equalsIgnoreCase(view.city());
+    }
+
+    /**
+     * Decide si un cambio interesa al suscriptor.
+     * Se compara el estado nuevo y el anterior: un evento que deja de estar activo
+     * sigue llegando a quien filtra por activos, para que lo quite de su lista.
+     *
+     * @param current Estado tras el cambio (null en las eliminaciones)
+     * @param previous Último estado conocido (null si no se conoce)
+     * @return true si debe enviarse
+     */
+    boolean accepts(ChangeView current, ChangeView previous) {
+        if (current == null && previous == null) {
+            // Eliminación de un recurso del que no se conoce el estado: se envía, el cliente ignora IDs que no tiene
+            return true;
+        }
+        return (current != null && matches(current)) || (previous != null && matches(previous));
+    }
+}
@@ -0,0 +1,350 @@
+package com.riwi.h1.api.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.h1.api.mapper.ChangeMapper;
+import com.riwi.h1.config.ChangeStreamProperties;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.ChangeType;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+import com.riwi.h1.exception.ServiceUnavailableException;
+import com.riwi.h1.infrastructure.outbox.ChangeRecord;
+import com.riwi.h1.infrastructure.outbox.OutboxReader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Difunde los cambios del catálogo a los suscriptores SSE.
+ *
+ * - Recibe los cambios del outbox (sink en proceso) en el hilo del relay; por cada suscriptor
+ *   solo evalúa el filtro y encola. Los envíos los hacen los hilos de {@code changeStreamExecutor}.
+ * - Cada cambio se serializa una sola vez, y solo si algún suscriptor lo acepta.
+ * - Cambios seguidos del mismo recurso se fusionan durante {@code change-stream.coalesce-ms}.
+ * - Un suscriptor que acumula más de {@code change-stream.max-pending-per-subscriber} recursos
+ *   pendientes se desconecta: al reconectar con Last-Event-ID recibe lo perdido desde el outbox.
+ * - Los IDs de los mensajes son offsets del outbox, por eso se puede reanudar desde cualquiera.
+ */
+@Slf4j
+@Component
+public class ChangeStreamHub implements MeterBinder {
+
+    /**
+     * Recursos cuyo último estado se recuerda para detectar salidas de un filtro
+     */
+    private static final int MAX_TRACKED_VIEWS = 100_000;
+
+    /**
+     * Ciudades de venue recordadas para filtrar eventos por ciudad
+     */
+    private static final int MAX_TRACKED_CITIES = 10_000;
+
+    private static final int REPLAY_PAGE_SIZE = 500;
+
+    private final ChangeStreamProperties properties;
+    private final ScheduledThreadPoolExecutor executor;
+    private final OutboxReader outboxReader;
+    private final VenueJpaRepository venueJpaRepository;
+    private final ChangeMapper changeMapper;
+    private final ObjectMapper objectMapper;
+
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Map<String, ChangeView> lastViews = new ConcurrentHashMap<>();
+    private final Map<Long, String> venueCities = new ConcurrentHashMap<>();
+    private final Object broadcastLock = new Object();
+    private long lastBroadcastOffset;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder slowDisconnects = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    public ChangeStreamHub(ChangeStreamProperties properties, ScheduledThreadPoolExecutor changeStreamExecutor,
+                           OutboxReader outboxReader, VenueJpaRepository venueJpaRepository,
+                           ChangeMapper changeMapper, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.executor = changeStreamExecutor;
+        this.outboxReader = outboxReader;
+        this.venueJpaRepository = venueJpaRepository;
+        this.changeMapper = changeMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        executor.scheduleWithFixedDelay(this::sendHeartbeats,
+                properties.getHeartbeatMs(), properties.getHeartbeatMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre una suscripción.
+     *
+     * @param filter Filtro del suscriptor
+     * @param lastEventId Último offset recibido (cabecera Last-Event-ID), o null en una conexión nueva
+     * @return Conexión SSE
+     * @throws ServiceUnavailableException si se alcanzó el máximo de suscriptores
+     */
+    public SseEmitter subscribe(ChangeFilter filter, Long lastEventId) {
+        if (subscriptions.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceUnavailableException("Too many change stream subscribers", 5);
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        long replayTo;
+        boolean replay;
+        ChangeSubscription subscription;
+        synchronized (broadcastLock) {
+            // Registrar y fijar el límite de la reanudación juntos: lo posterior llega en vivo, sin huecos ni repetidos
+            replayTo = lastBroadcastOffset;
+            replay = lastEventId != null && lastEventId < replayTo;
+            long liveAfter = lastEventId != null ? Math.max(lastEventId, replayTo) : replayTo;
+            subscription = new ChangeSubscription(emitter, filter, liveAfter, replay);
+            subscriptions.add(subscription);
+        }
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        if (replay) {
+            executor.execute(() -> replay(subscription, lastEventId, replayTo));
+        } else if (lastEventId == null) {
+            try {
+                subscription.sendConnected(replayTo);
+            } catch (IOException e) {
+                subscription.close();
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Recibe un cambio del outbox (hilo del relay) y lo encola para los suscriptores interesados.
+     * Los trabajos masivos también escriben en el outbox, así que sus cambios llegan por aquí.
+     *
+     * @param change Cambio publicado por el sink en proceso
+     */
+    @EventListener
+    public void onChange(ChangeRecord change) {
+        try {
+            broadcast(change);
+        } catch (RuntimeException e) {
+            // Un fallo aquí no debe detener al relay: los clientes pueden recuperarlo con Last-Event-ID
+            log.warn("Could not broadcast change {}: {}", change.offset(), e.toString());
+        }
+    }
+
+    /**
+     * @return Suscriptores conectados
+     */
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("change.stream.subscribers", subscriptions, List::size)
+                .description("Suscriptores SSE conectados")
+                .register(meterRegistry);
+        FunctionCounter.builder("change.stream.sent", sent, LongAdder::sum)
+                .description("Cambios enviados a suscriptores")
+                .register(meterRegistry);
+        FunctionCounter.builder("change.stream.coalesced", coalesced, LongAdder::sum)
+                .description("Cambios reemplazados por otro más reciente del mismo recurso antes de enviarse")
+                .register(meterRegistry);
+        FunctionCounter.builder("change.stream.slow.disconnects", slowDisconnects, LongAdder::sum)
+                .description("Suscriptores desconectados por no leer al ritmo de los cambios")
+                .register(meterRegistry);
+        FunctionCounter.builder("change.stream.replayed", replayed, LongAdder::sum)
+                .description("Cambios reenviados al reanudar con Last-Event-ID")
+                .register(meterRegistry);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void broadcast(ChangeRecord change) {
+        List<ChangeSubscription> targets;
+        synchronized (broadcastLock) {
+            lastBroadcastOffset = change.offset();
+            targets = subscriptions;
+        }
+        if (targets.isEmpty()) {
+            // Sin suscriptores no se analiza nada; el estado recordado quedaría desactualizado
+            lastViews.clear();
+            return;
+        }
+        String key = change.aggregateType() + ":" + change.aggregateId();
+        ChangeView current = toView(change);
+        ChangeView previous = current != null ? lastViews.put(key, current) : lastViews.remove(key);
+        if (lastViews.size() > MAX_TRACKED_VIEWS) {
+            lastViews.clear();
+        }
+
+        ChangeSubscription.OutgoingChange outgoing = null;
+        for (ChangeSubscription subscription : targets) {
+            if (!subscription.filter().accepts(current, previous)) {
+                continue;
+            }
+            if (outgoing == null) {
+                outgoing = toOutgoing(key, change);
+            }
+            switch (subscription.offer(outgoing, properties.getMaxPendingPerSubscriber())) {
+                case SCHEDULE -> executor.schedule(() -> drain(subscription),
+                        properties.getCoalesceMs(), TimeUnit.MILLISECONDS);
+                case COALESCED -> coalesced.increment();
+                case OVERFLOW -> {
+                    slowDisconnects.increment();
+                    subscription.close();
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void drain(ChangeSubscription subscription) {
+        try {
+            sent.add(subscription.drain());
+        } catch (IOException | IllegalStateException e) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * Reenvía desde el outbox los cambios entre el último recibido por el cliente y el primero en vivo.
+     */
+    private void replay(ChangeSubscription subscription, long after, long to) {
+        try {
+            if (to - after > properties.getMaxReplay() || pruned(after, to)) {
+                subscription.sendReset(to);
+            } else {
+                long offset = after;
+                while (offset < to) {
+                    // Todo lo anterior a "to" ya se difundió: sus huecos están resueltos y no se esperan
+                    List<ChangeRecord> page = outboxReader.readDelivered(offset, to, REPLAY_PAGE_SIZE);
+                    if (page.isEmpty()) {
+                        break;
+                    }
+                    for (ChangeRecord change : page) {
+                        String key = change.aggregateType() + ":" + change.aggregateId();
+                        if (subscription.filter().accepts(toView(change), null)) {
+                            subscription.send(toOutgoing(key, change));
+                            replayed.increment();
+                        }
+                    }
+                    offset = page.get(page.size() - 1).offset();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscription.close();
+            return;
+        }
+        if (subscription.finishReplay()) {
+            executor.execute(() -> drain(subscription));
+        }
+    }
+
+    /**
+     * @return true si la limpieza del outbox ya eliminó cambios posteriores a {@code after}
+     */
+    private boolean pruned(long after, long to) {
+        OptionalLong first = outboxReader.firstRetainedOffset();
+        return first.isEmpty() ? to > after : first.getAsLong() > after + 1;
+    }
+
+    private void sendHeartbeats() {
+        for (ChangeSubscription subscription : subscriptions) {
+            try {
+                subscription.sendHeartbeat();
+            } catch (IOException | IllegalStateException e) {
+                subscription.close();
+            }
+        }
+    }
+
+    /**
+     * @return Atributos filtrables del recurso tras el cambio, o null si se eliminó
+     */
+    private ChangeView toView(ChangeRecord change) {
+        if (change.changeType() == ChangeType.DELETED || change.payload() == null) {
+            if ("Venue".equals(change.aggregateType())) {
+                venueCities.remove(change.aggregateId());
+            }
+            return null;
+        }
+        JsonNode state = readPayload(change);
+        if ("Venue".equals(change.aggregateType())) {
+            String city = textOrNull(state.get("city"));
+            if (city != null) {
+                rememberCity(change.aggregateId(), city);
+            }
+            return ChangeView.ofVenue(change.aggregateId(), city, booleanOrNull(state.get("available")));
+        }
+        JsonNode venueId = state.get("venueId");
+        return ChangeView.ofEvent(venueId == null || venueId.isNull() ? null : venueId.asLong(),
+                booleanOrNull(state.get("active")), this::cityOf);
+    }
+
+    /**
+     * Ciudad de un venue: se recuerda de sus cambios y, si no se conoce, se lee una vez de la BD
+     * (fuera del mapa, para no bloquearlo durante la consulta).
+     */
+    private String cityOf(long venueId) {
+        String city = venueCities.get(venueId);
+        if (city != null) {
+            return city;
+        }
+        city = venueJpaRepository.findById(venueId)
+                .map(Venue::getCity)
+                .orElse("");
+        rememberCity(venueId, city);
+        return city;
+    }
+
+    private void rememberCity(long venueId, String city) {
+        if (venueCities.size() >= MAX_TRACKED_CITIES) {
+            venueCities.clear();
+        }
+        venueCities.put(venueId, city);
+    }
+
+    private ChangeSubscription.OutgoingChange toOutgoing(String key, ChangeRecord change) {
+        try {
+            return new ChangeSubscription.OutgoingChange(key, change.offset(),
+                    objectMapper.writeValueAsString(changeMapper.mapToResponse(change)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change " + change.offset(), e);
+        }
+    }
+
+    private JsonNode readPayload(ChangeRecord change) {
+        try {
+            return objectMapper.readTree(change.payload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid payload in change " + change.offset(), e);
+        }
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    private static Boolean booleanOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asBoolean();
+    }
+}
@@ -0,0 +1,186 @@
+package com.riwi.h1.api.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Conexión SSE de un suscriptor con su cola de cambios pendientes.
+ *
+ * La cola guarda un solo cambio por recurso: si llega otro del mismo recurso antes de enviarse,
+ * reemplaza al anterior y pasa al final (los offsets enviados siguen siendo crecientes).
+ * Así la memoria por suscriptor queda acotada por la cantidad de recursos distintos pendientes.
+ */
+final class ChangeSubscription {
+
+    /**
+     * Resultado de encolar un cambio.
+     */
+    enum Offer {
+        /** Encolado; ya hay un envío programado */
+        QUEUED,
+        /** Encolado; hay que programar el envío */
+        SCHEDULE,
+        /** Fusionado con un cambio pendiente del mismo recurso */
+        COALESCED,
+        /** Cola llena: el cliente no lee al ritmo de los cambios */
+        OVERFLOW,
+        /** Ignorado: ya enviado, suscripción cerrada o en reanudación */
+        IGNORED
+    }
+
+    private final SseEmitter emitter;
+    private final ChangeFilter filter;
+    private final LinkedHashMap<String, OutgoingChange> pending = new LinkedHashMap<>();
+    private long lastQueuedOffset;
+    private boolean replaying;
+    private boolean drainScheduled;
+    private boolean closed;
+
+    /**
+     * @param emitter Conexión SSE
+     * @param filter Filtro del suscriptor
+     * @param resumeAfter Último offset que el cliente ya tiene (0 si es una conexión nueva)
+     * @param replaying true si antes de los cambios en vivo se reenvían los perdidos
+     */
+    ChangeSubscription(SseEmitter emitter, ChangeFilter filter, long resumeAfter, boolean replaying) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.lastQueuedOffset = resumeAfter;
+        this.replaying = replaying;
+    }
+
+    ChangeFilter filter() {
+        return filter;
+    }
+
+    /**
+     * Encola un cambio en vivo.
+     *
+     * @param change Cambio ya serializado
+     * @param maxPending Máximo de recursos pendientes
+     * @return Qué pasó con el cambio
+     */
+    synchronized Offer offer(OutgoingChange change, int maxPending) {
+        if (closed || change.offset() <= lastQueuedOffset) {
+            return Offer.IGNORED;
+        }
+        lastQueuedOffset = change.offset();
+        OutgoingChange replaced = pending.remove(change.key());
+        pending.put(change.key(), change);
+        if (replaced != null) {
+            return Offer.COALESCED;
+        }
+        if (pending.size() > maxPending) {
+            return Offer.OVERFLOW;
+        }
+        if (replaying || drainScheduled) {
+            return Offer.QUEUED;
+        }
+        drainScheduled = true;
+        return Offer.SCHEDULE;
+    }
+
+    /**
+     * Termina la reanudación: los cambios en vivo acumulados mientras tanto pasan a enviarse.
+     *
+     * @return true si hay que programar el envío
+     */
+    synchronized boolean finishReplay() {
+        replaying = false;
+        if (closed || pending.isEmpty() || drainScheduled) {
+            return false;
+        }
+        drainScheduled = true;
+        return true;
+    }
+
+    /**
+     * Envía todos los cambios pendientes.
+     *
+     * @return Cantidad de cambios enviados
+     * @throws IOException si la conexión está cerrada
+     */
+    int drain() throws IOException {
+        List<OutgoingChange> batch;
+        synchronized (this) {
+            drainScheduled = false;
+            if (closed || pending.isEmpty()) {
+                return 0;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (OutgoingChange change : batch) {
+            send(change);
+        }
+        return batch.size();
+    }
+
+    /**
+     * Envía un cambio directamente (reanudación), sin pasar por la cola.
+     */
+    void send(OutgoingChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(change.offset()))
+                .name("change")
+                .data(change.json(), MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Primer mensaje de una conexión nueva: fija el Last-Event-ID del cliente desde el inicio,
+     * así aunque se desconecte antes de recibir cambios puede reanudar sin perder ninguno.
+     *
+     * @param offset Offset desde el que llegan los cambios en vivo
+     */
+    void sendConnected(long offset) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(offset))
+                .name("connected")
+                .data("{\"offset\":" + offset + "}", MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Avisa que no se pueden reenviar los cambios perdidos: el cliente debe recargar sus listas.
+     *
+     * @param offset Offset desde el que continúan los cambios en vivo
+     */
+    void sendReset(long offset) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(offset))
+                .name("reset")
+                .data("{\"offset\":" + offset + "}", MediaType.APPLICATION_JSON));
+    }
+
+    void sendHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("keep-alive"));
+    }
+
+    /**
+     * Cierra la conexión y descarta los pendientes.
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        emitter.complete();
+    }
+
+    /**
+     * Cambio listo para enviar: serializado una sola vez y compartido entre suscriptores.
+     *
+     * @param key Recurso ("Event:12"), usado para fusionar cambios del mismo recurso
+     * @param offset Offset del cambio
+     * @param json Cuerpo del mensaje
+     */
+    record OutgoingChange(String key, long offset, String json) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.riwi.h1.api.sse;
+
+import java.util.function.LongFunction;
+
+/**
+ * Atributos de un evento o venue que usan los filtros del flujo de cambios.
+ * La ciudad de un evento es la de su venue y se busca solo si algún filtro la pide.
+ */
+final class ChangeView {
+
+    private final Long venueId;
+    private final Boolean active;
+    private final LongFunction<String> cityLookup;
+    private String city;
+    private boolean cityResolved;
+
+    private ChangeView(Long venueId, Boolean active, String city, LongFunction<String> cityLookup) {
+        this.venueId = venueId;
+        this.active = active;
+        this.city = city;
+        this.cityResolved = cityLookup == null;
+        this.cityLookup = cityLookup;
+    }
+
+    /**
+     * @param id ID del venue
+     * @param city Ciudad del venue
+     * @param available Disponibilidad del venue
+     */
+    static ChangeView ofVenue(long id, String city, Boolean available) {
+        return new ChangeView(id, available, city, null);
+    }
+
+    /**
+     * @param venueId Venue del evento (puede ser null)
+     * @param active Estado activo del evento
+     * @param cityLookup Búsqueda de la ciudad de un venue por ID
+     */
+    static ChangeView ofEvent(Long venueId, Boolean active, LongFunction<String> cityLookup) {
+        return new ChangeView(venueId, active, null, venueId == null ? null : cityLookup);
+    }
+
+    Long venueId() {
+        return venueId;
+    }
+
+    Boolean active() {
+        return active;
+    }
+
+    String city() {
+        if (!cityResolved) {
+            city = cityLookup.apply(venueId);
+            cityResolved = true;
+        }
+        return city;
+    }
+}
@@ -0,0 +1,271 @@
+package com.riwi.h1.application.service;
+
+import com.riwi.h1.config.BulkJobProperties;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.BulkJob;
+import com.riwi.h1.domain.model.BulkJobStatus;
+import com.riwi.h1.domain.model.BulkJobType;
+import com.riwi.h1.domain.model.ChangeType;
+import com.riwi.h1.domain.model.EntityChange;
+import com.riwi.h1.domain.model.EntityVersion;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+import com.riwi.h1.exception.ServiceUnavailableException;
+import com.riwi.h1.infrastructure.outbox.OutboxWriter;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio de trabajos masivos asíncronos.
+ *
+ * Un envío devuelve de inmediato el trabajo en estado QUEUED. Un pool acotado de hilos
+ * de baja prioridad lo ejecuta: primero obtiene los IDs afectados con una consulta y luego
+ * los procesa en bloques, cada uno en su propia transacción con una sola sentencia UPDATE.
+ * Entre bloques se comprueba la cancelación y se hace una pausa corta para no acaparar
+ * conexiones del pool frente al tráfico interactivo.
+ * Cada bloque registra en el outbox, en su misma transacción, un cambio UPDATED por entidad
+ * modificada; eso también invalida las cachés ({@link EntityChange}).
+ * Con eventos repartidos en shards, los IDs se agrupan por shard y cada bloque corre en el suyo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkJobService {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final VenueJpaRepository venueJpaRepository;
+    private final TicketReservationService ticketReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor bulkJobExecutor;
+    private final BulkJobProperties properties;
+    private final OutboxWriter outboxWriter;
+    private final EventShards shards;
+
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Envía un trabajo masivo para ejecución asíncrona.
+     *
+     * @param type Tipo de operación
+     * @param venueId Venue (para REPRICE_VENUE_EVENTS)
+     * @param percentageChange Cambio porcentual de precio (para REPRICE_VENUE_EVENTS)
+     * @param venueIds Venues a marcar (para MARK_VENUES_UNAVAILABLE)
+     * @return El trabajo creado, en estado QUEUED
+     * @throws ServiceUnavailableException si la cola de trabajos está llena
+     */
+    public BulkJob submit(BulkJobType type, Long venueId, Double percentageChange, List<Long> venueIds) {
+        validate(type, venueId, percentageChange, venueIds);
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), type, venueId, percentageChange, venueIds);
+        jobs.put(job.getId(), job);
+        try {
+            bulkJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServiceUnavailableException("Bulk job queue is full, try again later", 5);
+        }
+        return job;
+    }
+
+    /**
+     * Busca un trabajo por su ID.
+     *
+     * @param id ID del trabajo
+     * @return El trabajo, si existe (los terminados se conservan durante el periodo de retención)
+     */
+    public Optional<BulkJob> findById(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Solicita la cancelación de un trabajo. Se detiene al terminar el bloque en curso;
+     * los bloques ya confirmados no se revierten.
+     *
+     * @param id ID del trabajo
+     * @return El trabajo, si existe
+     */
+    public Optional<BulkJob> cancel(String id) {
+        BulkJob job = jobs.get(id);
+        if (job != null && !job.getStatus().isFinished()) {
+            job.requestCancel();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    /**
+     * Elimina los trabajos terminados que superaron el periodo de retención.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(properties.getRetentionMinutes());
+        jobs.values().removeIf(job -> job.getStatus().isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(threshold));
+    }
+
+    // ========== EJECUCIÓN ==========
+
+    private void run(BulkJob job) {
+        if (job.isCancelRequested()) {
+            job.finish(BulkJobStatus.CANCELLED, null);
+            return;
+        }
+        try {
+            List<Long> ids = resolveTargetIds(job);
+            job.start(ids.size());
+
+            int chunkSize = properties.getChunkSize();
+            for (Map.Entry<Integer, List<Long>> group : groupByShard(job, ids).entrySet()) {
+                List<Long> shardIds = group.getValue();
+                for (int from = 0; from < shardIds.size(); from += chunkSize) {
+                    if (job.isCancelRequested()) {
+                        job.finish(BulkJobStatus.CANCELLED, null);
+                        return;
+                    }
+                    List<Long> chunk = shardIds.subList(from, Math.min(from + chunkSize, shardIds.size()));
+                    Integer affected = shards.onShard(group.getKey(),
+                            () -> transactionTemplate.execute(status -> processChunk(job, chunk)));
+                    job.recordChunk(chunk.size(), affected == null ? 0 : affected);
+                    pauseBetweenChunks();
+                }
+            }
+            job.finish(BulkJobStatus.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.warn("Bulk job {} ({}) failed: {}", job.getId(), job.getType(), e.getMessage());
+            job.finish(BulkJobStatus.FAILED, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(BulkJobStatus.CANCELLED, "Interrupted");
+        }
+    }
+
+    private List<Long> resolveTargetIds(BulkJob job) {
+        return switch (job.getType()) {
+            case REPRICE_VENUE_EVENTS ->
+                    shards.onVenueShard(job.getVenueId(), () -> eventJpaRepository.findIdsByVenueId(job.getVenueId()));
+            case DEACTIVATE_PAST_EVENTS -> {
+                LocalDateTime now = LocalDateTime.now();
+                yield shards.scatter(shard -> eventJpaRepository.findActiveIdsByEventDateBefore(now),
+                        Comparator.naturalOrder());
+            }
+            case MARK_VENUES_UNAVAILABLE -> new ArrayList<>(job.getVenueIds());
+        };
+    }
+
+    /**
+     * Los venues viven en el shard principal; los eventos, en el shard que indica su ID.
+     */
+    private Map<Integer, List<Long>> groupByShard(BulkJob job, List<Long> ids) {
+        if (job.getType() == BulkJobType.MARK_VENUES_UNAVAILABLE) {
+            return Map.of(0, ids);
+        }
+        return shards.groupByEventShard(ids);
+    }
+
+    private int processChunk(BulkJob job, List<Long> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean venues = job.getType() == BulkJobType.MARK_VENUES_UNAVAILABLE;
+        // Versiones previas: solo las filas que la sentencia modificó van al outbox
+        Map<Long, Long> before = versionsOf(venues, chunk);
+        int affected = switch (job.getType()) {
+            case REPRICE_VENUE_EVENTS ->
+                    eventJpaRepository.repriceByIds(chunk, 1 + job.getPercentageChange() / 100.0, now);
+            case DEACTIVATE_PAST_EVENTS -> {
+                int deactivated = eventJpaRepository.deactivateByIds(chunk, now);
+                ticketReservationService.onEventsDeactivated(chunk);
+                yield deactivated;
+            }
+            case MARK_VENUES_UNAVAILABLE -> venueJpaRepository.markUnavailableByIds(chunk, now);
+        };
+        if (affected > 0) {
+            recordChanges(venues, chunk, before);
+        }
+        return affected;
+    }
+
+    private Map<Long, Long> versionsOf(boolean venues, List<Long> chunk) {
+        List<EntityVersion> versions = venues
+                ? venueJpaRepository.findVersionsByIdIn(chunk)
+                : eventJpaRepository.findVersionsByIdIn(chunk);
+        Map<Long, Long> byId = new HashMap<>();
+        for (EntityVersion version : versions) {
+            byId.put(version.id(), version.version());
+        }
+        return byId;
+    }
+
+    /**
+     * Registra en el outbox, en la transacción del bloque, el estado nuevo de cada entidad
+     * modificada: los cambios masivos llegan al relay, al feed de cambios y al flujo SSE
+     * como cualquier otra modificación. El outbox también invalida las cachés
+     * ({@link EntityChange}): las sentencias UPDATE masivas no pasan por las entidades.
+     */
+    private void recordChanges(boolean venues, List<Long> chunk, Map<Long, Long> before) {
+        if (venues) {
+            for (Venue venue : venueJpaRepository.findAllById(chunk)) {
+                if (!venue.getVersion().equals(before.get(venue.getId()))) {
+                    outboxWriter.record("Venue", venue.getId(), venue.getVersion(), ChangeType.UPDATED, venue);
+                }
+            }
+            return;
+        }
+        for (Event event : eventJpaRepository.findAllById(chunk)) {
+            if (!event.getVersion().equals(before.get(event.getId()))) {
+                outboxWriter.record("Event", event.getId(), event.getVersion(), ChangeType.UPDATED, event);
+            }
+        }
+    }
+
+    private void pauseBetweenChunks() throws InterruptedException {
+        if (properties.getChunkPauseMs() > 0) {
+            TimeUnit.MILLISECONDS.sleep(properties.getChunkPauseMs());
+        }
+    }
+
+    // ========== MÉTODOS DE VALIDACIÓN PRIVADOS ==========
+
+    private void validate(BulkJobType type, Long venueId, Double percentageChange, List<Long> venueIds) {
+        if (type == null) {
+            throw new IllegalArgumentException("Job type is required");
+        }
+        switch (type) {
+            case REPRICE_VENUE_EVENTS -> {
+                if (venueId == null) {
+                    throw new IllegalArgumentException("Venue ID is required for " + type);
+                }
+                if (percentageChange == null || percentageChange <= -100) {
+                    throw new IllegalArgumentException("Percentage change must be greater than -100");
+                }
+                if (!venueJpaRepository.existsById(venueId)) {
+                    throw new IllegalArgumentException("Venue with ID " + venueId + " not found");
+                }
+            }
+            case MARK_VENUES_UNAVAILABLE -> {
+                if (venueIds == null || venueIds.isEmpty()) {
+                    throw new IllegalArgumentException("Venue IDs are required for " + type);
+                }
+            }
+            case DEACTIVATE_PAST_EVENTS -> {
+                // No requiere parámetros
+            }
+        }
+    }
+}
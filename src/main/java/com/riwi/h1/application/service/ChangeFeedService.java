@@ -0,0 +1,74 @@
+package com.riwi.h1.application.service;
+
+import com.riwi.h1.exception.BadRequestException;
+import com.riwi.h1.infrastructure.outbox.ChangeRecord;
+import com.riwi.h1.infrastructure.outbox.OutboxOffsetStore;
+import com.riwi.h1.infrastructure.outbox.OutboxReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Servicio de lectura del flujo de cambios del catálogo (outbox) para consumidores externos.
+ *
+ * Un consumidor lee desde un offset, procesa los cambios y confirma el último offset procesado;
+ * al reiniciarse retoma desde el offset guardado en lugar de volver a consultar todo el catálogo.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    static final int MAX_LIMIT = 1000;
+
+    private final OutboxReader outboxReader;
+    private final OutboxOffsetStore offsetStore;
+
+    /**
+     * Lee los cambios posteriores a un offset.
+     *
+     * @param after Último offset ya procesado (0 para leer desde el principio)
+     * @param limit Máximo de cambios a devolver (1..1000)
+     * @return Cambios en orden de offset
+     */
+    public List<ChangeRecord> read(long after, int limit) {
+        if (after < 0) {
+            throw new BadRequestException("Offset must be zero or positive");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return outboxReader.readAfter(after, limit);
+    }
+
+    /**
+     * @param consumer Nombre del consumidor
+     * @return Último offset confirmado por el consumidor, o 0 si nunca confirmó
+     */
+    public long storedOffset(String consumer) {
+        validateConsumer(consumer);
+        return offsetStore.get(consumer);
+    }
+
+    /**
+     * Confirma el último offset procesado por un consumidor.
+     *
+     * @param consumer Nombre del consumidor
+     * @param offset Offset procesado (puede retroceder para volver a leer)
+     */
+    public void commitOffset(String consumer, long offset) {
+        validateConsumer(consumer);
+        if (offset < 0) {
+            throw new BadRequestException("Offset must be zero or positive");
+        }
+        offsetStore.commit(consumer, offset);
+    }
+
+    // ========== MÉTODOS DE VALIDACIÓN PRIVADOS ==========
+
+    private void validateConsumer(String consumer) {
+        if (consumer == null || consumer.isBlank() || consumer.length() > 100) {
+            throw new BadRequestException("Consumer name must have between 1 and 100 characters");
+        }
+    }
+}
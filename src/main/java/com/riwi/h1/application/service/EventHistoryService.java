@@ -0,0 +1,98 @@
+package com.riwi.h1.application.service;
+
+import com.riwi.h1.domain.entity.ArchivedEvent;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.model.EventHistoryEntry;
+import com.riwi.h1.domain.repository.jpa.ArchivedEventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Consultas de historial de eventos: vigentes y archivados.
+ *
+ * Las consultas habituales ({@link EventService}) solo leen la tabla events; estas leen
+ * además events_archive, adonde el archivador traslada los eventos pasados. Cada evento está
+ * en una sola de las dos tablas (el traslado es atómico), así que la unión no repite eventos.
+ * Los eventos archivados siguen en el shard de su venue y conservan su ID.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("service.method")
+public class EventHistoryService {
+
+    private static final Sort BY_DATE = Sort.by("eventDate", "id");
+    private static final Comparator<EventHistoryEntry> BY_DATE_ORDER =
+            Comparator.comparing((EventHistoryEntry entry) -> entry.event().getEventDate())
+                    .thenComparing(entry -> entry.event().getId());
+
+    private final EventJpaRepository eventJpaRepository;
+    private final ArchivedEventJpaRepository archivedEventJpaRepository;
+    private final EventShards shards;
+
+    /**
+     * Busca un evento por ID, vigente o archivado.
+     *
+     * @param id ID del evento
+     * @return El evento, si existe en alguna de las dos tablas
+     */
+    @Transactional(readOnly = true)
+    public Optional<EventHistoryEntry> findById(Long id) {
+        return shards.onEventShard(id, () -> eventJpaRepository.findById(id)
+                .map(EventHistoryEntry::live)
+                .or(() -> archivedEventJpaRepository.findById(id).map(EventHistoryEntry::archived)));
+    }
+
+    /**
+     * Busca los eventos de un venue, vigentes y archivados. El venue puede haberse eliminado
+     * después de archivarse sus eventos: no se valida que exista.
+     *
+     * @param venueId ID del venue
+     * @return Eventos del venue ordenados por fecha
+     */
+    @Transactional(readOnly = true)
+    public List<EventHistoryEntry> findByVenueId(Long venueId) {
+        return shards.onVenueShard(venueId, () -> merge(
+                eventJpaRepository.findByVenueId(venueId, BY_DATE),
+                archivedEventJpaRepository.findByVenueId(venueId, BY_DATE)));
+    }
+
+    /**
+     * Busca los eventos con fecha en un rango [from, to), vigentes y archivados, en todos los shards.
+     *
+     * @param from Inicio del rango (incluido)
+     * @param to Fin del rango (excluido)
+     * @return Eventos del rango ordenados por fecha
+     * @throws IllegalArgumentException si el rango no es válido
+     */
+    @Transactional(readOnly = true)
+    public List<EventHistoryEntry> findBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        return shards.scatter(shard -> merge(
+                eventJpaRepository.findByEventDateGreaterThanEqualAndEventDateLessThan(from, to, BY_DATE),
+                archivedEventJpaRepository.findByEventDateGreaterThanEqualAndEventDateLessThan(from, to, BY_DATE)),
+                BY_DATE_ORDER);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private static List<EventHistoryEntry> merge(List<Event> live, List<ArchivedEvent> archived) {
+        List<EventHistoryEntry> entries = new ArrayList<>(live.size() + archived.size());
+        live.forEach(event -> entries.add(EventHistoryEntry.live(event)));
+        archived.forEach(event -> entries.add(EventHistoryEntry.archived(event)));
+        entries.sort(BY_DATE_ORDER);
+        return entries;
+    }
+}
@@ -2,16 +2,34 @@ package com.riwi.h1.application.service;
 
 
 import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.ChangeType;
 import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
 import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
 import com.riwi.h1.exception.DuplicateResourceException;
+import com.riwi.h1.exception.ErrorCode;
+import com.riwi.h1.exception.VersionConflictException;
+import com.riwi.h1.infrastructure.concurrent.RequestCoalescer;
+import com.riwi.h1.infrastructure.cache.NearCacheRegistry;
+import com.riwi.h1.infrastructure.index.EventPriceIndex;
+import com.riwi.h1.infrastructure.outbox.OutboxWriter;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Servicio para la gestión de Eventos.
@@ -21,71 +39,288 @@ import java.util.Optional;
  * - Utiliza VenueJpaRepository (JPA) en lugar de VenueRepositoryImpl (in-memory)
  * - Los datos se persisten en la base de datos H2
  * - Mantiene toda la lógica de validación de negocio
+ *
+ * MÉTRICAS:
+ * - Cada método público publica un timer "service.method" (etiquetas class / method)
+ *
+ * OUTBOX:
+ * - Cada modificación registra el cambio en el outbox dentro de su misma transacción
+ *
+ * CACHÉ:
+ * - findById lee primero la caché local; las modificaciones la invalidan aquí y en los demás nodos
+ *
+ * RÉPLICAS:
+ * - Las consultas son de solo lectura y pueden servirse desde una réplica (replica-routing).
+ *   Las coalescidas no abren la transacción en el servicio: la abre el repositorio,
+ *   así las peticiones que esperan la carga de otra no retienen una conexión
+ *
+ * SHARDS:
+ * - Cada evento vive en el shard de su venue (sharding); las escrituras abren su transacción
+ *   en ese shard y las búsquedas por ID o venue van solo a él ({@link EventShards})
+ * - Las consultas globales se ejecutan en todos los shards en paralelo y se fusionan en orden
+ * - Un evento no puede cambiar a un venue de otro shard
+ *
+ * PRECIOS:
+ * - Las búsquedas por rango de precio y de los más baratos usan el índice en memoria
+ *   ({@link EventPriceIndex}); sin él, una consulta por shard ordenada por precio
  */
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class EventService {
 
+    private static final String AGGREGATE = "Event";
+    private static final Sort BY_ID = Sort.by("id");
+    private static final Sort BY_DATE = Sort.by("eventDate", "id");
+    private static final Comparator<Event> BY_ID_ORDER = Comparator.comparing(Event::getId);
+    private static final Comparator<Event> BY_DATE_ORDER = Comparator.comparing(Event::getEventDate)
+            .thenComparing(Event::getId);
+    private static final Comparator<Event> BY_PRICE_ORDER = Comparator.comparing(Event::getTicketPrice)
+            .thenComparing(Event::getId);
+    static final int MAX_PRICE_RESULTS = 100;
+
     // CAMBIO: Ahora inyectamos los repositorios JPA
     private final EventJpaRepository eventJpaRepository;
     private final VenueJpaRepository venueJpaRepository;
-
+    private final TicketReservationService ticketReservationService;
+    private final RequestCoalescer requestCoalescer;
+    private final OutboxWriter outboxWriter;
+    private final NearCacheRegistry nearCaches;
+    private final EventShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<EventPriceIndex> priceIndex;
+
+    /**
+     * Crea un evento en el shard de su venue, en una transacción de ese shard.
+     */
     public Event create(Event event) {
+        // Validaciones sin acceso a BD primero: la entrada inválida se rechaza sin consultar la base
 
         //Validacion nombre not null
         validateEventName(event.getName());
 
-        // ========== 🆕 NUEVA VALIDACIÓN: Verificar duplicados ==========
-        // Verifica si ya existe otro evento con el mismo nombre (ignora mayúsculas)
-        if (eventJpaRepository.existsByNameIgnoreCase(event.getName())) {
-            throw new DuplicateResourceException("Event", "name", event.getName());
-        }
-
-        // Validación: si tiene venueId, debe existir el venue
-        if (event.getVenueId() != null) {
-            validateVenueExists(event.getVenueId());
-        }
-
         // Validación: la fecha del evento debe ser futura
         if (event.getEventDate() != null && event.getEventDate().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Event date must be in the future");
+            throw ErrorCode.EVENT_DATE_IN_PAST.exception();
         }
 
         // Validación: capacidad debe ser positiva
         if (event.getCapacity() != null && event.getCapacity() <= 0) {
-            throw new IllegalArgumentException("Capacity must be greater than 0");
+            throw ErrorCode.EVENT_CAPACITY_NOT_POSITIVE.exception();
         }
 
         // Validación: precio debe ser positivo
         if (event.getTicketPrice() != null && event.getTicketPrice() < 0) {
-            throw new IllegalArgumentException("Ticket price cannot be negative");
+            throw ErrorCode.EVENT_PRICE_NEGATIVE.exception();
         }
 
-        // CAMBIO: Usa save() de JPA - funciona igual para crear y actualizar
-        return eventJpaRepository.save(event);
+        return shards.onVenueShard(event.getVenueId(), () -> transactionTemplate.execute(status -> {
+            // ========== 🆕 NUEVA VALIDACIÓN: Verificar duplicados ==========
+            // Verifica si ya existe otro evento con el mismo nombre (ignora mayúsculas), en cualquier shard
+            if (isNameTaken(event.getName(), null)) {
+                throw new DuplicateResourceException("Event", "name", event.getName());
+            }
+
+            // Validación: si tiene venueId, debe existir el venue
+            if (event.getVenueId() != null) {
+                validateVenueExists(event.getVenueId());
+            }
+
+            // CAMBIO: Usa save() de JPA - funciona igual para crear y actualizar
+            Event savedEvent = eventJpaRepository.save(event);
+            outboxWriter.record(AGGREGATE, savedEvent.getId(), savedEvent.getVersion(), ChangeType.CREATED, savedEvent);
+            return savedEvent;
+        }));
     }
 
+    @Transactional(readOnly = true)
     public List<Event> findAll() {
-        return eventJpaRepository.findAll();
+        return shards.scatter(shard -> eventJpaRepository.findAll(BY_ID), BY_ID_ORDER);
     }
 
+    /**
+     * Busca un evento por ID. El resultado puede venir de la caché local: no debe modificarse.
+     */
     public Optional<Event> findById(Long id) {
-        return eventJpaRepository.findById(id);
+        // Si no está en la caché, lecturas concurrentes del mismo ID comparten una sola consulta a la BD
+        return nearCaches.events().get(id, () -> requestCoalescer.<Long, Optional<Event>>flight("events.by-id")
+                .load(id, () -> shards.onEventShard(id, () -> eventJpaRepository.findById(id))));
     }
 
     public Event update(Long id, Event eventData) {
+        return update(id, eventData, null);
+    }
+
+    /**
+     * Actualiza un evento comprobando opcionalmente la versión esperada (If-Match).
+     * Si otra petición modifica el evento entre la lectura y el guardado,
+     * Hibernate detecta la versión obsoleta y rechaza la escritura.
+     * Corre en una transacción del shard del evento: la entidad leída sigue gestionada
+     * y se guarda sin volver a consultarla.
+     *
+     * @param id ID del evento
+     * @param eventData Nuevos datos del evento
+     * @param expectedVersion Versión esperada, o null para no condicionar
+     * @return El evento actualizado
+     */
+    public Event update(Long id, Event eventData, Long expectedVersion) {
+        // Validaciones sin acceso a BD primero
+        validateChanges(eventData);
+
+        return shards.onEventShard(id, () -> transactionTemplate.execute(status ->
+                applyUpdate(id, eventData, expectedVersion)));
+    }
+
+    /**
+     * Aplica una actualización parcial (PATCH) en una sola sentencia UPDATE condicional.
+     * No carga la entidad antes de escribir: valida los campos enviados,
+     * actualiza solo esas columnas y lee el resultado final.
+     *
+     * @param id ID del evento
+     * @param changes Campos a modificar (los nulos se ignoran)
+     * @param expectedVersion Versión esperada (If-Match), o null para no condicionar
+     * @return El evento actualizado
+     * @throws VersionConflictException si la versión no coincide
+     */
+    public Event patch(Long id, Event changes, Long expectedVersion) {
+        // Validaciones sin acceso a BD primero
+        if (isEmptyPatch(changes)) {
+            // Sin columnas que cambiar, el UPDATE solo subiría la versión (nuevo ETag y cambio en el outbox)
+            throw ErrorCode.EVENT_PATCH_EMPTY.exception();
+        }
+        validateChanges(changes);
+        if (changes.getVenueId() != null) {
+            validateVenueShard(id, changes.getVenueId());
+        }
+
+        return shards.onEventShard(id, () -> transactionTemplate.execute(status ->
+                applyPatch(id, changes, expectedVersion)));
+    }
+
+    public boolean deleteById(Long id) {
+        return shards.onEventShard(id, () -> transactionTemplate.execute(status -> {
+            if (!eventJpaRepository.existsById(id)) {
+                throw ErrorCode.EVENT_NOT_FOUND.exception();
+            }
+            // CAMBIO: JPA usa deleteById() que no retorna boolean, pero funciona igual
+            eventJpaRepository.deleteById(id);
+            outboxWriter.recordDeletion(AGGREGATE, id);
+            ticketReservationService.onEventDeleted(id);
+            return true; // Si no lanza excepción, se eliminó correctamente
+        }));
+    }
+
+    public List<Event> findByVenueId(Long venueId) {
+        // Lecturas concurrentes del mismo venue comparten validación y consulta
+        return requestCoalescer.<Long, List<Event>>flight("events.by-venue")
+                .load(venueId, () -> {
+                    // Validar que el venue existe
+                    validateVenueExists(venueId);
+                    return shards.onVenueShard(venueId, () -> eventJpaRepository.findByVenueId(venueId));
+                });
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<Event> findActiveEvents() {
+        // MEJORA: Ahora usamos el método de JPA que genera la query automáticamente
+        // En lugar de filtrar en memoria con stream(), la BD hace el filtro
+        return shards.scatter(shard -> eventJpaRepository.findByActive(true, BY_ID), BY_ID_ORDER);
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<Event> findUpcomingEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        // MEJORA: Usamos el método de JPA para filtrar en la BD
+        return shards.scatter(shard -> eventJpaRepository.findByEventDateAfter(now, BY_DATE), BY_DATE_ORDER);
+    }
+
+    /**
+     * Busca eventos activos con precio en [min, max], del más barato al más caro.
+     * Se resuelve en el índice de precios en memoria; sin él (antes de construirse, o si el
+     * filtro obliga a recorrer demasiados eventos), con una consulta por shard sobre idx_events_active_price.
+     *
+     * @param minPrice Precio mínimo (incluido), o null para no acotar
+     * @param maxPrice Precio máximo (incluido), o null para no acotar
+     * @param upcomingOnly true para incluir solo eventos futuros
+     * @param limit Máximo de eventos (1..100)
+     * @return Eventos ordenados por precio y luego por ID (del índice: no deben modificarse)
+     */
+    public List<Event> findByPriceRange(Double minPrice, Double maxPrice, boolean upcomingOnly, int limit) {
+        double min = minPrice == null ? 0 : minPrice;
+        double max = maxPrice == null ? Double.MAX_VALUE : maxPrice;
+        if (min > max) {
+            throw ErrorCode.EVENT_PRICE_RANGE_INVERTED.exception();
+        }
+        validatePriceQueryLimit(limit);
+        LocalDateTime now = LocalDateTime.now();
+
+        EventPriceIndex index = readyPriceIndex();
+        List<Event> indexed = index == null ? null : index.findByPriceBetween(min, max,
+                event -> isActive(event) && (!upcomingOnly || event.getEventDate().isAfter(now)), limit);
+        if (indexed != null) {
+            return indexed;
+        }
+        return firstOf(shards.scatter(shard -> upcomingOnly
+                ? eventJpaRepository.findByActiveTrueAndTicketPriceBetweenAndEventDateAfterOrderByTicketPriceAscIdAsc(
+                        min, max, now, Limit.of(limit))
+                : eventJpaRepository.findByActiveTrueAndTicketPriceBetweenOrderByTicketPriceAscIdAsc(
+                        min, max, Limit.of(limit)), BY_PRICE_ORDER), limit);
+    }
+
+    /**
+     * Busca los eventos activos y futuros más baratos, opcionalmente de una ciudad.
+     * Se resuelve en el índice de precios en memoria; sin él (o si la ciudad tiene pocos
+     * eventos entre muchos más baratos), con una consulta por shard.
+     *
+     * @param city Ciudad del venue, o null para todas
+     * @param limit Máximo de eventos (1..100)
+     * @return Eventos ordenados por precio y luego por ID (del índice: no deben modificarse)
+     */
+    public List<Event> findCheapestUpcoming(String city, int limit) {
+        validatePriceQueryLimit(limit);
+        LocalDateTime now = LocalDateTime.now();
+        // Venues de la ciudad desde la caché de segundo nivel de consultas
+        Set<Long> venueIds = city == null ? null : shards.onMain(() -> venueJpaRepository.findByCity(city)).stream()
+                .map(Venue::getId)
+                .collect(Collectors.toSet());
+        if (venueIds != null && venueIds.isEmpty()) {
+            return List.of();
+        }
+
+        EventPriceIndex index = readyPriceIndex();
+        List<Event> indexed = index == null ? null : index.findCheapest(event -> isActive(event)
+                && event.getEventDate().isAfter(now)
+                && (venueIds == null || venueIds.contains(event.getVenueId())), limit);
+        if (indexed != null) {
+            return indexed;
+        }
+        return firstOf(shards.scatter(shard -> venueIds == null
+                ? eventJpaRepository.findByActiveTrueAndTicketPriceBetweenAndEventDateAfterOrderByTicketPriceAscIdAsc(
+                        0.0, Double.MAX_VALUE, now, Limit.of(limit))
+                : eventJpaRepository.findByActiveTrueAndTicketPriceNotNullAndEventDateAfterAndVenueIdInOrderByTicketPriceAscIdAsc(
+                        now, venueIds, Limit.of(limit)), BY_PRICE_ORDER), limit);
+    }
+
+    // ========== ESCRITURAS (dentro de la transacción del shard) ==========
+
+    private Event applyUpdate(Long id, Event eventData, Long expectedVersion) {
         // Verificar que el evento existe
         Event existingEvent = eventJpaRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Event with ID " + id + " not found"));
+                .orElseThrow(ErrorCode.EVENT_NOT_FOUND::exception);
 
-        // Validar nombre si se proporciona
-        if (eventData.getName() != null) {
-            validateEventName(eventData.getName());
+        // Verificar la precondición If-Match antes de consultar o modificar nada más
+        if (expectedVersion != null && !expectedVersion.equals(existingEvent.getVersion())) {
+            throw new VersionConflictException("Event", id, expectedVersion, existingEvent.getVersion());
+        }
 
+        // Actualizar nombre si se proporciona
+        if (eventData.getName() != null) {
             // ========== 🆕 NUEVA VALIDACIÓN: Verificar duplicados al actualizar ==========
             // Solo valida duplicados si el nombre cambió
             if (!eventData.getName().equalsIgnoreCase(existingEvent.getName())) {
-                if (eventJpaRepository.existsByNameIgnoreCase(eventData.getName())) {
+                if (isNameTaken(eventData.getName(), null)) {
                     throw new DuplicateResourceException("Event", "name", eventData.getName());
                 }
             }
@@ -98,33 +333,27 @@ public class EventService {
             existingEvent.setDescription(eventData.getDescription());
         }
 
-        // Validar y actualizar fecha del evento
+        // Actualizar fecha del evento (ya validada)
         if (eventData.getEventDate() != null) {
-            if (eventData.getEventDate().isBefore(LocalDateTime.now())) {
-                throw new IllegalArgumentException("Event date must be in the future");
-            }
             existingEvent.setEventDate(eventData.getEventDate());
         }
 
         // Validar y actualizar venue
         if (eventData.getVenueId() != null) {
+            validateVenueShard(id, eventData.getVenueId());
             validateVenueExists(eventData.getVenueId());
             existingEvent.setVenueId(eventData.getVenueId());
         }
 
         // Validar y actualizar capacidad
         if (eventData.getCapacity() != null) {
-            if (eventData.getCapacity() <= 0) {
-                throw new IllegalArgumentException("Capacity must be greater than 0");
-            }
+            // La capacidad no puede quedar por debajo de lo ya vendido
+            ticketReservationService.validateCapacityChange(id, eventData.getCapacity());
             existingEvent.setCapacity(eventData.getCapacity());
         }
 
-        // Validar y actualizar precio
+        // Actualizar precio (ya validado)
         if (eventData.getTicketPrice() != null) {
-            if (eventData.getTicketPrice() < 0) {
-                throw new IllegalArgumentException("Ticket price cannot be negative");
-            }
             existingEvent.setTicketPrice(eventData.getTicketPrice());
         }
 
@@ -135,51 +364,122 @@ public class EventService {
 
         // CAMBIO: En JPA, save() sirve tanto para crear como actualizar
         // Si la entidad tiene ID, hace UPDATE; si no, hace INSERT
-        return eventJpaRepository.save(existingEvent);
+        // Se fuerza el UPDATE aquí para que el outbox registre la versión y fecha finales
+        Event savedEvent = eventJpaRepository.saveAndFlush(existingEvent);
+        outboxWriter.record(AGGREGATE, id, savedEvent.getVersion(), ChangeType.UPDATED, savedEvent);
+        ticketReservationService.onEventUpdated(savedEvent);
+        return savedEvent;
     }
 
-    public boolean deleteById(Long id) {
-        if (!eventJpaRepository.existsById(id)) {
-            throw new IllegalArgumentException("Event with ID " + id + " not found");
+    private Event applyPatch(Long id, Event changes, Long expectedVersion) {
+        // Validaciones que consultan la BD, solo para los campos enviados
+        if (changes.getName() != null && isNameTaken(changes.getName(), id)) {
+            throw new DuplicateResourceException("Event", "name", changes.getName());
+        }
+        if (changes.getVenueId() != null) {
+            validateVenueExists(changes.getVenueId());
         }
-        // CAMBIO: JPA usa deleteById() que no retorna boolean, pero funciona igual
-        eventJpaRepository.deleteById(id);
-        return true; // Si no lanza excepción, se eliminó correctamente
+        if (changes.getCapacity() != null) {
+            ticketReservationService.validateCapacityChange(id, changes.getCapacity());
+        }
+
+        int updated = eventJpaRepository.patch(id, expectedVersion, changes);
+        if (updated == 0) {
+            // Solo en el camino de fallo: distinguir "no existe" de "versión obsoleta"
+            Long currentVersion = eventJpaRepository.findVersionById(id)
+                    .orElseThrow(ErrorCode.EVENT_NOT_FOUND::exception);
+            throw new VersionConflictException("Event", id, expectedVersion, currentVersion);
+        }
+
+        Event patchedEvent = eventJpaRepository.findById(id)
+                .orElseThrow(ErrorCode.EVENT_NOT_FOUND::exception);
+        outboxWriter.record(AGGREGATE, id, patchedEvent.getVersion(), ChangeType.UPDATED, patchedEvent);
+        ticketReservationService.onEventUpdated(patchedEvent);
+        return patchedEvent;
     }
 
-    public List<Event> findByVenueId(Long venueId) {
-        // Validar que el venue existe
-        validateVenueExists(venueId);
-        return eventJpaRepository.findByVenueId(venueId);
+    // ========== MÉTODOS DE VALIDACIÓN PRIVADOS ==========
+
+
+    private void validateEventName(String name) {
+        if (name == null || name.isBlank()) {
+            throw ErrorCode.EVENT_NAME_EMPTY.exception();
+        }
     }
 
+    /**
+     * Valida los campos enviados en una actualización (los nulos no se modifican) sin consultar la BD.
+     */
+    private void validateChanges(Event changes) {
+        if (changes.getName() != null) {
+            validateEventName(changes.getName());
+        }
+        if (changes.getEventDate() != null && changes.getEventDate().isBefore(LocalDateTime.now())) {
+            throw ErrorCode.EVENT_DATE_IN_PAST.exception();
+        }
+        if (changes.getCapacity() != null && changes.getCapacity() <= 0) {
+            throw ErrorCode.EVENT_CAPACITY_NOT_POSITIVE.exception();
+        }
+        if (changes.getTicketPrice() != null && changes.getTicketPrice() < 0) {
+            throw ErrorCode.EVENT_PRICE_NEGATIVE.exception();
+        }
+    }
 
-    public List<Event> findActiveEvents() {
-        // MEJORA: Ahora usamos el método de JPA que genera la query automáticamente
-        // En lugar de filtrar en memoria con stream(), la BD hace el filtro
-        return eventJpaRepository.findByActive(true);
+    private static boolean isEmptyPatch(Event changes) {
+        return changes.getName() == null && changes.getDescription() == null && changes.getEventDate() == null
+                && changes.getVenueId() == null && changes.getCapacity() == null
+                && changes.getTicketPrice() == null && changes.getActive() == null;
     }
 
+    /**
+     * Verifica en todos los shards si otro evento ya usa el nombre.
+     *
+     * @param excludedId ID del evento que se excluye, o null
+     */
+    private boolean isNameTaken(String name, Long excludedId) {
+        return shards.anyMatch(shard -> excludedId == null
+                ? eventJpaRepository.existsByNameIgnoreCase(name)
+                : eventJpaRepository.existsByNameIgnoreCaseAndIdNot(name, excludedId));
+    }
 
-    public List<Event> findUpcomingEvents() {
-        LocalDateTime now = LocalDateTime.now();
-        // MEJORA: Usamos el método de JPA para filtrar en la BD
-        return eventJpaRepository.findByEventDateAfter(now);
+    private EventPriceIndex readyPriceIndex() {
+        EventPriceIndex index = priceIndex.getIfAvailable();
+        return index != null && index.isReady() ? index : null;
     }
 
-    // ========== MÉTODOS DE VALIDACIÓN PRIVADOS ==========
+    private static boolean isActive(Event event) {
+        return Boolean.TRUE.equals(event.getActive());
+    }
 
+    /**
+     * Cada shard devuelve hasta {@code limit} eventos: de la fusión se toman los primeros.
+     */
+    private static List<Event> firstOf(List<Event> events, int limit) {
+        return events.size() > limit ? events.subList(0, limit) : events;
+    }
 
-    private void validateEventName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Event name cannot be empty");
+    private static void validatePriceQueryLimit(int limit) {
+        if (limit < 1 || limit > MAX_PRICE_RESULTS) {
+            throw ErrorCode.EVENT_PRICE_LIMIT_OUT_OF_RANGE.exception();
         }
     }
 
+    /**
+     * Un evento vive en el shard de su venue: no puede pasar a un venue de otro shard.
+     */
+    private void validateVenueShard(Long eventId, Long venueId) {
+        if (shards.shardOfVenue(venueId) != shards.shardOfEvent(eventId)) {
+            throw ErrorCode.EVENT_VENUE_OTHER_SHARD.exception();
+        }
+    }
 
+    /**
+     * findById en lugar de existsById: el venue suele estar en la caché de segundo nivel
+     * y la validación no llega a la BD.
+     */
     private void validateVenueExists(Long venueId) {
-        if (!venueJpaRepository.existsById(venueId)) {
-            throw new IllegalArgumentException("Venue with ID " + venueId + " not found");
+        if (shards.onMain(() -> venueJpaRepository.findById(venueId)).isEmpty()) {
+            throw ErrorCode.VENUE_NOT_FOUND.exception();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,508 @@
+package com.riwi.h1.application.service;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.model.EventSeats;
+import com.riwi.h1.domain.model.SeatAvailability;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.exception.InsufficientSeatsException;
+import com.riwi.h1.infrastructure.reservation.StripedSeatCounter;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Motor de reservas de tickets contra la capacidad de cada evento.
+ *
+ * La columna reserved_seats es la fuente de verdad: cada reserva se confirma con un
+ * UPDATE condicional ({@code reserved_seats + n <= capacity}) antes de responder, así
+ * una caída no revende asientos y varias instancias pueden vender el mismo evento.
+ * Las reservas concurrentes de un evento se agrupan en un único UPDATE (group commit);
+ * si el grupo no cabe, se confirman una a una.
+ *
+ * Cada instancia mantiene además un {@link StripedSeatCounter} por evento como espejo
+ * en memoria: rechaza sin ir a la BD cuando el evento parece agotado y responde las
+ * consultas de disponibilidad. El espejo se resincroniza con la BD periódicamente y
+ * cuando discrepa con ella; la lectura no se aplica si se solapó con una escritura del
+ * mismo evento, porque una reserva recién confirmada contaría dos veces (en la BD y en
+ * las pendientes). Los cambios de capacidad y estado se aplican al espejo
+ * solo al confirmarse la transacción que los hizo.
+ * Cada evento se lee y actualiza en su propio shard ({@link EventShards}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketReservationService {
+
+    /**
+     * Tiempo mínimo entre resincronizaciones de un evento provocadas por un rechazo local
+     */
+    private static final long RESYNC_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Eventos por consulta en la sincronización periódica
+     */
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    /**
+     * Espera entre intentos de una resincronización por tomar el turno de escritura de un evento
+     */
+    private static final long WRITE_TURN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final EventJpaRepository eventJpaRepository;
+    private final EventShards shards;
+
+    /**
+     * Inventario en memoria por evento, cargado bajo demanda
+     */
+    private final Map<Long, EventInventory> inventories = new ConcurrentHashMap<>();
+
+    /**
+     * Reserva asientos de un evento. Cuando retorna, la reserva ya está confirmada en la BD.
+     *
+     * @param eventId ID del evento
+     * @param quantity Cantidad de asientos
+     * @return Ocupación del evento tras la reserva
+     * @throws InsufficientSeatsException si no hay asientos suficientes
+     */
+    public SeatAvailability reserve(Long eventId, int quantity) {
+        validateQuantity(quantity);
+        EventInventory inventory = inventoryFor(eventId);
+        if (!inventory.active) {
+            throw notActive(eventId);
+        }
+        if (!holdLocally(eventId, inventory, quantity)) {
+            throw new InsufficientSeatsException(eventId, quantity);
+        }
+        boolean written = false;
+        try {
+            written = persistReservation(eventId, inventory, quantity);
+        } finally {
+            if (!written) {
+                inventory.counter.release(quantity);
+            }
+        }
+        if (!written) {
+            // El espejo estaba desactualizado (otra instancia vendió, o el evento cambió)
+            EventSeats seats = resync(eventId, inventory);
+            if (seats == null) {
+                throw notFound(eventId);
+            }
+            if (!inventory.active) {
+                throw notActive(eventId);
+            }
+            throw new InsufficientSeatsException(eventId, quantity);
+        }
+        return snapshot(eventId, inventory);
+    }
+
+    /**
+     * Libera asientos previamente reservados. Cuando retorna, la liberación ya está confirmada en la BD.
+     *
+     * @param eventId ID del evento
+     * @param quantity Cantidad de asientos
+     * @return Ocupación del evento tras la liberación
+     */
+    public SeatAvailability release(Long eventId, int quantity) {
+        validateQuantity(quantity);
+        EventInventory inventory = inventoryFor(eventId);
+        if (shards.onEventShard(eventId, () -> eventJpaRepository.releaseSeats(eventId, quantity)) == 0) {
+            if (resync(eventId, inventory) == null) {
+                throw notFound(eventId);
+            }
+            throw new IllegalArgumentException("Cannot release " + quantity + " seat(s): event with ID "
+                    + eventId + " has fewer reserved seats");
+        }
+        if (!inventory.counter.release(quantity)) {
+            // Las reservas se hicieron en otra instancia: el espejo no las conocía
+            resync(eventId, inventory);
+        }
+        return snapshot(eventId, inventory);
+    }
+
+    /**
+     * Obtiene la ocupación de un evento según el espejo en memoria
+     * (puede ir por detrás de las ventas de otras instancias hasta la próxima sincronización).
+     *
+     * @param eventId ID del evento
+     * @return Ocupación del evento
+     */
+    public SeatAvailability getAvailability(Long eventId) {
+        return snapshot(eventId, inventoryFor(eventId));
+    }
+
+    /**
+     * Verifica que una nueva capacidad no quede por debajo de los asientos ya reservados.
+     *
+     * Debe llamarse dentro de la transacción que cambia la capacidad: bloquea la fila
+     * del evento, así ninguna reserva concurrente puede confirmarse entre la comprobación
+     * y el cambio.
+     *
+     * @param eventId ID del evento
+     * @param newCapacity Nueva capacidad
+     */
+    public void validateCapacityChange(Long eventId, int newCapacity) {
+        if (shards.onEventShard(eventId, () -> eventJpaRepository.lockIfReservedWithin(eventId, newCapacity)) > 0) {
+            return;
+        }
+        // Solo en el camino de fallo: si el evento no existe, lo reporta quien actualiza
+        shards.onEventShard(eventId, () -> eventJpaRepository.findSeatsById(eventId))
+                .ifPresent(seats -> {
+                    throw new IllegalArgumentException("Capacity cannot be lower than the "
+                            + seats.reservedSeats() + " seat(s) already reserved");
+                });
+    }
+
+    /**
+     * Sincroniza el inventario en memoria tras actualizar un evento (capacidad y estado activo).
+     * Si hay una transacción en curso, se aplica al confirmarse.
+     *
+     * @param event Evento ya actualizado
+     */
+    public void onEventUpdated(Event event) {
+        Long eventId = event.getId();
+        Integer capacity = event.getCapacity();
+        boolean active = !Boolean.FALSE.equals(event.getActive());
+        afterCommit(() -> {
+            EventInventory inventory = inventories.get(eventId);
+            if (inventory == null) {
+                return;
+            }
+            if (capacity != null && capacity != inventory.counter.capacity()) {
+                inventory.counter.resize(capacity);
+            }
+            inventory.active = active;
+        });
+    }
+
+    /**
+     * Bloquea nuevas reservas de eventos desactivados en bloque (sin cargar las entidades).
+     * Si hay una transacción en curso, se aplica al confirmarse.
+     *
+     * @param eventIds IDs de los eventos desactivados
+     */
+    public void onEventsDeactivated(Collection<Long> eventIds) {
+        List<Long> ids = List.copyOf(eventIds);
+        afterCommit(() -> {
+            for (Long eventId : ids) {
+                EventInventory inventory = inventories.get(eventId);
+                if (inventory != null) {
+                    inventory.active = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Descarta el inventario en memoria de un evento eliminado.
+     * Si hay una transacción en curso, se aplica al confirmarse.
+     *
+     * @param eventId ID del evento
+     */
+    public void onEventDeleted(Long eventId) {
+        afterCommit(() -> inventories.remove(eventId));
+    }
+
+    /**
+     * Resincroniza el espejo en memoria con la BD: recoge las ventas de otras instancias
+     * y descarta los eventos que ya no existen.
+     */
+    @Scheduled(fixedDelayString = "${reservations.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        if (inventories.isEmpty()) {
+            return;
+        }
+        shards.groupByEventShard(List.copyOf(inventories.keySet())).forEach((shard, ids) -> {
+            for (int from = 0; from < ids.size(); from += RECONCILE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + RECONCILE_CHUNK_SIZE));
+                try {
+                    Map<Long, Long> writesBefore = new HashMap<>();
+                    for (Long eventId : chunk) {
+                        EventInventory inventory = inventories.get(eventId);
+                        if (inventory != null) {
+                            writesBefore.put(eventId, inventory.writes.get());
+                        }
+                    }
+                    List<EventSeats> rows = shards.onShard(shard, () -> eventJpaRepository.findSeatsByIdIn(chunk));
+                    Set<Long> found = new HashSet<>();
+                    for (EventSeats seats : rows) {
+                        found.add(seats.id());
+                        EventInventory inventory = inventories.get(seats.id());
+                        Long writes = writesBefore.get(seats.id());
+                        // Una escritura solapada con la lectura podría contarse dos veces: se deja para la próxima
+                        if (inventory != null && writes != null
+                                && !inventory.writing.get() && inventory.writes.get() == writes) {
+                            apply(inventory, seats);
+                        }
+                    }
+                    for (Long eventId : chunk) {
+                        if (!found.contains(eventId)) {
+                            inventories.remove(eventId);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Could not reconcile reserved seats for shard {}: {}", shard, e.getMessage());
+                }
+            }
+        });
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Toma los asientos en el espejo; si no alcanzan, resincroniza (como mucho cada
+     * {@link #RESYNC_INTERVAL_NANOS}) por si otra instancia liberó asientos, y reintenta.
+     */
+    private boolean holdLocally(Long eventId, EventInventory inventory, int quantity) {
+        inventory.inFlight.addAndGet(quantity);
+        if (inventory.counter.tryReserve(quantity)) {
+            return true;
+        }
+        if (System.nanoTime() - inventory.syncedAt >= RESYNC_INTERVAL_NANOS) {
+            if (resync(eventId, inventory) == null) {
+                inventory.inFlight.addAndGet(-quantity);
+                throw notFound(eventId);
+            }
+            if (inventory.active && inventory.counter.tryReserve(quantity)) {
+                return true;
+            }
+        }
+        inventory.inFlight.addAndGet(-quantity);
+        return false;
+    }
+
+    /**
+     * Confirma una reserva en la BD. Las reservas concurrentes del mismo evento se encolan:
+     * el primer hilo que encuentra la escritura libre las confirma todas juntas.
+     *
+     * @return true si la BD aceptó la reserva
+     */
+    private boolean persistReservation(Long eventId, EventInventory inventory, int quantity) {
+        PendingWrite write = new PendingWrite(quantity);
+        inventory.pending.add(write);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                if (inventory.writing.compareAndSet(false, true)) {
+                    try {
+                        writePending(eventId, inventory);
+                    } finally {
+                        inventory.writing.set(false);
+                    }
+                }
+                try {
+                    // La espera no se abandona: la reserva puede estar ya en el grupo de otro hilo
+                    return write.result.get(1, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // Sigue en cola; si nadie escribe, este hilo toma el turno
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writePending(Long eventId, EventInventory inventory) {
+        List<PendingWrite> batch = new ArrayList<>();
+        PendingWrite next;
+        while ((next = inventory.pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (batch.size() > 1) {
+                int total = batch.stream().mapToInt(write -> write.quantity).sum();
+                if (shards.onEventShard(eventId, () -> eventJpaRepository.reserveSeats(eventId, total)) > 0) {
+                    batch.forEach(write -> complete(inventory, write, true));
+                    return;
+                }
+            }
+            // El grupo no cabe entero: cada reserva se confirma por separado
+            for (PendingWrite write : batch) {
+                complete(inventory, write, shards.onEventShard(eventId,
+                        () -> eventJpaRepository.reserveSeats(eventId, write.quantity)) > 0);
+            }
+        } catch (RuntimeException e) {
+            for (PendingWrite write : batch) {
+                if (!write.result.isDone()) {
+                    inventory.inFlight.addAndGet(-write.quantity);
+                    write.result.completeExceptionally(e);
+                }
+            }
+        } finally {
+            inventory.writes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Da por terminada una reserva encolada. Deja de contar como pendiente aquí, con la escritura
+     * aún en curso, para que una resincronización nunca vea la reserva en la BD y en inFlight a la vez.
+     */
+    private void complete(EventInventory inventory, PendingWrite write, boolean written) {
+        inventory.inFlight.addAndGet(-write.quantity);
+        write.result.complete(written);
+    }
+
+    /**
+     * Relee el evento de la BD y ajusta el espejo.
+     *
+     * @return Ocupación leída, o null si el evento ya no existe
+     */
+    private EventSeats resync(Long eventId, EventInventory inventory) {
+        // Toma el turno de escritura: sin escrituras en curso, la lectura y inFlight son coherentes
+        while (!inventory.writing.compareAndSet(false, true)) {
+            LockSupport.parkNanos(WRITE_TURN_PARK_NANOS);
+        }
+        try {
+            EventSeats seats = shards.onEventShard(eventId, () -> eventJpaRepository.findSeatsById(eventId))
+                    .orElse(null);
+            if (seats == null) {
+                inventories.remove(eventId, inventory);
+                return null;
+            }
+            apply(inventory, seats);
+            return seats;
+        } finally {
+            inventory.writing.set(false);
+        }
+    }
+
+    /**
+     * Ajusta el espejo a una lectura de la BD. Quien llama garantiza que ninguna escritura
+     * del evento se solapó con la lectura: la reserva podría estar ya en la BD y todavía en inFlight.
+     */
+    private void apply(EventInventory inventory, EventSeats seats) {
+        int reserved = seats.reservedSeats() == null ? 0 : seats.reservedSeats();
+        if (seats.capacity() != null) {
+            // Las reservas tomadas en el espejo y aún no confirmadas siguen ocupando asientos
+            inventory.counter.reset(seats.capacity(), reserved + inventory.inFlight.get());
+        }
+        inventory.active = !Boolean.FALSE.equals(seats.active());
+        inventory.syncedAt = System.nanoTime();
+    }
+
+    private EventInventory inventoryFor(Long eventId) {
+        EventInventory inventory = inventories.get(eventId);
+        if (inventory != null) {
+            return inventory;
+        }
+        return inventories.computeIfAbsent(eventId, this::loadInventory);
+    }
+
+    private EventInventory loadInventory(Long eventId) {
+        EventSeats seats = shards.onEventShard(eventId, () -> eventJpaRepository.findSeatsById(eventId))
+                .orElseThrow(() -> notFound(eventId));
+        if (seats.capacity() == null) {
+            throw new IllegalArgumentException("Event with ID " + eventId + " has no capacity defined");
+        }
+        int reserved = seats.reservedSeats() == null ? 0 : seats.reservedSeats();
+        EventInventory inventory = new EventInventory(new StripedSeatCounter(seats.capacity(), reserved));
+        inventory.active = !Boolean.FALSE.equals(seats.active());
+        inventory.syncedAt = System.nanoTime();
+        return inventory;
+    }
+
+    /**
+     * Ejecuta una acción al confirmarse la transacción en curso, o de inmediato si no hay ninguna.
+     * Si la transacción se revierte, el espejo no cambia y sigue coincidiendo con la BD.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private SeatAvailability snapshot(Long eventId, EventInventory inventory) {
+        int reserved = inventory.counter.reserved();
+        int capacity = inventory.counter.capacity();
+        return SeatAvailability.builder()
+                .eventId(eventId)
+                .capacity(capacity)
+                .reservedSeats(reserved)
+                .availableSeats(Math.max(0, capacity - reserved))
+                .build();
+    }
+
+    private void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+    }
+
+    private static IllegalArgumentException notFound(Long eventId) {
+        return new IllegalArgumentException("Event with ID " + eventId + " not found");
+    }
+
+    private static IllegalArgumentException notActive(Long eventId) {
+        return new IllegalArgumentException("Event with ID " + eventId + " is not active");
+    }
+
+    /**
+     * Estado en memoria de un evento: espejo de asientos, estado activo y reservas pendientes de confirmar.
+     */
+    private static final class EventInventory {
+        private final StripedSeatCounter counter;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicLong writes = new AtomicLong();
+        private volatile boolean active;
+        private volatile long syncedAt;
+
+        private EventInventory(StripedSeatCounter counter) {
+            this.counter = counter;
+        }
+    }
+
+    /**
+     * Reserva encolada a la espera de confirmarse en la BD.
+     */
+    private static final class PendingWrite {
+        private final int quantity;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private PendingWrite(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
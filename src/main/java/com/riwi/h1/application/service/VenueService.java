@@ -2,14 +2,32 @@ package com.riwi.h1.application.service;
 
 import com.riwi.h1.domain.entity.Event;
 import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.ChangeType;
+import com.riwi.h1.domain.model.VenueBulkDeletion;
+import com.riwi.h1.domain.model.VenueWithEvents;
 import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
 import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
 import com.riwi.h1.exception.DuplicateResourceException;
+import com.riwi.h1.exception.ErrorCode;
+import com.riwi.h1.exception.VersionConflictException;
+import com.riwi.h1.infrastructure.dictionary.DictionaryCategory;
+import com.riwi.h1.infrastructure.dictionary.StringDictionaryRegistry;
+import com.riwi.h1.infrastructure.cache.NearCacheRegistry;
+import com.riwi.h1.infrastructure.outbox.OutboxWriter;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Servicio para la gestión de Venues (lugares/recintos).
@@ -19,64 +37,130 @@ import java.util.Optional;
  * - Utiliza EventJpaRepository (JPA) en lugar de EventRepositoryImpl (in-memory)
  * - Los datos se persisten en la base de datos H2
  * - Mantiene toda la lógica de validación de negocio
+ *
+ * MÉTRICAS:
+ * - Cada método público publica un timer "service.method" (etiquetas class / method)
+ *
+ * OUTBOX:
+ * - Cada modificación registra el cambio en el outbox dentro de su misma transacción
+ *
+ * CACHÉ:
+ * - findById lee primero la caché local; las modificaciones la invalidan aquí y en los demás nodos
+ * - Debajo, Venue y las consultas por ciudad, tipo y disponibilidad usan la caché de segundo nivel
+ *   de Hibernate, que las escrituras (también las masivas) invalidan al confirmar
+ *
+ * RÉPLICAS:
+ * - Las consultas son de solo lectura y pueden servirse desde una réplica (replica-routing);
+ *   findById lo hace en la transacción de solo lectura del repositorio, solo si la caché falla
+ *
+ * SHARDS:
+ * - Los venues viven en el shard principal; sus eventos se cuentan en el shard del venue (sharding)
+ *
+ * DETALLE CON EVENTOS:
+ * - findWithEvents devuelve el venue y una página de sus eventos con una sola consulta (LEFT JOIN),
+ *   sin asociaciones perezosas ni la validación previa de /api/events/venue/{id}
+ *
+ * OPERACIONES MASIVAS:
+ * - updateAvailability y deleteByIds actúan sobre un conjunto de venues con sentencias por conjunto
+ *   (una consulta, un UPDATE o DELETE), no con una carga y un guardado por venue
  */
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class VenueService {
 
+    private static final String AGGREGATE = "Venue";
+    static final int MAX_EVENTS_PAGE_SIZE = 100;
+
     // CAMBIO: Ahora inyectamos los repositorios JPA
     private final VenueJpaRepository venueJpaRepository;
     private final EventJpaRepository eventJpaRepository;
+    private final StringDictionaryRegistry dictionaryRegistry;
+    private final OutboxWriter outboxWriter;
+    private final NearCacheRegistry nearCaches;
+    private final EventShards shards;
 
 
+    @Transactional
     public Venue create(Venue venue) {
+        // Validaciones sin acceso a BD primero: la entrada inválida se rechaza sin consultar la base
+
         // Validación: nombre no puede estar vacío
         validateVenueName(venue.getName());
 
-        // ========== 🆕 NUEVA VALIDACIÓN: Verificar duplicados ==========
-        // Verifica si ya existe otro venue con el mismo nombre (ignora mayúsculas)
-        if (venueJpaRepository.existsByNameIgnoreCase(venue.getName())) {
-            throw new DuplicateResourceException("Venue", "name", venue.getName());
-        }
-
         // Validación: capacidad máxima debe ser positiva
         if (venue.getMaxCapacity() != null && venue.getMaxCapacity() <= 0) {
-            throw new IllegalArgumentException("Max capacity must be greater than 0");
+            throw ErrorCode.VENUE_CAPACITY_NOT_POSITIVE.exception();
         }
 
         // Validación: dirección no puede estar vacía
-        if (venue.getAddress() == null || venue.getAddress().trim().isEmpty()) {
-            throw new IllegalArgumentException("Address cannot be empty");
+        if (venue.getAddress() == null || venue.getAddress().isBlank()) {
+            throw ErrorCode.VENUE_ADDRESS_EMPTY.exception();
         }
 
         // Validación: ciudad no puede estar vacía
-        if (venue.getCity() == null || venue.getCity().trim().isEmpty()) {
-            throw new IllegalArgumentException("City cannot be empty");
+        if (venue.getCity() == null || venue.getCity().isBlank()) {
+            throw ErrorCode.VENUE_CITY_EMPTY.exception();
+        }
+
+        // ========== 🆕 NUEVA VALIDACIÓN: Verificar duplicados ==========
+        // Verifica si ya existe otro venue con el mismo nombre (ignora mayúsculas)
+        if (venueJpaRepository.existsByNameIgnoreCase(venue.getName())) {
+            throw new DuplicateResourceException("Venue", "name", venue.getName());
         }
 
         // CAMBIO: Usa save() de JPA
-        return venueJpaRepository.save(venue);
+        Venue savedVenue = venueJpaRepository.save(venue);
+        outboxWriter.record(AGGREGATE, savedVenue.getId(), savedVenue.getVersion(), ChangeType.CREATED, savedVenue);
+        return savedVenue;
     }
 
 
+    @Transactional(readOnly = true)
     public List<Venue> findAll() {
         return venueJpaRepository.findAll();
     }
 
 
+    /**
+     * Busca un venue por ID. El resultado puede venir de la caché local: no debe modificarse.
+     */
     public Optional<Venue> findById(Long id) {
-        return venueJpaRepository.findById(id);
+        return nearCaches.venues().get(id, () -> venueJpaRepository.findById(id));
     }
 
+    @Transactional
     public Venue update(Long id, Venue venueData) {
+        return update(id, venueData, null);
+    }
+
+    /**
+     * Actualiza un venue comprobando opcionalmente la versión esperada (If-Match).
+     * Si otra petición modifica el venue entre la lectura y el guardado,
+     * Hibernate detecta la versión obsoleta y rechaza la escritura.
+     * Corre en una transacción: la entidad leída sigue gestionada y se guarda sin volver a consultarla.
+     *
+     * @param id ID del venue
+     * @param venueData Nuevos datos del venue
+     * @param expectedVersion Versión esperada, o null para no condicionar
+     * @return El venue actualizado
+     */
+    @Transactional
+    public Venue update(Long id, Venue venueData, Long expectedVersion) {
+        // Validaciones sin acceso a BD primero
+        validateChanges(venueData);
+
         // Verificar que el venue existe
         Venue existingVenue = venueJpaRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Venue with ID " + id + " not found"));
+                .orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
 
-        // Validar y actualizar nombre
-        if (venueData.getName() != null) {
-            validateVenueName(venueData.getName());
+        // Verificar la precondición If-Match antes de consultar o modificar nada más
+        if (expectedVersion != null && !expectedVersion.equals(existingVenue.getVersion())) {
+            throw new VersionConflictException("Venue", id, expectedVersion, existingVenue.getVersion());
+        }
 
+        // Actualizar nombre
+        if (venueData.getName() != null) {
             // ========== 🆕 NUEVA VALIDACIÓN: Verificar duplicados al actualizar ==========
             // Solo valida duplicados si el nombre cambió
             if (!venueData.getName().equalsIgnoreCase(existingVenue.getName())) {
@@ -88,19 +172,13 @@ public class VenueService {
             existingVenue.setName(venueData.getName());
         }
 
-        // Validar y actualizar dirección
+        // Actualizar dirección (ya validada)
         if (venueData.getAddress() != null) {
-            if (venueData.getAddress().trim().isEmpty()) {
-                throw new IllegalArgumentException("Address cannot be empty");
-            }
             existingVenue.setAddress(venueData.getAddress());
         }
 
-        // Validar y actualizar ciudad
+        // Actualizar ciudad (ya validada)
         if (venueData.getCity() != null) {
-            if (venueData.getCity().trim().isEmpty()) {
-                throw new IllegalArgumentException("City cannot be empty");
-            }
             existingVenue.setCity(venueData.getCity());
         }
 
@@ -109,11 +187,8 @@ public class VenueService {
             existingVenue.setCountry(venueData.getCountry());
         }
 
-        // Validar y actualizar capacidad máxima
+        // Actualizar capacidad máxima (ya validada)
         if (venueData.getMaxCapacity() != null) {
-            if (venueData.getMaxCapacity() <= 0) {
-                throw new IllegalArgumentException("Max capacity must be greater than 0");
-            }
             existingVenue.setMaxCapacity(venueData.getMaxCapacity());
         }
 
@@ -128,80 +203,331 @@ public class VenueService {
         }
 
         // CAMBIO: En JPA, save() sirve tanto para crear como actualizar
-        return venueJpaRepository.save(existingVenue);
+        // Se fuerza el UPDATE aquí para que el outbox registre la versión y fecha finales
+        Venue savedVenue = venueJpaRepository.saveAndFlush(existingVenue);
+        outboxWriter.record(AGGREGATE, id, savedVenue.getVersion(), ChangeType.UPDATED, savedVenue);
+        return savedVenue;
     }
 
 
+    /**
+     * Aplica una actualización parcial (PATCH) en una sola sentencia UPDATE condicional.
+     * No carga la entidad antes de escribir: valida los campos enviados,
+     * actualiza solo esas columnas y lee el resultado final.
+     *
+     * @param id ID del venue
+     * @param changes Campos a modificar (los nulos se ignoran)
+     * @param expectedVersion Versión esperada (If-Match), o null para no condicionar
+     * @return El venue actualizado
+     * @throws VersionConflictException si la versión no coincide
+     */
+    @Transactional
+    public Venue patch(Long id, Venue changes, Long expectedVersion) {
+        // Validaciones sin acceso a BD primero
+        if (isEmptyPatch(changes)) {
+            // Sin columnas que cambiar, el UPDATE solo subiría la versión (nuevo ETag y cambio en el outbox)
+            throw ErrorCode.VENUE_PATCH_EMPTY.exception();
+        }
+        validateChanges(changes);
+
+        // Validación de duplicados solo si se envía un nombre
+        if (changes.getName() != null && venueJpaRepository.existsByNameIgnoreCaseAndIdNot(changes.getName(), id)) {
+            throw new DuplicateResourceException("Venue", "name", changes.getName());
+        }
+
+        int updated = venueJpaRepository.patch(id, expectedVersion, changes);
+        if (updated == 0) {
+            // Solo en el camino de fallo: distinguir "no existe" de "versión obsoleta"
+            Long currentVersion = venueJpaRepository.findVersionById(id)
+                    .orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
+            throw new VersionConflictException("Venue", id, expectedVersion, currentVersion);
+        }
+
+        Venue patchedVenue = venueJpaRepository.findById(id)
+                .orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
+        outboxWriter.record(AGGREGATE, id, patchedVenue.getVersion(), ChangeType.UPDATED, patchedVenue);
+        return patchedVenue;
+    }
+
+    @Transactional
     public boolean deleteById(Long id) {
         if (!venueJpaRepository.existsById(id)) {
-            throw new IllegalArgumentException("Venue with ID " + id + " not found");
+            throw ErrorCode.VENUE_NOT_FOUND.exception();
         }
 
-        // Validar que no tenga eventos asociados
-        List<Event> associatedEvents = eventJpaRepository.findByVenueId(id);
-        if (!associatedEvents.isEmpty()) {
-            throw new IllegalArgumentException(
+        // Validar que no tenga eventos asociados: basta con contarlos, no hace falta cargarlos
+        long associatedEvents = shards.onVenueShard(id, () -> eventJpaRepository.countByVenueId(id));
+        if (associatedEvents > 0) {
+            throw ErrorCode.VENUE_HAS_EVENTS.exception(
                     "Cannot delete venue with ID " + id +
-                            " because it has " + associatedEvents.size() + " associated event(s)"
+                            " because it has " + associatedEvents + " associated event(s)"
             );
         }
 
-        // CAMBIO: JPA usa deleteById() que no retorna boolean
-        venueJpaRepository.deleteById(id);
+        // DELETE directo: deleteById() de JPA volvería a leer el venue antes de borrarlo
+        venueJpaRepository.deleteVenueById(id);
+        outboxWriter.recordDeletion(AGGREGATE, id);
         return true; // Si no lanza excepción, se eliminó correctamente
     }
 
 
+    /**
+     * Busca venues por ciudad. La consulta compara el código de diccionario (entero);
+     * si la ciudad no está en el diccionario, ningún venue la usa y no se consulta la tabla.
+     */
+    @Transactional(readOnly = true)
     public List<Venue> findByCity(String city) {
-        if (city == null || city.trim().isEmpty()) {
-            throw new IllegalArgumentException("City cannot be empty");
+        if (city == null || city.isBlank()) {
+            throw ErrorCode.VENUE_CITY_EMPTY.exception();
+        }
+        if (dictionaryRegistry.lookup(DictionaryCategory.CITY, city).isEmpty()) {
+            return List.of();
         }
         return venueJpaRepository.findByCity(city);
     }
 
+    /**
+     * Busca venues por país, comparando el código de diccionario.
+     */
+    @Transactional(readOnly = true)
+    public List<Venue> findByCountry(String country) {
+        if (country == null || country.isBlank()) {
+            throw ErrorCode.VENUE_COUNTRY_EMPTY.exception();
+        }
+        if (dictionaryRegistry.lookup(DictionaryCategory.COUNTRY, country).isEmpty()) {
+            return List.of();
+        }
+        return venueJpaRepository.findByCountry(country);
+    }
+
+    /**
+     * Busca venues por tipo, comparando el código de diccionario.
+     */
+    @Transactional(readOnly = true)
+    public List<Venue> findByType(String type) {
+        if (type == null || type.isBlank()) {
+            throw ErrorCode.VENUE_TYPE_EMPTY.exception();
+        }
+        if (dictionaryRegistry.lookup(DictionaryCategory.VENUE_TYPE, type).isEmpty()) {
+            return List.of();
+        }
+        return venueJpaRepository.findByType(type);
+    }
+
 
+    @Transactional(readOnly = true)
     public List<Venue> findByAvailable(Boolean available) {
         if (available == null) {
-            throw new IllegalArgumentException("Available status cannot be null");
+            throw ErrorCode.VENUE_AVAILABLE_REQUIRED.exception();
         }
         return venueJpaRepository.findByAvailable(available);
     }
 
 
+    @Transactional(readOnly = true)
     public List<Venue> findAvailableVenues() {
         return venueJpaRepository.findByAvailable(true);
     }
 
+    /**
+     * Obtiene un venue con una página de sus eventos, ordenados por fecha.
+     *
+     * Si los eventos del venue viven en el shard principal (siempre, sin particionado), venue y
+     * eventos se leen en una sola consulta con LEFT JOIN. Si viven en otro shard no hay JOIN posible:
+     * el venue sale de la caché y los eventos de una consulta en su shard.
+     *
+     * @param venueId ID del venue
+     * @param upcomingOnly true para incluir solo eventos futuros
+     * @param page Número de página (desde 0)
+     * @param size Eventos por página (1..100)
+     * @return El venue con la página de eventos
+     */
+    @Transactional(readOnly = true)
+    public VenueWithEvents findWithEvents(Long venueId, boolean upcomingOnly, int page, int size) {
+        if (page < 0) {
+            throw ErrorCode.VENUE_EVENTS_PAGE_NEGATIVE.exception();
+        }
+        if (size < 1 || size > MAX_EVENTS_PAGE_SIZE) {
+            throw ErrorCode.VENUE_EVENTS_SIZE_OUT_OF_RANGE.exception();
+        }
+        // En long: page * size desborda un int. Se leen size + 1 filas tras el offset para saber si hay más
+        long firstRow = (long) page * size;
+        if (firstRow + size + 1 > Integer.MAX_VALUE) {
+            throw ErrorCode.VENUE_EVENTS_PAGE_TOO_DEEP.exception();
+        }
+        int offset = (int) firstRow;
+        LocalDateTime after = upcomingOnly ? LocalDateTime.now() : null;
+        if (shards.shardOfVenue(venueId) == 0) {
+            return venueJpaRepository.findWithEvents(venueId, after, offset, size)
+                    .orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
+        }
+        Venue venue = findById(venueId).orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
+        List<Event> events = shards.onVenueShard(venueId,
+                () -> eventJpaRepository.findPageByVenueId(venueId, after, offset, size + 1));
+        boolean hasMore = events.size() > size;
+        return new VenueWithEvents(venue, hasMore ? events.subList(0, size) : events, hasMore);
+    }
+
+    @Transactional(readOnly = true)
     public long countEventsByVenue(Long venueId) {
-        if (!venueJpaRepository.existsById(venueId)) {
-            throw new IllegalArgumentException("Venue with ID " + venueId + " not found");
+        // findById se resuelve en la caché de segundo nivel; existsById siempre consulta la BD
+        if (venueJpaRepository.findById(venueId).isEmpty()) {
+            throw ErrorCode.VENUE_NOT_FOUND.exception();
         }
         // MEJORA: Usamos el metodo count de JPA que es más eficiente
-        return eventJpaRepository.countByVenueId(venueId);
+        return shards.onVenueShard(venueId, () -> eventJpaRepository.countByVenueId(venueId));
     }
 
+    @Transactional
     public Venue markAsUnavailable(Long venueId) {
         Venue venue = venueJpaRepository.findById(venueId)
-                .orElseThrow(() -> new IllegalArgumentException("Venue with ID " + venueId + " not found"));
+                .orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
 
         venue.setAvailable(false);
-        return venueJpaRepository.save(venue);
+        return saveAvailability(venue);
     }
 
+    @Transactional
     public Venue markAsAvailable(Long venueId) {
         Venue venue = venueJpaRepository.findById(venueId)
-                .orElseThrow(() -> new IllegalArgumentException("Venue with ID " + venueId + " not found"));
+                .orElseThrow(ErrorCode.VENUE_NOT_FOUND::exception);
 
         venue.setAvailable(true);
-        return venueJpaRepository.save(venue);
+        return saveAvailability(venue);
+    }
+
+    /**
+     * Cambia la disponibilidad de un conjunto de venues, indicado por IDs o por filtro (ciudad y/o tipo).
+     * Una consulta obtiene los IDs cuyo estado cambia y una sola sentencia UPDATE los actualiza;
+     * luego se leen en otra consulta para registrar su estado final en el outbox.
+     *
+     * @param ids IDs de los venues (excluyente con el filtro)
+     * @param city Ciudad (filtro, opcional)
+     * @param type Tipo (filtro, opcional)
+     * @param available Nueva disponibilidad
+     * @return Venues que cambiaron (los que ya tenían ese estado no se tocan)
+     */
+    @Transactional
+    public List<Venue> updateAvailability(List<Long> ids, String city, String type, boolean available) {
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byFilter = !isBlank(city) || !isBlank(type);
+        if (byIds == byFilter) {
+            throw ErrorCode.VENUE_BULK_TARGET_REQUIRED.exception();
+        }
+        // Una ciudad o tipo que no está en el diccionario no la usa ningún venue
+        if ((!isBlank(city) && dictionaryRegistry.lookup(DictionaryCategory.CITY, city).isEmpty())
+                || (!isBlank(type) && dictionaryRegistry.lookup(DictionaryCategory.VENUE_TYPE, type).isEmpty())) {
+            return List.of();
+        }
+
+        List<Long> targetIds = venueJpaRepository.findIdsToChangeAvailability(
+                byIds ? ids : null, isBlank(city) ? null : city, isBlank(type) ? null : type, available);
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        venueJpaRepository.updateAvailabilityByIds(targetIds, available, LocalDateTime.now());
+
+        List<Venue> updatedVenues = venueJpaRepository.findAllById(targetIds);
+        for (Venue venue : updatedVenues) {
+            outboxWriter.record(AGGREGATE, venue.getId(), venue.getVersion(), ChangeType.UPDATED, venue);
+        }
+        return updatedVenues;
+    }
+
+    /**
+     * Elimina un conjunto de venues, omitiendo los que tienen eventos asociados.
+     * Una consulta (anti-join con events) obtiene los que no tienen eventos y un solo DELETE los elimina;
+     * con sharding, los eventos de otros shards se comprueban con una consulta por shard.
+     * Los IDs inexistentes se identifican solo si hay omitidos.
+     *
+     * @param ids IDs de los venues
+     * @return IDs eliminados, con eventos y no encontrados
+     */
+    @Transactional
+    public VenueBulkDeletion deleteByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw ErrorCode.VENUE_BULK_TARGET_REQUIRED.exception();
+        }
+        List<Long> requestedIds = ids.stream().distinct().toList();
+
+        List<Long> deletableIds = new ArrayList<>(venueJpaRepository.findIdsWithoutEvents(requestedIds));
+        deletableIds.removeAll(findWithEventsInOtherShards(deletableIds));
+        if (!deletableIds.isEmpty()) {
+            venueJpaRepository.deleteVenuesByIdIn(deletableIds);
+            deletableIds.forEach(id -> outboxWriter.recordDeletion(AGGREGATE, id));
+        }
+
+        if (deletableIds.size() == requestedIds.size()) {
+            return new VenueBulkDeletion(deletableIds, List.of(), List.of());
+        }
+        Set<Long> deleted = new HashSet<>(deletableIds);
+        List<Long> skippedIds = requestedIds.stream().filter(id -> !deleted.contains(id)).toList();
+        Set<Long> existing = new HashSet<>(venueJpaRepository.findExistingIds(skippedIds));
+        return new VenueBulkDeletion(deletableIds,
+                skippedIds.stream().filter(existing::contains).sorted().toList(),
+                skippedIds.stream().filter(id -> !existing.contains(id)).sorted().toList());
+    }
+
+    private Venue saveAvailability(Venue venue) {
+        Venue savedVenue = venueJpaRepository.saveAndFlush(venue);
+        outboxWriter.record(AGGREGATE, savedVenue.getId(), savedVenue.getVersion(), ChangeType.UPDATED, savedVenue);
+        return savedVenue;
+    }
+
+    /**
+     * Los eventos viven en el shard de su venue: el anti-join del shard principal no ve los de otros shards.
+     *
+     * @return Venues (del conjunto) con eventos en un shard distinto del principal
+     */
+    private List<Long> findWithEventsInOtherShards(List<Long> venueIds) {
+        if (shards.count() == 1 || venueIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, List<Long>> byShard = venueIds.stream()
+                .collect(Collectors.groupingBy(shards::shardOfVenue));
+        List<Long> withEvents = new ArrayList<>();
+        byShard.forEach((shard, shardVenueIds) -> {
+            if (shard != 0) {
+                withEvents.addAll(shards.onShard(shard, () -> eventJpaRepository.findVenueIdsWithEvents(shardVenueIds)));
+            }
+        });
+        return withEvents;
     }
 
     // ========== MÉTODOS DE VALIDACIÓN PRIVADOS ==========
 
 
     private void validateVenueName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Venue name cannot be empty");
+        if (name == null || name.isBlank()) {
+            throw ErrorCode.VENUE_NAME_EMPTY.exception();
         }
     }
+
+    /**
+     * Valida los campos enviados en una actualización (los nulos no se modifican) sin consultar la BD.
+     */
+    private void validateChanges(Venue changes) {
+        if (changes.getName() != null) {
+            validateVenueName(changes.getName());
+        }
+        if (changes.getAddress() != null && changes.getAddress().isBlank()) {
+            throw ErrorCode.VENUE_ADDRESS_EMPTY.exception();
+        }
+        if (changes.getCity() != null && changes.getCity().isBlank()) {
+            throw ErrorCode.VENUE_CITY_EMPTY.exception();
+        }
+        if (changes.getMaxCapacity() != null && changes.getMaxCapacity() <= 0) {
+            throw ErrorCode.VENUE_CAPACITY_NOT_POSITIVE.exception();
+        }
+    }
+
+    private static boolean isEmptyPatch(Venue changes) {
+        return changes.getName() == null && changes.getAddress() == null && changes.getCity() == null
+                && changes.getCountry() == null && changes.getMaxCapacity() == null
+                && changes.getType() == null && changes.getAvailable() == null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
\ No newline at end of file
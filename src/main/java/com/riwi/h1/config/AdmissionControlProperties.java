@@ -0,0 +1,64 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuración del control de admisión adaptativo (prefijo "admission").
+ * Cada grupo de endpoints (read, write, bulk) tiene su propio límite de concurrencia.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionControlProperties {
+
+    /**
+     * Habilita o deshabilita el control de admisión
+     */
+    private boolean enabled = true;
+
+    /**
+     * Duración (ms) de la ventana de muestreo de latencias
+     */
+    private long windowMs = 500;
+
+    /**
+     * Segundos sugeridos en Retry-After cuando se descarta una petición
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * Límites por grupo de endpoints
+     */
+    private Map<String, GroupLimits> groups = new LinkedHashMap<>(Map.of(
+            "read", new GroupLimits(100, 10, 200),
+            "write", new GroupLimits(40, 4, 150),
+            "bulk", new GroupLimits(4, 1, 16)
+    ));
+
+    /**
+     * Límites de concurrencia de un grupo.
+     */
+    @Data
+    public static class GroupLimits {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public GroupLimits() {
+        }
+
+        public GroupLimits(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.riwi.h1.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool acotado de hilos para los trabajos masivos.
+ * Cola limitada y sin política de "caller runs": si está lleno, el envío se rechaza
+ * en lugar de ejecutar el trabajo en el hilo de la petición.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+public class BulkJobExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor bulkJobExecutor(BulkJobProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "bulk-job-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            // Por debajo de los hilos de Tomcat: el tráfico interactivo tiene prioridad
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        };
+        return new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(), 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,42 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del subsistema de trabajos masivos (prefijo "jobs").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jobs")
+public class BulkJobProperties {
+
+    /**
+     * Hilos trabajadores: limita las conexiones y la CPU que pueden ocupar los trabajos
+     */
+    private int workers = 2;
+
+    /**
+     * Trabajos que pueden esperar en cola; por encima se rechazan con 503
+     */
+    private int queueCapacity = 16;
+
+    /**
+     * Elementos procesados por transacción
+     */
+    private int chunkSize = 200;
+
+    /**
+     * Pausa (ms) entre bloques para ceder conexiones y CPU al tráfico interactivo
+     */
+    private long chunkPauseMs = 20;
+
+    /**
+     * Minutos que se conserva un trabajo terminado para consultar su resultado
+     */
+    private long retentionMinutes = 60;
+}
@@ -0,0 +1,32 @@
+package com.riwi.h1.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hilos del flujo SSE: envían los cambios encolados, los keep-alive y las reanudaciones.
+ * El relay del outbox nunca escribe en una conexión: solo encola y vuelve.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+public class ChangeStreamExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledThreadPoolExecutor changeStreamExecutor(ChangeStreamProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(properties.getSenderThreads(), threadFactory);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -0,0 +1,53 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del flujo SSE de cambios del catálogo (prefijo "change-stream").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "change-stream")
+public class ChangeStreamProperties {
+
+    /**
+     * Suscriptores simultáneos; por encima las nuevas conexiones reciben 503
+     */
+    private int maxSubscribers = 1000;
+
+    /**
+     * Cambios pendientes de enviar por suscriptor (uno por recurso, los repetidos se fusionan).
+     * Si un cliente lento acumula más, se le desconecta y retoma con Last-Event-ID.
+     */
+    private int maxPendingPerSubscriber = 256;
+
+    /**
+     * Espera (ms) antes de enviar, para fusionar cambios seguidos del mismo recurso
+     */
+    private long coalesceMs = 100;
+
+    /**
+     * Intervalo (ms) de los comentarios keep-alive que detectan conexiones cerradas
+     */
+    private long heartbeatMs = 15000;
+
+    /**
+     * Duración máxima (ms) de una conexión; el navegador reconecta solo con Last-Event-ID
+     */
+    private long timeoutMs = 1_800_000;
+
+    /**
+     * Cambios máximos a reenviar al reanudar; con más, se envía "reset" para recargar las listas
+     */
+    private int maxReplay = 10_000;
+
+    /**
+     * Hilos que envían a los suscriptores (el relay del outbox solo encola)
+     */
+    private int senderThreads = 4;
+}
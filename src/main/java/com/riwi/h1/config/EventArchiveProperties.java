@@ -0,0 +1,42 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del archivo de eventos pasados (prefijo "event-archive").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "event-archive")
+public class EventArchiveProperties {
+
+    /**
+     * Activa el archivador periódico; desactivado, los eventos pasados se quedan en la tabla events
+     */
+    private boolean enabled = true;
+
+    /**
+     * Días que un evento sigue en la tabla events después de su fecha
+     */
+    private int retentionDays = 30;
+
+    /**
+     * Eventos trasladados por transacción
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Intervalo (ms) entre ejecuciones del archivador
+     */
+    private long intervalMs = 3_600_000;
+
+    /**
+     * Pausa (ms) entre bloques para ceder conexiones y CPU al tráfico interactivo
+     */
+    private long chunkPauseMs = 20;
+}
@@ -0,0 +1,45 @@
+package com.riwi.h1.config;
+
+import com.riwi.h1.api.interceptor.AdmissionControlInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas propias de la aplicación expuestas en /actuator/prometheus.
+ *
+ * Lo demás lo registra Spring Boot automáticamente:
+ * - http.server.requests: latencia por ruta, método y estado (con histograma, ver application.properties)
+ * - service.method: timers de EventService / VenueService (@Timed)
+ * - hikaricp.connections.*: uso y espera del pool de conexiones
+ * - hibernate.*: consultas, cargas de entidades, caché de segundo nivel y flushes
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Estado de los limitadores de admisión por grupo (read / write / bulk).
+     */
+    @Bean
+    public MeterBinder admissionControlMetrics(AdmissionControlInterceptor admissionControlInterceptor) {
+        return registry -> admissionControlInterceptor.limiters().forEach(limiter -> {
+            Gauge.builder("admission.limit", limiter, l -> l.stats().limit())
+                    .tag("group", limiter.getName())
+                    .description("Límite de concurrencia actual del grupo")
+                    .register(registry);
+            Gauge.builder("admission.in.flight", limiter, l -> l.stats().inFlight())
+                    .tag("group", limiter.getName())
+                    .description("Peticiones en curso del grupo")
+                    .register(registry);
+            FunctionCounter.builder("admission.rejected", limiter, l -> l.stats().rejected())
+                    .tag("group", limiter.getName())
+                    .description("Peticiones rechazadas con 503")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de la caché local de eventos y venues y de su canal de invalidación entre nodos
+ * (prefijo "near-cache").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "near-cache")
+public class NearCacheProperties {
+
+    /**
+     * Entradas máximas por caché (0 desactiva la caché)
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * Vida (ms) de cada entrada: límite de lo que se sirve un dato viejo si se pierde una invalidación
+     */
+    private long ttlMs = 60_000;
+
+    /**
+     * Puerto UDP en el que este nodo recibe invalidaciones (0 = sin canal entre nodos)
+     */
+    private int port = 0;
+
+    /**
+     * Dirección en la que se escucha el puerto
+     */
+    private String bindAddress = "127.0.0.1";
+
+    /**
+     * Nodos a los que se envían las invalidaciones (host:puerto)
+     */
+    private List<String> peers = new ArrayList<>();
+
+    /**
+     * Invalidaciones que pueden esperar envío; si se llena, se descartan (el TTL las cubre)
+     */
+    private int sendQueueCapacity = 10_000;
+}
@@ -0,0 +1,64 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del outbox de cambios y su relay (prefijo "outbox").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /**
+     * Activa el relay que publica los cambios en los sinks (el outbox se escribe siempre)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pausa (ms) entre lecturas del outbox cuando no hay cambios pendientes
+     */
+    private long pollIntervalMs = 200;
+
+    /**
+     * Cambios leídos y publicados por lote
+     */
+    private int batchSize = 500;
+
+    /**
+     * Tiempo (ms) que se espera a que aparezca un offset faltante antes de darlo por revertido,
+     * contado desde que se vio el hueco. Solo se usa si la BD no informa qué sesiones tienen
+     * transacciones abiertas; debe superar la duración de la transacción de escritura más larga.
+     */
+    private long gapWaitMs = 5000;
+
+    /**
+     * Minutos que se conservan los cambios ya confirmados por todos los consumidores
+     */
+    private long retentionMinutes = 1440;
+
+    /**
+     * Pausa (ms) entre limpiezas de cambios antiguos
+     */
+    private long pruneIntervalMs = 60000;
+
+    /**
+     * Publica los cambios como eventos de Spring dentro de la aplicación
+     */
+    private boolean inProcessSinkEnabled = true;
+
+    /**
+     * Agrega los cambios a un archivo JSON Lines (uso local)
+     */
+    private boolean fileSinkEnabled = false;
+
+    /**
+     * Ruta del archivo del sink de archivo
+     */
+    private String fileSinkPath = "outbox/changes.jsonl";
+}
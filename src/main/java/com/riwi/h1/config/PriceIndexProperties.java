@@ -0,0 +1,37 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del índice en memoria de eventos por precio (prefijo "price-index").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "price-index")
+public class PriceIndexProperties {
+
+    /**
+     * Activa el índice; desactivado, las búsquedas por precio consultan la base de datos
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalo (ms) entre aplicaciones de los cambios locales pendientes
+     */
+    private long applyIntervalMs = 100;
+
+    /**
+     * Intervalo (ms) entre reconstrucciones completas: límite de lo que tarda en verse un cambio de otro nodo
+     */
+    private long rebuildIntervalMs = 60_000;
+
+    /**
+     * Entradas que puede recorrer una búsqueda filtrada; pasado el límite se resuelve en la base de datos
+     */
+    private int maxScanned = 10_000;
+}
@@ -0,0 +1,81 @@
+package com.riwi.h1.config;
+
+import com.riwi.h1.infrastructure.routing.ReplicaAwareJpaDialect;
+import com.riwi.h1.infrastructure.routing.ReplicaReadDataSource;
+import com.riwi.h1.infrastructure.routing.ReplicaRouter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource principal en un {@link LazyConnectionDataSourceProxy} cuyas conexiones
+ * de solo lectura salen de {@link ReplicaReadDataSource}.
+ *
+ * El proxy no obtiene la conexión física hasta la primera sentencia, cuando ya sabe si la
+ * transacción es de solo lectura (@Transactional(readOnly = true)): esas van a una réplica,
+ * el resto (escrituras, lecturas dentro de una escritura) a la principal.
+ * Se aplica después de {@link ShardingConfig} (las réplicas lo son del shard 0) y antes que
+ * {@link SqlStatisticsConfig}, que así cuenta también las sentencias de las réplicas.
+ * Las transacciones de solo lectura no usan la caché de segundo nivel
+ * ({@link ReplicaAwareJpaDialect}).
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replica-routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Es estático para registrarse antes de que se cree el DataSource.
+     */
+    @Bean
+    public static BeanPostProcessor replicaRoutingDataSourcePostProcessor(ObjectProvider<ReplicaRouter> router) {
+        return new RoutingPostProcessor(router);
+    }
+
+    /**
+     * Se aplica después de inicializar el gestor de transacciones: al inicializarse toma el
+     * dialecto de la EntityManagerFactory y reemplazaría uno asignado antes.
+     */
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JpaTransactionManager transactionManager) {
+                    transactionManager.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private record RoutingPostProcessor(ObjectProvider<ReplicaRouter> router) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource primary
+                    && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                ReplicaRouter replicaRouter = router.getObject();
+                replicaRouter.attachPrimary(primary);
+                LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+                proxy.setReadOnlyDataSource(new ReplicaReadDataSource(primary, replicaRouter));
+                return proxy;
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del enrutamiento de lecturas a réplicas (prefijo "replica-routing").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "replica-routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Activa el enrutamiento; desactivado, todo va al DataSource principal
+     */
+    private boolean enabled = false;
+
+    /**
+     * Réplicas de solo lectura
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Retraso máximo (ms) de una réplica para recibir lecturas
+     */
+    private long maxLagMs = 1000;
+
+    /**
+     * Destino de la lectura cuando ninguna réplica está dentro del retraso tolerado
+     */
+    private Fallback fallback = Fallback.PRIMARY;
+
+    /**
+     * Intervalo (ms) con que se escribe el latido en la base principal
+     */
+    private long heartbeatIntervalMs = 100;
+
+    /**
+     * Intervalo (ms) con que se lee el latido replicado en cada réplica
+     */
+    private long lagCheckIntervalMs = 200;
+
+    /**
+     * Cabecera con la que el cliente reenvía el token de su última escritura (read-your-writes)
+     */
+    private String tokenHeader = "X-Consistency-Token";
+
+    /**
+     * Copia periódicamente la base principal en las réplicas (solo para pruebas locales con H2)
+     */
+    private boolean simulateReplication = false;
+
+    /**
+     * Intervalo (ms) entre copias de la replicación simulada
+     */
+    private long replicationIntervalMs = 500;
+
+    /**
+     * Conexión a una réplica.
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * Nombre de la réplica en métricas y diagnóstico
+         */
+        private String name;
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        /**
+         * Tamaño máximo del pool de conexiones a la réplica
+         */
+        private int maxPoolSize = 10;
+    }
+
+    /**
+     * Destino de las lecturas cuando todas las réplicas superan el retraso tolerado.
+     */
+    public enum Fallback {
+
+        /**
+         * Leer de la base principal
+         */
+        PRIMARY,
+
+        /**
+         * Leer de la réplica más actualizada aunque supere el retraso (protege a la principal)
+         */
+        FRESHEST_REPLICA
+    }
+}
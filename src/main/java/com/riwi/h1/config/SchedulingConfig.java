@@ -0,0 +1,17 @@
+package com.riwi.h1.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (@Scheduled) de la aplicación,
+ * como la reconciliación periódica de reservas con la base de datos.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // La configuración se realiza mediante anotaciones
+}
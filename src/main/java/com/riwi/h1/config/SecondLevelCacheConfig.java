@@ -0,0 +1,77 @@
+package com.riwi.h1.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.riwi.h1.domain.entity.Venue;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché de segundo nivel de Hibernate sobre JCache, con Caffeine como proveedor local.
+ *
+ * Las regiones se crean aquí, acotadas en entradas y en tiempo de vida; Hibernate falla al
+ * arrancar si una entidad o consulta pide una región que no existe. La región de marcas de
+ * actualización de tablas no se acota: si perdiera entradas, las consultas cacheadas de esa
+ * tabla se darían por válidas.
+ *
+ * Cada contexto usa su propio CacheManager: dos aplicaciones en la misma JVM (p. ej. pruebas)
+ * no comparten entradas. Con {@code l2-cache.enabled=false} la caché se desactiva explícitamente
+ * (Hibernate la activaría por defecto al encontrar hibernate-jcache en el classpath).
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "l2-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("h1-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(Venue.CACHE_REGION, bounded(properties.getEntityMaxEntries(), properties.getTtlMs()));
+        cacheManager.createCache(Venue.QUERY_CACHE_REGION, bounded(properties.getQueryMaxEntries(), properties.getTtlMs()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                bounded(properties.getQueryMaxEntries(), properties.getTtlMs()));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateProperties(ObjectProvider<CacheManager> cacheManager) {
+        return hibernateProperties -> {
+            CacheManager secondLevelCacheManager = cacheManager.getIfAvailable();
+            if (secondLevelCacheManager == null) {
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxEntries, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        return configuration;
+    }
+}
@@ -0,0 +1,37 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración de la caché de segundo nivel de Hibernate (prefijo "l2-cache").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "l2-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Activa la caché de entidades y de consultas; desactivada, Hibernate ignora @Cacheable y las pistas de caché
+     */
+    private boolean enabled = true;
+
+    /**
+     * Entradas máximas de cada región de entidades
+     */
+    private long entityMaxEntries = 10_000;
+
+    /**
+     * Resultados de consultas máximos de cada región de consultas
+     */
+    private long queryMaxEntries = 1_000;
+
+    /**
+     * Vida (ms) de cada entrada: límite de lo que se sirve un dato viejo si se pierde una invalidación entre nodos
+     */
+    private long ttlMs = 60_000;
+}
@@ -0,0 +1,32 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración de la cabecera Server-Timing (prefijo "server-timing").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Permite pedir el desglose de tiempos por petición con la cabecera {@link #requestHeader}
+     */
+    private boolean enabled = true;
+
+    /**
+     * Agrega la cabecera Server-Timing a todas las respuestas, aunque la petición no la pida
+     */
+    private boolean always = false;
+
+    /**
+     * Cabecera de la petición que activa el desglose (valores: 1, true, on)
+     */
+    private String requestHeader = "X-Server-Timing";
+}
@@ -0,0 +1,35 @@
+package com.riwi.h1.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de hilos que consulta los shards en paralelo en las consultas globales (scatter-gather).
+ * Las tareas son consultas cortas de una petición en curso: se encolan en lugar de rechazarse.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardQueryExecutorConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor shardQueryExecutor(ShardingProperties properties) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(properties.getQueryThreads(), properties.getQueryThreads(), 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+}
@@ -0,0 +1,52 @@
+package com.riwi.h1.config;
+
+import com.riwi.h1.infrastructure.sharding.ShardRegistry;
+import com.riwi.h1.infrastructure.sharding.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource principal en un {@link ShardRoutingDataSource}: cada conexión sale
+ * del shard que indica {@link com.riwi.h1.infrastructure.sharding.ShardContext}.
+ *
+ * Se aplica primero: {@link ReplicaRoutingConfig} envuelve después el enrutador (las réplicas
+ * lo son del shard 0) y {@link SqlStatisticsConfig} cuenta las sentencias de todos los shards.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    /**
+     * Es estático para registrarse antes de que se cree el DataSource.
+     */
+    @Bean
+    public static BeanPostProcessor shardRoutingDataSourcePostProcessor(ObjectProvider<ShardRegistry> registry) {
+        return new ShardingPostProcessor(registry);
+    }
+
+    private record ShardingPostProcessor(ObjectProvider<ShardRegistry> registry) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource main
+                    && !(bean instanceof ShardRoutingDataSource)) {
+                return new ShardRoutingDataSource(main, registry.getObject().dataSources());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
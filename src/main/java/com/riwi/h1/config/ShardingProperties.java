@@ -0,0 +1,67 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del particionado de eventos por venue (prefijo "sharding").
+ *
+ * El shard 0 es siempre el DataSource principal (spring.datasource); la lista {@code shards}
+ * añade los shards 1..N-1. El número de shards define dónde vive cada evento y cómo se
+ * generan sus IDs: no puede cambiarse con datos existentes.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    /**
+     * Activa el particionado; desactivado, todos los eventos viven en el DataSource principal
+     */
+    private boolean enabled = false;
+
+    /**
+     * Shards adicionales al principal, en orden (el primero es el shard 1)
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Hilos que consultan los shards en paralelo en las consultas globales
+     */
+    private int queryThreads = 8;
+
+    /**
+     * Intervalo (ms) con que se trasladan los outbox de los shards al outbox principal
+     */
+    private long outboxForwardIntervalMs = 200;
+
+    /**
+     * Conexión a un shard.
+     */
+    @Data
+    public static class Shard {
+
+        /**
+         * Nombre del shard en el pool de conexiones y en los logs
+         */
+        private String name;
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        /**
+         * Tamaño máximo del pool de conexiones al shard
+         */
+        private int maxPoolSize = 10;
+    }
+}
@@ -0,0 +1,39 @@
+package com.riwi.h1.config;
+
+import com.riwi.h1.infrastructure.jdbc.CountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource del pool en un {@link CountingDataSource} para medir
+ * sentencias, filas y tiempo de base de datos por petición y por método de servicio.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+public class SqlStatisticsConfig {
+
+    /**
+     * Es estático para registrarse antes de que se cree el DataSource.
+     */
+    @Bean
+    public static BeanPostProcessor countingDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("sql.stats.enabled", Boolean.class, true);
+        double logSampleRate = environment.getProperty("sql.stats.log-sample-rate", Double.class, 0.0);
+        long slowThresholdMillis = environment.getProperty("sql.stats.slow-threshold-ms", Long.class, 0L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource, logSampleRate, slowThresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
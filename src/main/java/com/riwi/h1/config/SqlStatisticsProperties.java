@@ -0,0 +1,42 @@
+package com.riwi.h1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del conteo de sentencias SQL (prefijo "sql.stats").
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sql.stats")
+public class SqlStatisticsProperties {
+
+    /**
+     * Envuelve el DataSource para contar sentencias, filas y tiempo
+     */
+    private boolean enabled = true;
+
+    /**
+     * Agrega la cabecera X-SQL-Statistics a cada respuesta (pensado para el perfil dev)
+     */
+    private boolean headerEnabled = false;
+
+    /**
+     * Repeticiones de un mismo SQL en una petición a partir de las cuales se avisa de un posible N+1 (0 = desactivado)
+     */
+    private int repeatThreshold = 0;
+
+    /**
+     * Fracción de sentencias SQL que se registran en el log "sql.sample" (0 = ninguna, 1 = todas)
+     */
+    private double logSampleRate = 0.0;
+
+    /**
+     * Duración (ms) a partir de la cual una sentencia se registra en el log "sql.slow" (0 = desactivado)
+     */
+    private long slowThresholdMs = 0;
+}
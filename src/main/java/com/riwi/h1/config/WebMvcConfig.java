@@ -0,0 +1,29 @@
+package com.riwi.h1.config;
+
+import com.riwi.h1.api.interceptor.AdmissionControlInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuración de Spring MVC: registro de interceptores de la API.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Los endpoints de diagnóstico quedan fuera para poder observar el sistema en sobrecarga;
+        // el flujo SSE también: es una conexión larga que ocuparía un cupo de lectura todo el tiempo
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/admin/**", "/api/changes/stream");
+    }
+}
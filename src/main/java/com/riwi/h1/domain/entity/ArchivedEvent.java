@@ -0,0 +1,94 @@
+package com.riwi.h1.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento pasado trasladado al archivo (tabla "events_archive").
+ * Conserva el ID y todas las columnas del evento; solo lo escribe el archivador y
+ * solo lo leen las consultas de historial, nunca las consultas habituales de eventos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "events_archive", indexes = {
+        @Index(name = "idx_events_archive_venue_id", columnList = "venue_id"),
+        @Index(name = "idx_events_archive_event_date", columnList = "event_date")
+})
+public class ArchivedEvent {
+
+    /**
+     * ID que tenía el evento en la tabla events (no se genera de nuevo).
+     */
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDateTime eventDate;
+
+    @Column(name = "venue_id")
+    private Long venueId;
+
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    @Column(name = "reserved_seats")
+    private Integer reservedSeats;
+
+    @Column(name = "ticket_price")
+    private Double ticketPrice;
+
+    @Column(name = "active")
+    private Boolean active;
+
+    /**
+     * Última versión del evento antes de archivarse.
+     */
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Fecha y hora en que el evento se trasladó al archivo.
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * @return El evento tal como estaba antes de archivarse (entidad no gestionada)
+     */
+    public Event toEvent() {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .eventDate(eventDate)
+                .venueId(venueId)
+                .capacity(capacity)
+                .reservedSeats(reservedSeats)
+                .ticketPrice(ticketPrice)
+                .active(active)
+                .version(version)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
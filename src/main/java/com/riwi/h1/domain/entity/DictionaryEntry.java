@@ -0,0 +1,46 @@
+package com.riwi.h1.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entrada del diccionario de valores repetidos (ciudad, país, tipo de venue).
+ * Las tablas de datos guardan el código entero; el texto se guarda una sola vez aquí.
+ * Esta clase se mapea a la tabla "dictionary_entries" en la base de datos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "dictionary_entries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dictionary_category_code", columnNames = {"category", "code"}),
+        @UniqueConstraint(name = "uk_dictionary_category_value", columnNames = {"category", "entry_value"})
+})
+public class DictionaryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Categoría del valor (CITY, COUNTRY, VENUE_TYPE).
+     */
+    @Column(name = "category", nullable = false, length = 20)
+    private String category;
+
+    /**
+     * Código del valor dentro de su categoría (1, 2, 3...).
+     */
+    @Column(name = "code", nullable = false)
+    private Integer code;
+
+    /**
+     * Texto original del valor.
+     */
+    @Column(name = "entry_value", nullable = false, length = 100)
+    private String value;
+}
@@ -11,13 +11,18 @@ import java.time.LocalDateTime;
 /**
  * Entidad que representa un Evento en el sistema de catálogo.
  * Esta clase se mapea a la tabla "events" en la base de datos.
+ * El índice por venue_id sirve a los conteos por venue y a la comprobación de eventos del borrado masivo de venues.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_venue_id", columnList = "venue_id"),
+        @Index(name = "idx_events_event_date", columnList = "event_date"),
+        @Index(name = "idx_events_active_price", columnList = "active, ticket_price")
+})
 public class Event {
 
     /**
@@ -63,6 +68,14 @@ public class Event {
     @Column(name = "capacity")
     private Integer capacity;
 
+    /**
+     * Cantidad de asientos reservados (vendidos). Es la fuente de verdad de las reservas:
+     * TicketReservationService la actualiza con UPDATE condicionales antes de confirmar
+     * cada reserva, y no se sobrescribe desde PUT/PATCH.
+     */
+    @Column(name = "reserved_seats", updatable = false)
+    private Integer reservedSeats;
+
     /**
      * Precio del ticket de entrada al evento.
      */
@@ -76,6 +89,15 @@ public class Event {
     @Column(name = "active")
     private Boolean active;
 
+    /**
+     * Versión para control de concurrencia optimista.
+     * Hibernate la incrementa en cada actualización y rechaza escrituras con una versión obsoleta.
+     * Se expone al cliente como ETag para soportar peticiones condicionales (If-Match).
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     /**
      * Fecha y hora de creación del registro.
      * Se establece automáticamente al crear la entidad.
@@ -102,6 +124,9 @@ public class Event {
         if (this.active == null) {
             this.active = true;
         }
+        if (this.reservedSeats == null) {
+            this.reservedSeats = 0;
+        }
     }
 
     /**
@@ -0,0 +1,74 @@
+package com.riwi.h1.domain.entity;
+
+import com.riwi.h1.domain.model.ChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio del catálogo pendiente de publicar (patrón transactional outbox).
+ * Se inserta en la misma transacción que la modificación del evento o venue:
+ * o se guardan ambos o ninguno. El ID creciente es el offset del flujo de cambios.
+ * Esta clase se mapea a la tabla "outbox_events" en la base de datos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    /**
+     * Offset del cambio: se asigna en orden de inserción.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Tipo de recurso modificado ("Event" o "Venue").
+     */
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private String aggregateType;
+
+    /**
+     * ID del recurso modificado.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Versión del recurso tras el cambio (null en las eliminaciones).
+     */
+    @Column(name = "aggregate_version")
+    private Long aggregateVersion;
+
+    /**
+     * Tipo de cambio.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;
+
+    /**
+     * Estado del recurso tras el cambio en JSON (null en las eliminaciones).
+     */
+    @Column(name = "payload", length = 4000)
+    private String payload;
+
+    /**
+     * Fecha y hora en que se registró el cambio.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,48 @@
+package com.riwi.h1.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Último offset del outbox procesado por un consumidor (un sink del relay o un cliente externo).
+ * Permite reanudar el flujo de cambios tras un reinicio sin perder ni repetir cambios ya confirmados.
+ * Esta clase se mapea a la tabla "outbox_offsets" en la base de datos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_offsets")
+public class OutboxOffset {
+
+    /**
+     * Nombre del consumidor (ej: "file", "search").
+     */
+    @Id
+    @Column(name = "consumer", length = 100)
+    private String consumer;
+
+    /**
+     * ID del último cambio procesado; 0 si aún no procesó ninguno.
+     */
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    /**
+     * Fecha y hora de la última confirmación.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,25 +1,43 @@
 package com.riwi.h1.domain.entity;
 
+import com.riwi.h1.infrastructure.dictionary.CityCodeConverter;
+import com.riwi.h1.infrastructure.dictionary.CountryCodeConverter;
+import com.riwi.h1.infrastructure.dictionary.VenueTypeCodeConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
  * Entidad que representa un Venue (lugar/recinto) en el sistema de catálogo.
  * Esta clase se mapea a la tabla "venues" en la base de datos.
+ * Se guarda en la caché de segundo nivel: cambia poco y se lee en cada alta o cambio de evento.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
 @Table(name = "venues")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Venue.CACHE_REGION)
 public class Venue {
 
+    /**
+     * Región de la caché de segundo nivel de las entidades
+     */
+    public static final String CACHE_REGION = "venues";
+
+    /**
+     * Región de la caché de segundo nivel de las consultas de venues
+     */
+    public static final String QUERY_CACHE_REGION = "venue-queries";
+
     /**
      * ID único del venue (clave primaria).
      * Se genera automáticamente usando estrategia IDENTITY (auto-incremento en H2).
@@ -44,16 +62,19 @@ public class Venue {
 
     /**
      * Ciudad donde se ubica el venue.
-     * No puede ser nulo y tiene un límite de 50 caracteres.
+     * No puede ser nulo. Se guarda como código del diccionario CITY (columna city_code);
+     * las entidades cargadas comparten la misma instancia de texto por ciudad.
      */
-    @Column(name = "city", nullable = false, length = 50)
+    @Convert(converter = CityCodeConverter.class)
+    @Column(name = "city_code", nullable = false)
     private String city;
 
     /**
      * País donde se ubica el venue.
-     * Tiene un límite de 50 caracteres.
+     * Se guarda como código del diccionario COUNTRY (columna country_code).
      */
-    @Column(name = "country", length = 50)
+    @Convert(converter = CountryCodeConverter.class)
+    @Column(name = "country_code")
     private String country;
 
     /**
@@ -65,9 +86,10 @@ public class Venue {
 
     /**
      * Tipo de venue (ejemplo: teatro, estadio, sala de conferencias, etc.).
-     * Tiene un límite de 50 caracteres.
+     * Se guarda como código del diccionario VENUE_TYPE (columna type_code).
      */
-    @Column(name = "type", length = 50)
+    @Convert(converter = VenueTypeCodeConverter.class)
+    @Column(name = "type_code")
     private String type;
 
     /**
@@ -77,6 +99,15 @@ public class Venue {
     @Column(name = "available")
     private Boolean available;
 
+    /**
+     * Versión para control de concurrencia optimista.
+     * Hibernate la incrementa en cada actualización y rechaza escrituras con una versión obsoleta.
+     * Se expone al cliente como ETag para soportar peticiones condicionales (If-Match).
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     /**
      * Fecha y hora de creación del registro.
      * Se establece automáticamente al crear la entidad.
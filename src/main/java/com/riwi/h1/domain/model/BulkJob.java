@@ -0,0 +1,72 @@
+package com.riwi.h1.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trabajo masivo en memoria: parámetros, estado y progreso.
+ * Los contadores y el estado se leen desde otros hilos mientras el trabajo avanza.
+ */
+@Getter
+public class BulkJob {
+
+    private final String id;
+    private final BulkJobType type;
+    private final Long venueId;
+    private final Double percentageChange;
+    private final List<Long> venueIds;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicInteger processedItems = new AtomicInteger();
+    private final AtomicInteger affectedItems = new AtomicInteger();
+
+    private volatile BulkJobStatus status = BulkJobStatus.QUEUED;
+    private volatile int totalItems;
+    private volatile boolean cancelRequested;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    public BulkJob(String id, BulkJobType type, Long venueId, Double percentageChange, List<Long> venueIds) {
+        this.id = id;
+        this.type = type;
+        this.venueId = venueId;
+        this.percentageChange = percentageChange;
+        this.venueIds = venueIds == null ? List.of() : List.copyOf(venueIds);
+    }
+
+    public void start(int totalItems) {
+        this.totalItems = totalItems;
+        this.startedAt = LocalDateTime.now();
+        this.status = BulkJobStatus.RUNNING;
+    }
+
+    public void recordChunk(int processed, int affected) {
+        processedItems.addAndGet(processed);
+        affectedItems.addAndGet(affected);
+    }
+
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    public void finish(BulkJobStatus finalStatus, String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = finalStatus;
+    }
+
+    /**
+     * @return Porcentaje de avance (0-100)
+     */
+    public double getProgressPercent() {
+        int total = totalItems;
+        if (status == BulkJobStatus.COMPLETED) {
+            return 100.0;
+        }
+        return total == 0 ? 0.0 : Math.min(100.0, 100.0 * processedItems.get() / total);
+    }
+}
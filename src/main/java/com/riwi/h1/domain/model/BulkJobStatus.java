@@ -0,0 +1,19 @@
+package com.riwi.h1.domain.model;
+
+/**
+ * Estados del ciclo de vida de un trabajo masivo.
+ */
+public enum BulkJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    /**
+     * @return true si el trabajo ya no va a avanzar
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+}
@@ -0,0 +1,22 @@
+package com.riwi.h1.domain.model;
+
+/**
+ * Tipos de operación masiva que puede ejecutar el subsistema de trabajos.
+ */
+public enum BulkJobType {
+
+    /**
+     * Cambia el precio de todos los eventos de un venue en un porcentaje
+     */
+    REPRICE_VENUE_EVENTS,
+
+    /**
+     * Desactiva todos los eventos activos cuya fecha ya pasó
+     */
+    DEACTIVATE_PAST_EVENTS,
+
+    /**
+     * Marca como no disponibles un conjunto de venues
+     */
+    MARK_VENUES_UNAVAILABLE
+}
@@ -0,0 +1,22 @@
+package com.riwi.h1.domain.model;
+
+/**
+ * Tipo de cambio registrado en el outbox para un evento o un venue.
+ */
+public enum ChangeType {
+
+    /**
+     * El recurso se creó
+     */
+    CREATED,
+
+    /**
+     * Uno o más campos del recurso cambiaron
+     */
+    UPDATED,
+
+    /**
+     * El recurso se eliminó (el cambio no lleva contenido)
+     */
+    DELETED
+}
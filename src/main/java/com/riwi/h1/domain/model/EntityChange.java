@@ -0,0 +1,19 @@
+package com.riwi.h1.domain.model;
+
+/**
+ * Aviso de que un evento o venue cambió; se publica como evento de Spring dentro de la transacción
+ * de la modificación y los interesados lo procesan al confirmarse (ej: invalidar cachés).
+ *
+ * @param aggregateType Tipo de recurso ("Event" o "Venue")
+ * @param aggregateId ID del recurso
+ * @param version Versión tras el cambio, o null si se eliminó
+ */
+public record EntityChange(String aggregateType, Long aggregateId, Long version) {
+
+    /**
+     * @return true si el recurso se eliminó
+     */
+    public boolean deleted() {
+        return version == null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.riwi.h1.domain.model;
+
+/**
+ * ID y versión de una entidad, leídos sin cargarla completa.
+ *
+ * @param id ID de la entidad
+ * @param version Versión actual
+ */
+public record EntityVersion(Long id, Long version) {
+}
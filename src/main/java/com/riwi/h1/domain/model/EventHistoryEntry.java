@@ -0,0 +1,31 @@
+package com.riwi.h1.domain.model;
+
+import com.riwi.h1.domain.entity.ArchivedEvent;
+import com.riwi.h1.domain.entity.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento del historial: vigente (tabla events) o archivado (tabla events_archive).
+ *
+ * @param event Datos del evento
+ * @param archivedAt Fecha en que se archivó, o null si sigue vigente
+ */
+public record EventHistoryEntry(Event event, LocalDateTime archivedAt) {
+
+    /**
+     * @param event Evento vigente
+     * @return Entrada sin fecha de archivo
+     */
+    public static EventHistoryEntry live(Event event) {
+        return new EventHistoryEntry(event, null);
+    }
+
+    /**
+     * @param archivedEvent Evento archivado
+     * @return Entrada con los datos del evento y su fecha de archivo
+     */
+    public static EventHistoryEntry archived(ArchivedEvent archivedEvent) {
+        return new EventHistoryEntry(archivedEvent.toEvent(), archivedEvent.getArchivedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.riwi.h1.domain.model;
+
+/**
+ * Capacidad, reservas y estado de un evento, leídos sin cargar la entidad.
+ *
+ * @param id ID del evento
+ * @param capacity Capacidad total
+ * @param reservedSeats Asientos reservados
+ * @param active Si el evento admite reservas
+ */
+public record EventSeats(Long id, Integer capacity, Integer reservedSeats, Boolean active) {
+}
@@ -0,0 +1,32 @@
+package com.riwi.h1.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Instantánea de la ocupación de un evento en el motor de reservas.
+ */
+@Value
+@Builder
+public class SeatAvailability {
+
+    /**
+     * ID del evento
+     */
+    Long eventId;
+
+    /**
+     * Capacidad total del evento
+     */
+    int capacity;
+
+    /**
+     * Asientos reservados
+     */
+    int reservedSeats;
+
+    /**
+     * Asientos disponibles
+     */
+    int availableSeats;
+}
@@ -0,0 +1,13 @@
+package com.riwi.h1.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado de un borrado masivo de venues.
+ *
+ * @param deleted IDs eliminados
+ * @param withEvents IDs no eliminados porque tienen eventos asociados
+ * @param notFound IDs que no corresponden a ningún venue
+ */
+public record VenueBulkDeletion(List<Long> deleted, List<Long> withEvents, List<Long> notFound) {
+}
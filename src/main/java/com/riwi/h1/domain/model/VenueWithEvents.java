@@ -0,0 +1,16 @@
+package com.riwi.h1.domain.model;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+
+import java.util.List;
+
+/**
+ * Vista de detalle de un venue con una página de sus eventos.
+ *
+ * @param venue Venue
+ * @param events Eventos de la página, ordenados por fecha
+ * @param hasMore true si hay eventos después de esta página
+ */
+public record VenueWithEvents(Venue venue, List<Event> events, boolean hasMore) {
+}
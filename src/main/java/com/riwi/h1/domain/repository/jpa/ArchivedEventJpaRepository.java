@@ -0,0 +1,54 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.ArchivedEvent;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio JPA del archivo de eventos pasados.
+ * Solo lo usan el archivador y las consultas de historial.
+ */
+@Repository
+public interface ArchivedEventJpaRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    /**
+     * Copia un bloque de eventos al archivo en una sola sentencia INSERT ... SELECT.
+     *
+     * @param ids IDs de los eventos
+     * @param archivedAt Fecha de archivo
+     * @return Cantidad de eventos copiados
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedEvent (id, name, description, eventDate, venueId, capacity, reservedSeats, " +
+            "ticketPrice, active, version, createdAt, updatedAt, archivedAt) " +
+            "SELECT e.id, e.name, e.description, e.eventDate, e.venueId, e.capacity, e.reservedSeats, " +
+            "e.ticketPrice, e.active, e.version, e.createdAt, e.updatedAt, :archivedAt FROM Event e WHERE e.id IN :ids")
+    int copyFromEvents(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Busca los eventos archivados de un venue.
+     *
+     * @param venueId ID del venue
+     * @param sort Orden del resultado
+     * @return Eventos archivados del venue
+     */
+    List<ArchivedEvent> findByVenueId(Long venueId, Sort sort);
+
+    /**
+     * Busca los eventos archivados cuya fecha está en un rango [from, to).
+     *
+     * @param from Inicio del rango (incluido)
+     * @param to Fin del rango (excluido)
+     * @param sort Orden del resultado
+     * @return Eventos archivados del rango
+     */
+    List<ArchivedEvent> findByEventDateGreaterThanEqualAndEventDateLessThan(LocalDateTime from, LocalDateTime to, Sort sort);
+}
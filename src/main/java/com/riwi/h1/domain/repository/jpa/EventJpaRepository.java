@@ -1,11 +1,21 @@
 package com.riwi.h1.domain.repository.jpa;
 
 import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.model.EntityVersion;
+import com.riwi.h1.domain.model.EventSeats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para la entidad Event.
@@ -23,18 +33,29 @@ import java.util.List;
  * de Spring Data JPA y se implementarán automáticamente.
  */
 @Repository
-public interface EventJpaRepository extends JpaRepository<Event, Long> {
+public interface EventJpaRepository extends JpaRepository<Event, Long>, EventJpaRepositoryCustom {
 
     /**
      * Busca eventos por el ID del venue (lugar).
      * Spring Data JPA genera automáticamente la query:
      * SELECT * FROM events WHERE venue_id = ?
+     * Es de solo lectura: puede servirse desde una réplica.
      *
      * @param venueId ID del venue
      * @return Lista de eventos del venue
      */
+    @Transactional(readOnly = true)
     List<Event> findByVenueId(Long venueId);
 
+    /**
+     * Busca eventos por el ID del venue, en el orden indicado.
+     *
+     * @param venueId ID del venue
+     * @param sort Orden del resultado
+     * @return Lista de eventos del venue
+     */
+    List<Event> findByVenueId(Long venueId, Sort sort);
+
     /**
      * Busca eventos por nombre (ignorando mayúsculas/minúsculas).
      * Query generada: SELECT * FROM events WHERE LOWER(name) = LOWER(?)
@@ -46,21 +67,24 @@ public interface EventJpaRepository extends JpaRepository<Event, Long> {
 
     /**
      * Busca eventos activos.
-     * Query generada: SELECT * FROM events WHERE active = ?
+     * Query generada: SELECT * FROM events WHERE active = ? ORDER BY ...
+     * Con el orden explícito, los resultados de varios shards se fusionan sin reordenarlos por completo.
      *
      * @param active Estado de activo/inactivo
+     * @param sort Orden de los resultados
      * @return Lista de eventos según el estado
      */
-    List<Event> findByActive(Boolean active);
+    List<Event> findByActive(Boolean active, Sort sort);
 
     /**
      * Busca eventos cuya fecha sea posterior a la fecha especificada.
-     * Query generada: SELECT * FROM events WHERE event_date > ?
+     * Query generada: SELECT * FROM events WHERE event_date > ? ORDER BY ...
      *
      * @param date Fecha de referencia
+     * @param sort Orden de los resultados
      * @return Lista de eventos futuros
      */
-    List<Event> findByEventDateAfter(LocalDateTime date);
+    List<Event> findByEventDateAfter(LocalDateTime date, Sort sort);
 
     /**
      * Busca eventos cuya fecha esté entre dos fechas.
@@ -89,4 +113,222 @@ public interface EventJpaRepository extends JpaRepository<Event, Long> {
      * @return Cantidad de eventos del venue
      */
     long countByVenueId(Long venueId);
+
+    /**
+     * Obtiene, de un bloque de venues, los que tienen al menos un evento.
+     * Se usa en el borrado masivo de venues cuyos eventos están en otro shard.
+     *
+     * @param venueIds IDs de los venues
+     * @return IDs de los venues con eventos
+     */
+    @Query("SELECT DISTINCT e.venueId FROM Event e WHERE e.venueId IN :venueIds")
+    List<Long> findVenueIdsWithEvents(@Param("venueIds") Collection<Long> venueIds);
+
+    /**
+     * Verifica si existe otro event (distinto al indicado) con el mismo nombre.
+     * Query generada: SELECT COUNT(*) > 0 FROM events WHERE LOWER(name) = LOWER(?) AND id <> ?
+     *
+     * @param name Nombre a verificar
+     * @param id ID del event que se excluye de la búsqueda
+     * @return true si otro event ya usa ese nombre
+     */
+    boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+
+    /**
+     * Obtiene solo la versión actual del event, sin cargar la entidad completa.
+     * Se usa para diferenciar "no existe" de "conflicto de versión" tras un PATCH fallido.
+     *
+     * @param id ID del event
+     * @return Versión actual, o vacío si el event no existe
+     */
+    @Query("SELECT e.version FROM Event e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Obtiene ID y versión de un bloque de events, sin cargar las entidades.
+     * Se usa tras las actualizaciones masivas para invalidar las cachés con la versión nueva.
+     *
+     * @param ids IDs del bloque
+     * @return ID y versión de los events que existen
+     */
+    @Query("SELECT new com.riwi.h1.domain.model.EntityVersion(e.id, e.version) FROM Event e WHERE e.id IN :ids")
+    List<EntityVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Suma asientos reservados solo si el evento está activo y no supera su capacidad.
+     * Es la comprobación definitiva contra la sobreventa: atómica en la BD y válida
+     * con varias instancias vendiendo el mismo evento. No incrementa la versión.
+     *
+     * @param id ID del evento
+     * @param quantity Asientos a reservar
+     * @return 1 si se reservaron, 0 si no hay asientos, el evento no está activo o no existe
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Event e SET e.reservedSeats = e.reservedSeats + :quantity " +
+            "WHERE e.id = :id AND e.active = true AND e.reservedSeats + :quantity <= e.capacity")
+    int reserveSeats(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Resta asientos reservados solo si hay al menos esa cantidad reservada.
+     *
+     * @param id ID del evento
+     * @param quantity Asientos a liberar
+     * @return 1 si se liberaron, 0 si hay menos reservados o el evento no existe
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Event e SET e.reservedSeats = e.reservedSeats - :quantity " +
+            "WHERE e.id = :id AND e.reservedSeats >= :quantity")
+    int releaseSeats(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Bloquea la fila del evento si sus reservas caben en la capacidad indicada.
+     * Se ejecuta dentro de la transacción que cambia la capacidad: las reservas
+     * concurrentes esperan a que confirme, así la comprobación sigue siendo válida.
+     *
+     * @param id ID del evento
+     * @param capacity Nueva capacidad
+     * @return 1 si las reservas caben, 0 si no caben o el evento no existe
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Event e SET e.reservedSeats = e.reservedSeats " +
+            "WHERE e.id = :id AND e.reservedSeats <= :capacity")
+    int lockIfReservedWithin(@Param("id") Long id, @Param("capacity") int capacity);
+
+    /**
+     * Lee capacidad, reservas y estado de un evento.
+     *
+     * @param id ID del evento
+     * @return Ocupación del evento, o vacío si no existe
+     */
+    @Query("SELECT new com.riwi.h1.domain.model.EventSeats(e.id, e.capacity, e.reservedSeats, e.active) " +
+            "FROM Event e WHERE e.id = :id")
+    Optional<EventSeats> findSeatsById(@Param("id") Long id);
+
+    /**
+     * Lee capacidad, reservas y estado de un bloque de eventos.
+     * Usado por la sincronización periódica del motor de reservas.
+     *
+     * @param ids IDs del bloque
+     * @return Ocupación de los eventos que existen
+     */
+    @Query("SELECT new com.riwi.h1.domain.model.EventSeats(e.id, e.capacity, e.reservedSeats, e.active) " +
+            "FROM Event e WHERE e.id IN :ids")
+    List<EventSeats> findSeatsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene solo los IDs de los eventos de un venue, ordenados.
+     * Usado por los trabajos masivos para procesar por bloques sin cargar entidades.
+     *
+     * @param venueId ID del venue
+     * @return IDs de los eventos del venue
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.venueId = :venueId ORDER BY e.id")
+    List<Long> findIdsByVenueId(@Param("venueId") Long venueId);
+
+    /**
+     * Obtiene los IDs de los eventos activos cuya fecha es anterior a la indicada.
+     *
+     * @param date Fecha de referencia
+     * @return IDs de los eventos activos ya ocurridos
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.active = true AND e.eventDate < :date ORDER BY e.id")
+    List<Long> findActiveIdsByEventDateBefore(@Param("date") LocalDateTime date);
+
+    /**
+     * Obtiene un bloque de IDs de eventos (activos o no) cuya fecha es anterior a la indicada.
+     * Los usa el archivador de eventos pasados.
+     *
+     * @param date Fecha límite (excluida)
+     * @param limit Tamaño del bloque
+     * @return IDs ordenados de menor a mayor
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.eventDate < :date ORDER BY e.id")
+    List<Long> findIdsByEventDateBefore(@Param("date") LocalDateTime date, Limit limit);
+
+    /**
+     * Busca los eventos cuya fecha está en un rango [from, to).
+     *
+     * @param from Inicio del rango (incluido)
+     * @param to Fin del rango (excluido)
+     * @param sort Orden del resultado
+     * @return Eventos del rango
+     */
+    List<Event> findByEventDateGreaterThanEqualAndEventDateLessThan(LocalDateTime from, LocalDateTime to, Sort sort);
+
+    /**
+     * Busca eventos activos con precio en [min, max], del más barato al más caro.
+     * Usa el índice idx_events_active_price: recorre solo el rango y se detiene en el límite.
+     *
+     * @param min Precio mínimo (incluido)
+     * @param max Precio máximo (incluido)
+     * @param limit Máximo de eventos
+     * @return Eventos ordenados por precio y luego por ID
+     */
+    @Transactional(readOnly = true)
+    List<Event> findByActiveTrueAndTicketPriceBetweenOrderByTicketPriceAscIdAsc(Double min, Double max, Limit limit);
+
+    /**
+     * Busca eventos activos posteriores a una fecha con precio en [min, max], del más barato al más caro.
+     *
+     * @param min Precio mínimo (incluido)
+     * @param max Precio máximo (incluido)
+     * @param date Fecha límite (excluida)
+     * @param limit Máximo de eventos
+     * @return Eventos ordenados por precio y luego por ID
+     */
+    @Transactional(readOnly = true)
+    List<Event> findByActiveTrueAndTicketPriceBetweenAndEventDateAfterOrderByTicketPriceAscIdAsc(
+            Double min, Double max, LocalDateTime date, Limit limit);
+
+    /**
+     * Busca los eventos activos con precio más baratos posteriores a una fecha en un conjunto de venues.
+     *
+     * @param date Fecha límite (excluida)
+     * @param venueIds IDs de los venues
+     * @param limit Máximo de eventos
+     * @return Eventos ordenados por precio y luego por ID
+     */
+    @Transactional(readOnly = true)
+    List<Event> findByActiveTrueAndTicketPriceNotNullAndEventDateAfterAndVenueIdInOrderByTicketPriceAscIdAsc(
+            LocalDateTime date, Collection<Long> venueIds, Limit limit);
+
+    /**
+     * Elimina un bloque de eventos en una sola sentencia DELETE, sin cargarlos.
+     * Se usa tras copiarlos al archivo.
+     *
+     * @param ids IDs del bloque
+     * @return Cantidad de eventos eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteEventsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Multiplica el precio de un bloque de eventos por un factor en una sola sentencia.
+     * Incrementa la versión para que las escrituras condicionales detecten el cambio.
+     *
+     * @param ids IDs del bloque
+     * @param factor Factor multiplicador del precio
+     * @param now Fecha de actualización
+     * @return Cantidad de eventos actualizados
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.ticketPrice = ROUND(e.ticketPrice * :factor, 2), e.version = e.version + 1, " +
+            "e.updatedAt = :now WHERE e.id IN :ids AND e.ticketPrice IS NOT NULL")
+    int repriceByIds(@Param("ids") Collection<Long> ids, @Param("factor") double factor, @Param("now") LocalDateTime now);
+
+    /**
+     * Desactiva un bloque de eventos en una sola sentencia.
+     *
+     * @param ids IDs del bloque
+     * @param now Fecha de actualización
+     * @return Cantidad de eventos desactivados
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.active = false, e.version = e.version + 1, e.updatedAt = :now " +
+            "WHERE e.id IN :ids AND e.active = true")
+    int deactivateByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
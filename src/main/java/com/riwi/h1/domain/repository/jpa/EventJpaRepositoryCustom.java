@@ -0,0 +1,36 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Operaciones personalizadas del repositorio de eventos que no pueden
+ * expresarse como métodos derivados de Spring Data JPA.
+ */
+public interface EventJpaRepositoryCustom {
+
+    /**
+     * Aplica una actualización parcial en una sola sentencia UPDATE.
+     * Solo se escriben las columnas cuyos valores en {@code changes} no son nulos;
+     * la versión se incrementa y updated_at se actualiza en la misma sentencia.
+     *
+     * @param id ID del evento
+     * @param expectedVersion Versión esperada (condición de If-Match), o null para no condicionar
+     * @param changes Entidad con los campos a modificar (los nulos se ignoran)
+     * @return Cantidad de filas actualizadas (0 si no existe o la versión no coincide)
+     */
+    int patch(Long id, Long expectedVersion, Event changes);
+
+    /**
+     * Obtiene una página de los eventos de un venue, ordenados por fecha.
+     *
+     * @param venueId ID del venue
+     * @param after Fecha a partir de la cual se incluyen eventos (excluida), o null para incluirlos todos
+     * @param offset Eventos a saltar
+     * @param limit Eventos de la página
+     * @return Eventos de la página
+     */
+    List<Event> findPageByVenueId(Long venueId, LocalDateTime after, int offset, int limit);
+}
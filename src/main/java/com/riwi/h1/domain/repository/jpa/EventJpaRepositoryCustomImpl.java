@@ -0,0 +1,87 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementación de {@link EventJpaRepositoryCustom} usando la Criteria API.
+ * Spring Data JPA la detecta automáticamente por el sufijo "Impl".
+ */
+public class EventJpaRepositoryCustomImpl implements EventJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patch(Long id, Long expectedVersion, Event changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Event> update = cb.createCriteriaUpdate(Event.class);
+        Root<Event> root = update.from(Event.class);
+
+        // Solo las columnas enviadas forman parte del SET
+        if (changes.getName() != null) {
+            update.set(root.<String>get("name"), changes.getName());
+        }
+        if (changes.getDescription() != null) {
+            update.set(root.<String>get("description"), changes.getDescription());
+        }
+        if (changes.getEventDate() != null) {
+            update.set(root.<LocalDateTime>get("eventDate"), changes.getEventDate());
+        }
+        if (changes.getVenueId() != null) {
+            update.set(root.<Long>get("venueId"), changes.getVenueId());
+        }
+        if (changes.getCapacity() != null) {
+            update.set(root.<Integer>get("capacity"), changes.getCapacity());
+        }
+        if (changes.getTicketPrice() != null) {
+            update.set(root.<Double>get("ticketPrice"), changes.getTicketPrice());
+        }
+        if (changes.getActive() != null) {
+            update.set(root.<Boolean>get("active"), changes.getActive());
+        }
+
+        // @PreUpdate no se ejecuta en actualizaciones masivas: se mantienen versión y fecha aquí
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+
+        Predicate condition = cb.equal(root.get("id"), id);
+        if (expectedVersion != null) {
+            condition = cb.and(condition, cb.equal(root.get("version"), expectedVersion));
+        }
+        update.where(condition);
+
+        // Equivalente a @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> findPageByVenueId(Long venueId, LocalDateTime after, int offset, int limit) {
+        String jpql = "SELECT e FROM Event e WHERE e.venueId = :venueId"
+                + (after != null ? " AND e.eventDate > :after" : "")
+                + " ORDER BY e.eventDate, e.id";
+        TypedQuery<Event> query = entityManager.createQuery(jpql, Event.class)
+                .setParameter("venueId", venueId)
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio JPA para los cambios del outbox.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lee los cambios posteriores a un offset, en orden.
+     * Query generada: SELECT * FROM outbox_events WHERE id > ? ORDER BY id LIMIT ?
+     *
+     * @param offset Último offset ya procesado
+     * @param limit Máximo de cambios a leer
+     * @return Cambios en orden de offset
+     */
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long offset, Limit limit);
+
+    /**
+     * Lee los cambios entre dos offsets, en orden.
+     * Query generada: SELECT * FROM outbox_events WHERE id > ? AND id <= ? ORDER BY id LIMIT ?
+     *
+     * @param offset Último offset ya procesado
+     * @param upTo Último offset a incluir
+     * @param limit Máximo de cambios a leer
+     * @return Cambios en orden de offset
+     */
+    List<OutboxEvent> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long offset, Long upTo, Limit limit);
+
+    /**
+     * @return Offset más antiguo que sigue en el outbox (vacío si se eliminó todo)
+     */
+    @Query("SELECT MIN(o.id) FROM OutboxEvent o")
+    Optional<Long> findMinimumId();
+
+    /**
+     * Elimina los cambios ya procesados por todos los consumidores y más antiguos que el plazo de retención.
+     *
+     * @param offset Offset mínimo confirmado por todos los consumidores
+     * @param before Fecha límite de retención
+     * @return Cantidad de cambios eliminados
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent o WHERE o.id <= :offset AND o.createdAt < :before")
+    int deleteProcessedBefore(@Param("offset") Long offset, @Param("before") LocalDateTime before);
+
+    /**
+     * Sesiones de la BD (distintas de la actual) con cambios sin confirmar.
+     * El lector del outbox las usa para saber si un offset faltante puede estar aún
+     * en una transacción abierta. Consulta específica de H2.
+     *
+     * @return IDs de las sesiones con una transacción de escritura abierta
+     */
+    @Query(value = "SELECT SESSION_ID FROM INFORMATION_SCHEMA.SESSIONS " +
+            "WHERE CONTAINS_UNCOMMITTED AND SESSION_ID <> SESSION_ID()", nativeQuery = true)
+    List<Integer> findSessionsWithUncommittedChanges();
+}
@@ -0,0 +1,12 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.OutboxOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio JPA para los offsets de los consumidores del outbox.
+ */
+@Repository
+public interface OutboxOffsetJpaRepository extends JpaRepository<OutboxOffset, String> {
+}
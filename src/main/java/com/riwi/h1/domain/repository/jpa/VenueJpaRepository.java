@@ -1,10 +1,21 @@
 package com.riwi.h1.domain.repository.jpa;
 
 import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.EntityVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para la entidad Venue.
@@ -22,16 +33,21 @@ import java.util.List;
  * de Spring Data JPA y se implementarán automáticamente.
  */
 @Repository
-public interface VenueJpaRepository extends JpaRepository<Venue, Long> {
+public interface VenueJpaRepository extends JpaRepository<Venue, Long>, VenueJpaRepositoryCustom {
 
     /**
      * Busca venues por ciudad.
      * Spring Data JPA genera automáticamente la query:
      * SELECT * FROM venues WHERE city = ?
+     * Resultado en la caché de consultas: se invalida con cualquier escritura en venues.
      *
      * @param city Ciudad del venue
      * @return Lista de venues en esa ciudad
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Venue.QUERY_CACHE_REGION)
+    })
     List<Venue> findByCity(String city);
 
     /**
@@ -46,19 +62,29 @@ public interface VenueJpaRepository extends JpaRepository<Venue, Long> {
     /**
      * Busca venues por tipo (teatro, estadio, etc.).
      * Query generada: SELECT * FROM venues WHERE type = ?
+     * Resultado en la caché de consultas: se invalida con cualquier escritura en venues.
      *
      * @param type Tipo de venue
      * @return Lista de venues de ese tipo
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Venue.QUERY_CACHE_REGION)
+    })
     List<Venue> findByType(String type);
 
     /**
      * Busca venues disponibles o no disponibles.
      * Query generada: SELECT * FROM venues WHERE available = ?
+     * Resultado en la caché de consultas: se invalida con cualquier escritura en venues.
      *
      * @param available Estado de disponibilidad
      * @return Lista de venues según disponibilidad
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Venue.QUERY_CACHE_REGION)
+    })
     List<Venue> findByAvailable(Boolean available);
 
     /**
@@ -115,4 +141,104 @@ public interface VenueJpaRepository extends JpaRepository<Venue, Long> {
      * @return Cantidad de venues disponibles
      */
     long countByAvailable(Boolean available);
-}
\ No newline at end of file
+
+    /**
+     * Verifica si existe otro venue (distinto al indicado) con el mismo nombre.
+     * Query generada: SELECT COUNT(*) > 0 FROM venues WHERE LOWER(name) = LOWER(?) AND id <> ?
+     *
+     * @param name Nombre a verificar
+     * @param id ID del venue que se excluye de la búsqueda
+     * @return true si otro venue ya usa ese nombre
+     */
+    boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+
+    /**
+     * Obtiene solo la versión actual del venue, sin cargar la entidad completa.
+     * Se usa para diferenciar "no existe" de "conflicto de versión" tras un PATCH fallido.
+     *
+     * @param id ID del venue
+     * @return Versión actual, o vacío si el venue no existe
+     */
+    @Query("SELECT v.version FROM Venue v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Obtiene ID y versión de un bloque de venues, sin cargar las entidades.
+     * Se usa tras las actualizaciones masivas para invalidar las cachés con la versión nueva.
+     *
+     * @param ids IDs del bloque
+     * @return ID y versión de los venues que existen
+     */
+    @Query("SELECT new com.riwi.h1.domain.model.EntityVersion(v.id, v.version) FROM Venue v WHERE v.id IN :ids")
+    List<EntityVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Marca como no disponibles un bloque de venues en una sola sentencia.
+     * Incrementa la versión para que las escrituras condicionales detecten el cambio.
+     *
+     * @param ids IDs del bloque
+     * @param now Fecha de actualización
+     * @return Cantidad de venues actualizados
+     */
+    @Modifying
+    @Query("UPDATE Venue v SET v.available = false, v.version = v.version + 1, v.updatedAt = :now " +
+            "WHERE v.id IN :ids AND v.available = true")
+    int markUnavailableByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Cambia la disponibilidad de un bloque de venues en una sola sentencia.
+     * Incrementa la versión para que las escrituras condicionales detecten el cambio.
+     *
+     * @param ids IDs del bloque
+     * @param available Nueva disponibilidad
+     * @param now Fecha de actualización
+     * @return Cantidad de venues actualizados
+     */
+    @Modifying
+    @Query("UPDATE Venue v SET v.available = :available, v.version = v.version + 1, v.updatedAt = :now " +
+            "WHERE v.id IN :ids")
+    int updateAvailabilityByIds(@Param("ids") Collection<Long> ids, @Param("available") boolean available,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * Obtiene, de un bloque de venues, los que no tienen eventos, en una sola consulta (anti-join).
+     * Solo ve los eventos del shard principal: con sharding, los de otros shards se comprueban aparte.
+     *
+     * @param ids IDs del bloque
+     * @return IDs de los venues existentes sin eventos
+     */
+    @Query("SELECT v.id FROM Venue v WHERE v.id IN :ids " +
+            "AND NOT EXISTS (SELECT 1 FROM Event e WHERE e.venueId = v.id) ORDER BY v.id")
+    List<Long> findIdsWithoutEvents(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene, de un bloque de IDs, los que corresponden a venues existentes.
+     *
+     * @param ids IDs del bloque
+     * @return IDs existentes
+     */
+    @Query("SELECT v.id FROM Venue v WHERE v.id IN :ids ORDER BY v.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Elimina un bloque de venues en una sola sentencia DELETE, sin cargarlos.
+     *
+     * @param ids IDs del bloque
+     * @return Cantidad de venues eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM Venue v WHERE v.id IN :ids")
+    int deleteVenuesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Elimina un venue con una sola sentencia DELETE, sin cargarlo antes
+     * (deleteById() de Spring Data hace un SELECT previo).
+     *
+     * @param id ID del venue
+     * @return Cantidad de venues eliminados (0 o 1)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Venue v WHERE v.id = :id")
+    int deleteVenueById(@Param("id") Long id);
+}
@@ -0,0 +1,53 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.VenueWithEvents;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operaciones personalizadas del repositorio de venues que no pueden
+ * expresarse como métodos derivados de Spring Data JPA.
+ */
+public interface VenueJpaRepositoryCustom {
+
+    /**
+     * Aplica una actualización parcial en una sola sentencia UPDATE.
+     * Solo se escriben las columnas cuyos valores en {@code changes} no son nulos;
+     * la versión se incrementa y updated_at se actualiza en la misma sentencia.
+     *
+     * @param id ID del venue
+     * @param expectedVersion Versión esperada (condición de If-Match), o null para no condicionar
+     * @param changes Entidad con los campos a modificar (los nulos se ignoran)
+     * @return Cantidad de filas actualizadas (0 si no existe o la versión no coincide)
+     */
+    int patch(Long id, Long expectedVersion, Venue changes);
+
+    /**
+     * Obtiene los IDs de los venues cuya disponibilidad difiere de la indicada, en una sola consulta.
+     * Los criterios no nulos se combinan con AND; los venues que ya tienen esa disponibilidad se omiten.
+     *
+     * @param ids IDs candidatos, o null para no filtrar por ID
+     * @param city Ciudad, o null para no filtrar por ciudad
+     * @param type Tipo, o null para no filtrar por tipo
+     * @param available Disponibilidad buscada
+     * @return IDs a actualizar, ordenados
+     */
+    List<Long> findIdsToChangeAvailability(Collection<Long> ids, String city, String type, boolean available);
+
+    /**
+     * Obtiene un venue y una página de sus eventos (por fecha) en una sola consulta con LEFT JOIN.
+     * Solo si la página está vacía se lee el venue aparte (de la caché de segundo nivel), para
+     * distinguir un venue sin más eventos de uno inexistente.
+     *
+     * @param venueId ID del venue
+     * @param after Fecha a partir de la cual se incluyen eventos (excluida), o null para incluirlos todos
+     * @param offset Eventos a saltar
+     * @param limit Eventos de la página
+     * @return El venue con sus eventos, o vacío si el venue no existe
+     */
+    Optional<VenueWithEvents> findWithEvents(Long venueId, LocalDateTime after, int offset, int limit);
+}
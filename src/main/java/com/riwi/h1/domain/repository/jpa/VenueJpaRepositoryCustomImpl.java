@@ -0,0 +1,133 @@
+package com.riwi.h1.domain.repository.jpa;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.VenueWithEvents;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación de {@link VenueJpaRepositoryCustom} usando la Criteria API.
+ * Spring Data JPA la detecta automáticamente por el sufijo "Impl".
+ */
+public class VenueJpaRepositoryCustomImpl implements VenueJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patch(Long id, Long expectedVersion, Venue changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Venue> update = cb.createCriteriaUpdate(Venue.class);
+        Root<Venue> root = update.from(Venue.class);
+
+        // Solo las columnas enviadas forman parte del SET
+        if (changes.getName() != null) {
+            update.set(root.<String>get("name"), changes.getName());
+        }
+        if (changes.getAddress() != null) {
+            update.set(root.<String>get("address"), changes.getAddress());
+        }
+        if (changes.getCity() != null) {
+            update.set(root.<String>get("city"), changes.getCity());
+        }
+        if (changes.getCountry() != null) {
+            update.set(root.<String>get("country"), changes.getCountry());
+        }
+        if (changes.getMaxCapacity() != null) {
+            update.set(root.<Integer>get("maxCapacity"), changes.getMaxCapacity());
+        }
+        if (changes.getType() != null) {
+            update.set(root.<String>get("type"), changes.getType());
+        }
+        if (changes.getAvailable() != null) {
+            update.set(root.<Boolean>get("available"), changes.getAvailable());
+        }
+
+        // @PreUpdate no se ejecuta en actualizaciones masivas: se mantienen versión y fecha aquí
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+
+        Predicate condition = cb.equal(root.get("id"), id);
+        if (expectedVersion != null) {
+            condition = cb.and(condition, cb.equal(root.get("version"), expectedVersion));
+        }
+        update.where(condition);
+
+        // Equivalente a @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public List<Long> findIdsToChangeAvailability(Collection<Long> ids, String city, String type, boolean available) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Venue> root = query.from(Venue.class);
+
+        List<Predicate> conditions = new ArrayList<>();
+        if (ids != null) {
+            conditions.add(root.get("id").in(ids));
+        }
+        if (city != null) {
+            conditions.add(cb.equal(root.get("city"), city));
+        }
+        if (type != null) {
+            conditions.add(cb.equal(root.get("type"), type));
+        }
+        // Los que ya tienen la disponibilidad pedida no se actualizan (ni cambian de versión)
+        Path<Boolean> current = root.get("available");
+        conditions.add(cb.or(cb.isNull(current), cb.notEqual(current, available)));
+
+        query.select(root.get("id"))
+                .where(conditions.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VenueWithEvents> findWithEvents(Long venueId, LocalDateTime after, int offset, int limit) {
+        // La condición de fecha va en el ON: un venue sin eventos en el rango devuelve igualmente su fila
+        String jpql = "SELECT v, e FROM Venue v LEFT JOIN Event e ON e.venueId = v.id"
+                + (after != null ? " AND e.eventDate > :after" : "")
+                + " WHERE v.id = :venueId ORDER BY e.eventDate, e.id";
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("venueId", venueId)
+                .setFirstResult(offset)
+                .setMaxResults(limit + 1);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            // Página fuera de rango (o venue inexistente): el venue se lee aparte
+            return Optional.ofNullable(entityManager.find(Venue.class, venueId))
+                    .map(venue -> new VenueWithEvents(venue, List.of(), false));
+        }
+        List<Event> events = new ArrayList<>(Math.min(rows.size(), limit));
+        for (Object[] row : rows.subList(0, Math.min(rows.size(), limit))) {
+            if (row[1] != null) {
+                events.add((Event) row[1]);
+            }
+        }
+        return Optional.of(new VenueWithEvents((Venue) rows.get(0)[0], events, rows.size() > limit));
+    }
+}
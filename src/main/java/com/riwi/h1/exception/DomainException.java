@@ -0,0 +1,25 @@
+package com.riwi.h1.exception;
+
+/**
+ * Error de validación o de negocio de los servicios, identificado por un {@link ErrorCode}.
+ *
+ * No captura la pila de llamadas ni admite excepciones suprimidas: el costo de lanzarla
+ * es el de un salto, lo que importa cuando buena parte del tráfico es entrada inválida.
+ * Las instancias sin detalle son únicas por código (ver {@link ErrorCode#exception()}).
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+public class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    DomainException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
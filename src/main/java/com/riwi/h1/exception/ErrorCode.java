@@ -0,0 +1,83 @@
+package com.riwi.h1.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Errores de dominio de eventos y venues, con código estable, estado HTTP y mensaje precalculados.
+ *
+ * Cada código tiene una {@link DomainException} preasignada ({@link #exception()}): las validaciones
+ * que fallan la lanzan sin crear objetos, capturar la pila ni concatenar cadenas.
+ * Los errores que necesitan un dato variable (ej: cuántos eventos impiden borrar un venue) usan
+ * {@link #exception(String)}; el ID del recurso ya va en la ruta de la petición.
+ *
+ * @author Juan - RIWI
+ * @version 1.0
+ */
+public enum ErrorCode {
+
+    // ========== EVENTOS ==========
+    EVENT_NAME_EMPTY("EVT-001", HttpStatus.BAD_REQUEST, "Event name cannot be empty"),
+    EVENT_DATE_IN_PAST("EVT-002", HttpStatus.BAD_REQUEST, "Event date must be in the future"),
+    EVENT_CAPACITY_NOT_POSITIVE("EVT-003", HttpStatus.BAD_REQUEST, "Capacity must be greater than 0"),
+    EVENT_PRICE_NEGATIVE("EVT-004", HttpStatus.BAD_REQUEST, "Ticket price cannot be negative"),
+    EVENT_NOT_FOUND("EVT-005", HttpStatus.BAD_REQUEST, "Event not found"),
+    EVENT_VENUE_OTHER_SHARD("EVT-006", HttpStatus.BAD_REQUEST, "Event cannot move to a venue stored in another shard"),
+    EVENT_PRICE_LIMIT_OUT_OF_RANGE("EVT-007", HttpStatus.BAD_REQUEST, "Limit must be between 1 and 100"),
+    EVENT_PRICE_RANGE_INVERTED("EVT-008", HttpStatus.BAD_REQUEST, "Minimum price must not be greater than maximum price"),
+    EVENT_PATCH_EMPTY("EVT-009", HttpStatus.BAD_REQUEST, "Patch must include at least one field"),
+
+    // ========== VENUES ==========
+    VENUE_NAME_EMPTY("VEN-001", HttpStatus.BAD_REQUEST, "Venue name cannot be empty"),
+    VENUE_ADDRESS_EMPTY("VEN-002", HttpStatus.BAD_REQUEST, "Address cannot be empty"),
+    VENUE_CITY_EMPTY("VEN-003", HttpStatus.BAD_REQUEST, "City cannot be empty"),
+    VENUE_CAPACITY_NOT_POSITIVE("VEN-004", HttpStatus.BAD_REQUEST, "Max capacity must be greater than 0"),
+    VENUE_AVAILABLE_REQUIRED("VEN-005", HttpStatus.BAD_REQUEST, "Available status cannot be null"),
+    VENUE_NOT_FOUND("VEN-006", HttpStatus.BAD_REQUEST, "Venue not found"),
+    VENUE_HAS_EVENTS("VEN-007", HttpStatus.BAD_REQUEST, "Cannot delete a venue with associated events"),
+    VENUE_BULK_TARGET_REQUIRED("VEN-008", HttpStatus.BAD_REQUEST, "Provide either venue IDs or a city/type filter"),
+    VENUE_COUNTRY_EMPTY("VEN-009", HttpStatus.BAD_REQUEST, "Country cannot be empty"),
+    VENUE_TYPE_EMPTY("VEN-010", HttpStatus.BAD_REQUEST, "Venue type cannot be empty"),
+    VENUE_PATCH_EMPTY("VEN-011", HttpStatus.BAD_REQUEST, "Patch must include at least one field"),
+    VENUE_EVENTS_PAGE_NEGATIVE("VEN-012", HttpStatus.BAD_REQUEST, "Page must be zero or positive"),
+    VENUE_EVENTS_SIZE_OUT_OF_RANGE("VEN-013", HttpStatus.BAD_REQUEST, "Size must be between 1 and 100"),
+    VENUE_EVENTS_PAGE_TOO_DEEP("VEN-014", HttpStatus.BAD_REQUEST, "Page is too deep: page * size exceeds the supported offset");
+
+    private final String code;
+    private final HttpStatus status;
+    private final String message;
+    private final DomainException exception;
+
+    ErrorCode(String code, HttpStatus status, String message) {
+        this.code = code;
+        this.status = status;
+        this.message = message;
+        this.exception = new DomainException(this, message);
+    }
+
+    /**
+     * @return Excepción preasignada con el mensaje fijo del código
+     */
+    public DomainException exception() {
+        return exception;
+    }
+
+    /**
+     * @param message Mensaje con el detalle del caso (ej: el ID buscado)
+     * @return Nueva excepción sin pila con este código
+     */
+    public DomainException exception(String message) {
+        return new DomainException(this, message);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
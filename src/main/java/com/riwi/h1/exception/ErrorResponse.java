@@ -38,6 +38,11 @@ public class ErrorResponse {
      */
     private String error;
 
+    /**
+     * Código estable del error de dominio (ej: "EVT-001"), solo en errores de negocio
+     */
+    private String code;
+
     /**
      * Mensaje descriptivo del error
      */
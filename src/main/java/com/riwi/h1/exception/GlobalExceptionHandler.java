@@ -1,8 +1,11 @@
 package com.riwi.h1.exception;
 
+import com.riwi.h1.api.http.VersionETag;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,13 +19,45 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * Último timestamp generado. La respuesta lo muestra con resolución de segundos,
+     * así que se reutiliza el mismo objeto mientras no cambie el segundo.
+     */
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(0, null);
+
+    /**
+     * Maneja errores de dominio de los servicios (código y estado precalculados en {@link ErrorCode}).
+     * Es el camino de la entrada inválida: no consulta la pila ni formatea mensajes.
+     *
+     * @param ex La excepción lanzada
+     * @param request La petición HTTP
+     * @return ResponseEntity con el estado del código de error
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(
+            DomainException ex,
+            HttpServletRequest request) {
+
+        ErrorCode errorCode = ex.getErrorCode();
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(errorCode.getStatus().value())
+                .error(errorCode.getStatus().getReasonPhrase())
+                .code(errorCode.getCode())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return new ResponseEntity<>(errorResponse, errorCode.getStatus());
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex,
             HttpServletRequest request) {
 
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.NOT_FOUND.value())
                 .error(HttpStatus.NOT_FOUND.getReasonPhrase())
                 .message(ex.getMessage())
@@ -46,7 +81,7 @@ public class GlobalExceptionHandler {
             HttpServletRequest request) {
 
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.CONFLICT.value())
                 .error(HttpStatus.CONFLICT.getReasonPhrase())
                 .message(ex.getMessage())
@@ -57,6 +92,84 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * Maneja reservas sin asientos suficientes (409).
+     * Se activa cuando el evento está agotado o no tiene la cantidad solicitada.
+     *
+     * @param ex La excepción lanzada
+     * @param request La petición HTTP
+     * @return ResponseEntity con el error 409
+     */
+    @ExceptionHandler(InsufficientSeatsException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientSeatsException(
+            InsufficientSeatsException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Maneja fallos de precondición por versión obsoleta (412).
+     * Se activa cuando el If-Match enviado no coincide con la versión actual.
+     * Incluye el ETag vigente para que el cliente pueda recargar y reintentar.
+     *
+     * @param ex La excepción lanzada
+     * @param request La petición HTTP
+     * @return ResponseEntity con el error 412
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(
+            VersionConflictException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .error(HttpStatus.PRECONDITION_FAILED.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.PRECONDITION_FAILED);
+        if (ex.getCurrentVersion() != null) {
+            response.eTag(VersionETag.of(ex.getCurrentVersion()));
+        }
+        return response.body(errorResponse);
+    }
+
+    /**
+     * Maneja escrituras concurrentes detectadas por Hibernate (409).
+     * Se activa cuando otra petición modificó la entidad entre la lectura y el guardado.
+     * El cliente puede reintentar la operación con los datos actuales.
+     *
+     * @param ex La excepción lanzada
+     * @param request La petición HTTP
+     * @return ResponseEntity con el error 409
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message("Resource was modified concurrently; reload and retry")
+                .path(request.getRequestURI())
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Maneja excepciones de peticiones incorrectas (400).
      *
@@ -70,7 +183,7 @@ public class GlobalExceptionHandler {
             HttpServletRequest request) {
 
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
                 .message(ex.getMessage())
@@ -94,7 +207,7 @@ public class GlobalExceptionHandler {
             HttpServletRequest request) {
 
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
                 .message(ex.getMessage())
@@ -104,6 +217,33 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Maneja servicio no disponible temporalmente (503).
+     * Se activa ante sobrecarga o cuando una espera interna agota su plazo.
+     * Incluye Retry-After para que el cliente reintente más tarde.
+     *
+     * @param ex La excepción lanzada
+     * @param request La petición HTTP
+     * @return ResponseEntity con el error 503
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Maneja excepciones de validación de Spring (400).
      * Se activa cuando fallan las validaciones de @Valid en los DTOs.
@@ -127,7 +267,7 @@ public class GlobalExceptionHandler {
         });
 
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
                 .message("Validation failed")
@@ -152,7 +292,7 @@ public class GlobalExceptionHandler {
             HttpServletRequest request) {
 
         ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
                 .message("An unexpected error occurred: " + ex.getMessage())
@@ -164,4 +304,19 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private LocalDateTime timestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.second() != second) {
+            cached = new CachedTimestamp(second, LocalDateTime.now().withNano(0));
+            cachedTimestamp = cached;
+        }
+        return cached.value();
+    }
+
+    private record CachedTimestamp(long second, LocalDateTime value) {
+    }
 }
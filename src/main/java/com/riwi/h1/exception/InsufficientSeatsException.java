@@ -0,0 +1,17 @@
+package com.riwi.h1.exception;
+
+/**
+ * Excepción lanzada cuando una reserva pide más asientos de los disponibles.
+ */
+public class InsufficientSeatsException extends RuntimeException {
+
+    /**
+     * Constructor con evento y cantidad solicitada.
+     *
+     * @param eventId ID del evento
+     * @param requested Cantidad de asientos solicitada
+     */
+    public InsufficientSeatsException(Long eventId, int requested) {
+        super(String.format("Event with ID %d does not have %d seat(s) available", eventId, requested));
+    }
+}
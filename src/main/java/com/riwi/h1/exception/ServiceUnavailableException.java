@@ -0,0 +1,27 @@
+package com.riwi.h1.exception;
+
+import lombok.Getter;
+
+/**
+ * Excepción lanzada cuando el servicio no puede atender la petición en este momento
+ * (sobrecarga o espera agotada). Se responde con 503 y la cabecera Retry-After.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Segundos sugeridos al cliente antes de reintentar
+     */
+    private final int retryAfterSeconds;
+
+    /**
+     * Constructor con mensaje y tiempo de reintento.
+     *
+     * @param message Mensaje descriptivo del error
+     * @param retryAfterSeconds Segundos sugeridos antes de reintentar
+     */
+    public ServiceUnavailableException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
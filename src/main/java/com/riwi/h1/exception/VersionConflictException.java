@@ -0,0 +1,33 @@
+package com.riwi.h1.exception;
+
+import lombok.Getter;
+
+/**
+ * Excepción lanzada cuando una escritura condicional falla porque el recurso
+ * fue modificado por otra petición (control de concurrencia optimista).
+ *
+ * Incluye la versión actual para que el cliente pueda recargar y reintentar
+ * sin una consulta adicional (se envía como ETag en la respuesta de error).
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * Versión vigente del recurso en la base de datos (puede ser null si se desconoce)
+     */
+    private final Long currentVersion;
+
+    /**
+     * Constructor con recurso, ID y versiones esperada/actual.
+     *
+     * @param resourceName Nombre del recurso (ej: "Event", "Venue")
+     * @param id ID del recurso
+     * @param expectedVersion Versión enviada por el cliente en If-Match
+     * @param currentVersion Versión vigente en la base de datos
+     */
+    public VersionConflictException(String resourceName, Long id, Long expectedVersion, Long currentVersion) {
+        super(String.format("%s with ID %d was modified concurrently (expected version %d, current version %d); reload and retry",
+                resourceName, id, expectedVersion, currentVersion));
+        this.currentVersion = currentVersion;
+    }
+}
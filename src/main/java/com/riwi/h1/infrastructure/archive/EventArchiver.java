@@ -0,0 +1,116 @@
+package com.riwi.h1.infrastructure.archive;
+
+import com.riwi.h1.application.service.TicketReservationService;
+import com.riwi.h1.config.EventArchiveProperties;
+import com.riwi.h1.domain.model.EntityChange;
+import com.riwi.h1.domain.repository.jpa.ArchivedEventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traslada periódicamente los eventos pasados de la tabla events a events_archive.
+ *
+ * Un evento se archiva cuando su fecha es anterior a {@code event-archive.retention-days} días.
+ * En cada shard se procesan bloques de IDs, cada uno en su propia transacción con tres sentencias:
+ * leer el bloque, copiarlo con INSERT ... SELECT y borrarlo de events. Si la transacción falla,
+ * el bloque sigue entero en events y se reintenta en la siguiente ejecución. Entre bloques
+ * se hace una pausa corta, como en los trabajos masivos.
+ *
+ * Así la tabla events y sus índices solo crecen con los eventos vigentes; el historial se
+ * consulta aparte ({@link com.riwi.h1.application.service.EventHistoryService}).
+ * Para las cachés y el inventario en memoria un evento archivado es un evento eliminado
+ * ({@link EntityChange} sin versión). No se registra en el outbox: no cambia el dato, solo su tabla.
+ *
+ * Las reservas se confirman en la BD antes de responder, así que la copia lleva los asientos
+ * vendidos hasta ese momento; una reserva que llega durante el bloque espera el lock de la
+ * fila y luego no la encuentra. El inventario en memoria se descarta solo si el bloque se
+ * confirma: si se revierte, el evento sigue en events con sus reservas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "event-archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventArchiver {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final ArchivedEventJpaRepository archivedEventJpaRepository;
+    private final TicketReservationService ticketReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final EventShards shards;
+    private final EventArchiveProperties properties;
+
+    @Scheduled(fixedDelayString = "${event-archive.interval-ms:3600000}",
+            initialDelayString = "${event-archive.interval-ms:3600000}")
+    public void scheduledRun() {
+        try {
+            int archived = archivePastEvents();
+            if (archived > 0) {
+                log.info("Archived {} past event(s)", archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Event archiving failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Archiva todos los eventos que superaron el periodo de retención, shard por shard.
+     *
+     * @return Cantidad de eventos archivados
+     * @throws InterruptedException si se interrumpe durante la pausa entre bloques
+     */
+    public int archivePastEvents() throws InterruptedException {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        // El inventario en memoria se alinea con la BD antes de empezar a mover filas
+        ticketReservationService.reconcile();
+        int archived = 0;
+        for (int shard = 0; shard < shards.count(); shard++) {
+            int moved;
+            do {
+                moved = shards.onShard(shard, () -> transactionTemplate.execute(status -> archiveChunk(threshold)));
+                archived += moved;
+                if (moved > 0) {
+                    pauseBetweenChunks();
+                }
+            } while (moved == properties.getChunkSize());
+        }
+        return archived;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private int archiveChunk(LocalDateTime threshold) {
+        List<Long> ids = eventJpaRepository.findIdsByEventDateBefore(threshold, Limit.of(properties.getChunkSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedEventJpaRepository.copyFromEvents(ids, LocalDateTime.now());
+        eventJpaRepository.deleteEventsByIdIn(ids);
+        for (Long id : ids) {
+            applicationEventPublisher.publishEvent(new EntityChange("Event", id, null));
+            // Se aplica al confirmarse la transacción del bloque
+            ticketReservationService.onEventDeleted(id);
+        }
+        return ids.size();
+    }
+
+    private void pauseBetweenChunks() throws InterruptedException {
+        if (properties.getChunkPauseMs() > 0) {
+            TimeUnit.MILLISECONDS.sleep(properties.getChunkPauseMs());
+        }
+    }
+}
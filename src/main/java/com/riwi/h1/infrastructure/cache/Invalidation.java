@@ -0,0 +1,11 @@
+package com.riwi.h1.infrastructure.cache;
+
+/**
+ * Invalidación de una entrada de caché, tal como viaja entre nodos.
+ *
+ * @param cache Nombre de la caché ("Event", "Venue")
+ * @param id ID de la entidad
+ * @param version Versión nueva, o {@link NearCache#DELETED} si se eliminó
+ */
+public record Invalidation(String cache, long id, long version) {
+}
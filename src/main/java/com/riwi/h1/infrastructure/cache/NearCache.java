@@ -0,0 +1,198 @@
+package com.riwi.h1.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caché local de entidades por ID con entradas versionadas.
+ *
+ * Cada entrada guarda la versión de la entidad (@Version). Una invalidación con versión N
+ * deja una marca "mínimo N": cualquier valor con versión menor que llegue después
+ * (una carga que leyó la BD antes del cambio, o un mensaje atrasado) se descarta.
+ * Las eliminaciones dejan la marca con versión máxima. Así, mensajes que llegan
+ * desordenados o cargas lentas nunca reinstalan un dato viejo.
+ *
+ * Las entradas y marcas caducan a los {@code ttlMillis}: si se pierde un mensaje de invalidación,
+ * el dato viejo se sirve como mucho ese tiempo. Los valores se copian al guardarse y se entregan
+ * compartidos: quien los reciba no debe modificarlos.
+ *
+ * @param <V> Tipo de entidad
+ */
+public class NearCache<V> {
+
+    /**
+     * Versión de las marcas de eliminación
+     */
+    public static final long DELETED = Long.MAX_VALUE;
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ToLongFunction<V> versionOf;
+    private final UnaryOperator<V> copier;
+    private final ConcurrentHashMap<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder staleRejected = new LongAdder();
+
+    /**
+     * @param name Nombre de la caché ("Event", "Venue")
+     * @param maxEntries Máximo de entradas (valores y marcas); 0 desactiva la caché
+     * @param ttlMillis Vida de cada entrada
+     * @param versionOf Lee la versión de una entidad
+     * @param copier Copia una entidad antes de guardarla
+     */
+    public NearCache(String name, int maxEntries, long ttlMillis, ToLongFunction<V> versionOf, UnaryOperator<V> copier) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.versionOf = versionOf;
+        this.copier = copier;
+    }
+
+    /**
+     * Busca en la caché y, si no está, carga con {@code loader} y guarda el resultado.
+     *
+     * @param id ID de la entidad
+     * @param loader Lectura de la BD
+     * @return Entidad, o vacío si no existe
+     */
+    public Optional<V> get(Long id, Supplier<Optional<V>> loader) {
+        if (maxEntries <= 0) {
+            return loader.get();
+        }
+        Entry<V> entry = entries.get(id);
+        long now = System.nanoTime();
+        if (entry != null && entry.value != null && now - entry.expiresAt < 0) {
+            hits.increment();
+            return Optional.of(entry.value);
+        }
+        misses.increment();
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> put(id, value));
+        return loaded;
+    }
+
+    /**
+     * Guarda una entidad si es más nueva que lo que la caché ya sabe de ella.
+     *
+     * @param id ID de la entidad
+     * @param value Entidad leída de la BD
+     * @return true si se guardó; false si había una versión igual o más nueva, o una marca posterior
+     */
+    public boolean put(Long id, V value) {
+        if (maxEntries <= 0) {
+            return false;
+        }
+        long version = versionOf.applyAsLong(value);
+        long now = System.nanoTime();
+        boolean[] stored = {false};
+        entries.compute(id, (key, current) -> {
+            if (current != null && now - current.expiresAt < 0) {
+                // Una marca "mínimo N" admite la versión N; un valor guardado solo se reemplaza por uno más nuevo
+                boolean keep = current.value == null ? version < current.version : version <= current.version;
+                if (keep) {
+                    if (version < current.version) {
+                        staleRejected.increment();
+                    }
+                    return current;
+                }
+            }
+            stored[0] = true;
+            return new Entry<>(version, copier.apply(value), now + ttlNanos);
+        });
+        if (stored[0]) {
+            evictIfFull(now);
+        }
+        return stored[0];
+    }
+
+    /**
+     * Invalida una entidad que cambió.
+     * No hace nada si la caché ya tiene esa versión o una posterior (mensaje atrasado o repetido).
+     *
+     * @param id ID de la entidad
+     * @param version Versión nueva, o {@link #DELETED} si se eliminó
+     */
+    public void invalidate(Long id, long version) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.compute(id, (key, current) -> {
+            if (current != null && now - current.expiresAt < 0 && current.version >= version) {
+                return current;
+            }
+            invalidations.increment();
+            return new Entry<>(version, null, now + ttlNanos);
+        });
+        evictIfFull(now);
+    }
+
+    /**
+     * Vacía la caché.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return Nombre de la caché
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Instantánea de las métricas
+     */
+    public Stats stats() {
+        return new Stats(name, entries.size(), hits.sum(), misses.sum(), invalidations.sum(), staleRejected.sum());
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        // Primero las caducadas; si no alcanza, valores hasta bajar al 90%.
+        // Las marcas se conservan: quitarlas permitiría reinstalar un dato viejo
+        entries.values().removeIf(entry -> now - entry.expiresAt >= 0);
+        int target = maxEntries * 9 / 10;
+        Iterator<Map.Entry<Long, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            if (iterator.next().getValue().value != null) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Entrada de la caché: un valor con su versión, o una marca de invalidación (value null).
+     */
+    private record Entry<V>(long version, V value, long expiresAt) {
+    }
+
+    /**
+     * Métricas de una caché.
+     *
+     * @param name Nombre de la caché
+     * @param size Entradas actuales (valores y marcas)
+     * @param hits Lecturas servidas desde la caché
+     * @param misses Lecturas que fueron a la BD
+     * @param invalidations Invalidaciones aplicadas (locales y de otros nodos)
+     * @param staleRejected Valores descartados por ser más viejos que una invalidación ya recibida
+     */
+    public record Stats(String name, int size, long hits, long misses, long invalidations, long staleRejected) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.riwi.h1.infrastructure.cache;
+
+import com.riwi.h1.config.NearCacheProperties;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.EntityChange;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cachés locales de eventos y venues por ID, coherentes entre nodos.
+ *
+ * - Al confirmarse una modificación ({@link EntityChange}), invalida la entrada local con la
+ *   versión nueva y difunde la invalidación a los peers por {@link UdpInvalidationChannel}.
+ * - Las invalidaciones recibidas de otros nodos se aplican igual que las locales, y también
+ *   a la caché de segundo nivel de Hibernate ({@link SecondLevelCache}).
+ * - Sin {@code near-cache.port} no hay canal: la caché solo es coherente dentro del nodo.
+ */
+@Component
+public class NearCacheRegistry implements MeterBinder {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final NearCache<Event> events;
+    private final NearCache<Venue> venues;
+    private final Map<String, NearCache<?>> caches;
+    private final UdpInvalidationChannel channel;
+    private final ObjectProvider<SecondLevelCache> secondLevelCache;
+
+    public NearCacheRegistry(NearCacheProperties properties, ObjectProvider<SecondLevelCache> secondLevelCache)
+            throws IOException {
+        this.secondLevelCache = secondLevelCache;
+        this.events = new NearCache<>("Event", properties.getMaxEntries(), properties.getTtlMs(),
+                Event::getVersion, event -> event.toBuilder().build());
+        this.venues = new NearCache<>("Venue", properties.getMaxEntries(), properties.getTtlMs(),
+                Venue::getVersion, venue -> venue.toBuilder().build());
+        this.caches = Map.of(events.getName(), events, venues.getName(), venues);
+        this.channel = properties.getPort() > 0
+                ? new UdpInvalidationChannel(properties, nodeId, this::applyRemote)
+                : null;
+    }
+
+    /**
+     * @return Caché de eventos por ID
+     */
+    public NearCache<Event> events() {
+        return events;
+    }
+
+    /**
+     * @return Caché de venues por ID
+     */
+    public NearCache<Venue> venues() {
+        return venues;
+    }
+
+    /**
+     * @return ID de este nodo en los mensajes de invalidación
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Invalida la entidad modificada una vez confirmada la transacción y avisa a los demás nodos.
+     * Antes de la confirmación otro nodo podría releer el dato viejo; por eso se espera.
+     *
+     * @param change Entidad modificada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChange change) {
+        NearCache<?> cache = caches.get(change.aggregateType());
+        if (cache == null) {
+            return;
+        }
+        long version = change.deleted() ? NearCache.DELETED : change.version();
+        cache.invalidate(change.aggregateId(), version);
+        if (channel != null) {
+            channel.broadcast(new Invalidation(cache.getName(), change.aggregateId(), version));
+        }
+    }
+
+    /**
+     * @return Métricas de todas las cachés
+     */
+    public List<NearCache.Stats> stats() {
+        return List.of(events.stats(), venues.stats());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (NearCache<?> cache : caches.values()) {
+            FunctionCounter.builder("near.cache.hits", cache, c -> c.stats().hits())
+                    .tag("cache", cache.getName())
+                    .description("Lecturas servidas desde la caché local")
+                    .register(meterRegistry);
+            FunctionCounter.builder("near.cache.misses", cache, c -> c.stats().misses())
+                    .tag("cache", cache.getName())
+                    .description("Lecturas que fueron a la base de datos")
+                    .register(meterRegistry);
+            FunctionCounter.builder("near.cache.invalidations", cache, c -> c.stats().invalidations())
+                    .tag("cache", cache.getName())
+                    .description("Invalidaciones aplicadas (locales y de otros nodos)")
+                    .register(meterRegistry);
+            FunctionCounter.builder("near.cache.stale.rejected", cache, c -> c.stats().staleRejected())
+                    .tag("cache", cache.getName())
+                    .description("Valores descartados por ser más viejos que una invalidación recibida")
+                    .register(meterRegistry);
+            Gauge.builder("near.cache.size", cache, c -> c.stats().size())
+                    .tag("cache", cache.getName())
+                    .description("Entradas en la caché")
+                    .register(meterRegistry);
+        }
+        if (channel != null) {
+            FunctionCounter.builder("near.cache.broadcast.sent", channel, UdpInvalidationChannel::sent)
+                    .description("Invalidaciones enviadas a otros nodos")
+                    .register(meterRegistry);
+            FunctionCounter.builder("near.cache.broadcast.received", channel, UdpInvalidationChannel::received)
+                    .description("Invalidaciones recibidas de otros nodos")
+                    .register(meterRegistry);
+            FunctionCounter.builder("near.cache.broadcast.dropped", channel, UdpInvalidationChannel::dropped)
+                    .description("Invalidaciones descartadas por cola de envío llena")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void applyRemote(List<Invalidation> invalidations) {
+        for (Invalidation invalidation : invalidations) {
+            // Primero la caché de Hibernate: una recarga de la caché local ya no encuentra ahí la copia vieja
+            secondLevelCache.ifAvailable(l2 -> l2.evict(invalidation.cache(), invalidation.id()));
+            NearCache<?> cache = caches.get(invalidation.cache());
+            if (cache != null) {
+                cache.invalidate(invalidation.id(), invalidation.version());
+            }
+        }
+    }
+}
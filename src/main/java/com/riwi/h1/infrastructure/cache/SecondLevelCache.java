@@ -0,0 +1,106 @@
+package com.riwi.h1.infrastructure.cache;
+
+import com.riwi.h1.domain.entity.Venue;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import java.util.List;
+
+/**
+ * Acceso a la caché de segundo nivel de Hibernate: estadísticas por región e invalidación
+ * de cambios hechos en otros nodos.
+ *
+ * Las escrituras locales no pasan por aquí: Hibernate actualiza la región de la entidad al
+ * confirmar (READ_WRITE) e invalida las consultas cacheadas de la tabla modificada, también en
+ * las sentencias UPDATE/DELETE masivas. Un cambio confirmado en otro nodo solo llega por
+ * {@link NearCacheRegistry}, que pide aquí descartar la entidad y las consultas de su tipo.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCache {
+
+    private static final List<String> REGIONS = List.of(Venue.CACHE_REGION, Venue.QUERY_CACHE_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    /**
+     * Descarta un recurso modificado en otro nodo y las consultas cacheadas que podrían incluirlo.
+     *
+     * @param aggregateType Tipo de recurso ("Event" o "Venue")
+     * @param id ID del recurso
+     */
+    public void evict(String aggregateType, long id) {
+        SessionFactoryImplementor sessionFactory = sessionFactory();
+        if (!"Venue".equals(aggregateType) || !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+        sessionFactory.getCache().evictEntityData(Venue.class, id);
+        sessionFactory.getCache().evictQueryRegion(Venue.QUERY_CACHE_REGION);
+    }
+
+    /**
+     * @return Estadísticas de cada región (vacío si la caché está desactivada)
+     */
+    public List<Stats> stats() {
+        SessionFactoryImplementor sessionFactory = sessionFactory();
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return List.of();
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        return REGIONS.stream()
+                .map(region -> toStats(region, statistics.getCacheRegionStatistics(region), size(region)))
+                .toList();
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    /**
+     * Hibernate no conoce el tamaño de una región JCache: se pide a Caffeine (aproximado).
+     */
+    private long size(String region) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        javax.cache.Cache<Object, Object> cache = manager == null ? null : manager.getCache(region);
+        return cache == null ? 0 : cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    }
+
+    /**
+     * Una región de consultas no existe hasta su primera consulta: se informa en cero.
+     */
+    private static Stats toStats(String region, CacheRegionStatistics statistics, long size) {
+        if (statistics == null) {
+            return new Stats(region, 0, 0, 0, size);
+        }
+        return new Stats(region, statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount(), size);
+    }
+
+    /**
+     * Estadísticas de una región (requieren hibernate.generate_statistics).
+     *
+     * @param region Nombre de la región
+     * @param hits Lecturas servidas desde la región
+     * @param misses Lecturas que no encontraron la entrada
+     * @param puts Entradas guardadas
+     * @param size Entradas en memoria (estimación)
+     */
+    public record Stats(String region, long hits, long misses, long puts, long size) {
+
+        /**
+         * @return Fracción de lecturas servidas desde la región (0 si no hubo lecturas)
+         */
+        public double hitRatio() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
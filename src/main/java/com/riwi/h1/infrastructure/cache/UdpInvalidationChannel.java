@@ -0,0 +1,194 @@
+package com.riwi.h1.infrastructure.cache;
+
+import com.riwi.h1.config.NearCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Canal de invalidaciones entre nodos sobre UDP.
+ *
+ * - Quien escribe solo encola ({@link #broadcast}); un hilo de envío agrupa las invalidaciones
+ *   pendientes en datagramas de hasta {@value #MAX_PACKET_BYTES} bytes y los envía a cada nodo.
+ * - Un hilo de recepción entrega al manejador las invalidaciones que llegan de otros nodos;
+ *   las propias (mismo ID de nodo) se ignoran, por si el nodo figura en su lista de peers.
+ * - UDP no garantiza entrega ni orden: el orden lo resuelven las versiones de {@link NearCache}
+ *   y una pérdida queda acotada por el TTL de las entradas.
+ *
+ * Formato (texto): "H1NC &lt;nodo&gt;" y luego una línea "&lt;caché&gt; &lt;id&gt; &lt;versión&gt;" por invalidación.
+ */
+@Slf4j
+public class UdpInvalidationChannel implements AutoCloseable {
+
+    static final int MAX_PACKET_BYTES = 1200;
+    private static final String MAGIC = "H1NC";
+
+    private final String nodeId;
+    private final List<InetSocketAddress> peers;
+    private final BlockingQueue<Invalidation> outgoing;
+    private final DatagramChannel channel;
+    private final Thread sender;
+    private final Thread receiver;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Abre el puerto y arranca los hilos de envío y recepción.
+     *
+     * @param properties Puerto, dirección y peers
+     * @param nodeId ID de este nodo
+     * @param handler Recibe las invalidaciones de otros nodos
+     * @throws IOException si no se pudo abrir el puerto
+     */
+    public UdpInvalidationChannel(NearCacheProperties properties, String nodeId,
+                                  Consumer<List<Invalidation>> handler) throws IOException {
+        this.nodeId = nodeId;
+        this.peers = properties.getPeers().stream()
+                .map(UdpInvalidationChannel::parseAddress)
+                .toList();
+        this.outgoing = new ArrayBlockingQueue<>(properties.getSendQueueCapacity());
+        this.channel = DatagramChannel.open()
+                .bind(new InetSocketAddress(properties.getBindAddress(), properties.getPort()));
+        this.sender = new Thread(this::sendLoop, "near-cache-sender");
+        this.receiver = new Thread(() -> receiveLoop(handler), "near-cache-receiver");
+        sender.setDaemon(true);
+        receiver.setDaemon(true);
+        sender.start();
+        receiver.start();
+    }
+
+    /**
+     * Encola una invalidación para todos los peers. No bloquea.
+     *
+     * @param invalidation Invalidación a difundir
+     */
+    public void broadcast(Invalidation invalidation) {
+        if (!peers.isEmpty() && !outgoing.offer(invalidation)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return Invalidaciones enviadas a los peers
+     */
+    public long sent() {
+        return sent.sum();
+    }
+
+    /**
+     * @return Invalidaciones recibidas de otros nodos
+     */
+    public long received() {
+        return received.sum();
+    }
+
+    /**
+     * @return Invalidaciones descartadas por cola de envío llena
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        sender.interrupt();
+        channel.close();
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void sendLoop() {
+        List<Invalidation> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_PACKET_BYTES);
+        byte[] header = (MAGIC + " " + nodeId + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            while (true) {
+                batch.add(outgoing.take());
+                outgoing.drainTo(batch);
+                buffer.clear().put(header);
+                for (Invalidation invalidation : batch) {
+                    byte[] line = (invalidation.cache() + " " + invalidation.id() + " " + invalidation.version() + "\n")
+                            .getBytes(StandardCharsets.UTF_8);
+                    if (buffer.remaining() < line.length) {
+                        flush(buffer);
+                        buffer.clear().put(header);
+                    }
+                    buffer.put(line);
+                    sent.increment();
+                }
+                flush(buffer);
+                batch.clear();
+            }
+        } catch (InterruptedException | ClosedChannelException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(ByteBuffer buffer) throws ClosedChannelException {
+        buffer.flip();
+        for (InetSocketAddress peer : peers) {
+            try {
+                channel.send(buffer.duplicate(), peer);
+            } catch (ClosedChannelException e) {
+                throw e;
+            } catch (IOException e) {
+                log.debug("Could not send invalidations to {}: {}", peer, e.toString());
+            }
+        }
+    }
+
+    private void receiveLoop(Consumer<List<Invalidation>> handler) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_PACKET_BYTES);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                List<Invalidation> invalidations = parse(StandardCharsets.UTF_8.decode(buffer).toString());
+                if (!invalidations.isEmpty()) {
+                    received.add(invalidations.size());
+                    handler.accept(invalidations);
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.debug("Discarding invalidation packet: {}", e.toString());
+            }
+        }
+    }
+
+    private List<Invalidation> parse(String packet) {
+        String[] lines = packet.split("\n");
+        if (lines.length < 2 || !lines[0].startsWith(MAGIC + " ") || lines[0].equals(MAGIC + " " + nodeId)) {
+            return List.of();
+        }
+        List<Invalidation> invalidations = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String[] parts = lines[i].split(" ");
+            if (parts.length == 3) {
+                invalidations.add(new Invalidation(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+            }
+        }
+        return invalidations;
+    }
+
+    private static InetSocketAddress parseAddress(String peer) {
+        int colon = peer.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Invalid near-cache peer (expected host:port): " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, colon).trim(), Integer.parseInt(peer.substring(colon + 1).trim()));
+    }
+}
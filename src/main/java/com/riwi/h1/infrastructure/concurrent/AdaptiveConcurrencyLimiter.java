@@ -0,0 +1,182 @@
+package com.riwi.h1.infrastructure.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Límite de concurrencia adaptativo basado en gradiente de latencia
+ * (en la línea de TCP Vegas / Gradient2).
+ *
+ * Compara la latencia reciente (ventana corta) con una línea base de largo plazo:
+ * si la latencia sube, hay cola y el límite baja proporcionalmente; si se mantiene,
+ * el límite crece con un margen de sqrt(límite) para seguir sondeando capacidad.
+ * Las peticiones que superan el límite se rechazan de inmediato en lugar de encolarse.
+ *
+ * El camino de adquisición/liberación es sin bloqueos; solo el recálculo del límite
+ * (una vez por ventana) toma un lock con tryLock.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Tolerancia: se acepta hasta este factor de latencia sobre la línea base sin reducir el límite
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * Peso del nuevo valor al suavizar el límite
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Peso de cada ventana en la línea base de largo plazo
+     */
+    private static final double LONG_WINDOW_WEIGHT = 0.05;
+
+    private static final int MIN_SAMPLES_PER_WINDOW = 10;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile int permits;
+    private volatile long nextUpdate;
+    private volatile double longRttNanos;
+    private volatile double lastShortRttNanos;
+
+    /**
+     * @param name Nombre del grupo de endpoints
+     * @param initialLimit Límite inicial de peticiones concurrentes
+     * @param minLimit Límite mínimo
+     * @param maxLimit Límite máximo
+     * @param windowMillis Duración de la ventana de muestreo
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long windowMillis) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.limit = initialLimit;
+        this.permits = initialLimit;
+        this.nextUpdate = System.nanoTime() + windowNanos;
+    }
+
+    /**
+     * Intenta admitir una petición.
+     *
+     * @return true si se admitió (debe llamarse luego a {@link #release}), false si se descarta
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= permits) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera una petición admitida y registra su latencia.
+     *
+     * @param startNanos Instante de admisión (System.nanoTime)
+     * @param sample false si la latencia no es representativa (ej: error del cliente) y no debe muestrearse
+     */
+    public void release(long startNanos, boolean sample) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        if (sample) {
+            windowRttSum.add(now - startNanos);
+            windowSamples.increment();
+        }
+        if (now - nextUpdate >= 0 && updateLock.tryLock()) {
+            try {
+                if (now - nextUpdate >= 0) {
+                    updateLimit();
+                    nextUpdate = now + windowNanos;
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return Instantánea del estado del limitador
+     */
+    public Stats stats() {
+        return new Stats(name, permits, inFlight.get(), rejected.sum(),
+                longRttNanos / 1_000_000.0, lastShortRttNanos / 1_000_000.0);
+    }
+
+    /**
+     * @return Nombre del grupo
+     */
+    public String getName() {
+        return name;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void updateLimit() {
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttSum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples < MIN_SAMPLES_PER_WINDOW) {
+            // Muestras insuficientes: se conservan para la próxima ventana
+            windowSamples.add(samples);
+            windowRttSum.add(rttSum);
+            return;
+        }
+        double shortRtt = (double) rttSum / samples;
+        lastShortRttNanos = shortRtt;
+        double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos;
+        if (longRtt / shortRtt > 2) {
+            // La latencia bajó mucho (se recuperó de una sobrecarga): la línea base la sigue rápido
+            longRtt = longRtt * 0.9 + shortRtt * 0.1;
+        }
+        longRtt = longRtt * (1 - LONG_WINDOW_WEIGHT) + shortRtt * LONG_WINDOW_WEIGHT;
+        longRttNanos = longRtt;
+
+        double current = limit;
+        // Si el tráfico no llegó ni a la mitad del límite, no hay evidencia para crecer
+        if (maxInFlight < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double queueSize = Math.sqrt(current);
+        double target = current * gradient + queueSize;
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = next;
+        permits = (int) next;
+    }
+
+    /**
+     * Estado de un limitador.
+     *
+     * @param name Nombre del grupo
+     * @param limit Límite de concurrencia actual
+     * @param inFlight Peticiones en curso
+     * @param rejected Peticiones descartadas acumuladas
+     * @param baselineLatencyMillis Latencia de referencia (largo plazo)
+     * @param recentLatencyMillis Latencia media de la última ventana
+     */
+    public record Stats(String name, int limit, int inFlight, long rejected,
+                        double baselineLatencyMillis, double recentLatencyMillis) {
+    }
+}
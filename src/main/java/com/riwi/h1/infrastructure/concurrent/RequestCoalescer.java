@@ -0,0 +1,89 @@
+package com.riwi.h1.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de grupos {@link SingleFlight} usados por los servicios.
+ *
+ * El plazo de cada grupo se toma de {@code coalescing.timeouts.<grupo>}
+ * o, si no está definido, de {@code coalescing.default-timeout-ms}.
+ * Cada grupo publica sus contadores en Micrometer ({@code coalescing.*}, etiqueta {@code flight}).
+ */
+@Component
+public class RequestCoalescer implements MeterBinder {
+
+    private final Environment environment;
+    private final long defaultTimeoutMillis;
+    private final ConcurrentHashMap<String, SingleFlight<?, ?>> flights = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public RequestCoalescer(Environment environment) {
+        this.environment = environment;
+        this.defaultTimeoutMillis = environment.getProperty("coalescing.default-timeout-ms", Long.class, 2000L);
+    }
+
+    /**
+     * Obtiene (o crea) el grupo de coalescencia con el nombre indicado.
+     *
+     * @param name Nombre del grupo (ej: "events.by-id")
+     * @return Grupo de coalescencia
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlight<K, V> flight(String name) {
+        return (SingleFlight<K, V>) flights.computeIfAbsent(name, n -> {
+            SingleFlight<?, ?> flight = new SingleFlight<>(n,
+                    environment.getProperty("coalescing.timeouts." + n, Long.class, defaultTimeoutMillis));
+            MeterRegistry current = registry;
+            if (current != null) {
+                register(current, flight);
+            }
+            return flight;
+        });
+    }
+
+    /**
+     * @return Métricas de todos los grupos registrados
+     */
+    public List<SingleFlight.Stats> stats() {
+        return flights.values().stream()
+                .map(SingleFlight::stats)
+                .toList();
+    }
+
+    /**
+     * Registra los grupos existentes y los que se creen después.
+     * Los valores se leen solo al exportar las métricas, no en cada petición.
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.registry = meterRegistry;
+        flights.values().forEach(flight -> register(meterRegistry, flight));
+    }
+
+    private void register(MeterRegistry meterRegistry, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("coalescing.leaders", flight, f -> f.stats().leaders())
+                .tag("flight", flight.getName())
+                .description("Cargas ejecutadas contra la base de datos")
+                .register(meterRegistry);
+        FunctionCounter.builder("coalescing.followers", flight, f -> f.stats().followers())
+                .tag("flight", flight.getName())
+                .description("Lecturas servidas por la carga de otra petición")
+                .register(meterRegistry);
+        FunctionCounter.builder("coalescing.timeouts", flight, f -> f.stats().timeouts())
+                .tag("flight", flight.getName())
+                .description("Seguidoras que agotaron el plazo de espera")
+                .register(meterRegistry);
+        Gauge.builder("coalescing.in.flight", flight, f -> f.stats().inFlight())
+                .tag("flight", flight.getName())
+                .description("Claves con carga en curso")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,153 @@
+package com.riwi.h1.infrastructure.concurrent;
+
+import com.riwi.h1.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescencia de lecturas concurrentes idénticas ("single flight").
+ *
+ * La primera petición para una clave (líder) ejecuta la carga en su propio hilo;
+ * las que llegan mientras la carga está en curso (seguidoras) esperan y reciben
+ * el mismo resultado o la misma excepción. Cada clave en vuelo tiene un plazo:
+ * las seguidoras no esperan más que ese plazo y, si la carga lo excede,
+ * las nuevas peticiones inician una carga nueva en lugar de unirse a una atascada.
+ *
+ * @param <K> Tipo de la clave
+ * @param <V> Tipo del resultado
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final long timeoutNanos;
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param name Nombre del grupo (para métricas y mensajes)
+     * @param timeoutMillis Plazo máximo por clave en vuelo
+     */
+    public SingleFlight(String name, long timeoutMillis) {
+        this.name = name;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * Ejecuta la carga para la clave o se une a una carga idéntica ya en curso.
+     *
+     * @param key Clave de la lectura
+     * @param loader Carga a ejecutar si no hay otra en curso
+     * @return Resultado de la carga
+     * @throws ServiceUnavailableException si la espera supera el plazo de la clave
+     */
+    public V load(K key, Supplier<V> loader) {
+        Flight<V> mine = null;
+        while (true) {
+            long now = System.nanoTime();
+            Flight<V> current = inFlight.get(key);
+            if (current != null && now - current.deadline < 0) {
+                return follow(key, current, now);
+            }
+            if (mine == null) {
+                mine = new Flight<>(now + timeoutNanos);
+            }
+            boolean acquired = current == null
+                    ? inFlight.putIfAbsent(key, mine) == null
+                    : inFlight.replace(key, current, mine);
+            if (acquired) {
+                return lead(key, mine, loader);
+            }
+        }
+    }
+
+    /**
+     * @return Instantánea de las métricas de este grupo
+     */
+    public Stats stats() {
+        long leaderCount = leaders.sum();
+        long followerCount = followers.sum();
+        long total = leaderCount + followerCount;
+        return new Stats(name, leaderCount, followerCount, timeouts.sum(), inFlight.size(),
+                total == 0 ? 0.0 : (double) followerCount / total);
+    }
+
+    /**
+     * @return Nombre del grupo
+     */
+    public String getName() {
+        return name;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        leaders.increment();
+        try {
+            V value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V follow(K key, Flight<V> flight, long now) {
+        followers.increment();
+        try {
+            return flight.result.get(flight.deadline - now, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new ServiceUnavailableException("Timed out waiting for in-flight " + name + " load of key " + key, 1);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for " + name + " load of key " + key, 1);
+        }
+    }
+
+    /**
+     * Carga en curso para una clave, con su plazo absoluto (System.nanoTime).
+     */
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final long deadline;
+
+        private Flight(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Métricas acumuladas de un grupo de coalescencia.
+     *
+     * @param name Nombre del grupo
+     * @param leaders Cargas ejecutadas contra la BD
+     * @param followers Lecturas servidas por una carga ajena
+     * @param timeouts Seguidoras que agotaron el plazo
+     * @param inFlight Claves con carga en curso
+     * @param coalescingRatio Fracción de lecturas que no llegaron a la BD
+     */
+    public record Stats(String name, long leaders, long followers, long timeouts, int inFlight,
+                        double coalescingRatio) {
+    }
+}
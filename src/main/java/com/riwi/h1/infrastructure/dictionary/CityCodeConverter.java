@@ -0,0 +1,14 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Codifica el ciudad de un venue con el diccionario CITY.
+ */
+@Converter
+public class CityCodeConverter extends DictionaryCodeConverter {
+
+    public CityCodeConverter(StringDictionaryRegistry registry) {
+        super(registry, DictionaryCategory.CITY);
+    }
+}
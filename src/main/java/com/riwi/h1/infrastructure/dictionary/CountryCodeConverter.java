@@ -0,0 +1,14 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Codifica el país de un venue con el diccionario COUNTRY.
+ */
+@Converter
+public class CountryCodeConverter extends DictionaryCodeConverter {
+
+    public CountryCodeConverter(StringDictionaryRegistry registry) {
+        super(registry, DictionaryCategory.COUNTRY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+/**
+ * Categorías de valores codificados con diccionario.
+ */
+public enum DictionaryCategory {
+    CITY,
+    COUNTRY,
+    VENUE_TYPE
+}
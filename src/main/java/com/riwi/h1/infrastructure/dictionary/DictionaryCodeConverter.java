@@ -0,0 +1,32 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Convierte un atributo de texto de baja cardinalidad en su código de diccionario.
+ * Hibernate crea los convertidores a través de Spring, que inyecta el registro.
+ *
+ * Los parámetros de consultas sobre el atributo (ej: findByCity) también pasan por aquí,
+ * por lo que buscar un valor nuevo lo registraría: los servicios comprueban antes con
+ * {@link StringDictionaryRegistry#lookup} y evitan la consulta si el valor no existe.
+ */
+public abstract class DictionaryCodeConverter implements AttributeConverter<String, Integer> {
+
+    private final StringDictionaryRegistry registry;
+    private final DictionaryCategory category;
+
+    protected DictionaryCodeConverter(StringDictionaryRegistry registry, DictionaryCategory category) {
+        this.registry = registry;
+        this.category = category;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String value) {
+        return value == null ? null : registry.encode(category, value);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer code) {
+        return code == null ? null : registry.decode(category, code);
+    }
+}
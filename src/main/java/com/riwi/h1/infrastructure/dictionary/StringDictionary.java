@@ -0,0 +1,103 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Diccionario en memoria de una categoría: texto → código y código → texto canónico.
+ *
+ * Las lecturas no toman locks (mapa concurrente y arreglo publicado por volatile);
+ * las altas, poco frecuentes, se serializan en {@link #put}.
+ * Cada texto se guarda una sola vez: todas las entidades que lo usan comparten la misma instancia.
+ */
+final class StringDictionary {
+
+    /**
+     * Valores buscados que no estaban registrados, recordados un tiempo acotado
+     */
+    private static final int MAX_MISSES = 10_000;
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> misses = new ConcurrentHashMap<>();
+    private final AtomicInteger lastCode = new AtomicInteger();
+    private volatile String[] values = new String[64];
+    private volatile boolean loaded;
+
+    Integer codeOf(String value) {
+        return codes.get(value);
+    }
+
+    String valueOf(int code) {
+        String[] current = values;
+        return code >= 0 && code < current.length ? current[code] : null;
+    }
+
+    synchronized void put(int code, String value) {
+        String[] current = values;
+        if (code >= current.length) {
+            current = Arrays.copyOf(current, Math.max(code + 1, current.length * 2));
+        } else {
+            current = current.clone();
+        }
+        current[code] = value;
+        values = current;
+        codes.put(value, code);
+        misses.remove(value);
+        advanceTo(code);
+    }
+
+    /**
+     * Reserva un código nuevo. Dos transacciones abiertas a la vez en esta instancia nunca
+     * reciben el mismo, aunque ninguna haya confirmado todavía su alta.
+     *
+     * @param atLeast Mínimo aceptable (siguiente al mayor código confirmado en la BD)
+     * @return Código no entregado antes por esta instancia
+     */
+    int nextCode(int atLeast) {
+        return lastCode.accumulateAndGet(atLeast, (last, floor) -> Math.max(last + 1, floor));
+    }
+
+    /**
+     * Registra un código ya usado para que {@link #nextCode} no lo vuelva a entregar.
+     */
+    void advanceTo(int code) {
+        lastCode.accumulateAndGet(code, Math::max);
+    }
+
+    /**
+     * @param value Texto buscado
+     * @param nowNanos Instante actual ({@link System#nanoTime()})
+     * @return true si el valor se buscó sin éxito hace poco y la marca no venció
+     */
+    boolean isRecentMiss(String value, long nowNanos) {
+        Long expiresAt = misses.get(value);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (nowNanos - expiresAt >= 0) {
+            misses.remove(value, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    void rememberMiss(String value, long expiresAt) {
+        if (misses.size() >= MAX_MISSES) {
+            misses.clear();
+        }
+        misses.put(value, expiresAt);
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,346 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diccionarios de valores repetidos (ciudad, país, tipo de venue) respaldados por la tabla dictionary_entries.
+ *
+ * - Cada categoría se carga completa de la BD la primera vez que se usa; luego codificar y
+ *   decodificar son búsquedas en memoria.
+ * - Un valor nuevo se inserta dentro de la transacción en curso (el caso normal: Hibernate codifica
+ *   al hacer flush) con la conexión de esa misma transacción, sin pedir otra al pool, y pasa a
+ *   memoria solo al confirmarse: si la escritura que lo pidió se revierte, el valor tampoco queda registrado.
+ * - El código nuevo no puede salir solo del máximo de la BD: las transacciones abiertas no ven las
+ *   altas sin confirmar de las demás. Cada instancia entrega códigos que nunca repite, y un choque
+ *   con otra instancia (o con el mismo valor) lo rechaza la restricción única y se reintenta.
+ * - Las búsquedas de valores no registrados se recuerdan unos segundos, así las consultas
+ *   repetidas por un valor inexistente no llegan a la BD.
+ */
+@Component
+public class StringDictionaryRegistry {
+
+    private static final String SELECT_ALL =
+            "SELECT code, entry_value FROM dictionary_entries WHERE category = ?";
+    private static final String SELECT_BY_VALUE =
+            "SELECT code FROM dictionary_entries WHERE category = ? AND entry_value = ?";
+    private static final String SELECT_BY_CODE =
+            "SELECT entry_value FROM dictionary_entries WHERE category = ? AND code = ?";
+    private static final String SELECT_MAX_CODE =
+            "SELECT COALESCE(MAX(code), 0) FROM dictionary_entries WHERE category = ?";
+    private static final String INSERT =
+            "INSERT INTO dictionary_entries (category, code, entry_value) VALUES (?, ?, ?)";
+    private static final int INSERT_ATTEMPTS = 5;
+
+    /**
+     * Tiempo que se recuerda una búsqueda sin resultado (otra instancia puede registrar el valor)
+     */
+    private static final long MISS_TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final DataSource dataSource;
+    private final Map<DictionaryCategory, StringDictionary> dictionaries = new EnumMap<>(DictionaryCategory.class);
+
+    public StringDictionaryRegistry(DataSource dataSource) {
+        this.dataSource = dataSource;
+        for (DictionaryCategory category : DictionaryCategory.values()) {
+            dictionaries.put(category, new StringDictionary());
+        }
+    }
+
+    /**
+     * Obtiene el código de un valor, registrándolo si es nuevo.
+     *
+     * @param category Categoría del valor
+     * @param value Texto a codificar
+     * @return Código del valor
+     */
+    public int encode(DictionaryCategory category, String value) {
+        StringDictionary dictionary = loaded(category);
+        Integer code = dictionary.codeOf(value);
+        if (code != null) {
+            return code;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return encodeInTransaction(category, dictionary, value);
+        }
+        synchronized (dictionary) {
+            code = dictionary.codeOf(value);
+            if (code != null) {
+                return code;
+            }
+            return insert(category, dictionary, value);
+        }
+    }
+
+    /**
+     * Obtiene el código de un valor sin registrarlo (para búsquedas).
+     *
+     * @param category Categoría del valor
+     * @param value Texto buscado
+     * @return Código, o vacío si ninguna fila usa ese valor
+     */
+    public Optional<Integer> lookup(DictionaryCategory category, String value) {
+        StringDictionary dictionary = loaded(category);
+        Integer code = dictionary.codeOf(value);
+        if (code != null) {
+            return Optional.of(code);
+        }
+        Integer pending = pendingCodes(false).get(new PendingEntry(category, value));
+        if (pending != null) {
+            return Optional.of(pending);
+        }
+        long now = System.nanoTime();
+        if (dictionary.isRecentMiss(value, now)) {
+            return Optional.empty();
+        }
+        // Puede haberlo registrado otra instancia
+        code = selectCode(category, value);
+        if (code != null) {
+            dictionary.put(code, value);
+        } else {
+            dictionary.rememberMiss(value, now + MISS_TTL_NANOS);
+        }
+        return Optional.ofNullable(code);
+    }
+
+    /**
+     * Obtiene el texto canónico de un código.
+     *
+     * @param category Categoría del valor
+     * @param code Código almacenado
+     * @return Instancia compartida del texto
+     */
+    public String decode(DictionaryCategory category, int code) {
+        StringDictionary dictionary = loaded(category);
+        String value = dictionary.valueOf(code);
+        if (value != null) {
+            return value;
+        }
+        value = selectValue(category, code);
+        if (value == null) {
+            throw new IllegalStateException("Unknown " + category + " dictionary code " + code);
+        }
+        if (!pendingCodes(false).containsKey(new PendingEntry(category, value))) {
+            // Los valores insertados por la transacción en curso pasan a memoria al confirmarse
+            dictionary.put(code, value);
+            return dictionary.valueOf(code);
+        }
+        return value;
+    }
+
+    /**
+     * @return Cantidad de valores cargados en memoria de la categoría
+     */
+    public int size(DictionaryCategory category) {
+        return loaded(category).size();
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private StringDictionary loaded(DictionaryCategory category) {
+        StringDictionary dictionary = dictionaries.get(category);
+        if (!dictionary.isLoaded()) {
+            synchronized (dictionary) {
+                if (!dictionary.isLoaded()) {
+                    loadAll(category, dictionary);
+                    dictionary.markLoaded();
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    private void loadAll(DictionaryCategory category, StringDictionary dictionary) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_ALL)) {
+            statement.setString(1, category.name());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    dictionary.put(rs.getInt(1), rs.getString(2));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Cannot load " + category + " dictionary", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Registra un valor con la conexión de la transacción en curso. Cada intento va en un
+     * savepoint: un conflicto con otra transacción no invalida la transacción que lo pidió.
+     */
+    private int encodeInTransaction(DictionaryCategory category, StringDictionary dictionary, String value) {
+        PendingEntry entry = new PendingEntry(category, value);
+        Map<PendingEntry, Integer> pending = pendingCodes(true);
+        Integer code = pending.get(entry);
+        if (code != null) {
+            return code;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            SQLException last = null;
+            for (int attempt = 0; attempt < INSERT_ATTEMPTS && code == null; attempt++) {
+                code = selectCode(connection, category, value);
+                if (code != null) {
+                    break;
+                }
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    code = executeInsert(connection, category, dictionary, value);
+                    connection.releaseSavepoint(savepoint);
+                } catch (SQLException e) {
+                    // Conflicto con una inserción concurrente (mismo valor o mismo código): se relee y reintenta
+                    connection.rollback(savepoint);
+                    last = e;
+                }
+            }
+            if (code == null) {
+                throw new DataAccessResourceFailureException("Cannot register " + category + " value '" + value + "'", last);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Cannot register " + category + " value '" + value + "'", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        pending.put(entry, code);
+        return code;
+    }
+
+    /**
+     * Valores registrados por la transacción en curso y aún no confirmados.
+     *
+     * @param create Crear el registro (y su publicación al confirmar) si no existe
+     */
+    @SuppressWarnings("unchecked")
+    private Map<PendingEntry, Integer> pendingCodes(boolean create) {
+        // La conexión de la transacción identifica la transacción (una REQUIRES_NEW tiene otra)
+        Object key = TransactionSynchronizationManager.isActualTransactionActive()
+                ? TransactionSynchronizationManager.getResource(dataSource)
+                : null;
+        if (key == null) {
+            return create ? new HashMap<>() : Map.of();
+        }
+        Map<PendingEntry, Integer> pending = (Map<PendingEntry, Integer>) TransactionSynchronizationManager.getResource(key);
+        if (pending != null || !create) {
+            return pending != null ? pending : Map.of();
+        }
+        Map<PendingEntry, Integer> registered = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(key, registered);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registered.forEach((entry, code) -> dictionaries.get(entry.category()).put(code, entry.value()));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(key);
+            }
+        });
+        return registered;
+    }
+
+    private int insert(DictionaryCategory category, StringDictionary dictionary, String value) {
+        SQLException last = null;
+        for (int attempt = 0; attempt < INSERT_ATTEMPTS; attempt++) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                int code = executeInsert(connection, category, dictionary, value);
+                dictionary.put(code, value);
+                return code;
+            } catch (SQLException e) {
+                // Conflicto con una inserción concurrente (mismo valor o mismo código): se relee y reintenta
+                last = e;
+            }
+            Integer code = selectCode(category, value);
+            if (code != null) {
+                dictionary.put(code, value);
+                return code;
+            }
+        }
+        throw new DataAccessResourceFailureException("Cannot register " + category + " value '" + value + "'", last);
+    }
+
+    /**
+     * Inserta el valor con un código que ninguna otra transacción de esta instancia está usando.
+     *
+     * @return Código asignado
+     */
+    private static int executeInsert(Connection connection, DictionaryCategory category,
+                                     StringDictionary dictionary, String value) throws SQLException {
+        int committedMax;
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_MAX_CODE)) {
+            statement.setString(1, category.name());
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                committedMax = rs.getInt(1);
+            }
+        }
+        int code = dictionary.nextCode(committedMax + 1);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            statement.setString(1, category.name());
+            statement.setInt(2, code);
+            statement.setString(3, value);
+            statement.executeUpdate();
+        }
+        return code;
+    }
+
+    private Integer selectCode(DictionaryCategory category, String value) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return selectCode(connection, category, value);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Cannot read " + category + " dictionary", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static Integer selectCode(Connection connection, DictionaryCategory category, String value) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_VALUE)) {
+            statement.setString(1, category.name());
+            statement.setString(2, value);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : null;
+            }
+        }
+    }
+
+    private String selectValue(DictionaryCategory category, int code) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_CODE)) {
+            statement.setString(1, category.name());
+            statement.setInt(2, code);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Cannot read " + category + " dictionary", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Valor registrado en una transacción que aún no confirmó.
+     */
+    private record PendingEntry(DictionaryCategory category, String value) {
+    }
+}
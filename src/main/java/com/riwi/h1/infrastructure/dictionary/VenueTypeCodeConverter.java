@@ -0,0 +1,14 @@
+package com.riwi.h1.infrastructure.dictionary;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Codifica el tipo de venue de un venue con el diccionario VENUE_TYPE.
+ */
+@Converter
+public class VenueTypeCodeConverter extends DictionaryCodeConverter {
+
+    public VenueTypeCodeConverter(StringDictionaryRegistry registry) {
+        super(registry, DictionaryCategory.VENUE_TYPE);
+    }
+}
@@ -0,0 +1,161 @@
+package com.riwi.h1.infrastructure.index;
+
+import com.riwi.h1.config.PriceIndexProperties;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.model.EntityChange;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Índice en memoria de los eventos ordenados por precio ({@link PriceOrderedEvents}).
+ *
+ * - Al arrancar y cada {@code price-index.rebuild-interval-ms} se reconstruye con una lectura
+ *   completa de todos los shards. Hasta la primera reconstrucción no está listo y las búsquedas
+ *   van a la base de datos.
+ * - Los cambios confirmados en este nodo ({@link EntityChange}) se aplican sin esperar a la
+ *   reconstrucción: las eliminaciones al instante; las modificaciones se acumulan y cada
+ *   {@code price-index.apply-interval-ms} se recargan con una consulta por shard, fuera de la
+ *   transacción de quien escribió.
+ * - Los cambios de otros nodos llegan con la siguiente reconstrucción.
+ *
+ * Las lecturas van siempre a la base principal (transacciones de escritura): una réplica atrasada
+ * devolvería eventos viejos o no vería los nuevos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "price-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventPriceIndex implements MeterBinder {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final EventShards shards;
+    private final TransactionTemplate primary;
+    private final PriceOrderedEvents events;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    public EventPriceIndex(EventJpaRepository eventJpaRepository, EventShards shards,
+                           PlatformTransactionManager transactionManager, PriceIndexProperties properties) {
+        this.eventJpaRepository = eventJpaRepository;
+        this.shards = shards;
+        this.events = new PriceOrderedEvents(properties.getMaxScanned());
+        this.primary = new TransactionTemplate(transactionManager);
+        // Se usa también al confirmar otra transacción: debe abrir la suya
+        primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return true si el índice ya se construyó y puede responder búsquedas
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Eventos con precio en [min, max] que cumplen un filtro, del más barato al más caro.
+     * Los eventos devueltos son compartidos: no deben modificarse.
+     * Devuelve null si el filtro es demasiado selectivo para el índice (ver {@link PriceOrderedEvents}).
+     */
+    public List<Event> findByPriceBetween(double min, double max, Predicate<Event> filter, int limit) {
+        return events.findByPriceBetween(min, max, filter, limit);
+    }
+
+    /**
+     * Los eventos más baratos que cumplen un filtro. Los eventos devueltos son compartidos: no deben modificarse.
+     * Devuelve null si el filtro es demasiado selectivo para el índice (ver {@link PriceOrderedEvents}).
+     */
+    public List<Event> findCheapest(Predicate<Event> filter, int limit) {
+        return events.findCheapest(filter, limit);
+    }
+
+    /**
+     * Registra un evento modificado o eliminado una vez confirmada su transacción.
+     *
+     * @param change Entidad modificada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChange change) {
+        if (!"Event".equals(change.aggregateType())) {
+            return;
+        }
+        if (change.deleted()) {
+            pending.remove(change.aggregateId());
+            events.remove(change.aggregateId());
+        } else {
+            pending.add(change.aggregateId());
+        }
+    }
+
+    /**
+     * Recarga los eventos modificados desde la última pasada, con una consulta por shard.
+     */
+    @Scheduled(fixedDelayString = "${price-index.apply-interval-ms:100}")
+    public void applyPendingChanges() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        try {
+            for (Map.Entry<Integer, List<Long>> group : shards.groupByEventShard(ids).entrySet()) {
+                List<Event> loaded = shards.onShard(group.getKey(),
+                        () -> primary.execute(status -> eventJpaRepository.findAllById(group.getValue())));
+                Set<Long> found = new HashSet<>();
+                for (Event event : loaded) {
+                    found.add(event.getId());
+                    events.put(event);
+                }
+                // Ya no existe (eliminado o archivado en otra transacción)
+                group.getValue().stream()
+                        .filter(id -> !found.contains(id))
+                        .forEach(events::remove);
+            }
+        } catch (RuntimeException e) {
+            pending.addAll(ids);
+            log.warn("Could not apply {} price index change(s): {}", ids.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reconstruye el índice con una lectura completa de los eventos de todos los shards.
+     */
+    @Scheduled(fixedDelayString = "${price-index.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        long readStartedAt = System.nanoTime();
+        try {
+            List<Event> all = primary.execute(status ->
+                    shards.scatter(shard -> eventJpaRepository.findAll(), Comparator.comparing(Event::getId)));
+            events.replaceAll(all, readStartedAt);
+            ready = true;
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the price index: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("price.index.size", events, PriceOrderedEvents::size)
+                .description("Eventos en el índice de precios en memoria")
+                .register(meterRegistry);
+    }
+}
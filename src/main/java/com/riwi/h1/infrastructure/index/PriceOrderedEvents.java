@@ -0,0 +1,191 @@
+package com.riwi.h1.infrastructure.index;
+
+import com.riwi.h1.domain.entity.Event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Eventos ordenados por precio (y por ID a igual precio) en una skip list concurrente.
+ *
+ * - Un rango de precios se recorre desde su primer elemento en O(log n) más los elementos
+ *   visitados; los más baratos son los primeros de la lista. Los filtros (activo, fecha,
+ *   venue) se aplican al recorrer, hasta reunir los pedidos: con un filtro muy selectivo
+ *   el recorrido tiende a O(n). Por eso se corta tras {@code maxScanned} entradas y la
+ *   búsqueda responde null; quien llama la resuelve entonces en la base de datos, que
+ *   tiene índices por venue y fecha.
+ * - Las lecturas no bloquean y ven cada evento en su estado anterior o en el nuevo, nunca
+ *   a medias; durante una actualización de precio un evento puede faltar un instante.
+ * - Cada evento guarda su versión (@Version): una versión más vieja que la indexada se descarta,
+ *   y un evento eliminado deja una marca para que una recarga atrasada no lo reinstale.
+ *
+ * Los eventos se copian al guardarse y se entregan compartidos: quien los reciba no debe modificarlos.
+ * Los eventos sin precio no se indexan.
+ */
+public class PriceOrderedEvents {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::price)
+            .thenComparingLong(Entry::id);
+
+    private final NavigableSet<Entry> byPrice = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> removedAt = new ConcurrentHashMap<>();
+    private final int maxScanned;
+
+    /**
+     * Índice sin límite de entradas recorridas por búsqueda.
+     */
+    public PriceOrderedEvents() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxScanned Entradas que puede recorrer una búsqueda antes de rendirse
+     */
+    public PriceOrderedEvents(int maxScanned) {
+        this.maxScanned = maxScanned;
+    }
+
+    /**
+     * Indexa un evento o actualiza su entrada, salvo que la indexada sea más reciente.
+     *
+     * @param event Evento (se copia)
+     */
+    public void put(Event event) {
+        Long id = event.getId();
+        if (removedAt.containsKey(id)) {
+            return;
+        }
+        Event copy = event.toBuilder().build();
+        byId.compute(id, (key, current) -> {
+            if (current != null && isNewer(current.event(), copy)) {
+                return current;
+            }
+            if (current != null) {
+                byPrice.remove(current);
+            }
+            if (copy.getTicketPrice() == null) {
+                return null;
+            }
+            Entry entry = new Entry(copy.getTicketPrice(), id, copy, System.nanoTime());
+            byPrice.add(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * Quita un evento eliminado (o archivado) y deja su marca.
+     *
+     * @param id ID del evento
+     */
+    public void remove(Long id) {
+        removedAt.put(id, System.nanoTime());
+        byId.computeIfPresent(id, (key, current) -> {
+            byPrice.remove(current);
+            return null;
+        });
+    }
+
+    /**
+     * Sustituye el contenido por una lectura completa de la base de datos, sin vaciar el índice.
+     *
+     * Lo indexado o eliminado después de empezar la lectura se conserva: la lectura puede no verlo.
+     *
+     * @param snapshot Todos los eventos, leídos después de {@code readStartedAt}
+     * @param readStartedAt Momento ({@link System#nanoTime()}) en que empezó la lectura
+     */
+    public void replaceAll(Collection<Event> snapshot, long readStartedAt) {
+        Set<Long> seen = new HashSet<>(snapshot.size() * 2);
+        for (Event event : snapshot) {
+            seen.add(event.getId());
+            Long removed = removedAt.get(event.getId());
+            if (removed == null || removed < readStartedAt) {
+                removedAt.remove(event.getId());
+                put(event);
+            }
+        }
+        for (Entry entry : byId.values()) {
+            if (!seen.contains(entry.id()) && entry.indexedAt() < readStartedAt) {
+                remove(entry.id());
+            }
+        }
+        removedAt.values().removeIf(removed -> removed < readStartedAt);
+    }
+
+    /**
+     * Eventos con precio en [min, max] que cumplen un filtro, del más barato al más caro.
+     *
+     * @param min Precio mínimo (incluido)
+     * @param max Precio máximo (incluido)
+     * @param filter Condición adicional
+     * @param limit Máximo de eventos
+     * @return Eventos encontrados, por precio y luego por ID, o null si se recorrieron
+     *         {@code maxScanned} entradas sin reunir {@code limit}
+     */
+    public List<Event> findByPriceBetween(double min, double max, Predicate<Event> filter, int limit) {
+        if (min > max) {
+            return List.of();
+        }
+        NavigableSet<Entry> range = byPrice.subSet(
+                new Entry(min, Long.MIN_VALUE, null, 0), true,
+                new Entry(max, Long.MAX_VALUE, null, 0), true);
+        return collect(range, filter, limit);
+    }
+
+    /**
+     * Los eventos más baratos que cumplen un filtro.
+     *
+     * @param filter Condición
+     * @param limit Máximo de eventos
+     * @return Eventos encontrados, por precio y luego por ID, o null si se recorrieron
+     *         {@code maxScanned} entradas sin reunir {@code limit}
+     */
+    public List<Event> findCheapest(Predicate<Event> filter, int limit) {
+        return collect(byPrice, filter, limit);
+    }
+
+    /**
+     * @return Eventos indexados
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private List<Event> collect(NavigableSet<Entry> entries, Predicate<Event> filter, int limit) {
+        List<Event> result = new ArrayList<>(Math.min(limit, 64));
+        int scanned = 0;
+        for (Entry entry : entries) {
+            if (scanned++ == maxScanned) {
+                return null;
+            }
+            if (filter.test(entry.event())) {
+                result.add(entry.event());
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isNewer(Event current, Event candidate) {
+        return current.getVersion() != null && candidate.getVersion() != null
+                && current.getVersion() > candidate.getVersion();
+    }
+
+    /**
+     * @param indexedAt Momento ({@link System#nanoTime()}) en que se indexó
+     */
+    private record Entry(double price, long id, Event event, long indexedAt) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.riwi.h1.infrastructure.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que envuelve las conexiones del pool para contar, en {@link SqlStatementTracker},
+ * cada sentencia ejecutada, su duración y las filas leídas de sus ResultSet.
+ *
+ * Usa proxies dinámicos de JDBC: no cambia el comportamiento de las llamadas,
+ * solo mide las de ejecución (execute*) y los next() de los ResultSet.
+ * Con un {@link SqlStatementLog} activo, además registra las sentencias lentas y una muestra del resto.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementLog statementLog;
+
+    public CountingDataSource(DataSource target) {
+        this(target, 0, 0);
+    }
+
+    /**
+     * @param target DataSource del pool
+     * @param logSampleRate Fracción de sentencias que se registran en el log (0 = ninguna)
+     * @param slowThresholdMillis Duración a partir de la cual se registra la sentencia como lenta (0 = desactivado)
+     */
+    public CountingDataSource(DataSource target, double logSampleRate, long slowThresholdMillis) {
+        super(target);
+        SqlStatementLog log = new SqlStatementLog(logSampleRate, slowThresholdMillis);
+        this.statementLog = log.isEnabled() ? log : SqlStatementLog.DISABLED;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection, statementLog));
+    }
+
+    /**
+     * Invoca el método sobre el objeto real. equals/hashCode se resuelven por identidad del proxy,
+     * para que Hibernate pueda usar las sentencias como claves de mapas.
+     */
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target, SqlStatementLog log) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = CountingDataSource.invoke(proxy, target, method, args);
+            String name = method.getName();
+            if (result instanceof Statement statement
+                    && (name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall"))) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler(statement, sql, log));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql, SqlStatementLog log) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = CountingDataSource.invoke(proxy, target, method, args);
+                return wrapResultSet(result, name);
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = CountingDataSource.invoke(proxy, target, method, args);
+                return wrapResultSet(result, name);
+            } finally {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                long nanos = System.nanoTime() - start;
+                SqlStatementTracker.recordStatement(sql, nanos);
+                if (log != SqlStatementLog.DISABLED) {
+                    log.log(sql, nanos);
+                }
+            }
+        }
+
+        private Object wrapResultSet(Object result, String name) {
+            if (result instanceof ResultSet resultSet
+                    && (name.equals("executeQuery") || name.equals("getResultSet") || name.equals("getGeneratedKeys"))) {
+                return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = CountingDataSource.invoke(proxy, target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                SqlStatementTracker.recordRow();
+            }
+            return result;
+        }
+    }
+}
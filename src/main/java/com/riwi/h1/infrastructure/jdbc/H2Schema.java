@@ -0,0 +1,58 @@
+package com.riwi.h1.infrastructure.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilidades de esquema para bases H2 embebidas (réplicas simuladas y shards locales).
+ */
+public final class H2Schema {
+
+    private static final String LIST_TABLES = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+            + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME";
+
+    private H2Schema() {
+    }
+
+    /**
+     * @return Tablas del esquema PUBLIC, en orden alfabético
+     */
+    public static List<String> listTables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LIST_TABLES)) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Reemplaza el esquema de la base destino por el de la origen (sin datos).
+     * Borra todos los objetos del destino.
+     */
+    public static void copy(Connection source, Connection target) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (script.next()) {
+                ddl.add(script.getString(1));
+            }
+        }
+        execute(target, "DROP ALL OBJECTS");
+        for (String sql : ddl) {
+            execute(target, sql);
+        }
+    }
+
+    public static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
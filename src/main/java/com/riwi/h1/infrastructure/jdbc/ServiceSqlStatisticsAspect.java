@@ -0,0 +1,59 @@
+package com.riwi.h1.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publica las sentencias SQL y filas leídas por cada método público de los servicios
+ * (service.sql.statements / service.sql.rows, etiquetas class / method).
+ * Los conteos son inclusivos: un servicio que llama a otro incluye las sentencias de ambos.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sql.stats", name = "enabled", matchIfMissing = true)
+public class ServiceSqlStatisticsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.riwi.h1.application.service..*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlStatementTracker.Snapshot used = SqlStatementTracker.snapshot().minus(start);
+            Meters methodMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    this::register);
+            methodMeters.statements.record(used.statements());
+            methodMeters.rows.record(used.rows());
+        }
+    }
+
+    private Meters register(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        return new Meters(
+                DistributionSummary.builder("service.sql.statements")
+                        .description("Sentencias SQL ejecutadas por llamada")
+                        .tags("class", className, "method", method.getName())
+                        .register(meterRegistry),
+                DistributionSummary.builder("service.sql.rows")
+                        .description("Filas leídas por llamada")
+                        .tags("class", className, "method", method.getName())
+                        .register(meterRegistry));
+    }
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.riwi.h1.infrastructure.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log de sentencias SQL pensado para producción, en lugar de show-sql:
+ *
+ * - Sentencias lentas (duración mayor o igual al umbral) siempre, en WARN, logger "sql.slow"
+ * - Una muestra aleatoria del resto (fracción sampleRate), en INFO, logger "sql.sample"
+ *
+ * Solo se registra el texto del SQL preparado, sin los valores de los parámetros.
+ */
+final class SqlStatementLog {
+
+    static final SqlStatementLog DISABLED = new SqlStatementLog(0, 0);
+
+    private static final Logger SLOW = LoggerFactory.getLogger("sql.slow");
+    private static final Logger SAMPLE = LoggerFactory.getLogger("sql.sample");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    /**
+     * @param sampleRate Fracción de sentencias a registrar (0 = ninguna, 1 = todas)
+     * @param slowThresholdMillis Duración a partir de la cual una sentencia es lenta (0 = desactivado)
+     */
+    SqlStatementLog(double sampleRate, long slowThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    boolean isEnabled() {
+        return sampleRate > 0 || slowThresholdNanos > 0;
+    }
+
+    void log(String sql, long nanos) {
+        if (slowThresholdNanos > 0 && nanos >= slowThresholdNanos) {
+            SLOW.warn("Slow SQL ({} ms, threshold {} ms): {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos), sql);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            SAMPLE.info("SQL ({} us): {}", TimeUnit.NANOSECONDS.toMicros(nanos), sql);
+        }
+    }
+}
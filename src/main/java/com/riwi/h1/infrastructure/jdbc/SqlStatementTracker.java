@@ -0,0 +1,106 @@
+package com.riwi.h1.infrastructure.jdbc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores JDBC del hilo actual: sentencias ejecutadas, filas leídas y tiempo en la base de datos.
+ *
+ * Los contadores son acumulativos por hilo; un ámbito (petición HTTP, método de servicio,
+ * prueba) toma un {@link #snapshot()} al empezar y calcula la diferencia al terminar,
+ * así que los ámbitos anidados no interfieren entre sí y registrar una sentencia
+ * solo suma tres longs.
+ *
+ * Opcionalmente cuenta cuántas veces se repite cada SQL dentro de un ámbito, para detectar
+ * patrones N+1 (la misma consulta ejecutada una vez por cada fila de otra).
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Registra una sentencia ejecutada (llamado por {@link CountingDataSource}).
+     */
+    static void recordStatement(String sql, long nanos) {
+        Counters counters = COUNTERS.get();
+        counters.statements++;
+        counters.nanos += nanos;
+        if (counters.repeats != null && sql != null) {
+            counters.repeats.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Registra una fila leída de un ResultSet.
+     */
+    static void recordRow() {
+        COUNTERS.get().rows++;
+    }
+
+    /**
+     * @return Totales acumulados del hilo actual
+     */
+    public static Snapshot snapshot() {
+        Counters counters = COUNTERS.get();
+        return new Snapshot(counters.statements, counters.rows, counters.nanos);
+    }
+
+    /**
+     * @return Tiempo acumulado en la base de datos por el hilo actual (sin crear objetos)
+     */
+    public static long nanos() {
+        return COUNTERS.get().nanos;
+    }
+
+    /**
+     * Empieza a contar repeticiones de cada SQL en el hilo actual.
+     */
+    public static void startRepeatTracking() {
+        COUNTERS.get().repeats = new HashMap<>();
+    }
+
+    /**
+     * Deja de contar repeticiones.
+     *
+     * @return Veces que se ejecutó cada SQL desde {@link #startRepeatTracking()}
+     */
+    public static Map<String, Integer> stopRepeatTracking() {
+        Counters counters = COUNTERS.get();
+        Map<String, Integer> repeats = counters.repeats;
+        counters.repeats = null;
+        return repeats == null ? Collections.emptyMap() : repeats;
+    }
+
+    /**
+     * Totales de un hilo en un instante.
+     *
+     * @param statements Sentencias ejecutadas
+     * @param rows Filas leídas
+     * @param nanos Tiempo de ejecución de las sentencias
+     */
+    public record Snapshot(long statements, long rows, long nanos) {
+
+        /**
+         * @param start Instantánea tomada al inicio del ámbito
+         * @return Lo ocurrido entre {@code start} y esta instantánea
+         */
+        public Snapshot minus(Snapshot start) {
+            return new Snapshot(statements - start.statements, rows - start.rows, nanos - start.nanos);
+        }
+
+        public double millis() {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private static final class Counters {
+        private long statements;
+        private long rows;
+        private long nanos;
+        private Map<String, Integer> repeats;
+    }
+}
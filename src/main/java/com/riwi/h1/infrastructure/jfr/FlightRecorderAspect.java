@@ -0,0 +1,139 @@
+package com.riwi.h1.infrastructure.jfr;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.infrastructure.jdbc.SqlStatementTracker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emite eventos JFR alrededor de los servicios, los repositorios JPA y los mappers de la API.
+ *
+ * Si no hay una grabación activa que incluya el evento, {@code isEnabled()} es falso
+ * y la llamada sigue sin medir nada más, así que el aspecto puede quedar siempre activo.
+ */
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    @Around("execution(public * com.riwi.h1.application.service..*(..))")
+    public Object recordService(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.operation = joinPoint.getSignature().getName();
+                event.entityId = firstLongArgument(joinPoint.getArgs());
+                event.rows = countOf(result);
+                event.statements = SqlStatementTracker.snapshot().minus(start).statements();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("bean(*JpaRepository) && execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object recordRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                SqlStatementTracker.Snapshot used = SqlStatementTracker.snapshot().minus(start);
+                event.repository = repositoryName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.entityId = firstLongArgument(joinPoint.getArgs());
+                event.rows = used.rows();
+                event.statements = used.statements();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * com.riwi.h1.api.mapper..*(..))")
+    public Object recordMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        MappingEvent event = new MappingEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.mapper = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.entityId = idOf(joinPoint.getArgs());
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Nombre de la interfaz del repositorio (el bean es un proxy de Spring Data).
+     */
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith("com.riwi.h1")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    private static long firstLongArgument(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Long id) {
+                return id;
+            }
+        }
+        return 0;
+    }
+
+    private static long idOf(Object[] args) {
+        if (args.length == 1 && args[0] instanceof Event event && event.getId() != null) {
+            return event.getId();
+        }
+        if (args.length == 1 && args[0] instanceof Venue venue && venue.getId() != null) {
+            return venue.getId();
+        }
+        return 0;
+    }
+
+    private static int countOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return result == null ? 0 : 1;
+    }
+}
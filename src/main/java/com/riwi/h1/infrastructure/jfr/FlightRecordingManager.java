@@ -0,0 +1,135 @@
+package com.riwi.h1.infrastructure.jfr;
+
+import com.riwi.h1.exception.BadRequestException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Grabaciones JFR bajo demanda con los eventos de la aplicación (servicios, repositorios, mapeo)
+ * más la configuración "default" de la JVM (GC, locks, E/S; overhead ~1%).
+ *
+ * Cada grabación se detiene sola al cumplir su duración y se vuelca a un archivo temporal
+ * que se puede descargar o resumir con {@link JfrRecordingAnalyzer}. Las grabaciones
+ * (y sus archivos) se conservan hasta que se eliminan, con un máximo de {@value #MAX_RECORDINGS}.
+ * Se habilita con {@code jfr.recordings.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jfr.recordings", name = "enabled", havingValue = "true")
+public class FlightRecordingManager {
+
+    private static final Duration MAX_DURATION = Duration.ofMinutes(30);
+    private static final int MAX_RECORDINGS = 10;
+
+    private final ConcurrentHashMap<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    /**
+     * Inicia una grabación.
+     *
+     * @param duration Duración (máximo 30 minutos)
+     * @return La grabación iniciada
+     */
+    public Recording start(Duration duration) {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(MAX_DURATION) > 0) {
+            throw new BadRequestException("Recording duration must be between 1 second and " + MAX_DURATION.toMinutes() + " minutes");
+        }
+        if (recordings.size() >= MAX_RECORDINGS) {
+            throw new BadRequestException("Too many recordings kept; delete one before starting another");
+        }
+        Recording recording = new Recording(defaultConfiguration());
+        recording.setName("events-and-venues");
+        recording.enable(ServiceOperationEvent.class);
+        recording.enable(RepositoryCallEvent.class);
+        recording.enable(MappingEvent.class);
+        recording.setDuration(duration);
+        recording.setToDisk(true);
+        try {
+            recording.setDestination(Files.createTempFile("recording-", ".jfr"));
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        return recording;
+    }
+
+    public Optional<Recording> find(long id) {
+        return Optional.ofNullable(recordings.get(id));
+    }
+
+    public Collection<Recording> list() {
+        return recordings.values();
+    }
+
+    /**
+     * Detiene la grabación si sigue en curso y retorna el archivo con los datos.
+     */
+    public Path stopAndGetFile(Recording recording) {
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+        }
+        return recording.getDestination();
+    }
+
+    /**
+     * Copia los datos grabados hasta ahora sin detener la grabación.
+     *
+     * @return Archivo temporal con la copia (el llamador debe borrarlo)
+     */
+    public Path snapshot(Recording recording) {
+        try {
+            Path copy = Files.createTempFile("recording-snapshot-", ".jfr");
+            recording.dump(copy);
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Detiene y descarta una grabación, borrando su archivo.
+     */
+    public boolean delete(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return false;
+        }
+        Path file = recording.getDestination();
+        recording.close();
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ignored) {
+            // El archivo temporal lo limpiará el sistema operativo
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        recordings.keySet().forEach(this::delete);
+    }
+
+    private static Configuration defaultConfiguration() {
+        try {
+            return Configuration.getConfiguration("default");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR default configuration not available", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.riwi.h1.infrastructure.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resume una grabación JFR en latencias por etapa: cada combinación
+ * servicio/operación, repositorio/método y mapper/método es una etapa.
+ *
+ * También se puede usar sobre un archivo .jfr descargado:
+ * <pre>
+ * java -cp target/classes com.riwi.h1.infrastructure.jfr.JfrRecordingAnalyzer recording.jfr
+ * </pre>
+ */
+public final class JfrRecordingAnalyzer {
+
+    private JfrRecordingAnalyzer() {
+    }
+
+    /**
+     * Lee la grabación y agrupa los eventos de la aplicación por etapa.
+     *
+     * @param file Archivo .jfr
+     * @return Resumen por etapa, de mayor a menor tiempo total
+     */
+    public static List<StageSummary> analyze(Path file) throws IOException {
+        Map<String, StageAccumulator> stages = new HashMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String stage = stageOf(event);
+                if (stage == null) {
+                    continue;
+                }
+                StageAccumulator accumulator = stages.computeIfAbsent(stage, StageAccumulator::new);
+                accumulator.add(event.getDuration().toNanos(),
+                        event.hasField("statements") ? event.getLong("statements") : 0,
+                        rowsOf(event));
+            }
+        }
+        return stages.values().stream()
+                .map(StageAccumulator::summarize)
+                .sorted(Comparator.comparingDouble(StageSummary::totalMillis).reversed())
+                .toList();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrRecordingAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+        System.out.printf(Locale.ROOT, "%-55s %8s %10s %9s %9s %9s %9s %8s %8s%n",
+                "stage", "count", "total ms", "avg ms", "p50 ms", "p99 ms", "max ms", "sql/op", "rows/op");
+        for (StageSummary stage : analyze(Path.of(args[0]))) {
+            System.out.printf(Locale.ROOT, "%-55s %8d %10.2f %9.3f %9.3f %9.3f %9.3f %8.2f %8.2f%n",
+                    stage.stage(), stage.count(), stage.totalMillis(), stage.avgMillis(), stage.p50Millis(),
+                    stage.p99Millis(), stage.maxMillis(), stage.statementsPerCall(), stage.rowsPerCall());
+        }
+    }
+
+    private static String stageOf(RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case ServiceOperationEvent.NAME -> "service:" + event.getString("service") + "." + event.getString("operation");
+            case RepositoryCallEvent.NAME -> "repository:" + event.getString("repository") + "." + event.getString("method");
+            case MappingEvent.NAME -> "mapping:" + event.getString("mapper") + "." + event.getString("method");
+            default -> null;
+        };
+    }
+
+    private static long rowsOf(RecordedEvent event) {
+        if (!event.hasField("rows")) {
+            return 0;
+        }
+        return event.getEventType().getName().equals(ServiceOperationEvent.NAME)
+                ? event.getInt("rows")
+                : event.getLong("rows");
+    }
+
+    /**
+     * Latencias de una etapa.
+     *
+     * @param stage Etapa (tipo:componente.método)
+     * @param count Ejecuciones
+     * @param totalMillis Tiempo total
+     * @param avgMillis Tiempo medio
+     * @param p50Millis Mediana
+     * @param p99Millis Percentil 99
+     * @param maxMillis Máximo
+     * @param statementsPerCall Sentencias SQL medias por ejecución
+     * @param rowsPerCall Filas medias por ejecución
+     */
+    public record StageSummary(String stage, long count, double totalMillis, double avgMillis, double p50Millis,
+                               double p99Millis, double maxMillis, double statementsPerCall, double rowsPerCall) {
+    }
+
+    private static final class StageAccumulator {
+        private final String stage;
+        private final List<Long> durations = new ArrayList<>();
+        private long statements;
+        private long rows;
+
+        private StageAccumulator(String stage) {
+            this.stage = stage;
+        }
+
+        private void add(long nanos, long eventStatements, long eventRows) {
+            durations.add(nanos);
+            statements += eventStatements;
+            rows += eventRows;
+        }
+
+        private StageSummary summarize() {
+            long[] sorted = durations.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long total = Arrays.stream(sorted).sum();
+            int count = sorted.length;
+            return new StageSummary(stage, count, millis(total), millis(total / count),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(sorted[count - 1]),
+                    (double) statements / count, (double) rows / count);
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            int index = (int) Math.ceil(fraction * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
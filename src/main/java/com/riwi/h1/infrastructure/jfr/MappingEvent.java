@@ -0,0 +1,30 @@
+package com.riwi.h1.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR del mapeo DTO ↔ entidad que hacen los controladores (EventMapper / VenueMapper).
+ */
+@Name(MappingEvent.NAME)
+@Label("DTO Mapping")
+@Category({"EventsAndVenues", "Web"})
+@Description("Conversión entre DTOs de la API y entidades")
+@StackTrace(false)
+public class MappingEvent extends Event {
+
+    public static final String NAME = "com.riwi.h1.Mapping";
+
+    @Label("Mapper")
+    String mapper;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity ID")
+    long entityId;
+}
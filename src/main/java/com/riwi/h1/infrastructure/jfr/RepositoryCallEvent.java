@@ -0,0 +1,41 @@
+package com.riwi.h1.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una llamada a un repositorio JPA (existsByNameIgnoreCase, save, findByVenueId, ...).
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Category({"EventsAndVenues", "Persistence"})
+@Description("Llamada a un repositorio Spring Data JPA")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    public static final String NAME = "com.riwi.h1.RepositoryCall";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity ID")
+    @Description("Primer argumento Long de la llamada, 0 si no aplica")
+    long entityId;
+
+    @Label("Rows")
+    @Description("Filas leídas del ResultSet durante la llamada")
+    long rows;
+
+    @Label("SQL Statements")
+    long statements;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,41 @@
+package com.riwi.h1.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una operación de servicio (EventService.create, VenueService.deleteById, ...).
+ */
+@Name(ServiceOperationEvent.NAME)
+@Label("Service Operation")
+@Category({"EventsAndVenues", "Service"})
+@Description("Ejecución de un método público de un servicio de aplicación")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    public static final String NAME = "com.riwi.h1.ServiceOperation";
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity ID")
+    @Description("Primer argumento Long de la operación, 0 si no aplica")
+    long entityId;
+
+    @Label("Rows")
+    @Description("Elementos retornados (1 para una entidad, tamaño para colecciones)")
+    int rows;
+
+    @Label("SQL Statements")
+    long statements;
+
+    @Label("Failed")
+    boolean failed;
+}
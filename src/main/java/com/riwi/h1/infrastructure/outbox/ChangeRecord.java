@@ -0,0 +1,21 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.riwi.h1.domain.model.ChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio del catálogo tal como se entrega a los sinks y consumidores.
+ *
+ * @param offset Posición del cambio en el flujo (creciente)
+ * @param aggregateType Tipo de recurso ("Event" o "Venue")
+ * @param aggregateId ID del recurso
+ * @param aggregateVersion Versión del recurso tras el cambio (null en las eliminaciones)
+ * @param changeType Tipo de cambio
+ * @param payload Estado del recurso en JSON (null en las eliminaciones)
+ * @param createdAt Fecha y hora del cambio
+ */
+public record ChangeRecord(long offset, String aggregateType, long aggregateId, Long aggregateVersion,
+                           ChangeType changeType, @JsonRawValue String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,51 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.h1.config.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink para uso local: agrega cada cambio como una línea JSON al archivo {@code outbox.file-sink-path}.
+ * Otro proceso puede seguir el archivo (tail -f) sin consultar la API.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.file-sink-enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        this.path = Path.of(properties.getFileSinkPath());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<ChangeRecord> changes) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ChangeRecord change : changes) {
+                writer.write(objectMapper.writeValueAsString(change));
+                writer.write('\n');
+            }
+        }
+    }
+}
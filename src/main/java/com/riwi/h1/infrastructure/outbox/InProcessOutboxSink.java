@@ -0,0 +1,30 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sink que publica cada cambio como evento de Spring ({@link ChangeRecord}) dentro de la aplicación.
+ * Los componentes interesados lo reciben con {@code @EventListener}, en el hilo del relay y en orden.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.in-process-sink-enabled", havingValue = "true", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public void publish(List<ChangeRecord> changes) {
+        changes.forEach(applicationEventPublisher::publishEvent);
+    }
+}
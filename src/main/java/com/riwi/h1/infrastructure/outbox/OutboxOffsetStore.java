@@ -0,0 +1,52 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import com.riwi.h1.domain.entity.OutboxOffset;
+import com.riwi.h1.domain.repository.jpa.OutboxOffsetJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Offsets confirmados por los consumidores del outbox (tabla outbox_offsets).
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxOffsetStore {
+
+    private final OutboxOffsetJpaRepository outboxOffsetJpaRepository;
+
+    /**
+     * @param consumer Nombre del consumidor
+     * @return Último offset confirmado, o 0 si el consumidor nunca confirmó
+     */
+    public long get(String consumer) {
+        return outboxOffsetJpaRepository.findById(consumer)
+                .map(OutboxOffset::getLastEventId)
+                .orElse(0L);
+    }
+
+    /**
+     * Guarda el último offset procesado por un consumidor.
+     *
+     * @param consumer Nombre del consumidor
+     * @param offset Offset procesado
+     */
+    public void commit(String consumer, long offset) {
+        outboxOffsetJpaRepository.save(OutboxOffset.builder()
+                .consumer(consumer)
+                .lastEventId(offset)
+                .build());
+    }
+
+    /**
+     * @return Offset más bajo entre todos los consumidores registrados, o vacío si no hay ninguno
+     */
+    public OptionalLong minimum() {
+        List<OutboxOffset> offsets = outboxOffsetJpaRepository.findAll();
+        return offsets.stream()
+                .mapToLong(OutboxOffset::getLastEventId)
+                .min();
+    }
+}
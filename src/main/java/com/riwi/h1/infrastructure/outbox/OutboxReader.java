@@ -0,0 +1,168 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import com.riwi.h1.config.OutboxProperties;
+import com.riwi.h1.domain.entity.OutboxEvent;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import com.riwi.h1.infrastructure.sharding.ShardContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lee el outbox en orden de offset sin saltarse cambios que aún no se confirmaron.
+ *
+ * Los IDs se asignan al insertar, no al confirmar: una transacción que tomó el ID 41 puede
+ * confirmar después de la que tomó el 42. Si se entregara el 42 y se avanzara el offset,
+ * el 41 no se vería nunca. Por eso la lectura se corta en el primer hueco y se reintenta.
+ *
+ * Al ver un hueco por primera vez se anotan las sesiones de la BD con cambios sin confirmar:
+ * la transacción que tiene el ID faltante es una de ellas. El hueco se salta (la transacción
+ * se revirtió) cuando todas esas sesiones se vieron sin cambios pendientes y el ID sigue
+ * sin aparecer, por larga que sea la transacción. Si la BD no informa sus sesiones, se
+ * espera {@code outbox.gap-wait-ms} desde que se vio el hueco.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxReader {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxProperties properties;
+
+    /**
+     * Huecos pendientes por shard y primer offset faltante
+     */
+    private final Map<GapKey, Gap> gaps = new ConcurrentHashMap<>();
+
+    /**
+     * Lee los cambios posteriores a un offset.
+     *
+     * @param offset Último offset ya procesado (0 para leer desde el principio)
+     * @param limit Máximo de cambios a leer
+     * @return Cambios consecutivos en orden de offset; vacío si no hay ninguno listo
+     */
+    public List<ChangeRecord> readAfter(long offset, int limit) {
+        int shard = ShardContext.current();
+        gaps.keySet().removeIf(key -> key.shard() == shard && key.offset() <= offset);
+        // Antes de leer: las sesiones que ya terminaron su transacción dejan de ser sospechosas
+        refreshSuspects(shard);
+
+        List<OutboxEvent> rows = outboxEventJpaRepository.findByIdGreaterThanOrderByIdAsc(offset, Limit.of(limit));
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<ChangeRecord> changes = new ArrayList<>(rows.size());
+        long expected = offset + 1;
+        for (OutboxEvent row : rows) {
+            if (row.getId() != expected) {
+                GapKey key = new GapKey(shard, expected);
+                // El cambio que falta puede estar en una transacción aún abierta
+                if (!isSettled(key)) {
+                    break;
+                }
+                gaps.remove(key);
+            }
+            changes.add(toRecord(row));
+            expected = row.getId() + 1;
+        }
+        return changes;
+    }
+
+    /**
+     * Lee cambios que el relay ya entregó (offsets hasta {@code upTo}). Los huecos por debajo
+     * de un offset entregado ya se resolvieron, así que no se esperan.
+     *
+     * @param offset Último offset ya procesado
+     * @param upTo Último offset entregado por el relay
+     * @param limit Máximo de cambios a leer
+     * @return Cambios en orden de offset
+     */
+    public List<ChangeRecord> readDelivered(long offset, long upTo, int limit) {
+        return outboxEventJpaRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(offset, upTo, Limit.of(limit))
+                .stream()
+                .map(OutboxReader::toRecord)
+                .toList();
+    }
+
+    /**
+     * @return Offset más antiguo que sigue en el outbox, o vacío si la limpieza eliminó todo
+     */
+    public OptionalLong firstRetainedOffset() {
+        return outboxEventJpaRepository.findMinimumId()
+                .map(OptionalLong::of)
+                .orElseGet(OptionalLong::empty);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Un hueco recién visto nunca se salta: las sesiones sospechosas se anotan después
+     * de leer, y solo una lectura posterior confirma que el ID no apareció.
+     */
+    private boolean isSettled(GapKey key) {
+        Gap gap = gaps.get(key);
+        if (gap == null) {
+            gaps.putIfAbsent(key, new Gap(System.nanoTime(), uncommittedSessions()));
+            return false;
+        }
+        if (gap.suspects() == null) {
+            return System.nanoTime() - gap.firstSeenNanos() >= TimeUnit.MILLISECONDS.toNanos(properties.getGapWaitMs());
+        }
+        return gap.suspects().isEmpty();
+    }
+
+    private void refreshSuspects(int shard) {
+        if (gaps.keySet().stream().noneMatch(key -> key.shard() == shard)) {
+            return;
+        }
+        Set<Integer> open = uncommittedSessions();
+        if (open == null) {
+            return;
+        }
+        gaps.forEach((key, gap) -> {
+            if (key.shard() == shard && gap.suspects() != null) {
+                gap.suspects().retainAll(open);
+            }
+        });
+    }
+
+    /**
+     * @return Sesiones con cambios sin confirmar, o null si la BD no las informa
+     */
+    private Set<Integer> uncommittedSessions() {
+        try {
+            Set<Integer> sessions = ConcurrentHashMap.newKeySet();
+            sessions.addAll(outboxEventJpaRepository.findSessionsWithUncommittedChanges());
+            return sessions;
+        } catch (RuntimeException e) {
+            log.debug("Database sessions not available, outbox gaps fall back to gap-wait-ms: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static ChangeRecord toRecord(OutboxEvent row) {
+        return new ChangeRecord(row.getId(), row.getAggregateType(), row.getAggregateId(),
+                row.getAggregateVersion(), row.getChangeType(), row.getPayload(), row.getCreatedAt());
+    }
+
+    /**
+     * Primer offset faltante de un hueco en un shard.
+     */
+    private record GapKey(int shard, long offset) {
+    }
+
+    /**
+     * Hueco pendiente: cuándo se vio y qué sesiones podían tener el ID faltante (null si no se sabe).
+     */
+    private record Gap(long firstSeenNanos, Set<Integer> suspects) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import com.riwi.h1.config.OutboxProperties;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publica los cambios del outbox en los {@link OutboxSink} registrados, en orden de offset.
+ *
+ * - Cada pasada lee un solo lote desde el offset más bajo de los sinks y entrega a cada uno
+ *   la parte que aún no procesó; luego guarda su offset en outbox_offsets.
+ * - Al arrancar, cada sink retoma desde su offset guardado.
+ * - Si un sink falla, su offset no avanza y el lote se reintenta en la siguiente pasada;
+ *   los demás sinks siguen avanzando.
+ * - Mientras los lotes salen llenos, se lee el siguiente sin esperar el intervalo de sondeo.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements MeterBinder {
+
+    /**
+     * Lotes máximos por pasada: evita que un atraso grande acapare el hilo del planificador
+     */
+    private static final int MAX_BATCHES_PER_PASS = 20;
+
+    private final OutboxReader outboxReader;
+    private final OutboxOffsetStore offsetStore;
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxProperties properties;
+    private final List<SinkState> sinks;
+
+    public OutboxRelay(OutboxReader outboxReader, OutboxOffsetStore offsetStore,
+                       OutboxEventJpaRepository outboxEventJpaRepository, OutboxProperties properties,
+                       List<OutboxSink> sinks) {
+        this.outboxReader = outboxReader;
+        this.offsetStore = offsetStore;
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.properties = properties;
+        this.sinks = sinks.stream().map(SinkState::new).toList();
+    }
+
+    /**
+     * Publica los cambios pendientes.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:200}")
+    public void relay() {
+        if (!properties.isEnabled() || sinks.isEmpty()) {
+            return;
+        }
+        for (int batch = 0; batch < MAX_BATCHES_PER_PASS; batch++) {
+            if (relayBatch() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Elimina los cambios que todos los consumidores ya confirmaron y superaron la retención.
+     */
+    @Scheduled(fixedDelayString = "${outbox.prune-interval-ms:60000}")
+    public void prune() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long processed = offsetStore.minimum().orElse(0L);
+        for (SinkState sink : sinks) {
+            processed = Math.min(processed, sink.offset());
+        }
+        if (processed <= 0) {
+            return;
+        }
+        int deleted = outboxEventJpaRepository.deleteProcessedBefore(processed,
+                LocalDateTime.now().minusMinutes(properties.getRetentionMinutes()));
+        if (deleted > 0) {
+            log.debug("Pruned {} outbox changes up to offset {}", deleted, processed);
+        }
+    }
+
+    /**
+     * @return Offset confirmado de cada sink (nombre -> offset)
+     */
+    public List<SinkOffset> offsets() {
+        return sinks.stream()
+                .map(sink -> new SinkOffset(sink.sink.name(), sink.offset()))
+                .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (SinkState sink : sinks) {
+            FunctionCounter.builder("outbox.published", sink, s -> s.published.sum())
+                    .tag("sink", sink.sink.name())
+                    .description("Cambios publicados en el sink")
+                    .register(meterRegistry);
+            FunctionCounter.builder("outbox.failures", sink, s -> s.failures.sum())
+                    .tag("sink", sink.sink.name())
+                    .description("Lotes que el sink no pudo publicar")
+                    .register(meterRegistry);
+            Gauge.builder("outbox.offset", sink, s -> s.offset)
+                    .tag("sink", sink.sink.name())
+                    .description("Último offset confirmado por el sink")
+                    .register(meterRegistry);
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * @return Cantidad de cambios leídos del outbox
+     */
+    private int relayBatch() {
+        long from = Long.MAX_VALUE;
+        for (SinkState sink : sinks) {
+            from = Math.min(from, sink.offset());
+        }
+        List<ChangeRecord> changes = outboxReader.readAfter(from, properties.getBatchSize());
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        for (SinkState sink : sinks) {
+            List<ChangeRecord> pending = pendingFor(changes, sink.offset());
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                sink.sink.publish(pending);
+            } catch (Exception e) {
+                sink.failures.increment();
+                log.warn("Outbox sink '{}' failed at offset {}, retrying on next pass: {}",
+                        sink.sink.name(), pending.get(0).offset(), e.toString());
+                continue;
+            }
+            long last = pending.get(pending.size() - 1).offset();
+            offsetStore.commit(sink.sink.name(), last);
+            sink.offset = last;
+            sink.published.add(pending.size());
+        }
+        return changes.size();
+    }
+
+    private static List<ChangeRecord> pendingFor(List<ChangeRecord> changes, long offset) {
+        int first = 0;
+        while (first < changes.size() && changes.get(first).offset() <= offset) {
+            first++;
+        }
+        return changes.subList(first, changes.size());
+    }
+
+    /**
+     * Estado de un sink: offset confirmado (cargado de la BD la primera vez) y contadores.
+     */
+    private final class SinkState {
+
+        private final OutboxSink sink;
+        private final LongAdder published = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile long offset = -1;
+
+        private SinkState(OutboxSink sink) {
+            this.sink = sink;
+        }
+
+        private long offset() {
+            if (offset < 0) {
+                offset = offsetStore.get(sink.name());
+            }
+            return offset;
+        }
+    }
+
+    /**
+     * Offset confirmado de un sink.
+     *
+     * @param sink Nombre del sink
+     * @param offset Último offset publicado
+     */
+    public record SinkOffset(String sink, long offset) {
+    }
+}
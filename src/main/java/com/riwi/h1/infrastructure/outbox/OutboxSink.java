@@ -0,0 +1,28 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino al que el {@link OutboxRelay} publica los cambios del catálogo.
+ *
+ * Cada sink avanza con su propio offset: uno lento o caído no detiene a los demás.
+ * La entrega es al menos una vez: si la aplicación se detiene entre la publicación y la
+ * confirmación del offset, el lote se vuelve a publicar, así que el sink debe tolerar duplicados
+ * (el offset de cada cambio sirve para descartarlos).
+ */
+public interface OutboxSink {
+
+    /**
+     * @return Nombre único del sink; es la clave de su offset en outbox_offsets
+     */
+    String name();
+
+    /**
+     * Publica un lote de cambios en orden de offset.
+     * Si lanza una excepción, el lote completo se reintenta en la siguiente pasada.
+     *
+     * @param changes Cambios consecutivos, nunca vacío
+     * @throws Exception si no se pudo publicar
+     */
+    void publish(List<ChangeRecord> changes) throws Exception;
+}
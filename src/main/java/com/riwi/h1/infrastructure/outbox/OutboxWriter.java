@@ -0,0 +1,74 @@
+package com.riwi.h1.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.h1.domain.entity.OutboxEvent;
+import com.riwi.h1.domain.model.ChangeType;
+import com.riwi.h1.domain.model.EntityChange;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registra los cambios del catálogo en el outbox.
+ *
+ * Exige una transacción en curso (la de la modificación): el cambio se confirma o se revierte
+ * junto con ella, así nunca se publica un cambio que no ocurrió ni se pierde uno que sí.
+ * También publica un {@link EntityChange} que los interesados (ej: cachés) procesan al confirmarse.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Registra la creación o modificación de un recurso con su estado final.
+     *
+     * @param aggregateType Tipo de recurso ("Event" o "Venue")
+     * @param aggregateId ID del recurso
+     * @param aggregateVersion Versión del recurso tras el cambio
+     * @param changeType CREATED o UPDATED
+     * @param state Estado del recurso, se guarda en JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, Long aggregateVersion, ChangeType changeType, Object state) {
+        outboxEventJpaRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .aggregateVersion(aggregateVersion)
+                .changeType(changeType)
+                .payload(toJson(state))
+                .build());
+        applicationEventPublisher.publishEvent(new EntityChange(aggregateType, aggregateId, aggregateVersion));
+    }
+
+    /**
+     * Registra la eliminación de un recurso.
+     *
+     * @param aggregateType Tipo de recurso ("Event" o "Venue")
+     * @param aggregateId ID del recurso eliminado
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(String aggregateType, Long aggregateId) {
+        outboxEventJpaRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .changeType(ChangeType.DELETED)
+                .build());
+        applicationEventPublisher.publishEvent(new EntityChange(aggregateType, aggregateId, null));
+    }
+
+    private String toJson(Object state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload for " + state.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.riwi.h1.infrastructure.reservation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador de asientos sin bloqueos, dividido en franjas (stripes) para repartir
+ * la contención de un evento "caliente" entre varios núcleos.
+ *
+ * Cada franja guarda en un único long los asientos disponibles (32 bits altos)
+ * y los reservados (32 bits bajos), y se modifica con CAS. Como una franja nunca
+ * puede quedar con disponibles negativos, la suma de reservas jamás supera la
+ * capacidad: no hay sobreventa. Las liberaciones solo devuelven asientos que
+ * fueron reservados en esa misma franja, por lo que tampoco pueden inflar el total.
+ *
+ * Las franjas están separadas por 64 bytes para evitar false sharing.
+ */
+public class StripedSeatCounter {
+
+    /**
+     * Separación entre franjas en el arreglo (8 longs = 64 bytes, una línea de caché)
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * Marca de franja congelada durante un cambio de capacidad
+     */
+    private static final long FROZEN = -1L;
+
+    private static final int MAX_STRIPES = 64;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    private volatile int capacity;
+
+    /**
+     * Crea un contador con la capacidad y los asientos ya reservados indicados.
+     *
+     * @param capacity Capacidad total del evento
+     * @param reserved Asientos ya reservados (por ejemplo, leídos de la base de datos)
+     */
+    public StripedSeatCounter(int capacity, int reserved) {
+        if (capacity < 0 || reserved < 0) {
+            throw new IllegalArgumentException("Capacity and reserved seats cannot be negative");
+        }
+        this.stripes = stripesFor(capacity);
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        this.capacity = capacity;
+        distribute(Math.max(0, capacity - reserved), reserved);
+    }
+
+    /**
+     * Intenta reservar asientos.
+     *
+     * @param quantity Cantidad de asientos (mayor que 0)
+     * @return true si se reservaron todos, false si no hay suficientes disponibles
+     */
+    public boolean tryReserve(int quantity) {
+        int start = probe();
+        // Camino rápido: una sola franja con suficientes asientos
+        for (int k = 0; k < stripes; k++) {
+            int index = ((start + k) % stripes) * PADDING;
+            while (true) {
+                long value = cells.get(index);
+                if (value == FROZEN) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (available(value) < quantity) {
+                    break;
+                }
+                if (cells.compareAndSet(index, value, value - ((long) quantity << 32) + quantity)) {
+                    return true;
+                }
+            }
+        }
+        // Camino lento: los asientos restantes están repartidos entre varias franjas
+        return moveAcrossStripes(quantity, start, true);
+    }
+
+    /**
+     * Devuelve asientos previamente reservados.
+     *
+     * @param quantity Cantidad de asientos (mayor que 0)
+     * @return true si se liberaron, false si hay menos asientos reservados que los solicitados
+     */
+    public boolean release(int quantity) {
+        int start = probe();
+        for (int k = 0; k < stripes; k++) {
+            int index = ((start + k) % stripes) * PADDING;
+            while (true) {
+                long value = cells.get(index);
+                if (value == FROZEN) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (reserved(value) < quantity) {
+                    break;
+                }
+                if (cells.compareAndSet(index, value, value + ((long) quantity << 32) - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return moveAcrossStripes(quantity, start, false);
+    }
+
+    /**
+     * Cambia la capacidad total manteniendo las reservas existentes.
+     * Congela brevemente todas las franjas; las operaciones concurrentes esperan activamente.
+     * Si la nueva capacidad es menor que lo reservado, no quedan asientos disponibles.
+     *
+     * @param newCapacity Nueva capacidad
+     * @return Asientos reservados al momento del cambio
+     */
+    public synchronized int resize(int newCapacity) {
+        long[] frozen = new long[stripes];
+        for (int s = 0; s < stripes; s++) {
+            frozen[s] = cells.getAndSet(s * PADDING, FROZEN);
+        }
+        int totalReserved = 0;
+        for (long value : frozen) {
+            totalReserved += reserved(value);
+        }
+        int remaining = Math.max(0, newCapacity - totalReserved);
+        int base = remaining / stripes;
+        int extra = remaining % stripes;
+        capacity = newCapacity;
+        for (int s = 0; s < stripes; s++) {
+            long available = base + (s < extra ? 1 : 0);
+            cells.set(s * PADDING, (available << 32) | reserved(frozen[s]));
+        }
+        return totalReserved;
+    }
+
+    /**
+     * Reemplaza capacidad y reservas por valores leídos de la fuente de verdad
+     * (la base de datos), repartiéndolos de nuevo entre las franjas.
+     *
+     * @param newCapacity Capacidad total
+     * @param reserved Asientos reservados
+     */
+    public synchronized void reset(int newCapacity, int reserved) {
+        for (int s = 0; s < stripes; s++) {
+            cells.set(s * PADDING, FROZEN);
+        }
+        capacity = newCapacity;
+        distribute(Math.max(0, newCapacity - reserved), Math.max(0, reserved));
+    }
+
+    /**
+     * @return Capacidad total configurada
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Asientos reservados (instantánea no atómica entre franjas)
+     */
+    public int reserved() {
+        int total = 0;
+        for (int s = 0; s < stripes; s++) {
+            total += reserved(settled(s));
+        }
+        return total;
+    }
+
+    /**
+     * @return Asientos disponibles (instantánea no atómica entre franjas)
+     */
+    public int available() {
+        int total = 0;
+        for (int s = 0; s < stripes; s++) {
+            total += available(settled(s));
+        }
+        return total;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Toma (o devuelve) asientos de varias franjas; si no alcanza, deshace lo tomado.
+     */
+    private boolean moveAcrossStripes(int quantity, int start, boolean reserve) {
+        int[] taken = new int[stripes];
+        int pending = quantity;
+        for (int k = 0; k < stripes && pending > 0; k++) {
+            int s = (start + k) % stripes;
+            int amount = transfer(s, pending, reserve);
+            taken[s] = amount;
+            pending -= amount;
+        }
+        if (pending == 0) {
+            return true;
+        }
+        for (int s = 0; s < stripes; s++) {
+            if (taken[s] > 0) {
+                transferBack(s, taken[s], reserve);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mueve hasta {@code max} asientos en una franja y devuelve cuántos movió.
+     */
+    private int transfer(int stripe, int max, boolean reserve) {
+        int index = stripe * PADDING;
+        while (true) {
+            long value = cells.get(index);
+            if (value == FROZEN) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int source = reserve ? available(value) : reserved(value);
+            int amount = Math.min(source, max);
+            if (amount == 0) {
+                return 0;
+            }
+            long delta = ((long) amount << 32) - amount;
+            long updated = reserve ? value - delta : value + delta;
+            if (cells.compareAndSet(index, value, updated)) {
+                return amount;
+            }
+        }
+    }
+
+    /**
+     * Revierte un movimiento parcial de {@link #transfer}.
+     */
+    private void transferBack(int stripe, int amount, boolean reserve) {
+        int index = stripe * PADDING;
+        long delta = ((long) amount << 32) - amount;
+        while (true) {
+            long value = cells.get(index);
+            if (value == FROZEN) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long updated = reserve ? value + delta : value - delta;
+            if (cells.compareAndSet(index, value, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Valor de una franja, esperando a que termine un cambio de capacidad en curso.
+     */
+    private long settled(int stripe) {
+        int index = stripe * PADDING;
+        while (true) {
+            long value = cells.get(index);
+            if (value != FROZEN) {
+                return value;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void distribute(int available, int reserved) {
+        for (int s = 0; s < stripes; s++) {
+            long stripeAvailable = available / stripes + (s < available % stripes ? 1 : 0);
+            long stripeReserved = reserved / stripes + (s < reserved % stripes ? 1 : 0);
+            cells.set(s * PADDING, (stripeAvailable << 32) | stripeReserved);
+        }
+    }
+
+    /**
+     * Franja preferida del hilo actual: estable por hilo para mantener la localidad de caché.
+     */
+    private int probe() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash >>> 1) % stripes;
+    }
+
+    private static int stripesFor(int capacity) {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int stripes = Integer.highestOneBit(Math.max(1, cpus * 2 - 1));
+        return Math.max(1, Math.min(Math.min(stripes, MAX_STRIPES), capacity));
+    }
+
+    private static int available(long value) {
+        return (int) (value >>> 32);
+    }
+
+    private static int reserved(long value) {
+        return (int) value;
+    }
+}
@@ -0,0 +1,32 @@
+package com.riwi.h1.infrastructure.routing;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Dialecto JPA que deja fuera de la caché de segundo nivel a las transacciones de solo lectura.
+ *
+ * Esas transacciones pueden leer de una réplica atrasada: si guardaran lo leído, la caché
+ * serviría el dato viejo también a quien acaba de escribir (y a las lecturas que van a la
+ * principal) hasta que caducara. No basta con {@link CacheMode#GET}: Hibernate guarda igualmente
+ * el resultado de una consulta cacheable que no encontró en la caché. Con {@link CacheMode#IGNORE}
+ * tampoco leen de ella, y una transacción no mezcla datos de la caché con los de una réplica;
+ * la caché la usan y la alimentan las transacciones de escritura.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly()) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        }
+        return transactionData;
+    }
+}
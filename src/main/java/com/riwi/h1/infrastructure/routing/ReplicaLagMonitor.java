@@ -0,0 +1,85 @@
+package com.riwi.h1.infrastructure.routing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Mide el retraso de las réplicas con un latido.
+ *
+ * Escribe periódicamente el instante actual en la tabla replication_heartbeat de la principal;
+ * la replicación lo copia como cualquier otra fila, y el valor que se lee en cada réplica
+ * es su posición: todo lo confirmado en la principal antes de ese instante ya está en ella.
+ * Si la lectura falla, la réplica queda no disponible hasta la siguiente comprobación exitosa.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "replica-routing", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+            + " (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    private static final String UPDATE_BEAT = "UPDATE " + HEARTBEAT_TABLE + " SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_BEAT = "INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)";
+    private static final String SELECT_BEAT = "SELECT beat_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1";
+
+    private final ReplicaRouter router;
+    private volatile boolean tableReady;
+
+    /**
+     * Escribe el latido en la base principal.
+     */
+    @Scheduled(fixedDelayString = "${replica-routing.heartbeat-interval-ms:100}")
+    public void beat() {
+        try (Connection connection = router.primary().getConnection()) {
+            if (!tableReady) {
+                // En producción la tabla la crea la migración; aquí basta con asegurar que existe
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_TABLE);
+                }
+                tableReady = true;
+            }
+            long now = System.currentTimeMillis();
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_BEAT)) {
+                update.setLong(1, now);
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection.prepareStatement(INSERT_BEAT)) {
+                        insert.setLong(1, now);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not write replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lee el latido replicado en cada réplica y actualiza su posición.
+     */
+    @Scheduled(fixedDelayString = "${replica-routing.lag-check-interval-ms:200}")
+    public void checkReplicas() {
+        for (ReplicaRouter.Replica replica : router.replicas()) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(SELECT_BEAT)) {
+                if (resultSet.next()) {
+                    router.updatePosition(replica, resultSet.getLong(1));
+                }
+            } catch (SQLException e) {
+                router.markUnavailable(replica, e);
+            }
+        }
+    }
+}
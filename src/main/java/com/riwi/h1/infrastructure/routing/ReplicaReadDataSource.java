@@ -0,0 +1,50 @@
+package com.riwi.h1.infrastructure.routing;
+
+import com.riwi.h1.infrastructure.sharding.ShardContext;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource de las conexiones de solo lectura: entrega una conexión a la réplica
+ * que elija {@link ReplicaRouter} o, si ninguna sirve, a la principal.
+ *
+ * Si la réplica elegida no entrega conexión, la marca no disponible y usa la principal.
+ */
+public class ReplicaReadDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaRouter router;
+
+    public ReplicaReadDataSource(DataSource primary, ReplicaRouter router) {
+        this.primary = primary;
+        this.router = router;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ShardContext.current() != 0) {
+            // Las réplicas lo son del shard principal: los demás shards se leen en su propia base
+            return primary.getConnection();
+        }
+        ReplicaRouter.Replica replica = router.route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            router.markUnavailable(replica, e);
+            router.countFallback();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Las réplicas usan sus propias credenciales: se ignora el usuario pedido
+        return getConnection();
+    }
+}
@@ -0,0 +1,270 @@
+package com.riwi.h1.infrastructure.routing;
+
+import com.riwi.h1.config.ReplicaRoutingProperties;
+import com.riwi.h1.domain.model.EntityChange;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decide a qué base va cada lectura de solo lectura: una réplica al día o la principal.
+ *
+ * La posición de cada réplica es el último latido de la principal que ya replicó
+ * ({@link ReplicaLagMonitor}); su retraso es el tiempo transcurrido desde ese latido.
+ * Una réplica recibe lecturas si está sana, su retraso no supera {@code max-lag-ms}
+ * y su posición es posterior a la última escritura que la petición debe ver
+ * ({@link ReplicaRoutingContext}). Entre las elegibles se reparte en round-robin.
+ *
+ * Los tokens de escritura son instantes del reloj del nodo que escribe; con varios nodos
+ * se asume que sus relojes están sincronizados con un error menor que el latido.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "replica-routing", name = "enabled", havingValue = "true")
+public class ReplicaRouter implements MeterBinder {
+
+    private final ReplicaRoutingProperties properties;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<PrimaryReason, LongAdder> primaryReads = new EnumMap<>(PrimaryReason.class);
+    private volatile DataSource primary;
+
+    public ReplicaRouter(ReplicaRoutingProperties properties) {
+        this.properties = properties;
+        this.replicas = properties.getReplicas().stream()
+                .map(Replica::new)
+                .toList();
+        for (PrimaryReason reason : PrimaryReason.values()) {
+            primaryReads.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Elige la réplica para la lectura en curso.
+     *
+     * @return Réplica elegida, o null si la lectura debe ir a la principal
+     */
+    Replica route() {
+        if (ReplicaRoutingContext.primaryOnly()) {
+            return toPrimary(PrimaryReason.WRITE_REQUEST);
+        }
+        long minPosition = ReplicaRoutingContext.minPosition();
+        long now = System.currentTimeMillis();
+        long maxLag = properties.getMaxLagMs();
+        Replica freshest = null;
+        boolean anyHealthy = false;
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy || replica.position == 0) {
+                continue;
+            }
+            anyHealthy = true;
+            // Estrictamente posterior: un latido del mismo milisegundo pudo tomarse antes de la confirmación
+            if (replica.position <= minPosition) {
+                continue;
+            }
+            if (now - replica.position <= maxLag) {
+                replica.reads.increment();
+                return replica;
+            }
+            if (freshest == null || replica.position > freshest.position) {
+                freshest = replica;
+            }
+        }
+        if (!anyHealthy) {
+            return toPrimary(PrimaryReason.UNAVAILABLE);
+        }
+        if (freshest == null) {
+            return toPrimary(PrimaryReason.READ_YOUR_WRITES);
+        }
+        if (properties.getFallback() == ReplicaRoutingProperties.Fallback.FRESHEST_REPLICA) {
+            freshest.reads.increment();
+            return freshest;
+        }
+        return toPrimary(PrimaryReason.LAG);
+    }
+
+    /**
+     * Marca una réplica como no disponible hasta la próxima comprobación exitosa.
+     */
+    void markUnavailable(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            log.warn("Replica {} unavailable, reads fall back to the primary: {}", replica.name, cause.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    /**
+     * Registra la posición leída de una réplica y la marca disponible.
+     */
+    void updatePosition(Replica replica, long position) {
+        if (!replica.healthy) {
+            log.info("Replica {} available again", replica.name);
+        }
+        replica.position = position;
+        replica.healthy = true;
+    }
+
+    /**
+     * Cuenta una lectura que, tras elegir réplica, terminó en la principal.
+     */
+    void countFallback() {
+        primaryReads.get(PrimaryReason.UNAVAILABLE).increment();
+    }
+
+    /**
+     * Una escritura confirmada: las lecturas siguientes de la misma petición deben verla
+     * y el cliente recibe su token.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChange change) {
+        ReplicaRoutingContext.recordWrite(System.currentTimeMillis());
+    }
+
+    /**
+     * Lo asigna el post-procesador del DataSource al envolver la base principal.
+     */
+    public void attachPrimary(DataSource primary) {
+        this.primary = primary;
+    }
+
+    /**
+     * @return DataSource de la base principal (sin el proxy de enrutamiento)
+     */
+    DataSource primary() {
+        return primary;
+    }
+
+    List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * @return Estado de cada réplica
+     */
+    public List<Stats> stats() {
+        long now = System.currentTimeMillis();
+        return replicas.stream()
+                .map(replica -> new Stats(replica.name, replica.healthy, replica.lagMillis(now), replica.reads.sum()))
+                .toList();
+    }
+
+    /**
+     * @return Lecturas enviadas a la principal, por motivo
+     */
+    public Map<PrimaryReason, Long> primaryReads() {
+        Map<PrimaryReason, Long> reads = new EnumMap<>(PrimaryReason.class);
+        primaryReads.forEach((reason, count) -> reads.put(reason, count.sum()));
+        return reads;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("replica.routing.reads", replica, r -> r.reads.sum())
+                    .tag("target", replica.name)
+                    .tag("reason", "replica")
+                    .description("Lecturas de solo lectura enrutadas")
+                    .register(meterRegistry);
+            Gauge.builder("replica.lag", replica, r -> r.lagMillis(System.currentTimeMillis()))
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .description("Retraso de la réplica respecto al último latido de la principal")
+                    .register(meterRegistry);
+        }
+        primaryReads.forEach((reason, count) ->
+                FunctionCounter.builder("replica.routing.reads", count, LongAdder::sum)
+                        .tag("target", "primary")
+                        .tag("reason", reason.tag)
+                        .description("Lecturas de solo lectura enrutadas")
+                        .register(meterRegistry));
+    }
+
+    @PreDestroy
+    void closeReplicas() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private Replica toPrimary(PrimaryReason reason) {
+        primaryReads.get(reason).increment();
+        return null;
+    }
+
+    /**
+     * Réplica con su pool de conexiones y su última posición conocida.
+     */
+    static final class Replica {
+
+        final String name;
+        final HikariDataSource dataSource;
+        final LongAdder reads = new LongAdder();
+        volatile long position;
+        volatile boolean healthy = true;
+
+        private Replica(ReplicaRoutingProperties.Replica config) {
+            this.name = config.getName();
+            this.dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + config.getName());
+            dataSource.setJdbcUrl(config.getUrl());
+            dataSource.setUsername(config.getUsername());
+            dataSource.setPassword(config.getPassword());
+            dataSource.setMaximumPoolSize(config.getMaxPoolSize());
+        }
+
+        double lagMillis(long now) {
+            return position == 0 ? Double.NaN : now - position;
+        }
+    }
+
+    /**
+     * Motivo por el que una lectura de solo lectura fue a la principal.
+     */
+    public enum PrimaryReason {
+        WRITE_REQUEST("write_request"),
+        READ_YOUR_WRITES("read_your_writes"),
+        LAG("lag"),
+        UNAVAILABLE("unavailable");
+
+        private final String tag;
+
+        PrimaryReason(String tag) {
+            this.tag = tag;
+        }
+
+        /**
+         * @return Valor de la etiqueta reason en las métricas
+         */
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    /**
+     * Estado de una réplica.
+     *
+     * @param name Nombre de la réplica
+     * @param healthy false si la última conexión o comprobación falló
+     * @param lagMillis Retraso respecto al último latido de la principal (NaN si aún no se conoce)
+     * @param reads Lecturas servidas
+     */
+    public record Stats(String name, boolean healthy, double lagMillis, long reads) {
+    }
+}
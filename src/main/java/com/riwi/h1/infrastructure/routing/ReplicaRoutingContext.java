@@ -0,0 +1,69 @@
+package com.riwi.h1.infrastructure.routing;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Requisitos de consistencia de la petición en curso (por hilo).
+ *
+ * Lo abre el filtro web: una petición de escritura lee siempre de la principal, y una lectura
+ * que trae el token de una escritura anterior solo puede ir a una réplica que ya la replicó.
+ * Sin contexto (tareas programadas, trabajos masivos) se aplica solo la tolerancia de retraso.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<ReplicaRoutingContext> CURRENT = new ThreadLocal<>();
+
+    private final boolean primaryOnly;
+    private final LongConsumer onWrite;
+    private long minPosition;
+
+    private ReplicaRoutingContext(boolean primaryOnly, long minPosition, LongConsumer onWrite) {
+        this.primaryOnly = primaryOnly;
+        this.minPosition = minPosition;
+        this.onWrite = onWrite;
+    }
+
+    /**
+     * Abre el contexto de la petición.
+     *
+     * @param primaryOnly true para leer solo de la principal (peticiones de escritura)
+     * @param minPosition Token de la última escritura del cliente (0 si no trae)
+     * @param onWrite Recibe el token de cada escritura confirmada durante la petición
+     */
+    public static void open(boolean primaryOnly, long minPosition, LongConsumer onWrite) {
+        CURRENT.set(new ReplicaRoutingContext(primaryOnly, minPosition, onWrite));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Registra una escritura confirmada: las lecturas siguientes de la petición deben verla.
+     *
+     * @param committedAt Instante (epoch ms) posterior a la confirmación
+     */
+    public static void recordWrite(long committedAt) {
+        ReplicaRoutingContext context = CURRENT.get();
+        if (context != null) {
+            context.minPosition = Math.max(context.minPosition, committedAt);
+            context.onWrite.accept(committedAt);
+        }
+    }
+
+    /**
+     * @return true si la petición en curso solo puede leer de la principal
+     */
+    static boolean primaryOnly() {
+        ReplicaRoutingContext context = CURRENT.get();
+        return context != null && context.primaryOnly;
+    }
+
+    /**
+     * @return Posición que debe haber superado la réplica (0 si no hay requisito)
+     */
+    static long minPosition() {
+        ReplicaRoutingContext context = CURRENT.get();
+        return context == null ? 0 : context.minPosition;
+    }
+}
@@ -0,0 +1,121 @@
+package com.riwi.h1.infrastructure.routing;
+
+import com.riwi.h1.infrastructure.jdbc.H2Schema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sustituto de la replicación para pruebas locales con bases H2 embebidas.
+ *
+ * Cada {@code replica-routing.replication-interval-ms} copia la base principal completa en
+ * cada réplica: lee todas las tablas en una sola transacción REPEATABLE READ (una instantánea
+ * consistente, incluido el latido) y las reemplaza en la réplica en una sola transacción,
+ * así que los lectores de la réplica ven la copia anterior o la nueva, nunca una mezcla.
+ * El esquema se recrea con SCRIPT cuando cambian las tablas de la principal.
+ *
+ * El retraso resultante es el intervalo de copia; {@link #replicateNow()} permite a las
+ * pruebas decidir exactamente cuándo se replica. No sirve para bases reales.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${replica-routing.enabled:false} and ${replica-routing.simulate-replication:false}")
+public class SimulatedReplication {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ReplicaRouter router;
+    private final Map<String, List<String>> replicatedTables = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${replica-routing.replication-interval-ms:500}")
+    public void replicate() {
+        try {
+            replicateNow();
+        } catch (SQLException e) {
+            log.warn("Simulated replication failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Copia la base principal en todas las réplicas.
+     */
+    public synchronized void replicateNow() throws SQLException {
+        try (Connection source = router.primary().getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                List<String> tables = H2Schema.listTables(source);
+                for (ReplicaRouter.Replica replica : router.replicas()) {
+                    copy(source, tables, replica);
+                }
+            } finally {
+                source.rollback();
+            }
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private void copy(Connection source, List<String> tables, ReplicaRouter.Replica replica) throws SQLException {
+        try (Connection target = replica.dataSource.getConnection()) {
+            if (!tables.equals(replicatedTables.get(replica.name))) {
+                H2Schema.copy(source, target);
+                replicatedTables.put(replica.name, tables);
+            }
+            H2Schema.execute(target, "SET REFERENTIAL_INTEGRITY FALSE");
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                target.setAutoCommit(true);
+                H2Schema.execute(target, "SET REFERENTIAL_INTEGRITY TRUE");
+            }
+        }
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = '"' + table + '"';
+        H2Schema.execute(target, "DELETE FROM " + quoted);
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quoted)) {
+            int columns = rows.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + quoted + " OVERRIDING SYSTEM VALUE VALUES (" + placeholders + ")")) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+}
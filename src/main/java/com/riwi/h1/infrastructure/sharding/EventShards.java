@@ -0,0 +1,199 @@
+package com.riwi.h1.infrastructure.sharding;
+
+import com.riwi.h1.config.ShardingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Ubicación de los eventos entre shards y ejecución de operaciones en el shard que corresponde.
+ *
+ * - Un evento vive en el shard de su venue: {@code venueId mod N} (sin venue, el shard 0).
+ *   Los venues y el resto de tablas viven en el shard 0.
+ * - Los IDs de eventos se intercalan: el shard k genera k+1, k+1+N, k+1+2N...
+ *   ({@link ShardSchemaInitializer}), así el ID dice en qué shard está el evento sin consultar nada.
+ * - Las consultas globales se reparten entre todos los shards en paralelo y se fusionan en orden
+ *   ({@link #scatter}).
+ *
+ * Con el particionado desactivado hay un solo shard y todo se ejecuta en línea,
+ * sin cambiar transacciones ni sentencias.
+ */
+@Component
+public class EventShards {
+
+    private final int count;
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+    private final ObjectProvider<ThreadPoolExecutor> executor;
+
+    public EventShards(ShardingProperties properties, PlatformTransactionManager transactionManager,
+                       @Qualifier("shardQueryExecutor") ObjectProvider<ThreadPoolExecutor> executor) {
+        this.count = properties.isEnabled() ? 1 + properties.getShards().size() : 1;
+        this.readWrite = new TransactionTemplate(transactionManager);
+        readWrite.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readOnly.setReadOnly(true);
+        this.executor = executor;
+    }
+
+    /**
+     * @return Número de shards (1 si el particionado está desactivado)
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @param venueId ID del venue (puede ser null)
+     * @return Shard donde viven los eventos del venue
+     */
+    public int shardOfVenue(Long venueId) {
+        return venueId == null ? 0 : (int) Math.floorMod(venueId, (long) count);
+    }
+
+    /**
+     * @param eventId ID del evento
+     * @return Shard donde vive el evento
+     */
+    public int shardOfEvent(Long eventId) {
+        return (int) Math.floorMod(eventId - 1, (long) count);
+    }
+
+    /**
+     * Ejecuta una acción en un shard.
+     *
+     * Si es el shard actual, se ejecuta en línea (y se une a la transacción en curso).
+     * Si hay una transacción abierta en otro shard, la acción corre en una transacción nueva
+     * del shard destino: una transacción no puede abarcar dos bases.
+     *
+     * @param shard Shard destino
+     * @param action Acción a ejecutar
+     * @return Resultado de la acción
+     */
+    public <T> T onShard(int shard, Supplier<T> action) {
+        if (count == 1 || shard == ShardContext.current()) {
+            return action.get();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return ShardContext.call(shard, action);
+        }
+        TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? readOnly : readWrite;
+        return ShardContext.call(shard, () -> template.execute(status -> action.get()));
+    }
+
+    /**
+     * Ejecuta una acción en el shard de los eventos de un venue.
+     */
+    public <T> T onVenueShard(Long venueId, Supplier<T> action) {
+        return onShard(shardOfVenue(venueId), action);
+    }
+
+    /**
+     * Ejecuta una acción en el shard de un evento.
+     */
+    public <T> T onEventShard(Long eventId, Supplier<T> action) {
+        return onShard(shardOfEvent(eventId), action);
+    }
+
+    /**
+     * Ejecuta una acción en el shard principal (venues, outbox, diccionarios).
+     */
+    public <T> T onMain(Supplier<T> action) {
+        return onShard(0, action);
+    }
+
+    /**
+     * Ejecuta una consulta en todos los shards y fusiona los resultados.
+     *
+     * El shard actual se consulta en el hilo que llama (dentro de su transacción, si la hay);
+     * los demás en paralelo en el pool de consultas. Cada shard debe devolver su parte ya
+     * ordenada por {@code order}: la fusión solo intercala las partes.
+     *
+     * @param query Consulta a ejecutar, recibe el número de shard
+     * @param order Orden de los resultados de cada shard y del resultado fusionado
+     * @return Resultados de todos los shards, en orden
+     */
+    public <T> List<T> scatter(Function<Integer, List<T>> query, Comparator<? super T> order) {
+        if (count == 1) {
+            return query.apply(0);
+        }
+        List<List<T>> parts = gather(query);
+        List<T> merged = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+        parts.forEach(merged::addAll);
+        // TimSort detecta las partes ya ordenadas y solo las intercala: O(n log N)
+        merged.sort(order);
+        return merged;
+    }
+
+    /**
+     * Evalúa una condición en todos los shards en paralelo.
+     *
+     * @param check Condición a evaluar, recibe el número de shard
+     * @return true si se cumple en algún shard
+     */
+    public boolean anyMatch(Function<Integer, Boolean> check) {
+        if (count == 1) {
+            return check.apply(0);
+        }
+        return gather(shard -> List.of(check.apply(shard))).stream()
+                .anyMatch(result -> result.get(0));
+    }
+
+    /**
+     * Agrupa IDs de eventos por shard, conservando su orden relativo.
+     *
+     * @param eventIds IDs de eventos
+     * @return IDs por shard (solo los shards con algún ID)
+     */
+    public Map<Integer, List<Long>> groupByEventShard(Collection<Long> eventIds) {
+        Map<Integer, List<Long>> groups = new LinkedHashMap<>();
+        for (Long eventId : eventIds) {
+            groups.computeIfAbsent(shardOfEvent(eventId), shard -> new ArrayList<>()).add(eventId);
+        }
+        return groups;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private <T> List<List<T>> gather(Function<Integer, List<T>> query) {
+        int local = ShardContext.current();
+        Executor pool = executor.getObject();
+        List<CompletableFuture<List<T>>> remote = new ArrayList<>(count - 1);
+        for (int shard = 0; shard < count; shard++) {
+            if (shard != local) {
+                int target = shard;
+                remote.add(CompletableFuture.supplyAsync(() -> onShard(target, () -> query.apply(target)), pool));
+            }
+        }
+        List<List<T>> parts = new ArrayList<>(count);
+        parts.add(query.apply(local));
+        try {
+            remote.forEach(future -> parts.add(future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,46 @@
+package com.riwi.h1.infrastructure.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard al que van las conexiones del hilo actual (0 = DataSource principal).
+ *
+ * {@link ShardRoutingDataSource} lo consulta al obtener cada conexión: una transacción
+ * toma la conexión del shard vigente cuando empieza y la conserva hasta terminar.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return Shard del hilo actual
+     */
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? 0 : shard;
+    }
+
+    /**
+     * Ejecuta una acción con las conexiones dirigidas a un shard y restaura el anterior.
+     *
+     * @param shard Shard destino
+     * @param action Acción a ejecutar
+     * @return Resultado de la acción
+     */
+    public static <T> T call(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.riwi.h1.infrastructure.sharding;
+
+import com.riwi.h1.config.OutboxProperties;
+import com.riwi.h1.domain.entity.OutboxEvent;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import com.riwi.h1.infrastructure.outbox.ChangeRecord;
+import com.riwi.h1.infrastructure.outbox.OutboxOffsetStore;
+import com.riwi.h1.infrastructure.outbox.OutboxReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Traslada los cambios de eventos registrados en el outbox de cada shard al outbox del shard 0.
+ *
+ * Cada modificación de un evento se registra en el outbox de su propio shard, en la misma
+ * transacción (una transacción no abarca dos bases). Este proceso los copia en orden al outbox
+ * principal, donde reciben un offset global y los publican el relay, GET /api/changes y el flujo SSE.
+ *
+ * El offset trasladado de cada shard se guarda en el propio shard (consumidor "shard-forwarder")
+ * después de confirmar la copia: si el proceso termina entre ambos pasos, el lote se copia de nuevo
+ * (entrega al menos una vez). Los cambios trasladados se eliminan del shard.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardOutboxForwarder {
+
+    static final String CONSUMER = "shard-forwarder";
+
+    /**
+     * Lotes máximos por shard y pasada: evita que un atraso grande acapare el hilo del planificador
+     */
+    private static final int MAX_BATCHES_PER_PASS = 20;
+
+    private final EventShards shards;
+    private final OutboxReader outboxReader;
+    private final OutboxOffsetStore offsetStore;
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Traslada los cambios pendientes de todos los shards.
+     */
+    @Scheduled(fixedDelayString = "${sharding.outbox-forward-interval-ms:200}")
+    public void forward() {
+        for (int shard = 1; shard < shards.count(); shard++) {
+            try {
+                for (int batch = 0; batch < MAX_BATCHES_PER_PASS; batch++) {
+                    if (forwardBatch(shard) < properties.getBatchSize()) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not forward outbox changes of shard {}, retrying on next pass: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * @return Cantidad de cambios trasladados
+     */
+    private int forwardBatch(int shard) {
+        long offset = ShardContext.call(shard, () -> offsetStore.get(CONSUMER));
+        List<ChangeRecord> changes = ShardContext.call(shard,
+                () -> outboxReader.readAfter(offset, properties.getBatchSize()));
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxEventJpaRepository.saveAll(changes.stream()
+                .map(ShardOutboxForwarder::toOutboxEvent)
+                .toList()));
+
+        long last = changes.get(changes.size() - 1).offset();
+        ShardContext.call(shard, () -> {
+            offsetStore.commit(CONSUMER, last);
+            return outboxEventJpaRepository.deleteProcessedBefore(last, LocalDateTime.now());
+        });
+        return changes.size();
+    }
+
+    private static OutboxEvent toOutboxEvent(ChangeRecord change) {
+        return OutboxEvent.builder()
+                .aggregateType(change.aggregateType())
+                .aggregateId(change.aggregateId())
+                .aggregateVersion(change.aggregateVersion())
+                .changeType(change.changeType())
+                .payload(change.payload())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.riwi.h1.infrastructure.sharding;
+
+import com.riwi.h1.config.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Pools de conexiones de los shards adicionales (1..N-1). El shard 0 usa el pool principal.
+ */
+@Component
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardRegistry {
+
+    private final List<HikariDataSource> dataSources;
+
+    public ShardRegistry(ShardingProperties properties) {
+        this.dataSources = properties.getShards().stream()
+                .map(ShardRegistry::createPool)
+                .toList();
+    }
+
+    /**
+     * @return Pools de los shards adicionales, en orden (el primero es el shard 1)
+     */
+    public List<HikariDataSource> dataSources() {
+        return dataSources;
+    }
+
+    @PreDestroy
+    void closeShards() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource createPool(ShardingProperties.Shard config) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + config.getName());
+        dataSource.setJdbcUrl(config.getUrl());
+        dataSource.setUsername(config.getUsername());
+        dataSource.setPassword(config.getPassword());
+        dataSource.setMaximumPoolSize(config.getMaxPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package com.riwi.h1.infrastructure.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource que entrega conexiones del shard indicado por {@link ShardContext}.
+ * El shard 0 es el DataSource principal; los demás vienen de {@link ShardRegistry}.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ShardRoutingDataSource(DataSource main, List<? extends DataSource> extraShards) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(0, main);
+        for (int i = 0; i < extraShards.size(); i++) {
+            targets.put(i + 1, extraShards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(main);
+        // Un shard inexistente es un error de enrutamiento, no debe caer en el principal
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
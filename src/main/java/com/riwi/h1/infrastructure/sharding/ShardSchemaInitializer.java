@@ -0,0 +1,83 @@
+package com.riwi.h1.infrastructure.sharding;
+
+import com.riwi.h1.infrastructure.jdbc.H2Schema;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Prepara los shards al arrancar, después de que Hibernate o schema.sql crearon el esquema
+ * del principal (por eso depende del EntityManagerFactory).
+ *
+ * - Copia el esquema del shard 0 en los shards cuyas tablas no coinciden (H2 embebido).
+ * - Intercala la identidad de events: el shard k continúa desde el primer valor libre
+ *   con {@code (id - 1) mod N = k} e incrementa de N en N. Los IDs no se repiten entre shards
+ *   y {@link EventShards#shardOfEvent(Long)} los ubica sin consultar.
+ *
+ * Los eventos que ya existían con otro número de shards no se mueven: se avisa en el log.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardSchemaInitializer {
+
+    private final DataSource dataSource;
+    private final ShardRegistry registry;
+    private final EventShards shards;
+
+    @PostConstruct
+    void initialize() throws SQLException {
+        int count = shards.count();
+        List<HikariDataSource> extraShards = registry.dataSources();
+        try (Connection main = dataSource.getConnection()) {
+            List<String> tables = H2Schema.listTables(main);
+            for (int i = 0; i < extraShards.size(); i++) {
+                try (Connection shard = extraShards.get(i).getConnection()) {
+                    if (!tables.equals(H2Schema.listTables(shard))) {
+                        H2Schema.copy(main, shard);
+                    }
+                    interleaveEventIds(shard, i + 1, count);
+                }
+            }
+            interleaveEventIds(main, 0, count);
+        }
+        log.info("Event sharding ready: {} shard(s)", count);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private static void interleaveEventIds(Connection connection, int shard, int count) throws SQLException {
+        // Los eventos archivados conservan su ID: tampoco deben reutilizarse
+        long max = queryLong(connection, "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM events), 0), "
+                + "COALESCE((SELECT MAX(id) FROM events_archive), 0))");
+        long next = max + 1 + Math.floorMod(shard - max, (long) count);
+        H2Schema.execute(connection, "ALTER TABLE events ALTER COLUMN id RESTART WITH " + next);
+        H2Schema.execute(connection, "ALTER TABLE events ALTER COLUMN id SET INCREMENT BY " + count);
+        long misplaced = queryLong(connection, "SELECT COUNT(*) FROM events WHERE MOD(id - 1, " + count + ") <> " + shard);
+        if (misplaced > 0) {
+            log.warn("Shard {} holds {} event(s) whose ID belongs to another shard; they must be migrated",
+                    shard, misplaced);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
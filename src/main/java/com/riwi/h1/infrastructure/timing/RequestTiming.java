@@ -0,0 +1,129 @@
+package com.riwi.h1.infrastructure.timing;
+
+import com.riwi.h1.infrastructure.jdbc.SqlStatementTracker;
+
+/**
+ * Desglose de tiempo de la petición HTTP en curso, para la cabecera Server-Timing.
+ *
+ * Etapas:
+ * - parse: desde que llega la petición hasta que entra al controlador (lectura del JSON y validación)
+ * - svc: dentro de los servicios (solo la llamada más externa, sin contar anidadas dos veces)
+ * - db: ejecución de sentencias SQL (tomado de {@link SqlStatementTracker})
+ * - map: conversión entidad ↔ DTO en los mappers
+ * - ser: escritura del cuerpo de la respuesta
+ * - total: hasta que se escribe la cabecera
+ *
+ * El estado es un objeto mutable por hilo que se reutiliza entre peticiones: medir
+ * no crea objetos salvo la cadena final de la cabecera. Si la petición no pidió
+ * el desglose, cada punto de medición solo consulta un booleano.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Empieza a medir la petición del hilo actual.
+     */
+    public static void start() {
+        State state = STATE.get();
+        state.active = true;
+        state.requestStart = System.nanoTime();
+        state.dbStart = SqlStatementTracker.nanos();
+        state.handlerStart = 0;
+        state.serializationStart = 0;
+        state.serviceNanos = 0;
+        state.mappingNanos = 0;
+        state.serviceDepth = 0;
+        state.mappingDepth = 0;
+    }
+
+    /**
+     * Termina la medición del hilo actual.
+     */
+    public static void stop() {
+        STATE.get().active = false;
+    }
+
+    /**
+     * @return Estado de medición si la petición actual lo pidió, o null
+     */
+    static State current() {
+        State state = STATE.get();
+        return state.active ? state : null;
+    }
+
+    /**
+     * Marca la entrada al controlador (fin de la etapa parse).
+     */
+    static void handlerEntered(State state) {
+        if (state.handlerStart == 0) {
+            state.handlerStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marca el inicio de la escritura del cuerpo.
+     */
+    public static void serializationStarted() {
+        State state = STATE.get();
+        if (state.active && state.serializationStart == 0) {
+            state.serializationStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Construye el valor de la cabecera Server-Timing con lo medido hasta ahora.
+     */
+    public static String headerValue() {
+        State state = STATE.get();
+        long now = System.nanoTime();
+        StringBuilder header = state.header;
+        header.setLength(0);
+        long handler = state.handlerStart != 0 ? state.handlerStart : now;
+        append(header, "parse", handler - state.requestStart);
+        append(header, "svc", state.serviceNanos);
+        append(header, "db", SqlStatementTracker.nanos() - state.dbStart);
+        append(header, "map", state.mappingNanos);
+        if (state.serializationStart != 0) {
+            append(header, "ser", now - state.serializationStart);
+        }
+        append(header, "total", now - state.requestStart);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        // Milisegundos con 3 decimales sin pasar por String.format
+        long micros = Math.max(0, nanos / 1_000);
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+
+    /**
+     * Estado mutable de la medición de un hilo.
+     */
+    static final class State {
+        private final StringBuilder header = new StringBuilder(128);
+        private boolean active;
+        private long requestStart;
+        private long dbStart;
+        private long handlerStart;
+        private long serializationStart;
+        long serviceNanos;
+        long mappingNanos;
+        int serviceDepth;
+        int mappingDepth;
+    }
+}
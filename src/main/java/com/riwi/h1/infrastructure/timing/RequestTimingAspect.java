@@ -0,0 +1,58 @@
+package com.riwi.h1.infrastructure.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puntos de medición de {@link RequestTiming} en controladores, servicios y mappers.
+ * Si la petición no pidió el desglose, solo se consulta el estado del hilo y se continúa.
+ */
+@Aspect
+@Component
+public class RequestTimingAspect {
+
+    @Around("execution(public * com.riwi.h1.api.controller..*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTiming.State state = RequestTiming.current();
+        if (state != null) {
+            RequestTiming.handlerEntered(state);
+        }
+        return joinPoint.proceed();
+    }
+
+    @Around("execution(public * com.riwi.h1.application.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTiming.State state = RequestTiming.current();
+        if (state == null) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        state.serviceDepth++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (--state.serviceDepth == 0) {
+                state.serviceNanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    @Around("execution(public * com.riwi.h1.api.mapper..*(..))")
+    public Object timeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTiming.State state = RequestTiming.current();
+        if (state == null) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        state.mappingDepth++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (--state.mappingDepth == 0) {
+                state.mappingNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
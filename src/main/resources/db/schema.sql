@@ -0,0 +1,85 @@
+-- Esquema pre-generado para el perfil fast-start (equivale a lo que crea Hibernate con ddl-auto).
+-- Si cambian las entidades, actualizarlo: FastStartSchemaTest lo valida contra el modelo JPA.
+
+create table dictionary_entries (
+    code integer not null,
+    id bigint generated by default as identity,
+    category varchar(20) not null,
+    entry_value varchar(100) not null,
+    primary key (id),
+    constraint uk_dictionary_category_code unique (category, code),
+    constraint uk_dictionary_category_value unique (category, entry_value)
+);
+
+create table events (
+    active boolean,
+    capacity integer,
+    reserved_seats integer,
+    ticket_price float(53),
+    created_at timestamp(6) not null,
+    event_date timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    venue_id bigint,
+    version bigint,
+    name varchar(100) not null,
+    description varchar(500),
+    primary key (id)
+);
+
+create index idx_events_venue_id on events (venue_id);
+create index idx_events_event_date on events (event_date);
+create index idx_events_active_price on events (active, ticket_price);
+
+create table events_archive (
+    active boolean,
+    capacity integer,
+    reserved_seats integer,
+    ticket_price float(53),
+    archived_at timestamp(6) not null,
+    created_at timestamp(6) not null,
+    event_date timestamp(6) not null,
+    id bigint not null,
+    updated_at timestamp(6),
+    venue_id bigint,
+    version bigint,
+    name varchar(100) not null,
+    description varchar(500),
+    primary key (id)
+);
+
+create index idx_events_archive_venue_id on events_archive (venue_id);
+create index idx_events_archive_event_date on events_archive (event_date);
+
+create table outbox_events (
+    aggregate_id bigint not null,
+    aggregate_version bigint,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    aggregate_type varchar(20) not null,
+    change_type varchar(10) not null check (change_type in ('CREATED','UPDATED','DELETED')),
+    payload varchar(4000),
+    primary key (id)
+);
+
+create table outbox_offsets (
+    last_event_id bigint not null,
+    updated_at timestamp(6),
+    consumer varchar(100) not null,
+    primary key (consumer)
+);
+
+create table venues (
+    available boolean,
+    city_code integer not null,
+    country_code integer,
+    max_capacity integer,
+    type_code integer,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    version bigint,
+    name varchar(100) not null,
+    address varchar(200),
+    primary key (id)
+);
@@ -0,0 +1,76 @@
+package com.riwi.h1.admission;
+
+import com.riwi.h1.api.interceptor.AdmissionControlInterceptor;
+import com.riwi.h1.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Descarte por sobrecarga a través del interceptor y del manejador de errores: con el cupo
+ * de lecturas ocupado, la petición recibe 503 con Retry-After sin llegar al controlador.
+ * La ventana de muestreo es más larga que la prueba para que el límite no se ajuste solo.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admission",
+        "admission.window-ms=600000",
+        "admission.retry-after-seconds=7",
+        "admission.groups.read.initial-limit=1",
+        "admission.groups.read.min-limit=1",
+        "admission.groups.read.max-limit=1"
+})
+@AutoConfigureMockMvc
+class AdmissionControlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Test
+    void requestsOverTheGroupLimitAreShedWithRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimiter reads = limiter("read");
+        mockMvc.perform(get("/api/venues")).andExpect(status().isOk());
+
+        // Una lectura en curso ocupa el único cupo del grupo
+        assertTrue(reads.tryAcquire());
+        long start = System.nanoTime();
+        try {
+            long rejected = reads.stats().rejected();
+            mockMvc.perform(get("/api/venues"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.path").value("/api/venues"));
+            assertEquals(rejected + 1, reads.stats().rejected());
+
+            // Los endpoints de diagnóstico no pasan por el control de admisión
+            mockMvc.perform(get("/api/admin/admission")).andExpect(status().isOk());
+        } finally {
+            reads.release(start, false);
+        }
+
+        mockMvc.perform(get("/api/venues")).andExpect(status().isOk());
+        assertEquals(0, reads.stats().inFlight());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private AdaptiveConcurrencyLimiter limiter(String group) {
+        return admissionControlInterceptor.limiters().stream()
+                .filter(limiter -> limiter.getName().equals(group))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,244 @@
+package com.riwi.h1.api.sse;
+
+import com.riwi.h1.application.service.BulkJobService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.OutboxEvent;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.BulkJobType;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Flujo SSE de cambios: filtros, fusión de cambios del mismo recurso, desconexión de
+ * suscriptores lentos y reanudación con Last-Event-ID.
+ * Con un máximo de dos recursos pendientes y una ventana de fusión larga, un suscriptor
+ * que recibe tres recursos distintos seguidos se considera lento.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:change_stream",
+        "outbox.poll-interval-ms=50",
+        "change-stream.max-pending-per-subscriber=2",
+        "change-stream.coalesce-ms=1000"
+})
+@AutoConfigureMockMvc
+class ChangeStreamHubTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private BulkJobService bulkJobService;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void filtersMatchCurrentOrPreviousState() {
+        ChangeView bogotaVenue = ChangeView.ofVenue(1L, "Bogota", true);
+        ChangeView medellinEvent = ChangeView.ofEvent(2L, true, venueId -> "Medellin");
+        ChangeView inactiveEvent = ChangeView.ofEvent(2L, false, venueId -> "Medellin");
+
+        assertTrue(new ChangeFilter(null, "bogota", null).accepts(bogotaVenue, null));
+        assertFalse(new ChangeFilter(null, "Cali", null).accepts(bogotaVenue, null));
+        assertTrue(new ChangeFilter(2L, "Medellin", true).accepts(medellinEvent, null));
+        assertFalse(new ChangeFilter(3L, null, null).accepts(medellinEvent, null));
+        // Un evento que deja de estar activo sigue llegando a quien filtra por activos
+        assertTrue(new ChangeFilter(null, null, true).accepts(inactiveEvent, medellinEvent));
+        assertFalse(new ChangeFilter(null, null, true).accepts(inactiveEvent, null));
+        // Eliminación de un recurso desconocido: se envía
+        assertTrue(new ChangeFilter(1L, null, null).accepts(null, null));
+    }
+
+    @Test
+    void changesOfTheSameResourceAreCoalescedAndSlowSubscribersOverflow() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeSubscription subscription = new ChangeSubscription(emitter, new ChangeFilter(null, null, null), 0, false);
+
+        assertEquals(ChangeSubscription.Offer.SCHEDULE, subscription.offer(change("Venue:1", 1), 2));
+        assertEquals(ChangeSubscription.Offer.COALESCED, subscription.offer(change("Venue:1", 2), 2));
+        assertEquals(ChangeSubscription.Offer.QUEUED, subscription.offer(change("Venue:2", 3), 2));
+        assertEquals(ChangeSubscription.Offer.IGNORED, subscription.offer(change("Venue:3", 3), 2));
+
+        assertEquals(2, subscription.drain());
+        assertEquals(List.of(2L, 3L), emitter.ids, "only the latest change of each resource is sent, in offset order");
+
+        subscription.offer(change("Venue:4", 4), 2);
+        subscription.offer(change("Venue:5", 5), 2);
+        assertEquals(ChangeSubscription.Offer.OVERFLOW, subscription.offer(change("Venue:6", 6), 2));
+    }
+
+    @Test
+    void slowSubscriberIsDisconnected() throws Exception {
+        String city = "Slow city " + System.nanoTime();
+        double before = slowDisconnects();
+        MvcResult stream = mockMvc.perform(get("/api/changes/stream").param("city", city))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitUntil(() -> content(stream).contains("event:connected"));
+
+        for (int i = 0; i < 3; i++) {
+            venueService.create(newVenue(city));
+        }
+        awaitUntil(() -> slowDisconnects() > before);
+    }
+
+    @Test
+    void lastEventIdResumesWithTheMissedChanges() throws Exception {
+        String city = "Resume city " + System.nanoTime();
+        MvcResult first = mockMvc.perform(get("/api/changes/stream").param("city", city))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitUntil(() -> content(first).contains("event:connected"));
+        long lastEventId = ids(first).get(0);
+
+        // Cambios que el cliente "pierde" mientras está desconectado
+        venueService.create(newVenue("Other city " + System.nanoTime()));
+        List<Long> venueIds = List.of(venueService.create(newVenue(city)).getId(),
+                venueService.create(newVenue(city)).getId());
+        // La primera conexión los recibe en vivo: el relay ya los difundió
+        awaitUntil(() -> ids(first).size() == 3);
+
+        MvcResult resumed = mockMvc.perform(get("/api/changes/stream").param("city", city)
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitUntil(() -> ids(resumed).size() >= 2);
+        List<Long> replayed = ids(resumed);
+        assertEquals(2, replayed.size(), "only the missed changes of the filtered city: " + content(resumed));
+        assertTrue(replayed.get(0) > lastEventId && replayed.get(0) < replayed.get(1));
+        assertTrue(content(resumed).contains("\"aggregateId\":" + venueIds.get(0)));
+    }
+
+    @Test
+    void bulkJobChangesReachSubscribers() throws Exception {
+        String city = "Bulk city " + System.nanoTime();
+        Long venueId = venueService.create(newVenue(city)).getId();
+        MvcResult stream = mockMvc.perform(get("/api/changes/stream").param("city", city))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitUntil(() -> content(stream).contains("event:connected"));
+
+        // La sentencia UPDATE masiva no pasa por la entidad: el cambio llega por el outbox
+        bulkJobService.submit(BulkJobType.MARK_VENUES_UNAVAILABLE, null, null, List.of(venueId));
+        awaitUntil(() -> ids(stream).size() == 2);
+        assertTrue(content(stream).contains("\"aggregateId\":" + venueId));
+        assertTrue(content(stream).contains("\"available\":false"), content(stream));
+    }
+
+    @Test
+    void lastEventIdOlderThanTheRetainedOutboxGetsAReset() throws Exception {
+        String city = "Pruned city " + System.nanoTime();
+        MvcResult live = mockMvc.perform(get("/api/changes/stream").param("city", city))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitUntil(() -> content(live).contains("event:connected"));
+        venueService.create(newVenue(city));
+        awaitUntil(() -> ids(live).size() == 2);
+        long tail = latestOffset();
+        // Simula la limpieza del outbox: los cambios hasta "tail" ya no se pueden reenviar
+        outboxEventJpaRepository.deleteProcessedBefore(tail, LocalDateTime.now().plusDays(1));
+
+        MvcResult resumed = mockMvc.perform(get("/api/changes/stream").header("Last-Event-ID", 0))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitUntil(() -> content(resumed).contains("event:reset"));
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private double slowDisconnects() {
+        return meterRegistry.get("change.stream.slow.disconnects").functionCounter().count();
+    }
+
+    private long latestOffset() {
+        return outboxEventJpaRepository.findAll().stream().mapToLong(OutboxEvent::getId).max().orElse(0L);
+    }
+
+    private static List<Long> ids(MvcResult result) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = EVENT_ID.matcher(content(result));
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static String content(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("condition not met within 10 s");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static ChangeSubscription.OutgoingChange change(String key, long offset) {
+        return new ChangeSubscription.OutgoingChange(key, offset, "{}");
+    }
+
+    private static Venue newVenue(String city) {
+        return Venue.builder()
+                .name("Stream venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city(city)
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+
+    /**
+     * Emisor de prueba que anota el ID de cada mensaje enviado.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(part -> EVENT_ID.matcher(part.getData().toString()))
+                    .filter(Matcher::find)
+                    .forEach(matcher -> ids.add(Long.parseLong(matcher.group(1))));
+        }
+    }
+}
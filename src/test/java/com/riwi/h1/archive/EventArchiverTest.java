@@ -0,0 +1,113 @@
+package com.riwi.h1.archive;
+
+import com.riwi.h1.application.service.EventHistoryService;
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.TicketReservationService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.EventHistoryEntry;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.infrastructure.archive.EventArchiver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Archivo de eventos pasados con bloques de un evento; el archivador se ejecuta a mano
+ * (el intervalo programado es mayor que la prueba).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event_archive",
+        "event-archive.retention-days=30",
+        "event-archive.chunk-size=1",
+        "event-archive.chunk-pause-ms=0"
+})
+class EventArchiverTest {
+
+    @Autowired
+    private EventArchiver eventArchiver;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventHistoryService eventHistoryService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private TicketReservationService ticketReservationService;
+
+    @Test
+    void pastEventsMoveToTheArchiveAndStayInTheHistory() throws Exception {
+        Venue venue = venueService.create(newVenue());
+        // El servicio rechaza fechas pasadas: se guardan directamente
+        Event oldest = eventJpaRepository.save(newEvent(venue.getId(), -50));
+        Event old = eventJpaRepository.save(newEvent(venue.getId(), -40));
+        Event recent = eventJpaRepository.save(newEvent(venue.getId(), -10));
+        Event upcoming = eventService.create(newEvent(venue.getId(), 10));
+        assertTrue(eventService.findById(old.getId()).isPresent());
+        ticketReservationService.reserve(old.getId(), 3);
+
+        assertEquals(2, eventArchiver.archivePastEvents());
+        assertEquals(0, eventArchiver.archivePastEvents());
+
+        assertTrue(eventService.findById(old.getId()).isEmpty(), "Archived events leave the hot queries and caches");
+        assertEquals(List.of(recent.getId(), upcoming.getId()), eventService.findByVenueId(venue.getId()).stream()
+                .map(Event::getId)
+                .sorted()
+                .toList());
+
+        EventHistoryEntry archived = eventHistoryService.findById(old.getId()).orElseThrow();
+        assertEquals(old.getName(), archived.event().getName());
+        assertEquals(3, archived.event().getReservedSeats(), "Seats sold before archiving travel with the event");
+        assertNotNull(archived.archivedAt());
+        assertNull(eventHistoryService.findById(upcoming.getId()).orElseThrow().archivedAt());
+
+        assertEquals(List.of(oldest.getId(), old.getId(), recent.getId(), upcoming.getId()),
+                eventHistoryService.findByVenueId(venue.getId()).stream()
+                        .map(entry -> entry.event().getId())
+                        .toList());
+        assertEquals(List.of(old.getId(), recent.getId()),
+                eventHistoryService.findBetween(LocalDateTime.now().minusDays(45), LocalDateTime.now()).stream()
+                        .map(entry -> entry.event().getId())
+                        .toList());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Archive venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+
+    private static Event newEvent(Long venueId, int daysAhead) {
+        return Event.builder()
+                .name("Archive event " + System.nanoTime())
+                .eventDate(LocalDateTime.now().plusDays(daysAhead))
+                .venueId(venueId)
+                .capacity(100)
+                .ticketPrice(50.0)
+                .build();
+    }
+}
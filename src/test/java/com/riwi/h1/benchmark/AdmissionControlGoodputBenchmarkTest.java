@@ -0,0 +1,95 @@
+package com.riwi.h1.benchmark;
+
+import com.riwi.h1.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga del control de admisión contra un servidor simulado.
+ *
+ * El servidor tiene capacidad fija: atiende {@value #CAPACITY} peticiones en paralelo a
+ * {@value #SERVICE_MILLIS} ms cada una y, por encima de eso, la latencia crece
+ * proporcionalmente a la concurrencia (procesador compartido). Un generador de lazo
+ * abierto envía peticiones por encima de la saturación a través de un pool tipo Tomcat
+ * (200 hilos); la latencia se mide desde el instante de envío programado.
+ *
+ * Goodput = respuestas exitosas dentro del SLO por segundo. Sin límite, la cola crece
+ * y casi ninguna respuesta cumple el SLO; con el límite adaptativo el exceso se descarta
+ * rápido y el goodput se mantiene cerca de la capacidad.
+ *
+ * Depende del reloj y de los núcleos disponibles: corre solo con el perfil benchmark
+ * ({@code mvn -Pbenchmark test}). El descarte con 503 a través del interceptor se prueba
+ * en {@code AdmissionControlTest}.
+ */
+@Tag("benchmark")
+class AdmissionControlGoodputBenchmarkTest {
+
+    private static final int CAPACITY = 10;
+    private static final int SERVICE_MILLIS = 10;
+    private static final long SLO_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WORKER_THREADS = 200;
+    private static final int DURATION_SECONDS = 3;
+
+    @Test
+    void adaptiveLimitHoldsGoodputPastSaturation() throws Exception {
+        // Capacidad teórica: CAPACITY / SERVICE_MILLIS = 1000 peticiones/s
+        double unlimited = run(2000, false);
+        double limited = run(2000, true);
+        System.out.printf("Goodput at 2x saturation: unlimited=%.0f req/s, adaptive limit=%.0f req/s%n", unlimited, limited);
+        assertTrue(limited > unlimited, "adaptive limit should keep more requests within the SLO");
+    }
+
+    private double run(int offeredPerSecond, boolean limited) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("load-test", 50, 2, 200, 100);
+        AtomicInteger serving = new AtomicInteger();
+        LongAdder good = new LongAdder();
+        ExecutorService workers = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / offeredPerSecond;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        try {
+            for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intended = scheduled;
+                workers.execute(() -> {
+                    if (limited && !limiter.tryAcquire()) {
+                        return; // 503 inmediato
+                    }
+                    long admitted = System.nanoTime();
+                    int concurrency = serving.incrementAndGet();
+                    try {
+                        // Procesador compartido: más concurrencia que capacidad alarga cada petición
+                        long serviceNanos = TimeUnit.MILLISECONDS.toNanos(SERVICE_MILLIS) * Math.max(1, concurrency) / CAPACITY;
+                        LockSupport.parkNanos(Math.max(TimeUnit.MILLISECONDS.toNanos(SERVICE_MILLIS), serviceNanos));
+                    } finally {
+                        serving.decrementAndGet();
+                        if (limited) {
+                            limiter.release(admitted, true);
+                        }
+                    }
+                    if (System.nanoTime() - intended <= SLO_NANOS) {
+                        good.increment();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdownNow();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        return good.sum() / (double) DURATION_SECONDS;
+    }
+}
@@ -0,0 +1,157 @@
+package com.riwi.h1.benchmark;
+
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mide el efecto de codificar ciudad, país y tipo de venue con diccionario.
+ *
+ * - Memoria: cuenta las instancias de String distintas que quedan en las entidades cargadas,
+ *   frente a una copia de texto por fila y columna (lo que decodifica un driver JDBC de red
+ *   al leer columnas VARCHAR; H2 embebido comparte sus propios objetos y no sirve de referencia).
+ * - Consulta: compara el filtro por ciudad en la tabla venues (códigos enteros) con una copia
+ *   de la misma forma que guarda ciudad, país y tipo como VARCHAR.
+ *
+ * Solo corre con el perfil benchmark ({@code mvn -Pbenchmark test}); el registro de valores
+ * se prueba en {@code StringDictionaryRegistryTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class DictionaryEncodingBenchmarkTest {
+
+    private static final int VENUES = 10_000;
+    private static final int CITIES = 40;
+    private static final int COUNTRIES = 8;
+    private static final int TYPES = 6;
+    private static final int QUERY_ROUNDS = 200;
+
+    @Autowired
+    private VenueJpaRepository venueJpaRepository;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS venues_plain");
+        jdbcTemplate.update("DELETE FROM venues WHERE name LIKE 'Dictionary venue %'");
+    }
+
+    @Test
+    void dictionaryEncodingSharesStringsAndFiltersOnCodes() {
+        List<Venue> seed = new ArrayList<>(VENUES);
+        for (int i = 0; i < VENUES; i++) {
+            seed.add(Venue.builder()
+                    .name("Dictionary venue " + i)
+                    .address("Calle " + i)
+                    // Texto nuevo en cada fila, como llega de las peticiones
+                    .city(new String("Dictionary city " + (i % CITIES)))
+                    .country(new String("Dictionary country " + (i % COUNTRIES)))
+                    .type(new String("Dictionary type " + (i % TYPES)))
+                    .maxCapacity(1000)
+                    .available(true)
+                    .build());
+        }
+        for (int from = 0; from < VENUES; from += 1000) {
+            venueJpaRepository.saveAll(seed.subList(from, from + 1000));
+        }
+
+        // ========== MEMORIA ==========
+        List<Venue> loaded = venueJpaRepository.findAll().stream()
+                .filter(v -> v.getName().startsWith("Dictionary venue "))
+                .toList();
+        assertEquals(VENUES, loaded.size());
+        Set<String> encodedInstances = identitySet();
+        long encodedBytes = 0;
+        for (Venue venue : loaded) {
+            for (String value : List.of(venue.getCity(), venue.getCountry(), venue.getType())) {
+                if (encodedInstances.add(value)) {
+                    encodedBytes += stringBytes(value);
+                }
+            }
+        }
+
+        long perRowBytes = 0;
+        for (Venue venue : loaded) {
+            perRowBytes += stringBytes(venue.getCity()) + stringBytes(venue.getCountry()) + stringBytes(venue.getType());
+        }
+
+        assertTrue(encodedInstances.size() <= CITIES + COUNTRIES + TYPES,
+                "loaded entities should share one String per distinct value");
+
+        // ========== CONSULTA ==========
+        jdbcTemplate.execute("""
+                CREATE TABLE venues_plain AS
+                SELECT v.id, v.name, v.address, c.entry_value AS city, p.entry_value AS country, v.max_capacity,
+                       t.entry_value AS type, v.available, v.version, v.created_at, v.updated_at
+                FROM venues v
+                JOIN dictionary_entries c ON c.category = 'CITY' AND c.code = v.city_code
+                JOIN dictionary_entries p ON p.category = 'COUNTRY' AND p.code = v.country_code
+                JOIN dictionary_entries t ON t.category = 'VENUE_TYPE' AND t.code = v.type_code
+                WHERE v.name LIKE 'Dictionary venue %'""");
+
+        String city = "Dictionary city 7";
+        int cityCode = jdbcTemplate.queryForObject(
+                "SELECT code FROM dictionary_entries WHERE category = 'CITY' AND entry_value = ?", Integer.class, city);
+        Supplier<Integer> byCode = () -> jdbcTemplate.queryForList("SELECT * FROM venues WHERE city_code = ?", cityCode).size();
+        Supplier<Integer> byText = () -> jdbcTemplate.queryForList("SELECT * FROM venues_plain WHERE city = ?", city).size();
+        // Calentamiento de ambas consultas antes de medir cualquiera
+        time(byCode);
+        time(byText);
+        long codeNanos = time(byCode);
+        long textNanos = time(byText);
+        long serviceNanos = time(() -> venueService.findByCity(city).size());
+
+        assertEquals(VENUES / CITIES, venueService.findByCity(city).size());
+
+        System.out.printf("Dictionary encoding, %d venues (%d cities, %d countries, %d types)%n",
+                VENUES, CITIES, COUNTRIES, TYPES);
+        System.out.printf("  strings held by loaded entities: encoded=%d instances (%d KB), per-row text=%d instances (%d KB)%n",
+                encodedInstances.size(), encodedBytes / 1024, loaded.size() * 3, perRowBytes / 1024);
+        System.out.printf("  filter by city, %d rounds: code=%.1f us, text=%.1f us, VenueService.findByCity=%.1f us per query%n",
+                QUERY_ROUNDS, codeNanos / 1_000.0 / QUERY_ROUNDS, textNanos / 1_000.0 / QUERY_ROUNDS,
+                serviceNanos / 1_000.0 / QUERY_ROUNDS);
+    }
+
+    private static long time(Supplier<Integer> query) {
+        for (int i = 0; i < QUERY_ROUNDS / 4; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_ROUNDS; i++) {
+            query.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static Set<String> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Tamaño aproximado de un String Latin-1 con oops comprimidos: objeto (24) + arreglo (16 + largo, alineado a 8).
+     */
+    private static long stringBytes(String value) {
+        return 24 + ((16 + value.length() + 7) / 8) * 8L;
+    }
+}
@@ -0,0 +1,98 @@
+package com.riwi.h1.benchmark;
+
+import com.riwi.h1.H1Application;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mide el costo por petición de la configuración de logging actual (perfil dev: show-sql,
+ * format_sql, BasicBinder TRACE, web DEBUG, consola síncrona) frente al perfil prod
+ * (appender asíncrono, SQL muestreado con umbral de lentitud, sin stack traces).
+ *
+ * Levanta la aplicación una vez por perfil con una base H2 propia y hace las mismas
+ * peticiones secuenciales (lectura por ID y listado por venue); imprime media, p50 y p99.
+ *
+ * Solo imprime resultados: corre con el perfil benchmark ({@code mvn -Pbenchmark test}).
+ */
+@Tag("benchmark")
+class LoggingProfileOverheadBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 100;
+    private static final int MEASURED_REQUESTS = 400;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void compareCurrentConfigurationWithProdProfile() throws Exception {
+        long[] current = measure("dev");
+        long[] prod = measure("prod");
+
+        System.out.println("Per-request latency, " + MEASURED_REQUESTS + " sequential GETs");
+        System.out.println(summary("current (dev)", current));
+        System.out.println(summary("prod", prod));
+        System.out.printf("Mean overhead of current configuration: %.1f us per request%n",
+                (mean(current) - mean(prod)) / 1_000.0);
+    }
+
+    private long[] measure(String profile) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(H1Application.class)
+                .run("--spring.profiles.active=" + profile, "--server.port=0",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:logging_overhead_" + profile)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            send(post(baseUrl + "/api/venues", """
+                    {"name":"Overhead Venue","address":"Calle 1","city":"Medellin","country":"CO","maxCapacity":500,"type":"Teatro"}"""), 201);
+            send(post(baseUrl + "/api/events", """
+                    {"name":"Overhead Event","eventDate":"2030-01-01T20:00:00","venueId":1,"capacity":100,"ticketPrice":50}"""), 201);
+            HttpRequest byId = HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/1")).GET().build();
+            HttpRequest byVenue = HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/venue/1")).GET().build();
+
+            for (int i = 0; i < WARMUP_REQUESTS; i++) {
+                send(i % 2 == 0 ? byId : byVenue, 200);
+            }
+            long[] latencies = new long[MEASURED_REQUESTS];
+            for (int i = 0; i < MEASURED_REQUESTS; i++) {
+                long start = System.nanoTime();
+                send(i % 2 == 0 ? byId : byVenue, 200);
+                latencies[i] = System.nanoTime() - start;
+            }
+            return latencies;
+        }
+    }
+
+    private void send(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        assertEquals(expectedStatus, response.statusCode(), request.uri().toString());
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static double mean(long[] latencies) {
+        return Arrays.stream(latencies).average().orElse(0);
+    }
+
+    private static String summary(String label, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return String.format("%-14s mean=%.0f us  p50=%d us  p99=%d us", label,
+                mean(latencies) / 1_000.0,
+                TimeUnit.NANOSECONDS.toMicros(sorted[sorted.length / 2]),
+                TimeUnit.NANOSECONDS.toMicros(sorted[(int) (sorted.length * 0.99)]));
+    }
+}
@@ -0,0 +1,84 @@
+package com.riwi.h1.benchmark;
+
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.exception.VersionConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de contención: varios hilos incrementan la capacidad del mismo evento
+ * usando PATCH condicional (If-Match) con reintento ante conflicto de versión.
+ * Verifica que no se pierde ninguna actualización e imprime throughput y tasa de conflictos.
+ */
+@SpringBootTest
+class PatchContentionBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 25;
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    void conditionalPatchDoesNotLoseUpdatesUnderContention() throws Exception {
+        Event event = eventService.create(Event.builder()
+                .name("Contention benchmark " + System.nanoTime())
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .capacity(1)
+                .ticketPrice(10.0)
+                .build());
+        Long id = event.getId();
+
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        while (true) {
+                            Event current = eventService.findById(id).orElseThrow();
+                            Event changes = Event.builder().capacity(current.getCapacity() + 1).build();
+                            try {
+                                eventService.patch(id, changes, current.getVersion());
+                                break;
+                            } catch (VersionConflictException e) {
+                                conflicts.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        int totalUpdates = THREADS * INCREMENTS_PER_THREAD;
+        Event result = eventService.findById(id).orElseThrow();
+        assertEquals(1 + totalUpdates, result.getCapacity());
+        assertEquals(event.getVersion() + totalUpdates, result.getVersion());
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("PATCH contention: threads=%d updates=%d conflicts=%d (%.1f%% retried) throughput=%.0f updates/s%n",
+                THREADS, totalUpdates, conflicts.get(),
+                100.0 * conflicts.get() / (totalUpdates + conflicts.get()),
+                totalUpdates / seconds);
+    }
+}
@@ -0,0 +1,142 @@
+package com.riwi.h1.benchmark;
+
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.TicketReservationService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.exception.InsufficientSeatsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de reservas sobre un único evento "caliente" en H2: todos los hilos reservan
+ * un asiento cada vez hasta agotarlo. Compara {@link TicketReservationService#reserve}
+ * (espejo en memoria y UPDATE condicional agrupado) con el camino pesimista de referencia:
+ * bloqueo de la fila del evento (SELECT ... FOR UPDATE), comprobación y el mismo UPDATE,
+ * en una transacción por reserva. Sin log de SQL, que dominaría ambos tiempos.
+ * Verifica que ninguno sobrevende e imprime reservas/segundo para distintas cantidades de hilos.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reservation_benchmark",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class ReservationThroughputBenchmarkTest {
+
+    private static final int CAPACITY = 5_000;
+
+    @Autowired
+    private TicketReservationService ticketReservationService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void hotEventNeverOversells() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[]{1, Math.max(2, cores / 2), cores, cores * 2}) {
+            run("group-commit", threads, this::reserve);
+            run("pessimistic", threads, this::reservePessimistic);
+        }
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private void run(String path, int threads, LongPredicate reserveOne) throws Exception {
+        Long eventId = newHotEvent();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long reserved = 0;
+                    while (reserveOne.test(eventId)) {
+                        reserved++;
+                    }
+                    return reserved;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+            assertEquals(CAPACITY, total, "every seat must be sold exactly once");
+            assertEquals(CAPACITY, reservedSeats(eventId));
+            System.out.printf("Hot event reservations: path=%s threads=%d seats=%d throughput=%.0f reservations/s%n",
+                    path, threads, total, total / seconds);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private boolean reserve(long eventId) {
+        try {
+            ticketReservationService.reserve(eventId, 1);
+            return true;
+        } catch (InsufficientSeatsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Camino de referencia: bloquea la fila, comprueba los asientos libres y actualiza.
+     */
+    private boolean reservePessimistic(long eventId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Event event = entityManager.find(Event.class, eventId, LockModeType.PESSIMISTIC_WRITE);
+            if (event.getCapacity() - event.getReservedSeats() < 1) {
+                return false;
+            }
+            return eventJpaRepository.reserveSeats(eventId, 1) > 0;
+        }));
+    }
+
+    private Long newHotEvent() {
+        return eventService.create(Event.builder()
+                .name("Hot event " + System.nanoTime())
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .capacity(CAPACITY)
+                .ticketPrice(100.0)
+                .build()).getId();
+    }
+
+    private Integer reservedSeats(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT reserved_seats FROM events WHERE id = ?", Integer.class, eventId);
+    }
+}
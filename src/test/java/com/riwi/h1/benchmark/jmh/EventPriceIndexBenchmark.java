@@ -0,0 +1,115 @@
+package com.riwi.h1.benchmark.jmh;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.infrastructure.index.PriceOrderedEvents;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Benchmark del índice de precios (PriceOrderedEvents) frente a lo que hacía un cliente:
+ * recorrer el catálogo completo, filtrar y ordenar por precio.
+ * El índice debería crecer con log n (más los eventos que descarta el filtro);
+ * el recorrido completo, con n log n.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPriceIndexBenchmark {
+
+    private static final int TOP_K = 10;
+    private static final double MAX_PRICE = 500;
+    private static final Comparator<Event> BY_PRICE = Comparator.comparing(Event::getTicketPrice)
+            .thenComparing(Event::getId);
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    private PriceOrderedEvents index;
+    private List<Event> catalog;
+    private LocalDateTime now;
+    private Predicate<Event> activeUpcoming;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        now = LocalDateTime.now();
+        index = new PriceOrderedEvents();
+        catalog = new ArrayList<>(catalogSize);
+        for (int i = 1; i <= catalogSize; i++) {
+            Event event = Event.builder()
+                    .id((long) i)
+                    .name("Event " + i)
+                    // Un cuarto de los eventos ya pasó y uno de cada diez está inactivo
+                    .eventDate(now.plusDays(random.nextInt(400) - 100))
+                    .venueId((long) (i % 100) + 1)
+                    .capacity(500)
+                    .ticketPrice(Math.round(random.nextDouble() * MAX_PRICE * 100) / 100.0)
+                    .active(i % 10 != 0)
+                    .version(0L)
+                    .build();
+            catalog.add(event);
+            index.put(event);
+        }
+        nextId = catalogSize + 1L;
+        activeUpcoming = event -> Boolean.TRUE.equals(event.getActive()) && event.getEventDate().isAfter(now);
+    }
+
+    @Benchmark
+    public List<Event> indexCheapestUpcoming() {
+        return index.findCheapest(activeUpcoming, TOP_K);
+    }
+
+    @Benchmark
+    public List<Event> scanCheapestUpcoming() {
+        return catalog.stream()
+                .filter(activeUpcoming)
+                .sorted(BY_PRICE)
+                .limit(TOP_K)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Event> indexPriceRange() {
+        double min = randomMin();
+        return index.findByPriceBetween(min, min + 25, activeUpcoming, 100);
+    }
+
+    @Benchmark
+    public List<Event> scanPriceRange() {
+        double min = randomMin();
+        return catalog.stream()
+                .filter(event -> event.getTicketPrice() >= min && event.getTicketPrice() <= min + 25)
+                .filter(activeUpcoming)
+                .sorted(BY_PRICE)
+                .limit(100)
+                .toList();
+    }
+
+    /**
+     * Costo de mantener el índice: un cambio de precio (quitar y volver a insertar en la skip list).
+     */
+    @Benchmark
+    public void indexPriceUpdate() {
+        Event event = catalog.get(ThreadLocalRandom.current().nextInt(catalogSize));
+        index.put(event.toBuilder()
+                .ticketPrice(randomMin())
+                .version(nextId++)
+                .build());
+    }
+
+    private static double randomMin() {
+        return ThreadLocalRandom.current().nextDouble(MAX_PRICE - 25);
+    }
+}
@@ -0,0 +1,100 @@
+package com.riwi.h1.benchmark.jmh;
+
+import com.riwi.h1.H1Application;
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark de EventService.create / update contra H2 embebida.
+ * Levanta el contexto de Spring sin servidor web y precarga {@code catalogSize} eventos,
+ * ya que las validaciones (nombre duplicado, existencia del venue) consultan la tabla completa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private Long venueId;
+    private List<Long> eventIds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(H1Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.devtools.restart.enabled=false",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN", "--logging.level.org.hibernate=WARN");
+        eventService = context.getBean(EventService.class);
+
+        venueId = context.getBean(VenueJpaRepository.class).save(Venue.builder()
+                .name("Benchmark Venue")
+                .address("Calle 1")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(100000)
+                .type("Estadio")
+                .available(true)
+                .build()).getId();
+
+        List<Event> seed = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            seed.add(newEvent("Seed " + i));
+        }
+        eventIds = context.getBean(EventJpaRepository.class).saveAll(seed).stream()
+                .map(Event::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Event create() {
+        return eventService.create(newEvent("Bench " + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Event update() {
+        Long id = eventIds.get(ThreadLocalRandom.current().nextInt(eventIds.size()));
+        Event changes = Event.builder()
+                .ticketPrice(40.0 + ThreadLocalRandom.current().nextInt(20))
+                .description("Updated " + sequence.incrementAndGet())
+                .build();
+        return eventService.update(id, changes);
+    }
+
+    private Event newEvent(String name) {
+        return Event.builder()
+                .name(name)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .venueId(venueId)
+                .capacity(500)
+                .ticketPrice(50.0)
+                .active(true)
+                .build();
+    }
+}
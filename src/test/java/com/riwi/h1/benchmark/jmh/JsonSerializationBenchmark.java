@@ -0,0 +1,61 @@
+package com.riwi.h1.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.riwi.h1.api.dto.response.EventResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la serialización JSON de listas de EventResponse,
+ * con un ObjectMapper configurado como el que usa Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int listSize;
+
+    private ObjectWriter writer;
+    private List<EventResponse> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EventResponse.class));
+
+        LocalDateTime now = LocalDateTime.now();
+        events = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            events.add(EventResponse.builder()
+                    .id((long) i + 1)
+                    .name("Event " + i)
+                    .description("Descripción del evento " + i)
+                    .eventDate(now.plusDays(30))
+                    .venueId((long) (i % 10) + 1)
+                    .capacity(500)
+                    .ticketPrice(50.0)
+                    .active(true)
+                    .version(0L)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEventList() throws Exception {
+        return writer.writeValueAsBytes(events);
+    }
+}
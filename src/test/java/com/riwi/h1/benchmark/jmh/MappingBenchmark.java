@@ -0,0 +1,88 @@
+package com.riwi.h1.benchmark.jmh;
+
+import com.riwi.h1.api.dto.request.EventRequest;
+import com.riwi.h1.api.dto.request.VenueRequest;
+import com.riwi.h1.api.dto.response.EventResponse;
+import com.riwi.h1.api.dto.response.VenueResponse;
+import com.riwi.h1.api.mapper.EventMapper;
+import com.riwi.h1.api.mapper.VenueMapper;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del mapeo DTO ↔ entidad que hacen los controladores
+ * (EventMapper / VenueMapper, antes métodos privados de los controladores).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private final EventMapper eventMapper = new EventMapper();
+    private final VenueMapper venueMapper = new VenueMapper();
+
+    private EventRequest eventRequest;
+    private VenueRequest venueRequest;
+    private Event event;
+    private Venue venue;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        eventRequest = EventRequest.builder()
+                .name("Concierto")
+                .description("Concierto de prueba")
+                .eventDate(now.plusDays(30))
+                .venueId(1L)
+                .capacity(500)
+                .ticketPrice(50.0)
+                .active(true)
+                .build();
+        venueRequest = VenueRequest.builder()
+                .name("Teatro")
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+        event = eventMapper.mapToEntity(eventRequest);
+        event.setId(1L);
+        event.setVersion(0L);
+        event.setCreatedAt(now);
+        event.setUpdatedAt(now);
+        venue = venueMapper.mapToEntity(venueRequest);
+        venue.setId(1L);
+        venue.setVersion(0L);
+        venue.setCreatedAt(now);
+        venue.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public Event eventToEntity() {
+        return eventMapper.mapToEntity(eventRequest);
+    }
+
+    @Benchmark
+    public EventResponse eventToResponse() {
+        return eventMapper.mapToResponse(event);
+    }
+
+    @Benchmark
+    public Venue venueToEntity() {
+        return venueMapper.mapToEntity(venueRequest);
+    }
+
+    @Benchmark
+    public VenueResponse venueToResponse() {
+        return venueMapper.mapToResponse(venue);
+    }
+}
@@ -0,0 +1,108 @@
+package com.riwi.h1.benchmark.jmh;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.infrastructure.persistence.EventRepositoryImpl;
+import com.riwi.h1.infrastructure.persistence.VenueRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de los repositorios en memoria (EventRepositoryImpl / VenueRepositoryImpl)
+ * con distintos tamaños de catálogo. Todas sus búsquedas recorren la lista completa,
+ * así que el costo debería crecer linealmente con {@code catalogSize}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final String[] CITIES = {"Medellin", "Bogota", "Cali", "Barranquilla", "Cartagena"};
+
+    @Param({"100", "1000", "10000"})
+    private int catalogSize;
+
+    private EventRepositoryImpl eventRepository;
+    private VenueRepositoryImpl venueRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventRepository = new EventRepositoryImpl();
+        venueRepository = new VenueRepositoryImpl();
+        int venues = Math.max(1, catalogSize / 10);
+        for (int i = 0; i < venues; i++) {
+            venueRepository.save(Venue.builder()
+                    .name("Venue " + i)
+                    .address("Calle " + i)
+                    .city(CITIES[i % CITIES.length])
+                    .country("Colombia")
+                    .maxCapacity(1000)
+                    .type("Teatro")
+                    .available(i % 2 == 0)
+                    .build());
+        }
+        for (int i = 0; i < catalogSize; i++) {
+            eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .eventDate(LocalDateTime.now().plusDays(30))
+                    .venueId((long) (i % venues) + 1)
+                    .capacity(500)
+                    .ticketPrice(50.0)
+                    .active(true)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Optional<Event> eventFindById() {
+        return eventRepository.findById(randomId(catalogSize));
+    }
+
+    @Benchmark
+    public boolean eventExistsById() {
+        return eventRepository.existsById(randomId(catalogSize));
+    }
+
+    @Benchmark
+    public List<Event> eventFindByVenueId() {
+        return eventRepository.findByVenueId(randomId(Math.max(1, catalogSize / 10)));
+    }
+
+    @Benchmark
+    public List<Event> eventFindAll() {
+        return eventRepository.findAll();
+    }
+
+    @Benchmark
+    public Event eventUpdate() {
+        Event current = eventRepository.findById(randomId(catalogSize)).orElseThrow();
+        return eventRepository.update(current);
+    }
+
+    @Benchmark
+    public Optional<Venue> venueFindById() {
+        return venueRepository.findById(randomId(Math.max(1, catalogSize / 10)));
+    }
+
+    @Benchmark
+    public List<Venue> venueFindByCity() {
+        return venueRepository.findByCity(CITIES[ThreadLocalRandom.current().nextInt(CITIES.length)]);
+    }
+
+    @Benchmark
+    public List<Venue> venueFindByAvailable() {
+        return venueRepository.findByAvailable(Boolean.TRUE);
+    }
+
+    private static long randomId(int max) {
+        return ThreadLocalRandom.current().nextLong(max) + 1;
+    }
+}
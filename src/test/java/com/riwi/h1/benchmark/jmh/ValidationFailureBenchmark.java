@@ -0,0 +1,197 @@
+package com.riwi.h1.benchmark.jmh;
+
+import com.riwi.h1.H1Application;
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+import com.riwi.h1.exception.DomainException;
+import com.riwi.h1.exception.ErrorCode;
+import com.riwi.h1.exception.ErrorResponse;
+import com.riwi.h1.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput de EventService.create con un 50% de peticiones inválidas
+ * (nombre vacío, fecha pasada, capacidad o precio fuera de rango, en rotación).
+ * Las inválidas se convierten en ErrorResponse con GlobalExceptionHandler, como en la API.
+ *
+ * createHalfInvalidLegacy reproduce la validación anterior con la misma entrada: consultas de
+ * nombre duplicado y de venue antes de revisar los campos, e IllegalArgumentException nueva
+ * (con stack trace) por cada rechazo. Las peticiones válidas pasan por el mismo EventService.create.
+ *
+ * Como referencia, el costo aislado de lanzar y capturar cada tipo de excepción. El lanzamiento
+ * va en un método que no se inlinea y el mensaje se consume con el Blackhole: si no, el JIT
+ * elimina la excepción por análisis de escape y se mide un bucle vacío.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationFailureBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private EventJpaRepository eventJpaRepository;
+    private VenueJpaRepository venueJpaRepository;
+    private GlobalExceptionHandler exceptionHandler;
+    private MockHttpServletRequest request;
+    private Long venueId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Capacidad inválida leída de un campo: el JIT no puede tratar la validación como constante
+     */
+    private int invalidCapacity = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(H1Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.devtools.restart.enabled=false",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN", "--logging.level.org.hibernate=WARN");
+        eventService = context.getBean(EventService.class);
+        eventJpaRepository = context.getBean(EventJpaRepository.class);
+        venueJpaRepository = context.getBean(VenueJpaRepository.class);
+        exceptionHandler = context.getBean(GlobalExceptionHandler.class);
+        request = new MockHttpServletRequest("POST", "/api/events");
+        venueId = venueJpaRepository.save(Venue.builder()
+                .name("Validation Venue")
+                .address("Calle 1")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(100000)
+                .type("Estadio")
+                .available(true)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object createHalfInvalid() {
+        Event event = nextEvent();
+        try {
+            return eventService.create(event);
+        } catch (DomainException e) {
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleDomainException(e, request);
+            return response.getBody();
+        }
+    }
+
+    @Benchmark
+    public Object createHalfInvalidLegacy() {
+        Event event = nextEvent();
+        try {
+            if (!isValid(event)) {
+                legacyValidate(event);
+            }
+            return eventService.create(event);
+        } catch (IllegalArgumentException e) {
+            ResponseEntity<ErrorResponse> response = exceptionHandler.handleIllegalArgumentException(e, request);
+            return response.getBody();
+        }
+    }
+
+    @Benchmark
+    public void throwNewIllegalArgumentException(Blackhole blackhole) {
+        try {
+            validateCapacityWithNewException(invalidCapacity);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void throwPreallocatedDomainException(Blackhole blackhole) {
+        try {
+            validateCapacityWithDomainException(invalidCapacity);
+        } catch (DomainException e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Evento válido o, en las peticiones impares, con un campo inválido en rotación.
+     */
+    private Event nextEvent() {
+        long n = sequence.incrementAndGet();
+        Event event = Event.builder()
+                .name("Validation " + n)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .venueId(venueId)
+                .capacity(500)
+                .ticketPrice(50.0)
+                .build();
+        if (n % 2 == 1) {
+            switch ((int) (n / 2 % 4)) {
+                case 0 -> event.setName(" ");
+                case 1 -> event.setEventDate(LocalDateTime.now().minusDays(1));
+                case 2 -> event.setCapacity(0);
+                default -> event.setTicketPrice(-1.0);
+            }
+        }
+        return event;
+    }
+
+    private static boolean isValid(Event event) {
+        return !event.getName().isBlank()
+                && event.getEventDate().isAfter(LocalDateTime.now())
+                && event.getCapacity() > 0
+                && event.getTicketPrice() >= 0;
+    }
+
+    /**
+     * Orden de validación anterior: nombre, consultas de duplicado y venue, y luego los campos.
+     */
+    private void legacyValidate(Event event) {
+        if (event.getName().isBlank()) {
+            throw new IllegalArgumentException("Event name cannot be empty");
+        }
+        if (eventJpaRepository.existsByNameIgnoreCase(event.getName())) {
+            throw new IllegalArgumentException("Event with name '" + event.getName() + "' already exists");
+        }
+        if (!venueJpaRepository.existsById(event.getVenueId())) {
+            throw new IllegalArgumentException("Venue with ID " + event.getVenueId() + " not found");
+        }
+        if (event.getEventDate().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Event date must be in the future");
+        }
+        if (event.getCapacity() <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        throw new IllegalArgumentException("Ticket price cannot be negative");
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void validateCapacityWithNewException(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void validateCapacityWithDomainException(int capacity) {
+        if (capacity <= 0) {
+            throw ErrorCode.EVENT_CAPACITY_NOT_POSITIVE.exception();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.riwi.h1.benchmark.load;
+
+import com.riwi.h1.H1Application;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generador de carga de extremo a extremo: levanta la aplicación con H2 embebida en un puerto libre,
+ * siembra un catálogo de venues y eventos y reproduce una mezcla ponderada de rutas reales
+ * en lazo abierto (las peticiones salen a la tasa objetivo sin esperar respuestas previas).
+ *
+ * Uso (desde la raíz del proyecto):
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.riwi.h1.benchmark.load.LoadGenerator \
+ *     -Dload.rate=500 -Dload.duration=60 -Dload.events=10000
+ * </pre>
+ *
+ * Propiedades (todas opcionales):
+ * - load.rate: peticiones por segundo (50)
+ * - load.warmup / load.duration: segundos de calentamiento (descartados) y de medición (10 / 30)
+ * - load.venues / load.events: tamaño del catálogo sembrado (200 / 5000)
+ * - load.mix: pesos por ruta, ej: {@code event-by-id:30,events-all:0} (ver {@link WorkloadRoute})
+ * - load.max-in-flight: peticiones pendientes máximas antes de contarlas como descartadas (5000)
+ * - load.report-dir: directorio del resumen CSV y los .hgrm por ruta (target/load-report)
+ * - load.app.*: se pasan a la aplicación sin el prefijo, ej: {@code -Dload.app.admission.enabled=false}
+ */
+public final class LoadGenerator {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String APP_PREFIX = "load.app.";
+
+    private final Settings settings;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final SeededCatalog catalog;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadGenerator(Settings settings, String baseUrl, SeededCatalog catalog) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        LoadReport report = run(settings);
+        report.print(System.out);
+        report.write(settings.reportDir());
+        System.out.println("Report written to " + settings.reportDir().toAbsolutePath());
+    }
+
+    /**
+     * Levanta la aplicación, siembra el catálogo, ejecuta la carga y detiene la aplicación.
+     */
+    static LoadReport run(Settings settings) throws InterruptedException {
+        // Argumentos de línea de comandos: tienen prioridad sobre application.properties (perfil dev, SQL en consola)
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.profiles.active=test",
+                "--spring.devtools.restart.enabled=false",
+                // Base propia: al cerrar, create-drop no borra las tablas de otros contextos del mismo proceso
+                "--spring.datasource.url=jdbc:h2:mem:load_generator",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate=WARN"));
+        settings.appProperties().forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(H1Application.class)
+                .run(args.toArray(String[]::new))) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            SeededCatalog catalog = SeededCatalog.seed(context.getBean(VenueJpaRepository.class),
+                    context.getBean(EventJpaRepository.class), settings.venues(), settings.events());
+            return new LoadGenerator(settings, "http://localhost:" + port, catalog).drive();
+        }
+    }
+
+    /**
+     * Bucle de envío en lazo abierto. El instante previsto de la petición i es
+     * {@code inicio + i / tasa}; la latencia se mide desde ahí, no desde el envío real.
+     */
+    private LoadReport drive() throws InterruptedException {
+        WorkloadRoute[] routes = WorkloadRoute.values();
+        int[] cumulative = cumulativeWeights(WorkloadRoute.weights(settings.mix()), routes);
+        int totalWeight = cumulative[cumulative.length - 1];
+
+        LoadReport warmupReport = new LoadReport(settings.rate());
+        LoadReport report = new LoadReport(settings.rate());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long measureStart = start + settings.warmup().toNanos();
+        long end = measureStart + settings.duration().toNanos();
+
+        long sequence = 0;
+        for (long intended = start; intended < end; intended = start + (++sequence) * intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            WorkloadRoute route = pick(routes, cumulative, totalWeight);
+            LoadReport target = intended < measureStart ? warmupReport : report;
+            HttpRequest request = route.build(baseUrl, catalog, sequence);
+            if (request == null) {
+                continue;
+            }
+            if (inFlight.get() >= settings.maxInFlight()) {
+                target.recordDropped(route);
+                continue;
+            }
+            send(route, request, intended, target);
+        }
+
+        // Esperar a que terminen las peticiones pendientes antes de cerrar los histogramas
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        report.finish(end - measureStart);
+        return report;
+    }
+
+    private void send(WorkloadRoute route, HttpRequest request, long intended, LoadReport target) {
+        inFlight.incrementAndGet();
+        long sent = System.nanoTime();
+        HttpResponse.BodyHandler<String> handler = route == WorkloadRoute.CREATE_EVENT
+                ? HttpResponse.BodyHandlers.ofString()
+                : HttpResponse.BodyHandlers.replacing(null);
+        client.sendAsync(request, handler).whenComplete((response, error) -> {
+            long completed = System.nanoTime();
+            try {
+                target.record(route, intended, sent, completed, error == null ? response.statusCode() : -1);
+                if (error == null && route == WorkloadRoute.CREATE_EVENT && response.statusCode() == 201) {
+                    Matcher matcher = ID_PATTERN.matcher(response.body());
+                    if (matcher.find()) {
+                        catalog.addCreatedEventId(Long.parseLong(matcher.group(1)));
+                    }
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private static int[] cumulativeWeights(Map<WorkloadRoute, Integer> weights, WorkloadRoute[] routes) {
+        int[] cumulative = new int[routes.length];
+        int total = 0;
+        for (int i = 0; i < routes.length; i++) {
+            total += Math.max(0, weights.get(routes[i]));
+            cumulative[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("load.mix must enable at least one route");
+        }
+        return cumulative;
+    }
+
+    private static WorkloadRoute pick(WorkloadRoute[] routes, int[] cumulative, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < routes.length; i++) {
+            if (ticket < cumulative[i]) {
+                return routes[i];
+            }
+        }
+        return routes[routes.length - 1];
+    }
+
+    /**
+     * Parámetros de una ejecución.
+     */
+    record Settings(double rate, Duration warmup, Duration duration, int venues, int events, String mix,
+                    int maxInFlight, Path reportDir, Map<String, String> appProperties) {
+
+        static Settings fromSystemProperties() {
+            Map<String, String> appProperties = new LinkedHashMap<>();
+            System.getProperties().stringPropertyNames().stream()
+                    .filter(name -> name.startsWith(APP_PREFIX))
+                    .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+            return new Settings(
+                    Double.parseDouble(System.getProperty("load.rate", "50")),
+                    Duration.ofSeconds(Long.getLong("load.warmup", 10)),
+                    Duration.ofSeconds(Long.getLong("load.duration", 30)),
+                    Integer.getInteger("load.venues", 200),
+                    Integer.getInteger("load.events", 5000),
+                    System.getProperty("load.mix", ""),
+                    Integer.getInteger("load.max-in-flight", 5000),
+                    Path.of(System.getProperty("load.report-dir", "target/load-report")),
+                    appProperties);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.riwi.h1.benchmark.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultados del generador de carga por ruta, con histogramas HdrHistogram en microsegundos.
+ *
+ * Se registran dos latencias por petición:
+ * - corregida: desde el instante en que la petición DEBÍA enviarse según la tasa objetivo.
+ *   Si el sistema (o el propio generador) se atrasa, la espera cuenta como latencia,
+ *   así que no hay omisión coordinada.
+ * - servicio: desde el envío real hasta la respuesta; sirve para ver cuánto oculta
+ *   la omisión coordinada cuando se compara con la corregida.
+ */
+final class LoadReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<WorkloadRoute, RouteStats> routes = new EnumMap<>(WorkloadRoute.class);
+    private final double targetRate;
+    private long measuredNanos;
+
+    LoadReport(double targetRate) {
+        this.targetRate = targetRate;
+        for (WorkloadRoute route : WorkloadRoute.values()) {
+            routes.put(route, new RouteStats());
+        }
+    }
+
+    /**
+     * Registra una respuesta (o un fallo de transporte si {@code status} es negativo).
+     */
+    void record(WorkloadRoute route, long intendedNanos, long sentNanos, long completedNanos, int status) {
+        RouteStats stats = routes.get(route);
+        stats.corrected.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos)));
+        stats.service.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos)));
+        if (status < 0) {
+            stats.failures.increment();
+        } else if (status < 400) {
+            stats.success.increment();
+        } else if (status < 500) {
+            stats.clientErrors.increment();
+        } else {
+            stats.serverErrors.increment();
+        }
+    }
+
+    /**
+     * Petición no enviada porque el generador ya tenía demasiadas en vuelo.
+     */
+    void recordDropped(WorkloadRoute route) {
+        routes.get(route).dropped.increment();
+    }
+
+    /**
+     * Cierra la medición y toma la instantánea final de los histogramas.
+     */
+    void finish(long measuredNanos) {
+        this.measuredNanos = measuredNanos;
+        routes.values().forEach(RouteStats::snapshot);
+    }
+
+    long totalRequests() {
+        return routes.values().stream().mapToLong(s -> s.correctedSnapshot.getTotalCount()).sum();
+    }
+
+    long totalServerErrors() {
+        return routes.values().stream().mapToLong(s -> s.serverErrors.sum()).sum();
+    }
+
+    long totalFailures() {
+        return routes.values().stream().mapToLong(s -> s.failures.sum() + s.dropped.sum()).sum();
+    }
+
+    /**
+     * Imprime la tabla resumen (latencias en ms).
+     */
+    void print(PrintStream out) {
+        double seconds = measuredNanos / 1e9;
+        out.printf(Locale.ROOT, "%nOpen-loop load: target %.0f req/s, measured %.1f s, achieved %.1f req/s%n",
+                targetRate, seconds, totalRequests() / seconds);
+        out.printf(Locale.ROOT, "%-32s %8s %8s %7s %6s %6s %6s %9s %9s %9s %9s %9s | %11s%n",
+                "route", "count", "req/s", "2xx/3xx", "4xx", "5xx", "fail", "p50", "p90", "p99", "p99.9", "max",
+                "service p99");
+        Histogram allCorrected = new Histogram(SIGNIFICANT_DIGITS);
+        Histogram allService = new Histogram(SIGNIFICANT_DIGITS);
+        long success = 0, client = 0, server = 0, failures = 0;
+        for (Map.Entry<WorkloadRoute, RouteStats> entry : routes.entrySet()) {
+            RouteStats stats = entry.getValue();
+            if (stats.correctedSnapshot.getTotalCount() == 0 && stats.dropped.sum() == 0) {
+                continue;
+            }
+            allCorrected.add(stats.correctedSnapshot);
+            allService.add(stats.serviceSnapshot);
+            success += stats.success.sum();
+            client += stats.clientErrors.sum();
+            server += stats.serverErrors.sum();
+            failures += stats.failures.sum() + stats.dropped.sum();
+            printRow(out, entry.getKey().label(), stats.correctedSnapshot, stats.serviceSnapshot, seconds,
+                    stats.success.sum(), stats.clientErrors.sum(), stats.serverErrors.sum(),
+                    stats.failures.sum() + stats.dropped.sum());
+        }
+        printRow(out, "ALL", allCorrected, allService, seconds, success, client, server, failures);
+    }
+
+    /**
+     * Escribe el resumen en CSV y la distribución de percentiles completa de cada ruta
+     * (formato .hgrm de HdrHistogram, valores en ms) en el directorio indicado.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        StringBuilder csv = new StringBuilder(
+                "route,count,success,client_errors,server_errors,failures,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms\n");
+        for (Map.Entry<WorkloadRoute, RouteStats> entry : routes.entrySet()) {
+            RouteStats stats = entry.getValue();
+            Histogram h = stats.correctedSnapshot;
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    entry.getKey().label(), h.getTotalCount(), stats.success.sum(), stats.clientErrors.sum(),
+                    stats.serverErrors.sum(), stats.failures.sum() + stats.dropped.sum(),
+                    ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / MICROS_PER_MILLI,
+                    ms(stats.serviceSnapshot, 99)));
+            if (h.getTotalCount() > 0) {
+                String file = entry.getKey().name().toLowerCase(Locale.ROOT).replace('_', '-') + ".hgrm";
+                try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(file)))) {
+                    h.outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+        }
+        Files.writeString(directory.resolve("summary.csv"), csv);
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram corrected, Histogram service,
+                                 double seconds, long success, long client, long server, long failures) {
+        out.printf(Locale.ROOT, "%-32s %8d %8.1f %7d %6d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f | %11.2f%n",
+                label, corrected.getTotalCount(), corrected.getTotalCount() / seconds, success, client, server,
+                failures, ms(corrected, 50), ms(corrected, 90), ms(corrected, 99), ms(corrected, 99.9),
+                corrected.getMaxValue() / MICROS_PER_MILLI, ms(service, 99));
+    }
+
+    private static double ms(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static final class RouteStats {
+        private final Recorder corrected = new Recorder(SIGNIFICANT_DIGITS);
+        private final Recorder service = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private Histogram correctedSnapshot;
+        private Histogram serviceSnapshot;
+
+        private void snapshot() {
+            correctedSnapshot = corrected.getIntervalHistogram();
+            serviceSnapshot = service.getIntervalHistogram();
+        }
+    }
+}
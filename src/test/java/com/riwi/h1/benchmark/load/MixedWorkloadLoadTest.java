@@ -0,0 +1,35 @@
+package com.riwi.h1.benchmark.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ejecución corta del generador de carga (tasa baja, catálogo pequeño) para comprobar
+ * que la mezcla completa de rutas funciona de extremo a extremo y que el reporte se genera.
+ * Las mediciones reales se hacen con {@link LoadGenerator#main} y parámetros de producción.
+ * Levanta la aplicación y genera carga durante segundos: corre solo con el perfil benchmark.
+ */
+@Tag("benchmark")
+class MixedWorkloadLoadTest {
+
+    @Test
+    void mixedWorkloadRunsWithoutServerErrors() throws Exception {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings(25, Duration.ofSeconds(3),
+                Duration.ofSeconds(4), 50, 1000, "", 1000, Path.of("target/load-report"), Map.of());
+
+        LoadReport report = LoadGenerator.run(settings);
+        report.print(System.out);
+        report.write(settings.reportDir());
+
+        assertTrue(report.totalRequests() > 80, "open-loop generator should keep the target rate");
+        assertEquals(0, report.totalServerErrors(), "no route should answer 5xx at low load");
+        assertEquals(0, report.totalFailures(), "no request should fail at transport level");
+    }
+}
@@ -0,0 +1,87 @@
+package com.riwi.h1.benchmark.load;
+
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.VenueJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Catálogo de venues y eventos sembrado directamente con los repositorios JPA
+ * antes de la carga, más la cola de eventos creados por la carga (los que se borran).
+ */
+final class SeededCatalog {
+
+    private static final int BATCH = 1000;
+
+    private final long[] venueIds;
+    private final long[] eventIds;
+    private final ConcurrentLinkedQueue<Long> createdEventIds = new ConcurrentLinkedQueue<>();
+
+    private SeededCatalog(long[] venueIds, long[] eventIds) {
+        this.venueIds = venueIds;
+        this.eventIds = eventIds;
+    }
+
+    static SeededCatalog seed(VenueJpaRepository venueRepository, EventJpaRepository eventRepository,
+                              int venues, int events) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Venue> venueBatch = new ArrayList<>(venues);
+        for (int i = 0; i < venues; i++) {
+            venueBatch.add(Venue.builder()
+                    .name("Seed venue " + i)
+                    .address("Calle " + i + " #" + random.nextInt(100))
+                    .city(WorkloadRoute.CITIES[i % WorkloadRoute.CITIES.length])
+                    .country("Colombia")
+                    .maxCapacity(1000 + random.nextInt(50000))
+                    .type(i % 3 == 0 ? "Estadio" : "Teatro")
+                    .available(i % 4 != 0)
+                    .build());
+        }
+        long[] venueIds = venueRepository.saveAll(venueBatch).stream().mapToLong(Venue::getId).toArray();
+
+        long[] eventIds = new long[events];
+        List<Event> eventBatch = new ArrayList<>(BATCH);
+        int saved = 0;
+        for (int i = 0; i < events; i++) {
+            eventBatch.add(Event.builder()
+                    .name("Seed event " + i)
+                    .description("Evento sembrado para la prueba de carga")
+                    // Un 20% en el pasado para que /upcoming y /active filtren de verdad
+                    .eventDate(LocalDateTime.now().plusDays(random.nextInt(-90, 365)))
+                    .venueId(venueIds[random.nextInt(venueIds.length)])
+                    .capacity(100 + random.nextInt(900))
+                    .ticketPrice(10 + random.nextDouble(190))
+                    .active(i % 10 != 0)
+                    .build());
+            if (eventBatch.size() == BATCH || i == events - 1) {
+                for (Event event : eventRepository.saveAll(eventBatch)) {
+                    eventIds[saved++] = event.getId();
+                }
+                eventBatch.clear();
+            }
+        }
+        return new SeededCatalog(venueIds, eventIds);
+    }
+
+    long randomVenueId() {
+        return venueIds[ThreadLocalRandom.current().nextInt(venueIds.length)];
+    }
+
+    long randomEventId() {
+        return eventIds[ThreadLocalRandom.current().nextInt(eventIds.length)];
+    }
+
+    void addCreatedEventId(long id) {
+        createdEventIds.add(id);
+    }
+
+    Long takeCreatedEventId() {
+        return createdEventIds.poll();
+    }
+}
@@ -0,0 +1,113 @@
+package com.riwi.h1.benchmark.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Rutas reales de la API que reproduce el generador de carga, con su peso por defecto en la mezcla.
+ * El peso se puede cambiar con {@code -Dload.mix=event-by-id:30,create-event:5,...}.
+ */
+enum WorkloadRoute {
+
+    EVENT_BY_ID("event-by-id", "GET /api/events/{id}", 25),
+    EVENTS_ALL("events-all", "GET /api/events", 2),
+    EVENTS_UPCOMING("events-upcoming", "GET /api/events/upcoming", 5),
+    EVENTS_ACTIVE("events-active", "GET /api/events/active", 3),
+    EVENTS_BY_VENUE("events-by-venue", "GET /api/events/venue/{venueId}", 15),
+    VENUE_BY_ID("venue-by-id", "GET /api/venues/{id}", 10),
+    VENUES_BY_CITY("venues-by-city", "GET /api/venues/city/{city}", 15),
+    VENUES_AVAILABLE("venues-available", "GET /api/venues/available", 5),
+    CREATE_EVENT("create-event", "POST /api/events", 8),
+    UPDATE_EVENT("update-event", "PATCH /api/events/{id}", 8),
+    DELETE_EVENT("delete-event", "DELETE /api/events/{id}", 4);
+
+    static final String[] CITIES = {"Medellin", "Bogota", "Cali", "Barranquilla", "Cartagena", "Bucaramanga"};
+
+    private final String key;
+    private final String label;
+    private final int defaultWeight;
+
+    WorkloadRoute(String key, String label, int defaultWeight) {
+        this.key = key;
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    /**
+     * Construye la petición HTTP de esta ruta sobre el catálogo sembrado.
+     *
+     * @param baseUrl URL base de la aplicación
+     * @param catalog Catálogo sembrado (IDs válidos y eventos creados por la carga)
+     * @param sequence Número de petición, para generar nombres únicos
+     * @return La petición, o null si la ruta no tiene datos disponibles (ej: no hay eventos que borrar)
+     */
+    HttpRequest build(String baseUrl, SeededCatalog catalog, long sequence) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (this) {
+            case EVENT_BY_ID -> get(baseUrl + "/api/events/" + catalog.randomEventId());
+            case EVENTS_ALL -> get(baseUrl + "/api/events");
+            case EVENTS_UPCOMING -> get(baseUrl + "/api/events/upcoming");
+            case EVENTS_ACTIVE -> get(baseUrl + "/api/events/active");
+            case EVENTS_BY_VENUE -> get(baseUrl + "/api/events/venue/" + catalog.randomVenueId());
+            case VENUE_BY_ID -> get(baseUrl + "/api/venues/" + catalog.randomVenueId());
+            case VENUES_BY_CITY -> get(baseUrl + "/api/venues/city/" + CITIES[random.nextInt(CITIES.length)]);
+            case VENUES_AVAILABLE -> get(baseUrl + "/api/venues/available");
+            case CREATE_EVENT -> json("POST", baseUrl + "/api/events", String.format(Locale.ROOT,
+                    "{\"name\":\"Load event %d\",\"eventDate\":\"%s\",\"venueId\":%d,\"capacity\":%d,\"ticketPrice\":%.2f}",
+                    sequence, LocalDateTime.now().plusDays(30 + random.nextInt(300)).withNano(0),
+                    catalog.randomVenueId(), 100 + random.nextInt(900), 10 + random.nextDouble(190)));
+            case UPDATE_EVENT -> json("PATCH", baseUrl + "/api/events/" + catalog.randomEventId(),
+                    String.format(Locale.ROOT, "{\"ticketPrice\":%.2f}", 10 + random.nextDouble(190)));
+            case DELETE_EVENT -> {
+                Long id = catalog.takeCreatedEventId();
+                yield id == null ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/" + id))
+                        .DELETE()
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Pesos de la mezcla: los valores por defecto, sobrescritos por {@code spec}
+     * (formato {@code clave:peso,clave:peso}; peso 0 desactiva la ruta).
+     */
+    static Map<WorkloadRoute, Integer> weights(String spec) {
+        Map<WorkloadRoute, Integer> weights = new LinkedHashMap<>();
+        for (WorkloadRoute route : values()) {
+            weights.put(route, route.defaultWeight);
+        }
+        if (spec == null || spec.isBlank()) {
+            return weights;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            WorkloadRoute route = Arrays.stream(values())
+                    .filter(r -> r.key.equals(parts[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown route in load.mix: " + parts[0]));
+            weights.put(route, Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static HttpRequest json(String method, String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.riwi.h1.benchmark.startup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de arranque: tiempo desde que se lanza la JVM hasta la primera respuesta 200 de GET /api/events.
+ *
+ * Compara, con el mismo jar empaquetado por {@code mvn -Pfast-start package}:
+ * - baseline: arranque actual (sin AOT ni CDS, esquema con ddl-auto, OpenAPI generado en runtime)
+ * - fast-start: código AOT, archivo AppCDS, esquema pre-generado y OpenAPI estático
+ *
+ * Uso: {@code mvn -Pfast-start verify -Dstartup.benchmark.skip=false [-Dstartup.runs=5]}
+ * o directamente {@code StartupBenchmark <runs> <directorio target> <nombre del jar>}.
+ * Los tiempos de cada corrida quedan en target/startup-benchmark.csv.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Path buildDir = Path.of(args.length > 1 ? args[1] : "target");
+        String finalName = args.length > 2 ? args[2] : "h1-0.0.1-SNAPSHOT";
+
+        Path jar = buildDir.resolve(finalName + ".jar");
+        Path fastStartDir = buildDir.resolve("fast-start");
+        Path extractedJar = fastStartDir.resolve(finalName + ".jar");
+        Path archive = fastStartDir.resolve("application.jsa");
+        for (Path required : List.of(jar, extractedJar, archive)) {
+            if (!Files.exists(required)) {
+                throw new IllegalStateException(required + " not found, build with: mvn -Pfast-start package");
+            }
+        }
+
+        List<Mode> modes = List.of(
+                new Mode("baseline", List.of("-jar", jar.toString(), "--spring.profiles.active=test")),
+                new Mode("fast-start", List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+                        "-jar", extractedJar.toString(), "--spring.profiles.active=fast-start")));
+
+        StringBuilder csv = new StringBuilder("mode,run,millis\n");
+        List<String> summary = new ArrayList<>();
+        for (Mode mode : modes) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = timeToFirstResponse(mode);
+                csv.append(mode.name()).append(',').append(run + 1).append(',').append(millis[run]).append('\n');
+                System.out.printf(Locale.ROOT, "%-10s run %d: %d ms%n", mode.name(), run + 1, millis[run]);
+            }
+            Arrays.sort(millis);
+            summary.add(String.format(Locale.ROOT, "%-10s min=%d ms  median=%d ms  max=%d ms",
+                    mode.name(), millis[0], millis[runs / 2], millis[runs - 1]));
+        }
+        Files.writeString(buildDir.resolve("startup-benchmark.csv"), csv);
+
+        System.out.println();
+        System.out.println("Time to first successful GET /api/events (" + runs + " runs)");
+        summary.forEach(System.out::println);
+    }
+
+    private static long timeToFirstResponse(Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(mode.arguments());
+        command.add("--server.port=" + port);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException notListeningYet) {
+                    // El servidor todavía no acepta conexiones
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode.name() + " did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, List<String> arguments) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.riwi.h1.cache;
+
+import com.riwi.h1.H1Application;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.infrastructure.cache.NearCache;
+import com.riwi.h1.infrastructure.cache.NearCacheRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Levanta dos nodos de la aplicación en la misma JVM, con una base H2 compartida
+ * y las invalidaciones de la caché cercana enviadas por UDP en loopback.
+ *
+ * Comprueba que una escritura en un nodo invalida la copia del otro y que
+ * un mensaje atrasado no reinstala una versión vieja.
+ */
+class NearCacheMultiInstanceTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:near_cache_nodes;DB_CLOSE_DELAY=-1";
+    private static final long PROPAGATION_TIMEOUT_MS = 2_000;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        int portA = freeUdpPort();
+        int portB = freeUdpPort();
+        // El nodo A crea el esquema; el B se conecta a la misma base sin tocarlo
+        nodeA = start(portA, portB, "--spring.sql.init.mode=always",
+                "--spring.sql.init.schema-locations=classpath:db/schema.sql");
+        nodeB = start(portB, portA, "--spring.sql.init.mode=never");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void updateOnOneNodeInvalidatesTheOther() throws InterruptedException {
+        VenueService venuesA = nodeA.getBean(VenueService.class);
+        VenueService venuesB = nodeB.getBean(VenueService.class);
+        Venue created = venuesA.create(venue("Teatro Cercano"));
+
+        Venue cachedOnB = venuesB.findById(created.getId()).orElseThrow();
+        assertEquals(created.getVersion(), cachedOnB.getVersion());
+
+        Venue updated = venuesA.update(created.getId(), Venue.builder().name("Teatro Renovado").build());
+
+        Venue seenByB = awaitOn(() -> venuesB.findById(created.getId()),
+                found -> found.isPresent() && updated.getVersion().equals(found.get().getVersion()))
+                .orElseThrow();
+        assertEquals("Teatro Renovado", seenByB.getName());
+    }
+
+    @Test
+    void deleteOnOneNodeInvalidatesTheOther() throws InterruptedException {
+        VenueService venuesA = nodeA.getBean(VenueService.class);
+        VenueService venuesB = nodeB.getBean(VenueService.class);
+        Venue created = venuesA.create(venue("Teatro Efimero"));
+        assertTrue(venuesB.findById(created.getId()).isPresent());
+
+        venuesA.deleteById(created.getId());
+
+        awaitOn(() -> venuesB.findById(created.getId()).orElse(null), found -> found == null);
+    }
+
+    @Test
+    void delayedMessagesDoNotReinstateStaleData() {
+        NearCache<Venue> cache = nodeB.getBean(NearCacheRegistry.class).venues();
+        long id = 9_000_001L;
+        Venue v1 = Venue.builder().id(id).name("Version 1").version(1L).build();
+        Venue v2 = Venue.builder().id(id).name("Version 2").version(2L).build();
+
+        assertTrue(cache.put(id, v2));
+        // Una invalidación de la versión 1 llega tarde: no borra la versión 2
+        cache.invalidate(id, 1L);
+        assertEquals("Version 2", cache.get(id, Optional::empty).orElseThrow().getName());
+        // Una lectura lenta que trae la versión 1 tampoco la reemplaza
+        assertFalse(cache.put(id, v1));
+
+        // Tras el borrado, una lectura atrasada no resucita la entidad
+        cache.invalidate(id, NearCache.DELETED);
+        assertFalse(cache.put(id, v2));
+        assertTrue(cache.get(id, Optional::empty).isEmpty());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static ConfigurableApplicationContext start(int port, int peerPort, String... extraArgs) {
+        String[] args = {
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.devtools.restart.enabled=false",
+                "--spring.datasource.url=" + DATABASE_URL,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--near-cache.port=" + port,
+                "--near-cache.peers=127.0.0.1:" + peerPort
+        };
+        String[] all = new String[args.length + extraArgs.length];
+        System.arraycopy(args, 0, all, 0, args.length);
+        System.arraycopy(extraArgs, 0, all, args.length, extraArgs.length);
+        return new SpringApplicationBuilder(H1Application.class).run(all);
+    }
+
+    private static int freeUdpPort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static <T> T awaitOn(Supplier<T> read, Predicate<T> done) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT_MS;
+        T value = read.get();
+        while (!done.test(value)) {
+            assertTrue(System.currentTimeMillis() < deadline, "Invalidation did not reach the peer node in time");
+            Thread.sleep(20);
+            value = read.get();
+        }
+        return value;
+    }
+
+    private static Venue venue(String name) {
+        return Venue.builder()
+                .name(name)
+                .address("Calle 10 # 20-30")
+                .city("Medellin")
+                .country("CO")
+                .maxCapacity(300)
+                .type("Teatro")
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.riwi.h1.cache;
+
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.infrastructure.cache.SecondLevelCache;
+import com.riwi.h1.sql.SqlBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Caché de segundo nivel de venues, con la caché local desactivada para que las lecturas
+ * lleguen a Hibernate.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:second_level_cache",
+        "near-cache.max-entries=0"
+})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        Venue venue = venueService.create(newVenue());
+        venueService.findById(venue.getId());
+        venueService.findByCity("Medellin");
+
+        SqlBudget.measure(() -> venueService.findById(venue.getId()))
+                .assertStatementsAtMost(0);
+        SqlBudget.measure(() -> venueService.findByCity("Medellin"))
+                .assertStatementsAtMost(0);
+
+        SecondLevelCache.Stats entities = stats(Venue.CACHE_REGION);
+        assertTrue(entities.hits() > 0);
+        assertTrue(entities.size() > 0);
+        assertTrue(stats(Venue.QUERY_CACHE_REGION).hits() > 0);
+    }
+
+    @Test
+    void availabilityChangesInvalidateCachedQueries() {
+        Venue venue = venueService.create(newVenue());
+        assertTrue(availableIds().contains(venue.getId()));
+
+        venueService.markAsUnavailable(venue.getId());
+        assertFalse(availableIds().contains(venue.getId()));
+        assertFalse(venueService.findById(venue.getId()).orElseThrow().getAvailable());
+
+        venueService.markAsAvailable(venue.getId());
+        assertTrue(availableIds().contains(venue.getId()));
+    }
+
+    @Test
+    void bulkUpdatesInvalidateCachedEntities() {
+        Venue venue = venueService.create(newVenue());
+        venueService.findById(venue.getId());
+
+        venueService.patch(venue.getId(), Venue.builder().maxCapacity(2000).build(), null);
+
+        assertEquals(2000, venueService.findById(venue.getId()).orElseThrow().getMaxCapacity());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private List<Long> availableIds() {
+        return venueService.findAvailableVenues().stream().map(Venue::getId).toList();
+    }
+
+    private SecondLevelCache.Stats stats(String region) {
+        return secondLevelCache.stats().stream()
+                .filter(stats -> stats.region().equals(region))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Cached venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.riwi.h1.coalescing;
+
+import com.riwi.h1.exception.ServiceUnavailableException;
+import com.riwi.h1.infrastructure.concurrent.RequestCoalescer;
+import com.riwi.h1.infrastructure.concurrent.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Coalescencia de lecturas: la carga del líder se detiene en un latch hasta que todas las
+ * seguidoras se unieron, así el reparto del resultado no depende del reloj.
+ * Cada prueba usa su propio grupo para que las métricas no se mezclen.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coalescing",
+        "coalescing.timeouts.test.slow=100"
+})
+@AutoConfigureMockMvc
+class RequestCoalescerTest {
+
+    private static final int FOLLOWERS = 4;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalLoadsShareOneCall() throws Exception {
+        SingleFlight<Long, String> flight = requestCoalescer.flight("test.shared");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.load(1L, () -> {
+            calls.incrementAndGet();
+            await(release);
+            return new String("event-1");
+        }));
+        awaitUntil(() -> flight.stats().inFlight() == 1);
+        List<Future<String>> followers = joinFollowers(flight, () -> {
+            calls.incrementAndGet();
+            return "unexpected";
+        });
+        awaitUntil(() -> flight.stats().followers() == FOLLOWERS);
+        release.countDown();
+
+        String value = leader.get(5, TimeUnit.SECONDS);
+        for (Future<String> follower : followers) {
+            assertSame(value, follower.get(5, TimeUnit.SECONDS), "followers get the leader's result");
+        }
+        assertEquals(1, calls.get());
+
+        // Una clave distinta no se une a la carga de otra
+        assertEquals("event-2", flight.load(2L, () -> "event-2"));
+
+        SingleFlight.Stats stats = flight.stats();
+        assertEquals(2, stats.leaders());
+        assertEquals(FOLLOWERS, stats.followers());
+        assertEquals(0, stats.inFlight());
+        assertEquals(FOLLOWERS / (FOLLOWERS + 2.0), stats.coalescingRatio(), 1e-9);
+        assertEquals(FOLLOWERS, meterRegistry.get("coalescing.followers").tag("flight", "test.shared")
+                .functionCounter().count(), 1e-9);
+        mockMvc.perform(get("/api/admin/coalescing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'test.shared')].coalescingRatio").value(FOLLOWERS / (FOLLOWERS + 2.0)));
+    }
+
+    @Test
+    void followersGiveUpAfterTheKeyTimeoutAndNewCallersStartAFreshLoad() throws Exception {
+        SingleFlight<Long, String> flight = requestCoalescer.flight("test.slow");
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stuck = executor.submit(() -> flight.load(1L, () -> {
+            await(release);
+            return "stale";
+        }));
+        awaitUntil(() -> flight.stats().inFlight() == 1);
+
+        long start = System.nanoTime();
+        ServiceUnavailableException timeout = assertThrows(ServiceUnavailableException.class,
+                () -> flight.load(1L, () -> "unexpected"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "follower waits at most the key timeout");
+        assertEquals(1, timeout.getRetryAfterSeconds());
+        assertEquals(1, flight.stats().timeouts());
+
+        // Vencido el plazo, la siguiente petición no se une a la carga atascada
+        assertEquals("fresh", flight.load(1L, () -> "fresh"));
+        release.countDown();
+        assertEquals("stale", stuck.get(5, TimeUnit.SECONDS));
+        assertEquals(2, flight.stats().leaders());
+    }
+
+    @Test
+    void aFailingLeaderPropagatesItsExceptionToFollowers() throws Exception {
+        SingleFlight<Long, String> flight = requestCoalescer.flight("test.failing");
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+
+        Future<String> leader = executor.submit(() -> flight.load(1L, () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitUntil(() -> flight.stats().inFlight() == 1);
+        List<Future<String>> followers = joinFollowers(flight, () -> "unexpected");
+        awaitUntil(() -> flight.stats().followers() == FOLLOWERS);
+        release.countDown();
+
+        assertSame(failure, cause(leader));
+        for (Future<String> follower : followers) {
+            assertSame(failure, cause(follower));
+        }
+        // Una carga fallida no queda en vuelo: la siguiente lectura reintenta
+        assertEquals("recovered", flight.load(1L, () -> "recovered"));
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private List<Future<String>> joinFollowers(SingleFlight<Long, String> flight, Supplier<String> loader) {
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> flight.load(1L, loader)));
+        }
+        return followers;
+    }
+
+    private static Throwable cause(Future<String> future) throws InterruptedException {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            return fail("load should have failed");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (TimeoutException e) {
+            return fail("load did not finish");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not reached");
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.riwi.h1.dictionary;
+
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.exception.DomainException;
+import com.riwi.h1.exception.ErrorCode;
+import com.riwi.h1.infrastructure.dictionary.DictionaryCategory;
+import com.riwi.h1.infrastructure.dictionary.StringDictionaryRegistry;
+import com.riwi.h1.sql.SqlBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Registro de valores de diccionario dentro de la transacción que los usa.
+ * Con un pool de dos conexiones, altas concurrentes de venues con ciudades nuevas
+ * agotarían el pool si el registro pidiera una segunda conexión durante el flush.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dictionary",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=3000"
+})
+class StringDictionaryRegistryTest {
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private StringDictionaryRegistry dictionaryRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentCreatesWithNewValuesDoNotExhaustThePool() throws Exception {
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Venue>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String city = "New city " + t + " " + System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return venueService.create(newVenue(city));
+                }));
+            }
+            start.countDown();
+            for (Future<Venue> future : futures) {
+                String city = future.get(30, TimeUnit.SECONDS).getCity();
+                assertTrue(dictionaryRegistry.lookup(DictionaryCategory.CITY, city).isPresent());
+                assertEquals(1, venueService.findByCity(city).size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void valuesOfARolledBackWriteAreNotRegistered() {
+        String city = "Rolled back city " + System.nanoTime();
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            venueService.create(newVenue(city));
+            throw new IllegalStateException("mutation failed");
+        }));
+        assertTrue(dictionaryRegistry.lookup(DictionaryCategory.CITY, city).isEmpty());
+    }
+
+    @Test
+    void missingValuesAreRememberedAndBlankFiltersAreRejected() {
+        String city = "Nowhere " + System.nanoTime();
+        assertTrue(venueService.findByCity(city).isEmpty());
+        SqlBudget.measure(() -> venueService.findByCity(city))
+                .assertStatementsAtMost(0);
+
+        assertEquals(ErrorCode.VENUE_CITY_EMPTY,
+                assertThrows(DomainException.class, () -> venueService.findByCity(" ")).getErrorCode());
+        assertEquals(ErrorCode.VENUE_COUNTRY_EMPTY,
+                assertThrows(DomainException.class, () -> venueService.findByCountry(" ")).getErrorCode());
+        assertEquals(ErrorCode.VENUE_TYPE_EMPTY,
+                assertThrows(DomainException.class, () -> venueService.findByType("")).getErrorCode());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static Venue newVenue(String city) {
+        return Venue.builder()
+                .name("Dictionary venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city(city)
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.riwi.h1.faststart;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Verifica que el esquema pre-generado (db/schema.sql) del perfil fast-start coincide con las entidades:
+ * se crea con el script y Hibernate lo valida (ddl-auto=validate) al levantar el contexto.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fast_start_schema",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/schema.sql"
+})
+class FastStartSchemaTest {
+
+    @Test
+    void schemaScriptMatchesEntities() {
+    }
+}
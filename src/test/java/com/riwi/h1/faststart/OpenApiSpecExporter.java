@@ -0,0 +1,46 @@
+package com.riwi.h1.faststart;
+
+import com.riwi.h1.H1Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Genera la especificación OpenAPI en tiempo de build para el perfil fast-start.
+ *
+ * Levanta la aplicación en un puerto libre, descarga /api-docs y la escribe en el archivo
+ * indicado (por defecto target/classes/static/openapi.json, que queda dentro del jar).
+ * Lo ejecuta el perfil Maven fast-start en la fase prepare-package.
+ */
+public final class OpenApiSpecExporter {
+
+    private OpenApiSpecExporter() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args.length > 0 ? args[0] : "target/classes/static/openapi.json").toAbsolutePath();
+        // DevTools relanzaría el main en otro hilo; se desactiva antes de arrancar
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(H1Application.class)
+                .run("--spring.profiles.active=test", "--server.port=0",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN")) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String path = context.getEnvironment().getProperty("springdoc.api-docs.path", "/v3/api-docs");
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("OpenAPI export failed with status " + response.statusCode());
+            }
+            Files.createDirectories(target.getParent());
+            Files.writeString(target, response.body());
+            System.out.println("OpenAPI specification written to " + target);
+        }
+    }
+}
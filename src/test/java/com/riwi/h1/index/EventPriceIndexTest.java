@@ -0,0 +1,167 @@
+package com.riwi.h1.index;
+
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.infrastructure.index.EventPriceIndex;
+import com.riwi.h1.infrastructure.index.PriceOrderedEvents;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Índice de precios en memoria; las pasadas programadas se espacian y se ejecutan a mano.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:price_index",
+        "price-index.apply-interval-ms=3600000",
+        "price-index.rebuild-interval-ms=3600000"
+})
+class EventPriceIndexTest {
+
+    @Autowired
+    private EventPriceIndex priceIndex;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Test
+    void priceQueriesFollowTheIndexAndMatchTheDatabase() {
+        String city = "Price city " + System.nanoTime();
+        Venue inCity = venueService.create(newVenue(city));
+        Venue elsewhere = venueService.create(newVenue("Other city " + System.nanoTime()));
+        Event cheap = eventService.create(newEvent(inCity.getId(), 10.0));
+        Event middle = eventService.create(newEvent(elsewhere.getId(), 20.0));
+        Event expensive = eventService.create(newEvent(inCity.getId(), 30.0));
+        Event inactive = eventService.create(newEvent(inCity.getId(), 5.0));
+        eventService.update(inactive.getId(), Event.builder().active(false).build());
+        priceIndex.rebuild();
+        assertTrue(priceIndex.isReady());
+
+        assertEquals(ids(middle, expensive), ids(eventService.findByPriceRange(15.0, 30.0, true, 10)));
+        assertEquals(ids(eventJpaRepository.findByActiveTrueAndTicketPriceBetweenOrderByTicketPriceAscIdAsc(
+                15.0, 30.0, Limit.of(10))), ids(eventService.findByPriceRange(15.0, 30.0, false, 10)));
+        assertEquals(ids(cheap, expensive), ids(eventService.findCheapestUpcoming(city, 5)));
+        assertEquals(ids(cheap), ids(eventService.findCheapestUpcoming(city, 1)));
+
+        // Un cambio de precio se ve tras aplicar los pendientes; una eliminación, al confirmarse
+        eventService.update(expensive.getId(), Event.builder().ticketPrice(1.0).build());
+        priceIndex.applyPendingChanges();
+        assertEquals(ids(expensive, cheap), ids(eventService.findCheapestUpcoming(city, 5)));
+
+        eventService.deleteById(cheap.getId());
+        assertEquals(ids(expensive), ids(eventService.findCheapestUpcoming(city, 5)));
+    }
+
+    @Test
+    void staleVersionDoesNotOverwriteANewerOne() {
+        PriceOrderedEvents events = new PriceOrderedEvents();
+        events.put(indexed(1L, 2L, 20.0));
+        events.put(indexed(1L, 1L, 10.0));
+
+        List<Event> found = events.findCheapest(event -> true, 10);
+        assertEquals(1, found.size());
+        assertEquals(20.0, found.get(0).getTicketPrice());
+        assertEquals(2L, found.get(0).getVersion());
+    }
+
+    @Test
+    void lateReloadDoesNotReinstateADeletedEvent() {
+        PriceOrderedEvents events = new PriceOrderedEvents();
+        events.put(indexed(1L, 1L, 10.0));
+        events.remove(1L);
+        // Recarga atrasada, leída antes de la eliminación
+        events.put(indexed(1L, 1L, 10.0));
+
+        assertEquals(0, events.size());
+        assertEquals(List.of(), events.findCheapest(event -> true, 10));
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileItWasReading() {
+        PriceOrderedEvents events = new PriceOrderedEvents();
+        events.put(indexed(1L, 1L, 10.0));
+        events.put(indexed(2L, 1L, 20.0));
+        long readStartedAt = System.nanoTime();
+        // Mientras la reconstrucción lee: se actualiza 1, se crea 3 y se elimina 2
+        events.put(indexed(1L, 2L, 30.0));
+        events.put(indexed(3L, 1L, 40.0));
+        events.remove(2L);
+
+        events.replaceAll(List.of(indexed(1L, 1L, 10.0), indexed(2L, 1L, 20.0)), readStartedAt);
+
+        assertEquals(List.of(1L, 3L), ids(events.findCheapest(event -> true, 10)));
+        assertEquals(30.0, events.findCheapest(event -> true, 1).get(0).getTicketPrice());
+    }
+
+    @Test
+    void selectiveFilterStopsAfterMaxScanned() {
+        PriceOrderedEvents events = new PriceOrderedEvents(2);
+        for (long id = 1; id <= 3; id++) {
+            events.put(indexed(id, 1L, id * 10.0));
+        }
+
+        assertEquals(List.of(1L, 2L), ids(events.findCheapest(event -> true, 2)));
+        assertNull(events.findCheapest(event -> event.getId() == 3L, 1));
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static Event indexed(Long id, Long version, double price) {
+        return Event.builder()
+                .id(id)
+                .version(version)
+                .name("Indexed event " + id)
+                .eventDate(LocalDateTime.now().plusDays(10))
+                .ticketPrice(price)
+                .active(true)
+                .build();
+    }
+
+    private static List<Long> ids(Event... events) {
+        return ids(List.of(events));
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+
+    private static Venue newVenue(String city) {
+        return Venue.builder()
+                .name("Price venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city(city)
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+
+    private static Event newEvent(Long venueId, double price) {
+        return Event.builder()
+                .name("Price event " + System.nanoTime())
+                .eventDate(LocalDateTime.now().plusDays(10))
+                .venueId(venueId)
+                .capacity(100)
+                .ticketPrice(price)
+                .active(true)
+                .build();
+    }
+}
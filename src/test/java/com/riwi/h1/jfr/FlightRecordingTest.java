@@ -0,0 +1,123 @@
+package com.riwi.h1.jfr;
+
+import com.jayway.jsonpath.JsonPath;
+import com.riwi.h1.api.controller.FlightRecordingController;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.infrastructure.jfr.FlightRecordingManager;
+import com.riwi.h1.infrastructure.jfr.JfrRecordingAnalyzer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Grabación JFR de extremo a extremo: se graban llamadas conocidas a un servicio y se
+ * comprueba el resumen por etapa, tanto del endpoint como del archivo descargado.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flight_recording",
+        "jfr.recordings.enabled=true"
+})
+@AutoConfigureMockMvc
+class FlightRecordingTest {
+
+    private static final int CALLS = 5;
+    private static final String STAGE = "service:VenueService.findAll";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Test
+    void recordingIsSummarizedPerStage() throws Exception {
+        venueService.create(newVenue());
+        venueService.create(newVenue());
+
+        String body = mockMvc.perform(post("/api/admin/jfr/recordings").param("durationSeconds", "60"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(body, "$.id")).longValue();
+
+        for (int i = 0; i < CALLS; i++) {
+            assertEquals(2, venueService.findAll().size());
+        }
+
+        // Resumen de una grabación en curso (copia de lo grabado hasta ahora)
+        mockMvc.perform(get("/api/admin/jfr/recordings/{id}/summary", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.stage == '" + STAGE + "')].count").value(CALLS))
+                .andExpect(jsonPath("$[?(@.stage == '" + STAGE + "')].rowsPerCall").value(2.0));
+
+        byte[] recording = mockMvc.perform(get("/api/admin/jfr/recordings/{id}/file", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Path file = Files.createTempFile("flight-recording-test-", ".jfr");
+        try {
+            Files.write(file, recording);
+            List<JfrRecordingAnalyzer.StageSummary> stages = JfrRecordingAnalyzer.analyze(file);
+
+            JfrRecordingAnalyzer.StageSummary findAll = stages.stream()
+                    .filter(stage -> stage.stage().equals(STAGE))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(CALLS, findAll.count());
+            assertEquals(2.0, findAll.rowsPerCall(), 1e-9);
+            assertTrue(findAll.statementsPerCall() >= 1.0, "each call reads the venues table");
+            assertTrue(findAll.p50Millis() <= findAll.p99Millis() && findAll.p99Millis() <= findAll.maxMillis());
+            assertEquals(findAll.totalMillis() / CALLS, findAll.avgMillis(), 0.001);
+            assertThat(stages).anyMatch(stage -> stage.stage().startsWith("repository:"));
+            assertThat(stages).isSortedAccordingTo((a, b) -> Double.compare(b.totalMillis(), a.totalMillis()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        mockMvc.perform(delete("/api/admin/jfr/recordings/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/admin/jfr/recordings/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void recordingEndpointsAreOffUnlessEnabled() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(FlightRecordingManager.class, FlightRecordingController.class);
+
+        runner.run(context -> assertThat(context).doesNotHaveBean(FlightRecordingController.class)
+                .doesNotHaveBean(FlightRecordingManager.class));
+        runner.withPropertyValues("jfr.recordings.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(FlightRecordingController.class));
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Recorded venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.riwi.h1.jobs;
+
+import com.jayway.jsonpath.JsonPath;
+import com.riwi.h1.application.service.BulkJobService;
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.BulkJob;
+import com.riwi.h1.domain.model.BulkJobStatus;
+import com.riwi.h1.domain.model.ChangeType;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Trabajos masivos de extremo a extremo: un solo hilo trabajador, cola de un trabajo,
+ * bloques de dos eventos y una pausa entre bloques larga para poder observar el avance
+ * y cancelar a mitad de camino.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk_jobs",
+        "jobs.workers=1",
+        "jobs.queue-capacity=1",
+        "jobs.chunk-size=2",
+        "jobs.chunk-pause-ms=300"
+})
+@AutoConfigureMockMvc
+class BulkJobTest {
+
+    private static final int EVENTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkJobService bulkJobService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Test
+    void repriceRunsInChunksAndReportsProgress() throws Exception {
+        Venue venue = venueService.create(newVenue());
+        List<Long> eventIds = createEvents(venue.getId());
+
+        String id = submitReprice(venue.getId(), 10.0);
+        mockMvc.perform(get("/api/jobs/{id}/result", id))
+                .andExpect(status().isAccepted());
+
+        // Primer bloque confirmado, el resto pendiente
+        awaitJob(id, job -> job.getProcessedItems().get() > 0);
+        mockMvc.perform(get("/api/jobs/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.totalItems").value(EVENTS))
+                .andExpect(jsonPath("$.processedItems").value(2));
+
+        awaitJob(id, job -> job.getStatus().isFinished());
+        mockMvc.perform(get("/api/jobs/{id}/result", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.processedItems").value(EVENTS))
+                .andExpect(jsonPath("$.affectedItems").value(EVENTS))
+                .andExpect(jsonPath("$.progressPercent").value(100.0));
+        for (Long eventId : eventIds) {
+            Event event = eventJpaRepository.findById(eventId).orElseThrow();
+            assertEquals(110.0, event.getTicketPrice(), 0.001);
+            // Cada evento modificado deja su cambio en el outbox con la versión nueva
+            assertTrue(outboxEventJpaRepository.findAll().stream()
+                    .anyMatch(change -> change.getAggregateType().equals("Event")
+                            && change.getAggregateId().equals(eventId)
+                            && change.getAggregateVersion().equals(event.getVersion())
+                            && change.getChangeType() == ChangeType.UPDATED));
+        }
+    }
+
+    @Test
+    void cancellationStopsAfterTheCurrentChunk() throws Exception {
+        Venue venue = venueService.create(newVenue());
+        List<Long> eventIds = createEvents(venue.getId());
+
+        String id = submitReprice(venue.getId(), 50.0);
+        awaitJob(id, job -> job.getProcessedItems().get() > 0);
+        mockMvc.perform(delete("/api/jobs/{id}", id))
+                .andExpect(status().isAccepted());
+
+        BulkJob job = awaitJob(id, current -> current.getStatus().isFinished());
+        assertEquals(BulkJobStatus.CANCELLED, job.getStatus());
+        int processed = job.getProcessedItems().get();
+        assertTrue(processed < EVENTS, "cancelled job should not process every chunk");
+
+        // Los bloques confirmados se conservan; el resto queda sin tocar
+        long repriced = eventIds.stream()
+                .filter(eventId -> eventJpaRepository.findById(eventId).orElseThrow().getTicketPrice() > 100.0)
+                .count();
+        assertEquals(processed, repriced);
+    }
+
+    @Test
+    void fullQueueRejectsNewJobsWith503() throws Exception {
+        Venue venue = venueService.create(newVenue());
+        createEvents(venue.getId());
+
+        // Uno ocupa el único hilo y otro la única plaza de la cola
+        String running = submitReprice(venue.getId(), 1.0);
+        awaitJob(running, job -> job.getStatus() == BulkJobStatus.RUNNING);
+        String queued = submitReprice(venue.getId(), 1.0);
+
+        mockMvc.perform(post("/api/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(repriceBody(venue.getId(), 1.0)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+
+        bulkJobService.cancel(running);
+        bulkJobService.cancel(queued);
+        assertEquals(BulkJobStatus.CANCELLED, awaitJob(queued, job -> job.getStatus().isFinished()).getStatus());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private String submitReprice(Long venueId, double percentageChange) throws Exception {
+        String body = mockMvc.perform(post("/api/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(repriceBody(venueId, percentageChange)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
+    private static String repriceBody(Long venueId, double percentageChange) {
+        return "{\"type\":\"REPRICE_VENUE_EVENTS\",\"venueId\":" + venueId
+                + ",\"percentageChange\":" + percentageChange + "}";
+    }
+
+    private BulkJob awaitJob(String id, Predicate<BulkJob> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            BulkJob job = bulkJobService.findById(id).orElseThrow();
+            if (condition.test(job)) {
+                return job;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return fail("Job " + id + " did not reach the expected state");
+    }
+
+    private List<Long> createEvents(Long venueId) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            ids.add(eventService.create(Event.builder()
+                    .name("Bulk event " + System.nanoTime())
+                    .eventDate(LocalDateTime.now().plusDays(30))
+                    .venueId(venueId)
+                    .capacity(100)
+                    .ticketPrice(100.0)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Bulk venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+}
@@ -0,0 +1,305 @@
+package com.riwi.h1.outbox;
+
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.config.OutboxProperties;
+import com.riwi.h1.domain.entity.OutboxEvent;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.ChangeType;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import com.riwi.h1.infrastructure.outbox.ChangeRecord;
+import com.riwi.h1.infrastructure.outbox.OutboxOffsetStore;
+import com.riwi.h1.infrastructure.outbox.OutboxReader;
+import com.riwi.h1.infrastructure.outbox.OutboxRelay;
+import com.riwi.h1.infrastructure.outbox.OutboxSink;
+import com.riwi.h1.infrastructure.outbox.OutboxWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Outbox de cambios: atomicidad con la modificación, entrega en orden por sink,
+ * reanudación desde el offset guardado, espera de huecos y API de lectura.
+ * El relay programado está apagado; las pruebas usan su propio relay con sinks de prueba.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox",
+        "outbox.enabled=false",
+        "outbox.gap-wait-ms=100"
+})
+@AutoConfigureMockMvc
+class OutboxTest {
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private OutboxReader outboxReader;
+
+    @Autowired
+    private OutboxOffsetStore offsetStore;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void outboxRowRollsBackWithTheFailedMutation() {
+        long before = outboxEventJpaRepository.count();
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            outboxWriter.record("Venue", 1L, 1L, ChangeType.UPDATED, Map.of("name", "never"));
+            throw new IllegalStateException("mutation failed");
+        }));
+        assertEquals(before, outboxEventJpaRepository.count());
+
+        // Sin transacción no hay nada con qué confirmar el cambio
+        assertThrows(IllegalTransactionStateException.class, () -> outboxWriter.recordDeletion("Venue", 1L));
+
+        venueService.create(newVenue());
+        assertEquals(before + 1, outboxEventJpaRepository.count());
+    }
+
+    @Test
+    void relayDeliversInOrderAndResumesFromTheStoredOffset() {
+        RecordingSink healthy = new RecordingSink("test-healthy");
+        RecordingSink flaky = new RecordingSink("test-flaky");
+        flaky.failing = true;
+        long tail = startAtTail(healthy, flaky);
+
+        List<Long> venueIds = List.of(venueService.create(newVenue()).getId(),
+                venueService.create(newVenue()).getId(),
+                venueService.create(newVenue()).getId());
+
+        OutboxRelay relay = new OutboxRelay(outboxReader, offsetStore, outboxEventJpaRepository,
+                enabledProperties(), List.of(healthy, flaky));
+        // Dos pasadas: la primera puede detenerse en el hueco de un cambio revertido por otra prueba
+        relay.relay();
+        relay.relay();
+
+        assertEquals(venueIds, healthy.aggregateIds());
+        assertIncreasing(healthy.offsets());
+        assertTrue(flaky.received.isEmpty(), "the failing sink receives nothing");
+        long last = healthy.offsets().get(healthy.offsets().size() - 1);
+        assertEquals(last, offsetStore.get("test-healthy"));
+        assertEquals(tail, offsetStore.get("test-flaky"), "a failing sink keeps its offset");
+
+        flaky.failing = false;
+        relay.relay();
+        assertEquals(healthy.offsets(), flaky.offsets(), "the recovered sink gets the same changes in order");
+
+        // Un relay nuevo (reinicio) retoma desde el offset guardado
+        RecordingSink restarted = new RecordingSink("test-healthy");
+        OutboxRelay restartedRelay = new OutboxRelay(outboxReader, offsetStore, outboxEventJpaRepository,
+                enabledProperties(), List.of(restarted));
+        restartedRelay.relay();
+        assertTrue(restarted.received.isEmpty());
+
+        Long next = venueService.create(newVenue()).getId();
+        restartedRelay.relay();
+        assertEquals(List.of(next), restarted.aggregateIds());
+    }
+
+    @Test
+    void gapIsHeldWhileItsTransactionIsOpen() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Long> slow = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Long id = outboxEventJpaRepository.save(deletion(100L)).getId();
+            inserted.countDown();
+            await(finish);
+            return id;
+        }));
+        assertTrue(inserted.await(10, TimeUnit.SECONDS));
+        Long fast = transactionTemplate.execute(status -> outboxEventJpaRepository.save(deletion(101L)).getId());
+
+        long before = fast - 2;
+        assertTrue(outboxReader.readAfter(before, 10).isEmpty());
+        // Más que gap-wait-ms: la transacción sigue abierta, así que el hueco se sigue esperando
+        Thread.sleep(300);
+        assertTrue(outboxReader.readAfter(before, 10).isEmpty());
+
+        finish.countDown();
+        Long held = slow.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(held, fast), outboxReader.readAfter(before, 10).stream()
+                .map(ChangeRecord::offset)
+                .toList());
+    }
+
+    @Test
+    void gapOfARolledBackTransactionIsSkipped() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> rolledBack = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            outboxEventJpaRepository.save(deletion(200L));
+            inserted.countDown();
+            await(finish);
+            status.setRollbackOnly();
+        }));
+        assertTrue(inserted.await(10, TimeUnit.SECONDS));
+        Long fast = transactionTemplate.execute(status -> outboxEventJpaRepository.save(deletion(201L)).getId());
+
+        long before = fast - 2;
+        assertTrue(outboxReader.readAfter(before, 10).isEmpty());
+
+        finish.countDown();
+        rolledBack.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(fast), outboxReader.readAfter(before, 10).stream()
+                .map(ChangeRecord::offset)
+                .toList());
+    }
+
+    @Test
+    void changeFeedReadsAfterAnOffsetAndResumesForAConsumer() throws Exception {
+        Long venueId = venueService.create(newVenue()).getId();
+        long offset = outboxEventJpaRepository.findAll().stream().mapToLong(OutboxEvent::getId).max().orElseThrow();
+
+        mockMvc.perform(get("/api/changes").param("after", String.valueOf(offset - 1)).param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].offset").value(offset))
+                .andExpect(jsonPath("$.changes[0].aggregateId").value(venueId))
+                .andExpect(jsonPath("$.changes[0].changeType").value("CREATED"))
+                .andExpect(jsonPath("$.nextOffset").value(offset));
+
+        mockMvc.perform(put("/api/changes/consumers/feed-test").param("offset", String.valueOf(offset)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/changes").param("consumer", "feed-test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.nextOffset").value(offset));
+
+        mockMvc.perform(get("/api/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void emptyPatchIsRejectedWithoutANewVersion() throws Exception {
+        Venue venue = venueService.create(newVenue());
+        long before = outboxEventJpaRepository.count();
+
+        mockMvc.perform(patch("/api/venues/{id}", venue.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VEN-011"));
+
+        assertEquals(before, outboxEventJpaRepository.count());
+        assertEquals(venue.getVersion(), venueService.findById(venue.getId()).orElseThrow().getVersion());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Hace que los sinks empiecen tras el último cambio ya escrito por otras pruebas.
+     */
+    private long startAtTail(OutboxSink... sinks) {
+        long tail = outboxEventJpaRepository.findAll().stream().mapToLong(OutboxEvent::getId).max().orElse(0L);
+        for (OutboxSink sink : sinks) {
+            offsetStore.commit(sink.name(), tail);
+        }
+        return tail;
+    }
+
+    private static OutboxProperties enabledProperties() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setEnabled(true);
+        return properties;
+    }
+
+    private static void assertIncreasing(List<Long> offsets) {
+        for (int i = 1; i < offsets.size(); i++) {
+            assertTrue(offsets.get(i) > offsets.get(i - 1), "offsets must be delivered in order: " + offsets);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OutboxEvent deletion(Long aggregateId) {
+        return OutboxEvent.builder()
+                .aggregateType("Event")
+                .aggregateId(aggregateId)
+                .changeType(ChangeType.DELETED)
+                .build();
+    }
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Outbox venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+
+    /**
+     * Sink de prueba que guarda lo recibido; puede simular una caída.
+     */
+    private static final class RecordingSink implements OutboxSink {
+
+        private final String name;
+        private final List<ChangeRecord> received = new ArrayList<>();
+        private volatile boolean failing;
+
+        private RecordingSink(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void publish(List<ChangeRecord> changes) {
+            if (failing) {
+                throw new IllegalStateException("sink down");
+            }
+            received.addAll(changes);
+        }
+
+        private List<Long> offsets() {
+            return received.stream().map(ChangeRecord::offset).toList();
+        }
+
+        private List<Long> aggregateIds() {
+            return received.stream().map(ChangeRecord::aggregateId).toList();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.riwi.h1.reservation;
+
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.TicketReservationService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.repository.jpa.EventJpaRepository;
+import com.riwi.h1.exception.InsufficientSeatsException;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Reservas confirmadas en la BD: dos instancias del motor venden el mismo evento sin
+ * sobreventa, y los cambios de capacidad solo llegan al inventario en memoria al confirmarse.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:ticket_reservations")
+class TicketReservationServiceTest {
+
+    private static final int CAPACITY = 100;
+
+    @Autowired
+    private TicketReservationService ticketReservationService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventShards shards;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void twoInstancesNeverOversellTheSameEvent() throws Exception {
+        Event event = eventService.create(newEvent());
+        // Segunda "instancia": otro motor con su propio inventario en memoria
+        TicketReservationService otherNode = new TicketReservationService(eventJpaRepository, shards);
+        List<TicketReservationService> nodes = List.of(ticketReservationService, otherNode);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                TicketReservationService node = nodes.get(t % 2);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int sold = 0;
+                    for (int i = 0; i < 40; i++) {
+                        try {
+                            node.reserve(event.getId(), 1);
+                            sold++;
+                        } catch (InsufficientSeatsException e) {
+                            // Agotado
+                        }
+                    }
+                    return sold;
+                }));
+            }
+            start.countDown();
+            int sold = 0;
+            for (Future<Integer> future : futures) {
+                sold += future.get();
+            }
+            assertEquals(CAPACITY, sold);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(CAPACITY, eventJpaRepository.findSeatsById(event.getId()).orElseThrow().reservedSeats());
+
+        // La otra instancia libera; esta lo ve al resincronizar y puede volver a vender
+        otherNode.release(event.getId(), 1);
+        ticketReservationService.reconcile();
+        ticketReservationService.reserve(event.getId(), 1);
+        assertThrows(InsufficientSeatsException.class, () -> otherNode.reserve(event.getId(), 1));
+    }
+
+    @Test
+    void capacityChangesReachMemoryOnlyOnCommit() {
+        Event event = eventService.create(newEvent());
+        ticketReservationService.reserve(event.getId(), 10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.patch(event.getId(), Event.builder().capacity(5).build(), null));
+
+        Event shrunk = eventJpaRepository.findById(event.getId()).orElseThrow();
+        shrunk.setCapacity(20);
+        transactionTemplate.executeWithoutResult(status -> {
+            ticketReservationService.onEventUpdated(shrunk);
+            status.setRollbackOnly();
+        });
+        assertEquals(CAPACITY, ticketReservationService.getAvailability(event.getId()).getCapacity());
+
+        eventService.patch(event.getId(), Event.builder().capacity(20).build(), null);
+        assertEquals(20, ticketReservationService.getAvailability(event.getId()).getCapacity());
+        assertEquals(10, ticketReservationService.getAvailability(event.getId()).getAvailableSeats());
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private Event newEvent() {
+        Venue venue = venueService.create(Venue.builder()
+                .name("Reservation venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build());
+        return Event.builder()
+                .name("Reservation event " + System.nanoTime())
+                .eventDate(LocalDateTime.now().plusDays(10))
+                .venueId(venue.getId())
+                .capacity(CAPACITY)
+                .ticketPrice(50.0)
+                .build();
+    }
+}
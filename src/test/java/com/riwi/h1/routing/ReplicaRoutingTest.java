@@ -0,0 +1,150 @@
+package com.riwi.h1.routing;
+
+import com.riwi.h1.config.ReplicaRoutingProperties;
+import com.riwi.h1.infrastructure.routing.ReplicaRouter;
+import com.riwi.h1.infrastructure.routing.SimulatedReplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Enrutamiento de lecturas con una base principal y una réplica H2 embebidas.
+ * La replicación simulada solo corre al arrancar y cuando la prueba llama a replicateNow(),
+ * así que la réplica queda atrasada exactamente lo que la prueba decide.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica_routing_primary",
+        "replica-routing.enabled=true",
+        "replica-routing.replicas[0].name=r1",
+        "replica-routing.replicas[0].url=jdbc:h2:mem:replica_routing_r1;DB_CLOSE_DELAY=-1",
+        "replica-routing.max-lag-ms=60000",
+        "replica-routing.heartbeat-interval-ms=20",
+        "replica-routing.lag-check-interval-ms=20",
+        "replica-routing.simulate-replication=true",
+        "replica-routing.replication-interval-ms=3600000"
+})
+class ReplicaRoutingTest {
+
+    private static final String TOKEN_HEADER = "X-Consistency-Token";
+    private static final long WAIT_MS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimulatedReplication replication;
+
+    @Autowired
+    private ReplicaRouter router;
+
+    @Autowired
+    private ReplicaRoutingProperties properties;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void readsGoToReplicaUnlessTheClientMustSeeItsWrite() throws Exception {
+        replicateAndWaitForReplica();
+
+        HttpResponse<String> created = post("/api/venues", venueJson("Teatro Replicado", "Replicalandia"));
+        assertEquals(201, created.statusCode());
+        String token = created.headers().firstValue(TOKEN_HEADER).orElse(null);
+        assertNotNull(token, "Writes must return a consistency token");
+
+        // La réplica todavía no tiene el venue: sin token se sirve la copia atrasada
+        assertEquals("[]", get("/api/venues/city/Replicalandia", null).body());
+        // Con el token, la réplica no alcanza la escritura y la lectura va a la principal
+        assertTrue(get("/api/venues/city/Replicalandia", token).body().contains("Teatro Replicado"));
+
+        // Una vez replicado, la misma lectura con token ya se sirve desde la réplica
+        replicateAndWaitForReplica();
+        long replicaReads = replicaReads();
+        assertTrue(get("/api/venues/city/Replicalandia", token).body().contains("Teatro Replicado"));
+        assertEquals(replicaReads + 1, replicaReads());
+    }
+
+    @Test
+    void replicaBeyondLagToleranceFallsBackToPrimary() throws Exception {
+        replicateAndWaitForReplica();
+        assertEquals(201, post("/api/venues", venueJson("Teatro Atrasado", "Lagopolis")).statusCode());
+        assertEquals("[]", get("/api/venues/city/Lagopolis", null).body());
+
+        long maxLag = properties.getMaxLagMs();
+        long lagReads = router.primaryReads().get(ReplicaRouter.PrimaryReason.LAG);
+        properties.setMaxLagMs(100);
+        try {
+            Thread.sleep(300);
+            assertTrue(get("/api/venues/city/Lagopolis", null).body().contains("Teatro Atrasado"));
+            assertTrue(router.primaryReads().get(ReplicaRouter.PrimaryReason.LAG) > lagReads);
+        } finally {
+            properties.setMaxLagMs(maxLag);
+        }
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Replica la principal y espera a que el monitor lea en la réplica un latido posterior a la copia.
+     */
+    private void replicateAndWaitForReplica() throws Exception {
+        Thread.sleep(50);
+        long copiedAt = System.currentTimeMillis();
+        replication.replicateNow();
+        await(() -> {
+            double lag = router.stats().get(0).lagMillis();
+            return !Double.isNaN(lag) && System.currentTimeMillis() - lag >= copiedAt - 50;
+        });
+    }
+
+    private long replicaReads() {
+        return router.stats().get(0).reads();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (!condition.getAsBoolean()) {
+            assertFalse(System.currentTimeMillis() > deadline, "Replica did not report its position in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+        if (token != null) {
+            request.header(TOKEN_HEADER, token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), path);
+        return response;
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String venueJson(String name, String city) {
+        return """
+                {"name":"%s","address":"Calle 10 # 20-30","city":"%s","country":"CO","maxCapacity":300,"type":"Teatro"}"""
+                .formatted(name, city);
+    }
+}
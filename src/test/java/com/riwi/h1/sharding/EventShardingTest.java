@@ -0,0 +1,199 @@
+package com.riwi.h1.sharding;
+
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.VenueBulkDeletion;
+import com.riwi.h1.domain.repository.jpa.OutboxEventJpaRepository;
+import com.riwi.h1.exception.DomainException;
+import com.riwi.h1.exception.DuplicateResourceException;
+import com.riwi.h1.exception.ErrorCode;
+import com.riwi.h1.infrastructure.sharding.EventShards;
+import com.riwi.h1.infrastructure.sharding.ShardRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Particionado de eventos con dos shards H2 embebidos: el principal (shard 0) y s1 (shard 1).
+ * Los venues de ID par guardan sus eventos en el shard 0 y los de ID impar en el shard 1.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event_sharding_main",
+        "sharding.enabled=true",
+        "sharding.shards[0].name=s1",
+        "sharding.shards[0].url=jdbc:h2:mem:event_sharding_s1;DB_CLOSE_DELAY=-1",
+        "sharding.outbox-forward-interval-ms=20"
+})
+class EventShardingTest {
+
+    private static final long WAIT_MS = 2_000;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private EventShards shards;
+
+    @Autowired
+    private ShardRegistry registry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    private Venue evenVenue;
+    private Venue oddVenue;
+
+    @BeforeEach
+    void createVenues() {
+        Venue first = venueService.create(newVenue());
+        Venue second = venueService.create(newVenue());
+        evenVenue = first.getId() % 2 == 0 ? first : second;
+        oddVenue = first.getId() % 2 == 0 ? second : first;
+    }
+
+    @Test
+    void eventsLiveInTheShardOfTheirVenueWithInterleavedIds() throws Exception {
+        Event onMain = eventService.create(newEvent(evenVenue.getId(), 10));
+        Event onShard = eventService.create(newEvent(oddVenue.getId(), 10));
+
+        assertEquals(1, onMain.getId() % 2, "Shard 0 generates odd IDs");
+        assertEquals(0, onShard.getId() % 2, "Shard 1 generates even IDs");
+        assertEquals(1, countEvents(registry.dataSources().get(0), oddVenue.getId()));
+        assertEquals(0, countEvents(dataSource, oddVenue.getId()));
+        assertEquals(1, countEvents(dataSource, evenVenue.getId()));
+
+        assertEquals(onShard.getName(), eventService.findById(onShard.getId()).orElseThrow().getName());
+        assertEquals(List.of(onShard.getId()), eventService.findByVenueId(oddVenue.getId()).stream()
+                .map(Event::getId)
+                .toList());
+        assertEquals(1, venueService.countEventsByVenue(oddVenue.getId()));
+        assertEquals(List.of(onShard.getId()), venueService.findWithEvents(oddVenue.getId(), false, 0, 10).events().stream()
+                .map(Event::getId)
+                .toList());
+
+        DomainException hasEvents = assertThrows(DomainException.class, () -> venueService.deleteById(oddVenue.getId()));
+        assertEquals(ErrorCode.VENUE_HAS_EVENTS, hasEvents.getErrorCode());
+    }
+
+    @Test
+    void globalQueriesMergeAllShardsInOrder() {
+        Event later = eventService.create(newEvent(evenVenue.getId(), 40));
+        Event sooner = eventService.create(newEvent(oddVenue.getId(), 20));
+
+        List<Long> all = eventService.findAll().stream().map(Event::getId).toList();
+        assertTrue(all.containsAll(List.of(later.getId(), sooner.getId())));
+        assertEquals(all.stream().sorted().toList(), all);
+
+        List<Event> upcoming = eventService.findUpcomingEvents();
+        assertTrue(upcoming.indexOf(findIn(upcoming, sooner)) < upcoming.indexOf(findIn(upcoming, later)));
+        assertEquals(upcoming.stream().sorted(Comparator.comparing(Event::getEventDate)).toList(), upcoming);
+    }
+
+    @Test
+    void eventNamesAreUniqueAcrossShards() {
+        Event event = eventService.create(newEvent(evenVenue.getId(), 10));
+        Event duplicate = newEvent(oddVenue.getId(), 10);
+        duplicate.setName(event.getName().toUpperCase());
+
+        assertThrows(DuplicateResourceException.class, () -> eventService.create(duplicate));
+    }
+
+    @Test
+    void eventCannotMoveToAVenueInAnotherShard() {
+        Event event = eventService.create(newEvent(evenVenue.getId(), 10));
+
+        DomainException moved = assertThrows(DomainException.class, () ->
+                eventService.update(event.getId(), Event.builder().venueId(oddVenue.getId()).build()));
+        assertEquals(ErrorCode.EVENT_VENUE_OTHER_SHARD, moved.getErrorCode());
+        assertEquals(evenVenue.getId(), eventService.findById(event.getId()).orElseThrow().getVenueId());
+    }
+
+    @Test
+    void bulkDeleteSeesEventsInOtherShards() {
+        eventService.create(newEvent(oddVenue.getId(), 10));
+
+        VenueBulkDeletion deletion = venueService.deleteByIds(List.of(evenVenue.getId(), oddVenue.getId()));
+
+        assertEquals(List.of(evenVenue.getId()), deletion.deleted());
+        assertEquals(List.of(oddVenue.getId()), deletion.withEvents());
+        assertTrue(venueService.findById(oddVenue.getId()).isPresent());
+    }
+
+    @Test
+    void shardChangesReachTheMainOutbox() throws Exception {
+        Event event = eventService.create(newEvent(oddVenue.getId(), 10));
+        assertEquals(1, shards.shardOfEvent(event.getId()));
+
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (outboxEventJpaRepository.findAll().stream()
+                .noneMatch(change -> "Event".equals(change.getAggregateType())
+                        && change.getAggregateId().equals(event.getId()))) {
+            assertFalse(System.currentTimeMillis() > deadline, "Shard change was not forwarded in time");
+            Thread.sleep(10);
+        }
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static Event findIn(List<Event> events, Event event) {
+        return events.stream()
+                .filter(candidate -> candidate.getId().equals(event.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static long countEvents(DataSource dataSource, Long venueId) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM events WHERE venue_id = ?")) {
+            statement.setLong(1, venueId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Shard venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+
+    private static Event newEvent(Long venueId, int daysAhead) {
+        return Event.builder()
+                .name("Shard event " + System.nanoTime())
+                .eventDate(LocalDateTime.now().plusDays(daysAhead))
+                .venueId(venueId)
+                .capacity(100)
+                .ticketPrice(50.0)
+                .build();
+    }
+}
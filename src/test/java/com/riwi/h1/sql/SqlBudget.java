@@ -0,0 +1,101 @@
+package com.riwi.h1.sql;
+
+import com.riwi.h1.infrastructure.jdbc.SqlStatementTracker;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * API de pruebas para fijar presupuestos de sentencias SQL.
+ *
+ * <pre>
+ * SqlBudget.measure(() -> venueService.deleteById(id))
+ *         .assertStatementsAtMost(3)
+ *         .assertNoRepeatedStatements();
+ * </pre>
+ *
+ * La acción debe ejecutarse en el hilo de la prueba (los contadores son por hilo).
+ */
+public final class SqlBudget<T> {
+
+    private final T result;
+    private final SqlStatementTracker.Snapshot used;
+    private final Map<String, Integer> repeats;
+
+    private SqlBudget(T result, SqlStatementTracker.Snapshot used, Map<String, Integer> repeats) {
+        this.result = result;
+        this.used = used;
+        this.repeats = repeats;
+    }
+
+    /**
+     * Ejecuta la acción y registra las sentencias que produjo.
+     */
+    public static <T> SqlBudget<T> measure(Supplier<T> action) {
+        SqlStatementTracker.startRepeatTracking();
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        T result;
+        Map<String, Integer> repeats;
+        try {
+            result = action.get();
+        } finally {
+            // Si la acción falla, la excepción se propaga y el presupuesto no se evalúa
+            repeats = SqlStatementTracker.stopRepeatTracking();
+        }
+        return new SqlBudget<>(result, SqlStatementTracker.snapshot().minus(start), repeats);
+    }
+
+    /**
+     * Variante para acciones sin resultado.
+     */
+    public static SqlBudget<Void> measure(Runnable action) {
+        return measure(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public SqlBudget<T> assertStatementsAtMost(long max) {
+        assertTrue(used.statements() <= max, () -> String.format(
+                "SQL statement budget exceeded: expected at most %d but executed %d%n%s", max, used.statements(), describe()));
+        return this;
+    }
+
+    public SqlBudget<T> assertRowsAtMost(long max) {
+        assertTrue(used.rows() <= max, () -> String.format(
+                "SQL row budget exceeded: expected at most %d rows but fetched %d%n%s", max, used.rows(), describe()));
+        return this;
+    }
+
+    /**
+     * Falla si algún SQL se ejecutó más de una vez (típico de un N+1).
+     */
+    public SqlBudget<T> assertNoRepeatedStatements() {
+        Map<String, Integer> repeated = repeats.entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertTrue(repeated.isEmpty(), () -> "Repeated SQL statements (possible N+1): " + repeated);
+        return this;
+    }
+
+    public T result() {
+        return result;
+    }
+
+    public long statements() {
+        return used.statements();
+    }
+
+    public long rows() {
+        return used.rows();
+    }
+
+    private String describe() {
+        return repeats.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
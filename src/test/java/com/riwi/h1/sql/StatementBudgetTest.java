@@ -0,0 +1,161 @@
+package com.riwi.h1.sql;
+
+import com.riwi.h1.application.service.EventService;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.domain.entity.Event;
+import com.riwi.h1.domain.entity.Venue;
+import com.riwi.h1.domain.model.VenueBulkDeletion;
+import com.riwi.h1.domain.model.VenueWithEvents;
+import com.riwi.h1.exception.DomainException;
+import com.riwi.h1.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Presupuestos de sentencias SQL de las operaciones principales.
+ * Si un cambio agrega viajes a la base de datos, esta prueba falla y muestra los SQL ejecutados.
+ */
+@SpringBootTest
+class StatementBudgetTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Test
+    void eventCrudStaysWithinBudget() {
+        Venue venue = venueService.create(newVenue("Budget venue " + System.nanoTime()));
+
+        // existsByName + venue exists + INSERT + INSERT en el outbox
+        Event event = SqlBudget.measure(() -> eventService.create(newEvent("Budget event " + System.nanoTime(), venue.getId())))
+                .assertStatementsAtMost(4)
+                .assertNoRepeatedStatements()
+                .result();
+
+        SqlBudget.measure(() -> eventService.findById(event.getId()))
+                .assertStatementsAtMost(1)
+                .assertRowsAtMost(1);
+
+        // findById + venue exists + UPDATE + INSERT en el outbox
+        SqlBudget.measure(() -> eventService.update(event.getId(), Event.builder()
+                        .ticketPrice(75.0)
+                        .venueId(venue.getId())
+                        .build()))
+                .assertStatementsAtMost(4);
+
+        SqlBudget.measure(() -> eventService.findByVenueId(venue.getId()))
+                .assertStatementsAtMost(2)
+                .assertNoRepeatedStatements();
+    }
+
+    @Test
+    void venueDeleteDoesNotLoadEvents() {
+        Venue venue = venueService.create(newVenue("Budget delete " + System.nanoTime()));
+
+        // existsById + COUNT de eventos + DELETE directo + INSERT en el outbox; antes cargaba todos los eventos y releía el venue
+        SqlBudget.measure(() -> venueService.deleteById(venue.getId()))
+                .assertStatementsAtMost(4)
+                .assertRowsAtMost(3);
+    }
+
+    @Test
+    void bulkVenueOperationsAreSetBased() {
+        String city = "Bulk city " + System.nanoTime();
+        List<Venue> venues = List.of(
+                venueService.create(newVenue("Bulk venue A " + System.nanoTime()).toBuilder().city(city).build()),
+                venueService.create(newVenue("Bulk venue B " + System.nanoTime()).toBuilder().city(city).build()),
+                venueService.create(newVenue("Bulk venue C " + System.nanoTime()).toBuilder().city(city).build()));
+        List<Long> ids = venues.stream().map(Venue::getId).toList();
+
+        // IDs a cambiar + UPDATE único + lectura del estado final + un INSERT en el outbox por venue
+        List<Venue> updated = SqlBudget.measure(() -> venueService.updateAvailability(null, city, null, false))
+                .assertStatementsAtMost(3 + ids.size())
+                .result();
+        assertEquals(ids, updated.stream().map(Venue::getId).toList());
+        assertFalse(venueService.findById(ids.get(0)).orElseThrow().getAvailable());
+        assertEquals(List.of(), venueService.updateAvailability(ids, null, null, false));
+
+        eventService.create(newEvent("Bulk event " + System.nanoTime(), ids.get(0)));
+        long missingId = ids.get(2) + 1_000_000;
+
+        // Anti-join + DELETE único + un INSERT en el outbox por venue + lectura de los omitidos existentes
+        VenueBulkDeletion deletion = SqlBudget.measure(() -> venueService.deleteByIds(List.of(ids.get(0), ids.get(1), ids.get(2), missingId)))
+                .assertStatementsAtMost(5)
+                .result();
+        assertEquals(List.of(ids.get(1), ids.get(2)), deletion.deleted());
+        assertEquals(List.of(ids.get(0)), deletion.withEvents());
+        assertEquals(List.of(missingId), deletion.notFound());
+    }
+
+    @Test
+    void venueWithEventsIsOneJoinedQuery() {
+        Venue venue = venueService.create(newVenue("Budget detail " + System.nanoTime()));
+        List<Event> events = List.of(
+                eventService.create(newEvent("Budget detail event A " + System.nanoTime(), venue.getId())),
+                eventService.create(newEvent("Budget detail event B " + System.nanoTime(), venue.getId())),
+                eventService.create(newEvent("Budget detail event C " + System.nanoTime(), venue.getId())));
+
+        // Venue y página de eventos en un solo SELECT con LEFT JOIN, sin validar el venue aparte
+        VenueWithEvents firstPage = SqlBudget.measure(() -> venueService.findWithEvents(venue.getId(), true, 0, 2))
+                .assertStatementsAtMost(1)
+                .result();
+        assertEquals(venue.getId(), firstPage.venue().getId());
+        assertEquals(events.subList(0, 2).stream().map(Event::getId).toList(),
+                firstPage.events().stream().map(Event::getId).toList());
+        assertTrue(firstPage.hasMore());
+
+        VenueWithEvents lastPage = venueService.findWithEvents(venue.getId(), true, 1, 2);
+        assertEquals(List.of(events.get(2).getId()), lastPage.events().stream().map(Event::getId).toList());
+        assertFalse(lastPage.hasMore());
+    }
+
+    @Test
+    void venueWithEventsRejectsAnOffsetBeyondTheIntRange() {
+        Venue venue = venueService.create(newVenue("Budget deep page " + System.nanoTime()));
+
+        DomainException tooDeep = assertThrows(DomainException.class,
+                () -> venueService.findWithEvents(venue.getId(), false, Integer.MAX_VALUE, 100));
+        assertEquals(ErrorCode.VENUE_EVENTS_PAGE_TOO_DEEP, tooDeep.getErrorCode());
+    }
+
+    @Test
+    void venueSearchesRunOneQuery() {
+        SqlBudget.measure(() -> venueService.findByCity("Medellin"))
+                .assertStatementsAtMost(1);
+        SqlBudget.measure(() -> venueService.findAvailableVenues())
+                .assertStatementsAtMost(1);
+    }
+
+    private static Venue newVenue(String name) {
+        return Venue.builder()
+                .name(name)
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+
+    private static Event newEvent(String name, Long venueId) {
+        return Event.builder()
+                .name(name)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .venueId(venueId)
+                .capacity(100)
+                .ticketPrice(50.0)
+                .build();
+    }
+}
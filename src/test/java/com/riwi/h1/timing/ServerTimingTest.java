@@ -0,0 +1,118 @@
+package com.riwi.h1.timing;
+
+import com.riwi.h1.api.filter.ServerTimingFilter;
+import com.riwi.h1.application.service.VenueService;
+import com.riwi.h1.config.ServerTimingProperties;
+import com.riwi.h1.domain.entity.Venue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cabecera Server-Timing con la configuración por defecto: solo aparece cuando la
+ * petición la pide con X-Server-Timing y trae las etapas en orden.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:server_timing")
+@AutoConfigureMockMvc
+class ServerTimingTest {
+
+    private static final Pattern STAGE = Pattern.compile("(\\w+);dur=(\\d+\\.\\d{3})");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Test
+    void headerIsAddedOnlyWhenRequested() throws Exception {
+        venueService.create(newVenue());
+
+        mockMvc.perform(get("/api/venues"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ServerTimingFilter.HEADER));
+        mockMvc.perform(get("/api/venues").header("X-Server-Timing", "0"))
+                .andExpect(header().doesNotExist(ServerTimingFilter.HEADER));
+
+        String value = mockMvc.perform(get("/api/venues").header("X-Server-Timing", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(value);
+        Map<String, Double> stages = parse(value);
+        assertEquals(List.of("parse", "svc", "db", "map", "ser", "total"), List.copyOf(stages.keySet()));
+        assertTrue(stages.get("svc") > 0, "the service call is timed");
+        assertTrue(stages.get("db") > 0, "the query is timed");
+        assertTrue(stages.get("db") <= stages.get("total") && stages.get("svc") <= stages.get("total"));
+
+        // Las respuestas de error también llevan el desglose
+        String notFound = mockMvc.perform(get("/api/venues/{id}", 999_999).header("X-Server-Timing", "true"))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse().getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(notFound);
+        assertTrue(parse(notFound).containsKey("total"));
+    }
+
+    @Test
+    void alwaysAndDisabledOverrideTheRequestHeader() throws Exception {
+        ServerTimingProperties always = new ServerTimingProperties();
+        always.setAlways(true);
+        assertNotNull(filter(always, null));
+
+        ServerTimingProperties disabled = new ServerTimingProperties();
+        disabled.setEnabled(false);
+        disabled.setAlways(true);
+        assertNull(filter(disabled, "1"));
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    private static String filter(ServerTimingProperties properties, String requestHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/venues");
+        if (requestHeader != null) {
+            request.addHeader(properties.getRequestHeader(), requestHeader);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ServerTimingFilter(properties).doFilter(request, response, new MockFilterChain());
+        return response.getHeader(ServerTimingFilter.HEADER);
+    }
+
+    private static Map<String, Double> parse(String value) {
+        Map<String, Double> stages = new LinkedHashMap<>();
+        Matcher matcher = STAGE.matcher(value);
+        while (matcher.find()) {
+            stages.put(matcher.group(1), Double.parseDouble(matcher.group(2)));
+        }
+        return stages;
+    }
+
+    private static Venue newVenue() {
+        return Venue.builder()
+                .name("Timed venue " + System.nanoTime())
+                .address("Calle 1 #2")
+                .city("Medellin")
+                .country("Colombia")
+                .maxCapacity(1000)
+                .type("Teatro")
+                .available(true)
+                .build();
+    }
+}